@@ -0,0 +1,85 @@
+package com.university.election.benchmark;
+
+import ch.qos.logback.classic.Level;
+import com.university.election.patterns.singleton.AppLogger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a debug() call when DEBUG is disabled: the previous AppLogger (always formats and
+ * prints, here into a null stream) vs the level-gated facade
+ *
+ * mvn -Pbenchmarks test-compile exec:exec@jmh -Djmh.args="AppLoggerBenchmark -prof gc"
+ * (-prof gc adds gc.alloc.rate.norm: bytes allocated per call)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AppLoggerBenchmark {
+
+    private AppLogger logger;
+    private LegacyAppLogger legacy;
+    private int studentId = 42;
+    private int candidateId = 7;
+
+    @Setup
+    public void setUp() {
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(AppLogger.class)).setLevel(Level.INFO);
+        logger = AppLogger.getInstance();
+        legacy = new LegacyAppLogger(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @Benchmark
+    public void legacyDebug() {
+        legacy.debug("Student " + studentId + " voted for candidate " + candidateId);
+    }
+
+    @Benchmark
+    public void disabledDebugConcatenated() {
+        logger.debug("Student " + studentId + " voted for candidate " + candidateId);
+    }
+
+    @Benchmark
+    public void disabledDebugParameterized() {
+        logger.debug("Student {} voted for candidate {}", studentId, candidateId);
+    }
+
+    @Benchmark
+    public void disabledDebugSupplier() {
+        logger.debug(() -> "Student " + studentId + " voted for candidate " + candidateId);
+    }
+
+    /**
+     * The AppLogger before it delegated to SLF4J
+     */
+    static final class LegacyAppLogger {
+        private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+        private final PrintStream out;
+
+        LegacyAppLogger(PrintStream out) {
+            this.out = out;
+        }
+
+        void debug(String message) {
+            out.println("[DEBUG] " + LocalDateTime.now().format(FORMATTER) + " - " + message);
+        }
+    }
+}
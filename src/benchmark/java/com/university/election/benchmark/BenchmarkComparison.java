@@ -0,0 +1,85 @@
+package com.university.election.benchmark;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH JSON result files (-rf json), e.g. from two commits
+ *
+ * mvn -Pbenchmarks test-compile exec:exec@jmh -Djmh.result.file=bench/$(git rev-parse --short HEAD).json
+ * mvn -Pbenchmarks test-compile exec:java -Dbenchmark.main=com.university.election.benchmark.BenchmarkComparison \
+ *     -Dexec.args="bench/<base>.json bench/<head>.json"
+ *
+ * Prints one line per benchmark and parameter set: both scores, the change in percent and
+ * whether it exceeds the combined 99.9% error of the two runs (otherwise it is noise)
+ */
+public class BenchmarkComparison {
+
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.err.println("Usage: BenchmarkComparison <base.json> <head.json>");
+            System.exit(2);
+        }
+        JsonMapper mapper = JsonMapper.builder().build();
+        Map<String, Score> base = read(mapper, new File(args[0]));
+        Map<String, Score> head = read(mapper, new File(args[1]));
+
+        System.out.printf("%-70s %14s %14s %10s  %s%n", "benchmark", "base", "head", "change", "");
+        Map<String, Score> all = new TreeMap<>(base);
+        head.forEach(all::putIfAbsent);
+        for (String name : all.keySet()) {
+            Score before = base.get(name);
+            Score after = head.get(name);
+            if (before == null || after == null) {
+                Score only = before != null ? before : after;
+                System.out.printf(Locale.ROOT, "%-70s %14s %14s %10s  %s%n", name,
+                        before != null ? only.format() : "-", after != null ? only.format() : "-", "", "only in one run");
+                continue;
+            }
+            double change = (after.value - before.value) / before.value * 100;
+            boolean significant = Math.abs(after.value - before.value) > before.error + after.error;
+            System.out.printf(Locale.ROOT, "%-70s %14s %14s %+9.1f%%  %s%n", name, before.format(), after.format(),
+                    change, significant ? verdict(before.unit, change) : "~");
+        }
+    }
+
+    private static Map<String, Score> read(JsonMapper mapper, File file) {
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (JsonNode run : mapper.readTree(file)) {
+            StringBuilder name = new StringBuilder(run.get("benchmark").asString()
+                    .replace("com.university.election.", ""));
+            JsonNode params = run.get("params");
+            if (params != null) {
+                params.properties().forEach(param -> name.append(' ').append(param.getKey())
+                        .append('=').append(param.getValue().asString()));
+            }
+            JsonNode metric = run.get("primaryMetric");
+            // A single measurement iteration has no error estimate ("NaN" as a string)
+            JsonNode error = metric.get("scoreError");
+            scores.put(name.toString(), new Score(metric.get("score").asDouble(),
+                    error.isNumber() ? error.asDouble() : 0, metric.get("scoreUnit").asString()));
+        }
+        return scores;
+    }
+
+    /**
+     * Lower is better for time per operation, higher for throughput (ops/time)
+     */
+    private static String verdict(String unit, double change) {
+        boolean lowerIsBetter = !unit.startsWith("ops/");
+        return (change < 0) == lowerIsBetter ? "faster" : "SLOWER";
+    }
+
+    private record Score(double value, double error, String unit) {
+
+        String format() {
+            return String.format(Locale.ROOT, "%.3f %s", value, unit);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.university.election.benchmark;
+
+import com.university.election.patterns.singleton.CacheManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CacheManager get/put with several threads hitting the same instance
+ * Keys are spread over the "elections" namespace like ElectionServiceImpl uses it,
+ * so contention is on the segment locks and the shared statistics counters
+ *
+ * mvn -Pbenchmarks test-compile exec:exec@jmh -Djmh.args="CacheManagerBenchmark -t 4"
+ * (@Threads is the default; -t overrides it - use at least as many cores as threads)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class CacheManagerBenchmark {
+
+    private static final int KEYS = 1024;
+
+    private CacheManager cache;
+    private String[] keys;
+
+    @Setup
+    public void setUp() {
+        cache = CacheManager.getInstance();
+        cache.clear();
+        keys = new String[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            keys[i] = "elections:" + i;
+            cache.put(keys[i], i);
+        }
+    }
+
+    @Benchmark
+    public Object getHit() {
+        return cache.get(nextKey());
+    }
+
+    @Benchmark
+    public void put() {
+        String key = nextKey();
+        cache.put(key, key);
+    }
+
+    /**
+     * Read-heavy mix (9 reads : 1 write), closest to how services use the cache
+     */
+    @Benchmark
+    public Object mixed() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String key = keys[random.nextInt(KEYS)];
+        if (random.nextInt(10) == 0) {
+            cache.put(key, key);
+            return key;
+        }
+        return cache.get(key);
+    }
+
+    private String nextKey() {
+        return keys[ThreadLocalRandom.current().nextInt(KEYS)];
+    }
+}
@@ -0,0 +1,74 @@
+package com.university.election.benchmark;
+
+import com.university.election.model.Candidate;
+import com.university.election.model.Election;
+import com.university.election.model.Student;
+import com.university.election.patterns.builder.ElectionBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of the list responses: students, and candidates that all embed
+ * the same Election (as CandidateRowMapper shares it), written to a byte[] like the HTTP layer does
+ *
+ * mvn -Pbenchmarks test-compile exec:exec@jmh -Djmh.args="JsonSerializationBenchmark -prof gc"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+    @Param({"10", "1000"})
+    private int size;
+
+    private JsonMapper mapper;
+    private List<Student> students;
+    private List<Candidate> candidates;
+
+    @Setup
+    public void setUp() {
+        mapper = JsonMapper.builder().build();
+        Election election = ElectionBuilder.builder()
+                .withId(1)
+                .withName("President Election 2026")
+                .withStartDate(LocalDate.of(2026, 11, 1))
+                .withEndDate(LocalDate.of(2026, 11, 3))
+                .withAcademicYear("2026-2027")
+                .build();
+
+        students = new ArrayList<>(size);
+        candidates = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            students.add(new Student(i, "Student " + i, "S" + i, "Computer Science", 1 + i % 4, i % 3 == 0));
+            candidates.add(new Candidate(i, "Candidate " + i, "Law", 2 + i % 3, "Campaign promise " + i, election));
+        }
+    }
+
+    @Benchmark
+    public byte[] students() {
+        return mapper.writeValueAsBytes(students);
+    }
+
+    @Benchmark
+    public byte[] candidatesWithElection() {
+        return mapper.writeValueAsBytes(candidates);
+    }
+}
@@ -0,0 +1,371 @@
+package com.university.election.benchmark;
+
+import com.university.election.DemoApplication;
+import com.university.election.support.TestDatabaseConfig;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Election-day load simulator: students checking eligibility and voting, admins polling lists
+ *
+ * Open model: requests are started on a fixed schedule (the arrival rate), independent of how fast
+ * the server answers, and latency is measured from the scheduled start time. A slow server therefore
+ * shows up as queueing delay in the percentiles instead of silently lowering the request rate
+ * (coordinated omission).
+ *
+ * Traffic (--mix, weights):
+ * - eligibility: GET  /api/students/studentId/{studentId}/eligibility
+ * - vote:        POST /api/students/{id}/vote (every student votes once)
+ * - candidates:  GET  /api/candidates
+ * - elections:   GET  /api/elections
+ *
+ * Target: by default an embedded app on a random port backed by H2 in PostgreSQL mode, loaded with
+ * scheme.sql and --students generated students. --url=http://host:port drives an already running
+ * app instead (e.g. on the local PostgreSQL); it must have students that have not voted yet.
+ *
+ * Single run: the rate ramps linearly to --rate over --ramp-seconds (not reported), then holds
+ * for --seconds. --find-max runs steps of --step-seconds from --step-rate up to --max-rate and
+ * reports the highest rate whose p99 stays under --slo-p99-ms with at most --max-error-pct errors.
+ *
+ * mvn -Pbenchmarks test-compile exec:java -Dbenchmark.main=com.university.election.benchmark.LoadSimulator \
+ *     -Dexec.args="--rate=500 --ramp-seconds=10 --seconds=60"
+ * mvn -Pbenchmarks test-compile exec:java -Dbenchmark.main=com.university.election.benchmark.LoadSimulator \
+ *     -Dexec.args="--find-max --step-rate=250 --max-rate=5000 --step-seconds=15"
+ */
+public class LoadSimulator {
+
+    private static final String DEFAULT_MIX = "eligibility:70,vote:20,candidates:5,elections:5";
+
+    public static void main(String[] args) throws Exception {
+        String url = stringArg(args, "url", null);
+        int students = intArg(args, "students", 100_000);
+        int rate = intArg(args, "rate", 500);
+        int rampSeconds = intArg(args, "ramp-seconds", 10);
+        int seconds = intArg(args, "seconds", 60);
+        boolean findMax = List.of(args).contains("--find-max");
+        int stepRate = intArg(args, "step-rate", 250);
+        int maxRate = intArg(args, "max-rate", 5000);
+        int stepSeconds = intArg(args, "step-seconds", 15);
+        double sloP99Millis = intArg(args, "slo-p99-ms", 100);
+        double maxErrorPercent = intArg(args, "max-error-pct", 1);
+        int maxInFlight = intArg(args, "max-in-flight", 10_000);
+        Map<Endpoint, Integer> mix = parseMix(stringArg(args, "mix", DEFAULT_MIX));
+
+        ConfigurableApplicationContext embedded = null;
+        if (url == null) {
+            embedded = startEmbedded(students);
+            url = "http://localhost:" + embedded.getEnvironment().getProperty("local.server.port");
+        }
+        try {
+            LoadSimulator simulator = new LoadSimulator(url, mix, maxInFlight);
+            System.out.printf("target=%s, voters=%d, mix=%s, max in flight=%d%n%n",
+                    url, simulator.voterIds.length, mix, maxInFlight);
+
+            if (!findMax) {
+                simulator.run(0, rate, rampSeconds);
+                simulator.run(rate, rate, seconds).print();
+                return;
+            }
+
+            System.out.printf("Stepping from %d to %d req/s, %ds per step, SLO p99 <= %.0fms and errors <= %.1f%%%n%n",
+                    stepRate, maxRate, stepSeconds, sloP99Millis, maxErrorPercent);
+            simulator.run(0, stepRate, rampSeconds);
+            Stage lastPassing = null;
+            for (int target = stepRate; target <= maxRate; target += stepRate) {
+                Stage stage = simulator.run(target, target, stepSeconds);
+                stage.print();
+                boolean passed = stage.total.getValueAtPercentile(99) / 1_000_000.0 <= sloP99Millis
+                        && stage.errorPercent() <= maxErrorPercent
+                        && stage.throughput() >= target * 0.95;
+                if (!passed) {
+                    break;
+                }
+                lastPassing = stage;
+            }
+            System.out.println(lastPassing == null
+                    ? "No step met the SLO"
+                    : String.format(Locale.ROOT, "Max sustainable throughput: %d req/s offered, %.0f req/s completed",
+                            lastPassing.rate, lastPassing.throughput()));
+        } finally {
+            if (embedded != null) {
+                embedded.close();
+            }
+        }
+    }
+
+    private final String baseUrl;
+    private final Endpoint[] schedule;
+    private final Semaphore inFlight;
+    private final HttpClient client;
+    private final int[] voterIds;
+    private final String[] voterStudentIds;
+    private final AtomicInteger nextVoter = new AtomicInteger();
+    private final Map<Endpoint, Recorder> latencies = new LinkedHashMap<>();
+    private final Map<Endpoint, LongAdder> errors = new LinkedHashMap<>();
+    private final LongAdder dropped = new LongAdder();
+
+    private LoadSimulator(String baseUrl, Map<Endpoint, Integer> mix, int maxInFlight) throws Exception {
+        this.baseUrl = baseUrl;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        // Weighted endpoint table: one draw per request picks the endpoint
+        List<Endpoint> weighted = new ArrayList<>();
+        mix.forEach((endpoint, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                weighted.add(endpoint);
+            }
+        });
+        this.schedule = weighted.toArray(new Endpoint[0]);
+        for (Endpoint endpoint : Endpoint.values()) {
+            latencies.put(endpoint, new Recorder(3));
+            errors.put(endpoint, new LongAdder());
+        }
+
+        // Students that can still vote, in random order; eligibility checks pick any of them
+        HttpResponse<byte[]> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/students/voted/false"))
+                .GET().build(), HttpResponse.BodyHandlers.ofByteArray());
+        JsonNode notVoted = JsonMapper.builder().build().readTree(response.body());
+        List<JsonNode> shuffled = new ArrayList<>();
+        notVoted.forEach(shuffled::add);
+        Collections.shuffle(shuffled, new Random(42));
+        this.voterIds = new int[shuffled.size()];
+        this.voterStudentIds = new String[shuffled.size()];
+        for (int i = 0; i < shuffled.size(); i++) {
+            voterIds[i] = shuffled.get(i).get("id").asInt();
+            voterStudentIds[i] = shuffled.get(i).get("studentId").asString();
+        }
+        if (voterIds.length == 0) {
+            throw new IllegalStateException("No students that have not voted yet at " + baseUrl);
+        }
+    }
+
+    /**
+     * Offer load for the given time, the rate moving linearly from startRate to endRate
+     */
+    private Stage run(int startRate, int endRate, int seconds) throws InterruptedException {
+        // Discard whatever was recorded before this stage
+        latencies.values().forEach(Recorder::reset);
+        errors.values().forEach(LongAdder::reset);
+        dropped.reset();
+
+        long durationNanos = TimeUnit.SECONDS.toNanos(seconds);
+        long started = System.nanoTime();
+        long sent = 0;
+        try (ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor()) {
+            long elapsed = 0;
+            while (elapsed < durationNanos) {
+                long intendedStart = started + elapsed;
+                long wait = intendedStart - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                // When the server (or this generator) falls behind, requests are sent late but their
+                // latency still counts from the intended start
+                Endpoint endpoint = schedule[ThreadLocalRandom.current().nextInt(schedule.length)];
+                if (inFlight.tryAcquire()) {
+                    requests.submit(() -> send(endpoint, intendedStart));
+                } else {
+                    dropped.increment();
+                }
+                sent++;
+
+                double progress = (double) elapsed / durationNanos;
+                double currentRate = Math.max(1, startRate + (endRate - startRate) * progress);
+                elapsed += (long) (1_000_000_000L / currentRate);
+            }
+        }
+        long completedAt = System.nanoTime();
+
+        Map<Endpoint, Histogram> byEndpoint = new LinkedHashMap<>();
+        Histogram total = new Histogram(3);
+        Map<Endpoint, Long> errorCounts = new LinkedHashMap<>();
+        for (Endpoint endpoint : Endpoint.values()) {
+            Histogram histogram = latencies.get(endpoint).getIntervalHistogram();
+            byEndpoint.put(endpoint, histogram);
+            total.add(histogram);
+            errorCounts.put(endpoint, errors.get(endpoint).sum());
+        }
+        return new Stage(endRate, sent, completedAt - started, byEndpoint, total, errorCounts, dropped.sum());
+    }
+
+    private void send(Endpoint endpoint, long intendedStart) {
+        try {
+            HttpResponse<Void> response = client.send(request(endpoint), HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() / 100 == 2) {
+                latencies.get(endpoint).recordValue(System.nanoTime() - intendedStart);
+            } else {
+                errors.get(endpoint).increment();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            errors.get(endpoint).increment();
+        } finally {
+            inFlight.release();
+        }
+    }
+
+    private HttpRequest request(Endpoint endpoint) {
+        HttpRequest.Builder builder = switch (endpoint) {
+            case ELIGIBILITY -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/students/studentId/"
+                    + voterStudentIds[ThreadLocalRandom.current().nextInt(voterStudentIds.length)] + "/eligibility")).GET();
+            // Every student votes once; after the last one votes are replayed and fail with 400
+            case VOTE -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/students/"
+                    + voterIds[nextVoter.getAndIncrement() % voterIds.length] + "/vote"))
+                    .POST(HttpRequest.BodyPublishers.noBody());
+            case CANDIDATES -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/candidates")).GET();
+            case ELECTIONS -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/elections")).GET();
+        };
+        return builder.timeout(Duration.ofSeconds(30)).build();
+    }
+
+    /**
+     * Boot the application on a random port against a fresh H2 database in PostgreSQL mode
+     * Extra properties ("--name=value") are added to the ones below, which they must not repeat
+     */
+    static ConfigurableApplicationContext startEmbedded(int students, String... properties) throws Exception {
+        String jdbcUrl = "jdbc:h2:mem:load-" + UUID.randomUUID()
+                + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1";
+        DataSource dataSource = new SimpleDriverDataSource(new org.h2.Driver(), jdbcUrl, "sa", "");
+        TestDatabaseConfig.resetSchema(dataSource);
+        new JdbcTemplate(dataSource).update(
+                "INSERT INTO students (name, student_id, faculty, year_of_study, has_voted) "
+                        + "SELECT 'Load Student ' || n, 'L' || n, 'Faculty ' || MOD(n, 12), MOD(n, 4) + 1, FALSE "
+                        + "FROM SYSTEM_RANGE(1, ?) AS r(n)", students);
+
+        // Command-line arguments, so they take precedence over application.properties
+        String logs = Files.createTempDirectory("load-simulator").toString();
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.datasource.url=" + jdbcUrl,
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--logging.level.com.university.election=WARN",
+                "--logging.level.org.springframework.web=WARN",
+                "--app.audit.directory=" + logs + "/audit",
+                "--app.audit.file=" + logs + "/election-audit.log"));
+        args.addAll(List.of(properties));
+        return new SpringApplicationBuilder(EmbeddedApplication.class).run(args.toArray(new String[0]));
+    }
+
+    private static Map<Endpoint, Integer> parseMix(String mix) {
+        Map<Endpoint, Integer> weights = new LinkedHashMap<>();
+        for (String part : mix.split(",")) {
+            String[] nameAndWeight = part.split(":");
+            weights.put(Endpoint.valueOf(nameAndWeight[0].trim().toUpperCase(Locale.ROOT)),
+                    Integer.parseInt(nameAndWeight[1].trim()));
+        }
+        return weights;
+    }
+
+    private static int intArg(String[] args, String name, int defaultValue) {
+        String value = stringArg(args, name, null);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+
+    private static String stringArg(String[] args, String name, String defaultValue) {
+        for (String arg : args) {
+            if (arg.startsWith("--" + name + "=")) {
+                return arg.substring(name.length() + 3);
+            }
+        }
+        return defaultValue;
+    }
+
+    /**
+     * The application's components without the test support configuration that is on this
+     * classpath too (TestDatabaseConfig would replace the pooled DataSource). The
+     * @SpringBootApplication classes are excluded as well, their own scans would pick it up again.
+     */
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @ComponentScan(basePackageClasses = DemoApplication.class, excludeFilters = {
+            @ComponentScan.Filter(type = FilterType.ANNOTATION, classes = SpringBootApplication.class),
+            @ComponentScan.Filter(type = FilterType.REGEX, pattern = "com\\.university\\.election\\.support\\..*")})
+    static class EmbeddedApplication {
+    }
+
+    private enum Endpoint {
+        ELIGIBILITY, VOTE, CANDIDATES, ELECTIONS
+    }
+
+    private record Stage(int rate, long sent, long elapsedNanos, Map<Endpoint, Histogram> byEndpoint,
+                         Histogram total, Map<Endpoint, Long> errors, long dropped) {
+
+        long completed() {
+            return total.getTotalCount();
+        }
+
+        long failed() {
+            return errors.values().stream().mapToLong(Long::longValue).sum() + dropped;
+        }
+
+        double throughput() {
+            return completed() * 1_000_000_000.0 / elapsedNanos;
+        }
+
+        double errorPercent() {
+            return sent == 0 ? 0 : failed() * 100.0 / sent;
+        }
+
+        void print() {
+            System.out.printf(Locale.ROOT, "offered %d req/s: %d sent, %.0f req/s completed, %.2f%% errors (%d dropped at max in flight)%n",
+                    rate, sent, throughput(), errorPercent(), dropped);
+            System.out.printf("  %-12s %9s %8s %10s %10s %10s %10s%n",
+                    "endpoint", "ok", "errors", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+            byEndpoint.forEach((endpoint, histogram) -> line(endpoint.name().toLowerCase(Locale.ROOT),
+                    histogram, errors.get(endpoint)));
+            line("all", total, failed());
+            System.out.println();
+        }
+
+        private static void line(String name, Histogram histogram, long errors) {
+            System.out.printf(Locale.ROOT, "  %-12s %9d %8d %10.2f %10.2f %10.2f %10.2f%n", name,
+                    histogram.getTotalCount(), errors,
+                    histogram.getValueAtPercentile(50) / 1_000_000.0,
+                    histogram.getValueAtPercentile(99) / 1_000_000.0,
+                    histogram.getValueAtPercentile(99.9) / 1_000_000.0,
+                    histogram.getMaxValue() / 1_000_000.0);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.university.election.benchmark;
+
+import com.university.election.config.RequestMetrics;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request recording overhead of RequestMetrics (preHandle + afterCompletion) on one route
+ *
+ * mvn -Pbenchmarks test-compile exec:exec@jmh -Djmh.args="RequestMetricsBenchmark"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestMetricsBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Metrics {
+        RequestMetrics metrics;
+
+        @Setup
+        public void setUp() {
+            metrics = new RequestMetrics(new PrometheusMeterRegistry(PrometheusConfig.DEFAULT));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Request {
+        MockHttpServletRequest request;
+        MockHttpServletResponse response;
+
+        @Setup
+        public void setUp() {
+            request = new MockHttpServletRequest("GET", "/api/elections/7/tally");
+            request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/elections/{electionId}/tally");
+            response = new MockHttpServletResponse();
+        }
+    }
+
+    @Benchmark
+    public void record(Metrics metrics, Request request) {
+        metrics.metrics.preHandle(request.request, request.response, null);
+        metrics.metrics.afterCompletion(request.request, request.response, null, null);
+    }
+}
@@ -0,0 +1,106 @@
+package com.university.election.benchmark;
+
+import com.university.election.model.Student;
+import com.university.election.utils.SortingUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * SortingUtils on student lists of 1k, 100k, 300k and 1M entries
+ * Names are random (fixed seed), so sorting does real work and every run sees the same input
+ * legacy* are the stream pipelines SortingUtils used before ListSorter (String.compareTo, boxed year)
+ *
+ * mvn -Pbenchmarks test-compile exec:exec@jmh -Djmh.args="SortingUtilsBenchmark -prof gc"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class SortingUtilsBenchmark {
+
+    private static final String[] FACULTIES = {
+            "Computer Science", "Law", "Economics", "Medicine", "Engineering", "Journalism", "Mathematics", "Physics"
+    };
+
+    @Param({"1000", "100000", "300000", "1000000"})
+    private int students;
+
+    private List<Student> list;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        list = new ArrayList<>(students);
+        for (int i = 1; i <= students; i++) {
+            list.add(new Student(i, randomName(random), "S" + i, FACULTIES[random.nextInt(FACULTIES.length)],
+                    1 + random.nextInt(4), random.nextInt(3) == 0));
+        }
+    }
+
+    @Benchmark
+    public List<Student> sortByName() {
+        return SortingUtils.sortStudentsByName(list);
+    }
+
+    @Benchmark
+    public List<Student> legacySortByName() {
+        return list.stream()
+                .sorted((s1, s2) -> s1.getName().compareTo(s2.getName()))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Student> firstHundredByName() {
+        return SortingUtils.firstStudentsByName(list, 100);
+    }
+
+    @Benchmark
+    public List<Student> sortByYear() {
+        return SortingUtils.sortStudentsByYear(list);
+    }
+
+    @Benchmark
+    public List<Student> legacySortByYear() {
+        return list.stream()
+                .sorted(Comparator.comparing(Student::getYearOfStudy))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Student> filterNotVoted() {
+        return SortingUtils.filterStudentsNotVoted(list);
+    }
+
+    @Benchmark
+    public Map<String, List<Student>> groupByFaculty() {
+        return SortingUtils.groupStudentsByFaculty(list);
+    }
+
+    private static String randomName(Random random) {
+        char[] name = new char[6 + random.nextInt(10)];
+        name[0] = (char) ('A' + random.nextInt(26));
+        for (int i = 1; i < name.length; i++) {
+            name[i] = (char) ('a' + random.nextInt(26));
+        }
+        return new String(name);
+    }
+}
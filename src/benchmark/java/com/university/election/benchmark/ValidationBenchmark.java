@@ -0,0 +1,84 @@
+package com.university.election.benchmark;
+
+import com.university.election.model.Candidate;
+import com.university.election.model.Election;
+import com.university.election.model.Student;
+import com.university.election.patterns.builder.ElectionBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validatable.validate() and getValidationMessage() for valid and invalid entities
+ * (the invalid student fails on the last check, blank strings go through trim())
+ *
+ * mvn -Pbenchmarks test-compile exec:exec@jmh -Djmh.args="ValidationBenchmark -prof gc"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidationBenchmark {
+
+    private Student validStudent;
+    private Student invalidStudent;
+    private Candidate validCandidate;
+    private Candidate invalidCandidate;
+
+    @Setup
+    public void setUp() {
+        Election election = ElectionBuilder.builder()
+                .withId(1)
+                .withName("President Election 2026")
+                .withStartDate(LocalDate.of(2026, 11, 1))
+                .withEndDate(LocalDate.of(2026, 11, 3))
+                .withAcademicYear("2026-2027")
+                .build();
+        validStudent = new Student(1, "Aigerim Sultanova", "S0001", "Computer Science", 3, false);
+        invalidStudent = new Student(2, "  Daniyar Bekov  ", "S0002", "Law", 5, false);
+        validCandidate = new Candidate(1, "Aruzhan Omarova", "Economics", 3, "Open budgets", election);
+        invalidCandidate = new Candidate(2, "Timur Akhmetov", "   ", 1, null, null);
+    }
+
+    @Benchmark
+    public boolean studentValid() {
+        return validStudent.validate();
+    }
+
+    @Benchmark
+    public boolean studentInvalid() {
+        return invalidStudent.validate();
+    }
+
+    @Benchmark
+    public boolean candidateValid() {
+        return validCandidate.validate();
+    }
+
+    @Benchmark
+    public boolean candidateInvalid() {
+        return invalidCandidate.validate();
+    }
+
+    @Benchmark
+    public String studentMessage() {
+        return validStudent.getValidationMessage();
+    }
+
+    @Benchmark
+    public String candidateMessage() {
+        return invalidCandidate.getValidationMessage();
+    }
+}
@@ -0,0 +1,128 @@
+package com.university.election.benchmark;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Platform-thread vs virtual-thread request handling of the real application with thousands of clients
+ *
+ * Each mode boots the application on a random port (embedded Tomcat, HikariCP over H2 in PostgreSQL
+ * mode, see LoadSimulator) and drives GET /api/students/{id}, which borrows a pooled connection for
+ * a primary-key lookup on every request. Clients run a closed loop: send, wait for the response, send again.
+ *
+ * Modes:
+ * - platform:      spring.threads.virtual.enabled=false, Tomcat's worker pool (200 threads by default)
+ * - virtual:       spring.threads.virtual.enabled=true, app.jdbc.gate.enabled=false: one virtual thread
+ *                  per request, every one of them waiting inside Hikari for a connection
+ * - virtual-gated: as virtual, with GatedDataSource queueing requests on a fair semaphore in front of the pool
+ *
+ * mvn -Pbenchmarks test-compile exec:java -Dexec.args="--clients=5000 --seconds=20 --pool-size=10"
+ */
+public class VirtualThreadBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int clients = intArg(args, "clients", 5000);
+        int seconds = intArg(args, "seconds", 20);
+        int warmupSeconds = intArg(args, "warmup-seconds", 5);
+        int poolSize = intArg(args, "pool-size", 10);
+        int students = intArg(args, "students", 10_000);
+
+        System.out.printf("clients=%d, duration=%ds (+%ds warm-up), pool=%d, students=%d%n%n",
+                clients, seconds, warmupSeconds, poolSize, students);
+        System.out.printf("%-14s %12s %10s %10s %10s %10s %8s%n",
+                "mode", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms", "errors");
+
+        for (String mode : List.of("platform", "virtual", "virtual-gated")) {
+            try (ConfigurableApplicationContext app = LoadSimulator.startEmbedded(students,
+                    "--spring.threads.virtual.enabled=" + mode.startsWith("virtual"),
+                    "--app.jdbc.gate.enabled=" + mode.equals("virtual-gated"),
+                    "--spring.datasource.hikari.maximum-pool-size=" + poolSize,
+                    "--spring.datasource.hikari.minimum-idle=" + poolSize)) {
+                String baseUrl = "http://localhost:" + app.getEnvironment().getProperty("local.server.port");
+                HttpClient client = HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_1_1)
+                        .connectTimeout(Duration.ofSeconds(10))
+                        .build();
+
+                run(client, baseUrl, students, clients, warmupSeconds);
+                Result result = run(client, baseUrl, students, clients, seconds);
+                System.out.printf(Locale.ROOT, "%-14s %12.0f %10.2f %10.2f %10.2f %10.2f %8d%n", mode,
+                        result.throughput(), result.percentile(50), result.percentile(99),
+                        result.percentile(99.9), result.latencies.getMaxValue() / 1_000_000.0, result.errors);
+            }
+        }
+    }
+
+    /**
+     * Drive the application with a fixed number of closed-loop clients for the given time
+     */
+    private static Result run(HttpClient client, String baseUrl, int students, int clients, int seconds)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+        Recorder recorder = new Recorder(3);
+        LongAdder errors = new LongAdder();
+
+        long started = System.nanoTime();
+        try (ExecutorService clientThreads = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                clientThreads.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/students/"
+                                        + ThreadLocalRandom.current().nextInt(1, students + 1)))
+                                .timeout(Duration.ofSeconds(30))
+                                .GET()
+                                .build();
+                        long sent = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() / 100 == 2) {
+                                recorder.recordValue(System.nanoTime() - sent);
+                            } else {
+                                errors.increment();
+                            }
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        } catch (Exception e) {
+                            errors.increment();
+                        }
+                    }
+                });
+            }
+        }
+        return new Result(recorder.getIntervalHistogram(), System.nanoTime() - started, errors.sum());
+    }
+
+    private static int intArg(String[] args, String name, int defaultValue) {
+        for (String arg : args) {
+            if (arg.startsWith("--" + name + "=")) {
+                return Integer.parseInt(arg.substring(name.length() + 3));
+            }
+        }
+        return defaultValue;
+    }
+
+    private record Result(Histogram latencies, long elapsedNanos, long errors) {
+
+        double throughput() {
+            return latencies.getTotalCount() * 1_000_000_000.0 / elapsedNanos;
+        }
+
+        double percentile(double percentile) {
+            return latencies.getValueAtPercentile(percentile) / 1_000_000.0;
+        }
+    }
+}
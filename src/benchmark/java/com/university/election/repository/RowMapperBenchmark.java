@@ -0,0 +1,112 @@
+package com.university.election.repository;
+
+import com.university.election.model.Candidate;
+import com.university.election.model.Election;
+import com.university.election.model.Student;
+import org.h2.tools.SimpleResultSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The three RowMappers against an in-memory ResultSet (H2 SimpleResultSet, positioned on one row),
+ * so only column lookup and object construction are measured
+ *
+ * mvn -Pbenchmarks test-compile exec:exec@jmh -Djmh.args="RowMapperBenchmark"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RowMapperBenchmark {
+
+    private SimpleResultSet studentRow;
+    private SimpleResultSet electionRow;
+    private SimpleResultSet candidateRow;
+    private StudentRepository studentRepository;
+    private ElectionRepository electionRepository;
+    private CandidateRowMapper sharedCandidateMapper;
+
+    @Setup
+    public void setUp() throws SQLException {
+        studentRow = new SimpleResultSet();
+        studentRow.addColumn("id", Types.INTEGER, 10, 0);
+        studentRow.addColumn("name", Types.VARCHAR, 255, 0);
+        studentRow.addColumn("student_id", Types.VARCHAR, 50, 0);
+        studentRow.addColumn("faculty", Types.VARCHAR, 100, 0);
+        studentRow.addColumn("year_of_study", Types.INTEGER, 10, 0);
+        studentRow.addColumn("has_voted", Types.BOOLEAN, 1, 0);
+        studentRow.addRow(42, "Aigerim Sultanova", "S0042", "Computer Science", 3, false);
+        studentRow.next();
+
+        Date start = Date.valueOf(LocalDate.of(2026, 11, 1));
+        Date end = Date.valueOf(LocalDate.of(2026, 11, 3));
+        electionRow = new SimpleResultSet();
+        electionRow.addColumn("id", Types.INTEGER, 10, 0);
+        electionRow.addColumn("name", Types.VARCHAR, 255, 0);
+        electionRow.addColumn("start_date", Types.DATE, 10, 0);
+        electionRow.addColumn("end_date", Types.DATE, 10, 0);
+        electionRow.addColumn("academic_year", Types.VARCHAR, 20, 0);
+        electionRow.addRow(7, "President Election 2026", start, end, "2026-2027");
+        electionRow.next();
+
+        candidateRow = new SimpleResultSet();
+        candidateRow.addColumn("id", Types.INTEGER, 10, 0);
+        candidateRow.addColumn("name", Types.VARCHAR, 255, 0);
+        candidateRow.addColumn("faculty", Types.VARCHAR, 100, 0);
+        candidateRow.addColumn("year_of_study", Types.INTEGER, 10, 0);
+        candidateRow.addColumn("campaign", Types.VARCHAR, 1000, 0);
+        candidateRow.addColumn("election_id", Types.INTEGER, 10, 0);
+        candidateRow.addColumn("election_name", Types.VARCHAR, 255, 0);
+        candidateRow.addColumn("election_start_date", Types.DATE, 10, 0);
+        candidateRow.addColumn("election_end_date", Types.DATE, 10, 0);
+        candidateRow.addColumn("election_academic_year", Types.VARCHAR, 20, 0);
+        candidateRow.addRow(3, "Daniyar Bekov", "Law", 4, "Open budgets", 7, "President Election 2026", start, end, "2026-2027");
+        candidateRow.next();
+
+        studentRepository = new StudentRepository();
+        electionRepository = new ElectionRepository();
+        sharedCandidateMapper = new CandidateRowMapper();
+    }
+
+    @Benchmark
+    public Student student() throws SQLException {
+        return studentRepository.rowMapper.mapRow(studentRow, 0);
+    }
+
+    @Benchmark
+    public Election election() throws SQLException {
+        return electionRepository.rowMapper.mapRow(electionRow, 0);
+    }
+
+    /**
+     * First candidate of a query: builds the joined Election as well
+     */
+    @Benchmark
+    public Candidate candidateNewElection() throws SQLException {
+        return new CandidateRowMapper().mapRow(candidateRow, 0);
+    }
+
+    /**
+     * Later candidates of the same election: Election comes from the per-query identity map
+     */
+    @Benchmark
+    public Candidate candidateSharedElection() throws SQLException {
+        return sharedCandidateMapper.mapRow(candidateRow, 0);
+    }
+}
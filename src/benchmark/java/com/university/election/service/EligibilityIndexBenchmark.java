@@ -0,0 +1,70 @@
+package com.university.election.service;
+
+import com.university.election.model.Student;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Eligibility lookup by student_id: the primitive EligibilityTable against a HashMap<String, Student>
+ * Keys are drawn at random over the whole population, so large sizes also pay for cache misses
+ *
+ * mvn -Pbenchmarks test-compile exec:exec@jmh -Djmh.args="EligibilityIndexBenchmark"
+ * Memory footprint: see EligibilityIndexFootprint
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class EligibilityIndexBenchmark {
+
+    @Param({"100000", "1000000"})
+    private int students;
+
+    private EligibilityTable table;
+    private Map<String, Student> map;
+    private String[] keys;
+
+    @Setup
+    public void setUp() {
+        table = new EligibilityTable();
+        map = new HashMap<>();
+        keys = new String[students];
+        for (int i = 0; i < students; i++) {
+            Student student = EligibilityIndexFootprint.student(i);
+            keys[i] = new String(student.getStudentId());
+            table = table.put(student.getId(), student.getStudentId(), student.getYearOfStudy(), student.getHasVoted());
+            map.put(student.getStudentId(), student);
+        }
+        table.trim();
+    }
+
+    @Benchmark
+    public long table() {
+        return table.get(nextKey());
+    }
+
+    @Benchmark
+    public Student hashMap() {
+        return map.get(nextKey());
+    }
+
+    private String nextKey() {
+        return keys[ThreadLocalRandom.current().nextInt(students)];
+    }
+}
@@ -0,0 +1,80 @@
+package com.university.election.service;
+
+import com.university.election.model.Student;
+
+import java.lang.ref.Reference;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Heap footprint of the eligibility index against a HashMap<String, Student> holding the same students
+ * Measured as used heap after full GCs before and after building each structure; every student gets
+ * its own strings, as rows read over JDBC do
+ *
+ * mvn -Pbenchmarks test-compile exec:java -Dbenchmark.main=com.university.election.service.EligibilityIndexFootprint \
+ *     -Dexec.args="100000"
+ * (for stable numbers run with a fixed heap, e.g. MAVEN_OPTS="-Xms1g -Xmx1g -XX:+UseSerialGC")
+ */
+public class EligibilityIndexFootprint {
+
+    private static final String[] FACULTIES = {
+            "Software Engineering", "Computer Science", "Information Systems", "Mathematics", "Physics"};
+
+    public static void main(String[] args) throws InterruptedException {
+        int students = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+
+        long before = usedHeap();
+        EligibilityTable table = new EligibilityTable();
+        for (int i = 0; i < students; i++) {
+            table = table.put(i + 1, studentId(i), 1 + i % 4, i % 3 == 0);
+        }
+        table.trim();
+        long tableBytes = usedHeap() - before;
+        long estimatedBytes = table.memoryBytes();
+        Reference.reachabilityFence(table);
+
+        before = usedHeap();
+        Map<String, Student> map = new HashMap<>();
+        for (int i = 0; i < students; i++) {
+            Student student = student(i);
+            map.put(student.getStudentId(), student);
+        }
+        long mapBytes = usedHeap() - before;
+        Reference.reachabilityFence(map);
+
+        double per100k = 100_000.0 / students;
+        System.out.printf(Locale.ROOT, "%,d students%n", students);
+        System.out.printf(Locale.ROOT, "%-26s %14s %16s %12s%n", "structure", "bytes", "per 100k (MB)", "per student");
+        print("EligibilityTable", tableBytes, per100k, students);
+        print("EligibilityTable (arrays)", estimatedBytes, per100k, students);
+        print("HashMap<String, Student>", mapBytes, per100k, students);
+        System.out.printf(Locale.ROOT, "HashMap / EligibilityTable: %.1fx%n", (double) mapBytes / tableBytes);
+    }
+
+    /**
+     * Synthetic student shaped like the sample data
+     */
+    static Student student(int i) {
+        return new Student(i + 1, "Student " + i, studentId(i), new String(FACULTIES[i % FACULTIES.length]),
+                1 + i % 4, i % 3 == 0);
+    }
+
+    private static String studentId(int i) {
+        return String.format(Locale.ROOT, "S%07d", i);
+    }
+
+    private static void print(String structure, long bytes, double per100k, int students) {
+        System.out.printf(Locale.ROOT, "%-26s %,14d %16.2f %12.1f%n",
+                structure, bytes, bytes * per100k / (1024 * 1024), (double) bytes / students);
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 4; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
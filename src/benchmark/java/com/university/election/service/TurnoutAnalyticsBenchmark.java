@@ -0,0 +1,80 @@
+package com.university.election.service;
+
+import com.university.election.dto.TurnoutBreakdown;
+import com.university.election.model.Student;
+import com.university.election.utils.SortingUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Turnout by faculty x year: the TurnoutAnalytics counters against grouping a loaded List<Student>
+ * with SortingUtils.groupStudentsByFaculty + countVotedStudents per year (the only way before)
+ * The stream side does not include loading the list from the database, which it also needs
+ *
+ * mvn -Pbenchmarks test-compile exec:exec@jmh -Djmh.args="TurnoutAnalyticsBenchmark -prof gc"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class TurnoutAnalyticsBenchmark {
+
+    private static final int ELECTION = 1;
+
+    @Param({"100000", "1000000"})
+    private int students;
+
+    private List<Student> list;
+    private TurnoutTable table;
+
+    @Setup
+    public void setUp() {
+        list = new ArrayList<>(students);
+        table = new TurnoutTable();
+        for (int i = 0; i < students; i++) {
+            Student student = EligibilityIndexFootprint.student(i);
+            list.add(student);
+            table.putStudent(student.getId(), student.getFaculty(), student.getYearOfStudy(), false);
+            if (student.getHasVoted()) {
+                table.recordVote(ELECTION, student.getId());
+            }
+        }
+    }
+
+    @Benchmark
+    public TurnoutBreakdown counters() {
+        return table.breakdown(ELECTION);
+    }
+
+    @Benchmark
+    public Map<String, Map<Integer, long[]>> streamGrouping() {
+        Map<String, Map<Integer, long[]>> turnout = new TreeMap<>();
+        SortingUtils.groupStudentsByFaculty(list).forEach((faculty, members) -> {
+            Map<Integer, long[]> byYear = new TreeMap<>();
+            members.stream()
+                    .collect(Collectors.groupingBy(Student::getYearOfStudy))
+                    .forEach((year, group) -> byYear.put(year,
+                            new long[]{group.size(), SortingUtils.countVotedStudents(group)}));
+            turnout.put(faculty, byYear);
+        });
+        return turnout;
+    }
+}
@@ -0,0 +1,67 @@
+package com.university.election.audit;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Exports binary audit segments to the text audit format ("[timestamp] [LEVEL] [ACTION] message")
+ *
+ * java -cp target/classes com.university.election.audit.AuditTextConverter logs/audit [election-audit.log]
+ * (a directory exports every segment in order; without an output file the text goes to stdout)
+ */
+public final class AuditTextConverter {
+
+    private AuditTextConverter() {
+    }
+
+    /**
+     * Export one segment file, or every segment of a directory
+     * @return number of records written
+     */
+    public static long export(Path source, Writer out) throws IOException {
+        List<Path> segments = Files.isDirectory(source) ? SegmentedAuditLog.segmentFiles(source) : List.of(source);
+        AuditTextFormat format = new AuditTextFormat();
+        StringBuilder line = new StringBuilder(256);
+        long[] records = {0};
+
+        for (Path segment : segments) {
+            try {
+                SegmentedAuditLog.forEachRecord(segment, (record, end) -> {
+                    line.setLength(0);
+                    format.append(line, record.timestamp(), record.level(), record.action(), record.message());
+                    try {
+                        out.append(line);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    records[0]++;
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+        out.flush();
+        return records[0];
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: AuditTextConverter <segment file or directory> [output file]");
+            System.exit(1);
+        }
+        Path source = Path.of(args[0]);
+        try (Writer out = args.length > 1
+                ? Files.newBufferedWriter(Path.of(args[1]), StandardCharsets.UTF_8)
+                : new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8))) {
+            long records = export(source, out);
+            System.err.println("Exported " + records + " audit records");
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.university.election.audit;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * The text audit line: "[yyyy-MM-dd HH:mm:ss] [LEVEL] [ACTION] message"
+ * Timestamps have second precision, so each second is formatted once (not thread-safe)
+ */
+public class AuditTextFormat {
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private long cachedSecond = Long.MIN_VALUE;
+    private String cachedTimestamp;
+
+    /**
+     * Append one line (with line separator) for the given event
+     */
+    public void append(StringBuilder text, long epochMillis, String level, String action, String message) {
+        text.append('[').append(timestamp(epochMillis)).append("] [").append(level).append("] ");
+        if (action != null) {
+            text.append('[').append(action).append("] ");
+        }
+        text.append(message).append(System.lineSeparator());
+    }
+
+    private String timestamp(long epochMillis) {
+        long second = Math.floorDiv(epochMillis, 1000);
+        if (second != cachedSecond) {
+            cachedSecond = second;
+            cachedTimestamp = LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault()).format(FORMATTER);
+        }
+        return cachedTimestamp;
+    }
+}
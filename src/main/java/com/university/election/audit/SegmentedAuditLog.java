@@ -0,0 +1,487 @@
+package com.university.election.audit;
+
+import com.university.election.dto.AuditEntry;
+import com.university.election.dto.AuditQueryResult;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.ObjLongConsumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Binary, segmented audit log
+ *
+ * Record:  [int payload length][int CRC32C of payload][payload]
+ * Payload: long timestamp (epoch ms), int electionId (-1 = none), then level, action and message
+ *          as length-prefixed UTF-8 (action length -1 = none)
+ *
+ * - Records are appended to the active segment (segment-NNNNNNNNNN.seg); when the next record
+ *   would push it past segment-bytes the segment is sealed, its index written (.idx), and a new
+ *   segment started
+ * - Sparse index: records are grouped into blocks of up to 64 (a block also ends with every
+ *   flush); each block keeps its file position, time range and a 64-bit election mask, and each
+ *   segment the union of its blocks, so a query skips segments and blocks that cannot match
+ * - Queries memory-map only the segments they need and verify every record's CRC
+ * - On startup a segment without an index (the process stopped while writing it) is re-scanned,
+ *   truncated after its last valid record and sealed
+ *
+ * Appends come from one writer thread; queries may run concurrently with it.
+ */
+public class SegmentedAuditLog implements Closeable {
+
+    static final int NO_ELECTION = -1;
+
+    private static final int BLOCK_RECORDS = 64;
+    private static final int HEADER_BYTES = 8;
+    private static final int INDEX_MAGIC = 0x41554458;
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String INDEX_SUFFIX = ".idx";
+
+    /**
+     * One decoded record
+     */
+    record Record(long timestamp, int electionId, String level, String action, String message) {
+    }
+
+    /**
+     * Sparse index entry: a run of consecutive records
+     */
+    record Block(long position, int length, long minTimestamp, long maxTimestamp, long electionMask) {
+
+        long end() {
+            return position + length;
+        }
+
+        boolean matches(Integer electionId, long from, long to) {
+            return minTimestamp <= to && maxTimestamp >= from
+                    && (electionId == null || (electionMask & electionBit(electionId)) != 0);
+        }
+    }
+
+    /**
+     * A segment file and its index; blocks are only added after their bytes are written
+     */
+    static final class Segment {
+        private final long sequence;
+        private final Path path;
+        private final List<Block> blocks = new ArrayList<>();
+        private long minTimestamp = Long.MAX_VALUE;
+        private long maxTimestamp = Long.MIN_VALUE;
+        private long electionMask;
+
+        private Segment(long sequence, Path path) {
+            this.sequence = sequence;
+            this.path = path;
+        }
+
+        synchronized void add(Block block) {
+            blocks.add(block);
+            minTimestamp = Math.min(minTimestamp, block.minTimestamp());
+            maxTimestamp = Math.max(maxTimestamp, block.maxTimestamp());
+            electionMask |= block.electionMask();
+        }
+
+        synchronized boolean matches(Integer electionId, long from, long to) {
+            return !blocks.isEmpty() && minTimestamp <= to && maxTimestamp >= from
+                    && (electionId == null || (electionMask & electionBit(electionId)) != 0);
+        }
+
+        synchronized List<Block> blocks() {
+            return List.copyOf(blocks);
+        }
+    }
+
+    private final Path directory;
+    private final long segmentBytes;
+    private final List<Segment> sealed = new CopyOnWriteArrayList<>();
+    private volatile Segment active;
+
+    // Writer thread only
+    private final CRC32C crc = new CRC32C();
+    private final List<Block> pendingBlocks = new ArrayList<>();
+    private ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+    private FileChannel channel;
+    private long written;
+    private long blockStart;
+    private int blockRecords;
+    private long blockMin;
+    private long blockMax;
+    private long blockMask;
+
+    public SegmentedAuditLog(Path directory, long segmentBytes) throws IOException {
+        if (segmentBytes <= HEADER_BYTES || segmentBytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Segment size must be between " + HEADER_BYTES + " and " + Integer.MAX_VALUE + " bytes");
+        }
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        Files.createDirectories(directory);
+
+        long nextSequence = 1;
+        for (Path path : segmentFiles(directory)) {
+            Segment segment = recover(path);
+            if (segment != null) {
+                sealed.add(segment);
+                nextSequence = segment.sequence + 1;
+            }
+        }
+        open(nextSequence);
+    }
+
+    /**
+     * Buffer one record; it becomes durable and visible to queries after flush()
+     */
+    public void append(long timestamp, String level, String action, Integer electionId, String message) throws IOException {
+        byte[] levelBytes = level.getBytes(StandardCharsets.UTF_8);
+        byte[] actionBytes = action == null ? null : action.getBytes(StandardCharsets.UTF_8);
+        byte[] messageBytes = message.getBytes(StandardCharsets.UTF_8);
+        int payload = 8 + 4 + 2 + levelBytes.length + 2 + (actionBytes == null ? 0 : actionBytes.length) + 4 + messageBytes.length;
+        int recordBytes = HEADER_BYTES + payload;
+
+        long end = written + buffer.position();
+        if (end > 0 && end + recordBytes > segmentBytes) {
+            flush();
+            roll();
+            end = 0;
+        }
+        if (buffer.remaining() < recordBytes) {
+            ByteBuffer larger = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + recordBytes));
+            buffer.flip();
+            larger.put(buffer);
+            buffer = larger;
+        }
+
+        int start = buffer.position();
+        int election = electionId == null ? NO_ELECTION : electionId;
+        buffer.putInt(payload).putInt(0);
+        buffer.putLong(timestamp).putInt(election);
+        buffer.putShort((short) levelBytes.length).put(levelBytes);
+        if (actionBytes == null) {
+            buffer.putShort((short) -1);
+        } else {
+            buffer.putShort((short) actionBytes.length).put(actionBytes);
+        }
+        buffer.putInt(messageBytes.length).put(messageBytes);
+        crc.reset();
+        crc.update(buffer.array(), start + HEADER_BYTES, payload);
+        buffer.putInt(start + 4, (int) crc.getValue());
+
+        if (blockRecords == 0) {
+            blockStart = end;
+            blockMin = timestamp;
+            blockMax = timestamp;
+            blockMask = 0;
+        }
+        blockMin = Math.min(blockMin, timestamp);
+        blockMax = Math.max(blockMax, timestamp);
+        blockMask |= electionBit(election);
+        if (++blockRecords == BLOCK_RECORDS) {
+            closeBlock();
+        }
+    }
+
+    /**
+     * Write buffered records with one channel write and publish their index blocks
+     */
+    public void flush() throws IOException {
+        closeBlock();
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            written += channel.write(buffer);
+        }
+        buffer.clear();
+        for (Block block : pendingBlocks) {
+            active.add(block);
+        }
+        pendingBlocks.clear();
+    }
+
+    public void force() throws IOException {
+        channel.force(false);
+    }
+
+    /**
+     * Flush, then seal the active segment so its index is on disk
+     */
+    @Override
+    public void close() throws IOException {
+        flush();
+        seal();
+    }
+
+    public int getSegmentCount() {
+        return sealed.size() + 1;
+    }
+
+    /**
+     * Events of an election (null = all) within [from, to] epoch ms, in timestamp order
+     * Only segments and blocks whose index entries overlap the query are read
+     */
+    public AuditQueryResult query(Integer electionId, long from, long to, int limit) throws IOException {
+        // Active first: a concurrent roll can then only make a segment appear twice, never be missed
+        Segment current = active;
+        List<Segment> segments = new ArrayList<>(sealed);
+        if (!segments.contains(current)) {
+            segments.add(current);
+        }
+
+        AuditQueryResult result = new AuditQueryResult();
+        result.setSegmentsTotal(segments.size());
+        List<Record> matches = new ArrayList<>();
+
+        scan:
+        for (Segment segment : segments) {
+            if (!segment.matches(electionId, from, to)) {
+                continue;
+            }
+            List<Block> blocks = segment.blocks().stream().filter(block -> block.matches(electionId, from, to)).toList();
+            if (blocks.isEmpty()) {
+                continue;
+            }
+            result.setSegmentsScanned(result.getSegmentsScanned() + 1);
+
+            MappedByteBuffer mapped = map(segment.path, blocks.getLast().end());
+            for (Block block : blocks) {
+                result.setBlocksScanned(result.getBlocksScanned() + 1);
+                int position = (int) block.position();
+                while (position < block.end()) {
+                    Record record = read(mapped, position);
+                    if (record == null) {
+                        break;
+                    }
+                    position += HEADER_BYTES + mapped.getInt(position);
+                    if (record.timestamp() >= from && record.timestamp() <= to
+                            && (electionId == null || record.electionId() == electionId)) {
+                        if (matches.size() == limit) {
+                            result.setTruncated(true);
+                            break scan;
+                        }
+                        matches.add(record);
+                    }
+                }
+            }
+        }
+
+        matches.sort(Comparator.comparingLong(Record::timestamp));
+        for (Record record : matches) {
+            result.getEntries().add(new AuditEntry(
+                    LocalDateTime.ofInstant(Instant.ofEpochMilli(record.timestamp()), ZoneId.systemDefault()),
+                    record.level(), record.action(),
+                    record.electionId() == NO_ELECTION ? null : record.electionId(),
+                    record.message()));
+        }
+        return result;
+    }
+
+    /**
+     * Segment files of a directory in write order
+     */
+    static List<Path> segmentFiles(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX)).sorted().toList();
+        }
+    }
+
+    /**
+     * Read every valid record of a segment, stopping at the first torn or corrupt one
+     * The consumer also receives the position just past the record
+     * @return the end position of the last valid record
+     */
+    static long forEachRecord(Path segment, ObjLongConsumer<Record> consumer) throws IOException {
+        MappedByteBuffer mapped = map(segment, Files.size(segment));
+        int position = 0;
+        while (position < mapped.limit()) {
+            Record record = read(mapped, position);
+            if (record == null) {
+                break;
+            }
+            position += HEADER_BYTES + mapped.getInt(position);
+            consumer.accept(record, position);
+        }
+        return position;
+    }
+
+    private static MappedByteBuffer map(Path path, long size) throws IOException {
+        try (FileChannel file = FileChannel.open(path, StandardOpenOption.READ)) {
+            return file.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+    }
+
+    /**
+     * Decode the record at position, or null if it is incomplete or fails its CRC
+     */
+    private static Record read(ByteBuffer source, int position) {
+        if (position + HEADER_BYTES > source.limit()) {
+            return null;
+        }
+        int payload = source.getInt(position);
+        if (payload < 20 || position + HEADER_BYTES + payload > source.limit()) {
+            return null;
+        }
+        ByteBuffer record = source.slice(position + HEADER_BYTES, payload);
+        CRC32C checksum = new CRC32C();
+        checksum.update(record.duplicate());
+        if ((int) checksum.getValue() != source.getInt(position + 4)) {
+            return null;
+        }
+
+        long timestamp = record.getLong();
+        int electionId = record.getInt();
+        String level = readString(record, record.getShort());
+        short actionLength = record.getShort();
+        String action = actionLength < 0 ? null : readString(record, actionLength);
+        String message = readString(record, record.getInt());
+        return new Record(timestamp, electionId, level, action, message);
+    }
+
+    private static String readString(ByteBuffer source, int length) {
+        byte[] bytes = new byte[length];
+        source.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static long electionBit(int electionId) {
+        return electionId < 0 ? 0 : 1L << (electionId & 63);
+    }
+
+    private void closeBlock() {
+        if (blockRecords == 0) {
+            return;
+        }
+        long end = written + buffer.position();
+        pendingBlocks.add(new Block(blockStart, (int) (end - blockStart), blockMin, blockMax, blockMask));
+        blockRecords = 0;
+    }
+
+    private void open(long sequence) throws IOException {
+        Path path = directory.resolve(String.format("segment-%010d%s", sequence, SEGMENT_SUFFIX));
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        active = new Segment(sequence, path);
+        written = 0;
+    }
+
+    private void roll() throws IOException {
+        Segment previous = active;
+        seal();
+        sealed.add(previous);
+        open(previous.sequence + 1);
+    }
+
+    private void seal() throws IOException {
+        channel.force(false);
+        channel.close();
+        writeIndex(active);
+    }
+
+    /**
+     * Load a segment's index, or rebuild it (truncating a torn tail) if it is missing or unreadable
+     * Empty segments are deleted
+     */
+    private Segment recover(Path path) throws IOException {
+        String name = path.getFileName().toString();
+        long sequence = Long.parseLong(name.substring("segment-".length(), name.length() - SEGMENT_SUFFIX.length()));
+        Segment segment = new Segment(sequence, path);
+
+        if (!readIndex(indexPath(path), segment)) {
+            segment = new Segment(sequence, path);
+            long validEnd = rebuildIndex(segment);
+            if (validEnd < Files.size(path)) {
+                try (FileChannel file = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                    file.truncate(validEnd);
+                }
+            }
+            if (validEnd == 0) {
+                Files.delete(path);
+                Files.deleteIfExists(indexPath(path));
+                return null;
+            }
+            writeIndex(segment);
+        } else if (segment.blocks().isEmpty()) {
+            Files.delete(path);
+            Files.delete(indexPath(path));
+            return null;
+        }
+        return segment;
+    }
+
+    private long rebuildIndex(Segment segment) throws IOException {
+        long[] block = {0, 0, Long.MAX_VALUE, Long.MIN_VALUE, 0};   // start, records, min, max, mask
+        long end = forEachRecord(segment.path, (record, recordEnd) -> {
+            block[2] = Math.min(block[2], record.timestamp());
+            block[3] = Math.max(block[3], record.timestamp());
+            block[4] |= electionBit(record.electionId());
+            if (++block[1] == BLOCK_RECORDS) {
+                segment.add(new Block(block[0], (int) (recordEnd - block[0]), block[2], block[3], block[4]));
+                block[0] = recordEnd;
+                block[1] = 0;
+                block[2] = Long.MAX_VALUE;
+                block[3] = Long.MIN_VALUE;
+                block[4] = 0;
+            }
+        });
+        if (block[1] > 0) {
+            segment.add(new Block(block[0], (int) (end - block[0]), block[2], block[3], block[4]));
+        }
+        return end;
+    }
+
+    private static boolean readIndex(Path index, Segment segment) throws IOException {
+        if (!Files.exists(index)) {
+            return false;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(index)))) {
+            if (in.readInt() != INDEX_MAGIC) {
+                return false;
+            }
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                segment.add(new Block(in.readLong(), in.readInt(), in.readLong(), in.readLong(), in.readLong()));
+            }
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static void writeIndex(Segment segment) throws IOException {
+        Path index = indexPath(segment.path);
+        Path temp = index.resolveSibling(index.getFileName() + ".tmp");
+        List<Block> blocks = segment.blocks();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(INDEX_MAGIC);
+            out.writeInt(blocks.size());
+            for (Block block : blocks) {
+                out.writeLong(block.position());
+                out.writeInt(block.length());
+                out.writeLong(block.minTimestamp());
+                out.writeLong(block.maxTimestamp());
+                out.writeLong(block.electionMask());
+            }
+        }
+        Files.move(temp, index, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static Path indexPath(Path segment) {
+        String name = segment.getFileName().toString();
+        return segment.resolveSibling(name.substring(0, name.length() - SEGMENT_SUFFIX.length()) + INDEX_SUFFIX);
+    }
+}
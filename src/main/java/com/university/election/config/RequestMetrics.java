@@ -0,0 +1,232 @@
+package com.university.election.config;
+
+import com.university.election.dto.RouteMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-route request metrics (Micrometer, local Prometheus registry)
+ * - http.server.requests: latency timer per method + route pattern, with client-side
+ *   p50/p95/p99 from an HDR histogram over a one-minute sliding window
+ * - requests per second over the last minute too (sixty one-second buckets), so rate and percentiles
+ *   describe the same traffic
+ * - http.server.requests.active: in-flight gauge per route
+ * - http.server.errors: count per route and exception type mapped by GlobalExceptionHandler
+ *
+ * Recording is two map lookups, a nanoTime pair and a timer update; meters are created once per
+ * route. Async requests (CompletableFuture, streaming bodies) are timed until the async
+ * dispatch completes.
+ */
+@Component
+public class RequestMetrics implements AsyncHandlerInterceptor {
+
+    /**
+     * Request attribute GlobalExceptionHandler sets to the handled exception's simple class name
+     */
+    public static final String EXCEPTION_ATTRIBUTE = RequestMetrics.class.getName() + ".exception";
+
+    private static final String STARTED_ATTRIBUTE = RequestMetrics.class.getName() + ".started";
+    private static final String UNMATCHED = "UNMATCHED";
+
+    private static final int RATE_WINDOW_SECONDS = 60;
+
+    private final PrometheusMeterRegistry registry;
+    private final LongSupplier clock;
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, RouteMeters>> routes = new ConcurrentHashMap<>();
+
+    @Autowired
+    public RequestMetrics(PrometheusMeterRegistry registry) {
+        this(registry, System::nanoTime);
+    }
+
+    /**
+     * @param clock nanoTime source of the rate window (tests move it by hand)
+     */
+    RequestMetrics(PrometheusMeterRegistry registry, LongSupplier clock) {
+        this.registry = registry;
+        this.clock = clock;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // The async re-dispatch passes through here again; keep the original start time
+        if (request.getAttribute(STARTED_ATTRIBUTE) == null) {
+            request.setAttribute(STARTED_ATTRIBUTE, System.nanoTime());
+            meters(request).inFlight.incrementAndGet();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object started = request.getAttribute(STARTED_ATTRIBUTE);
+        if (started == null) {
+            return;
+        }
+        request.removeAttribute(STARTED_ATTRIBUTE);
+
+        RouteMeters meters = meters(request);
+        meters.timer.record(System.nanoTime() - (Long) started, TimeUnit.NANOSECONDS);
+        meters.inFlight.decrementAndGet();
+        meters.rate.record(clock.getAsLong());
+
+        Object exception = request.getAttribute(EXCEPTION_ATTRIBUTE);
+        if (exception == null && ex != null) {
+            exception = ex.getClass().getSimpleName();
+        }
+        if (exception != null) {
+            meters.error((String) exception, response.getStatus());
+        }
+    }
+
+    /**
+     * JSON view: one entry per route and method, slowest p99 first
+     */
+    public List<RouteMetrics> snapshot() {
+        List<RouteMetrics> result = new ArrayList<>();
+        for (ConcurrentHashMap<String, RouteMeters> byMethod : routes.values()) {
+            for (RouteMeters meters : byMethod.values()) {
+                result.add(meters.snapshot());
+            }
+        }
+        result.sort(Comparator.comparingDouble(RouteMetrics::getP99Millis).reversed());
+        return result;
+    }
+
+    /**
+     * Prometheus text exposition format
+     */
+    public String scrape() {
+        return registry.scrape();
+    }
+
+    private RouteMeters meters(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String route = pattern == null ? UNMATCHED : pattern.toString();
+        return routes.computeIfAbsent(route, r -> new ConcurrentHashMap<>())
+                .computeIfAbsent(request.getMethod(), method -> new RouteMeters(method, route));
+    }
+
+    private final class RouteMeters {
+        private final String method;
+        private final String route;
+        private final Tags tags;
+        private final Timer timer;
+        private final AtomicInteger inFlight;
+        private final Map<String, Counter> errors = new ConcurrentHashMap<>();
+        private final RateWindow rate = new RateWindow(clock.getAsLong());
+
+        private RouteMeters(String method, String route) {
+            this.method = method;
+            this.route = route;
+            this.tags = Tags.of("method", method, "uri", route);
+            this.timer = Timer.builder("http.server.requests")
+                    .tags(tags)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .distributionStatisticExpiry(Duration.ofMinutes(1))
+                    .register(registry);
+            this.inFlight = registry.gauge("http.server.requests.active", tags, new AtomicInteger());
+        }
+
+        void error(String exception, int status) {
+            errors.computeIfAbsent(exception, name -> Counter.builder("http.server.errors")
+                    .tags(tags.and("exception", name, "status", String.valueOf(status)))
+                    .register(registry)).increment();
+        }
+
+        RouteMetrics snapshot() {
+            HistogramSnapshot histogram = timer.takeSnapshot();
+            RouteMetrics metrics = new RouteMetrics();
+            metrics.setMethod(method);
+            metrics.setRoute(route);
+            metrics.setCount(histogram.count());
+            metrics.setInFlight(inFlight.get());
+            metrics.setRequestsPerSecond(rate.perSecond(clock.getAsLong()));
+            metrics.setMeanMillis(histogram.mean(TimeUnit.MILLISECONDS));
+            metrics.setMaxMillis(histogram.max(TimeUnit.MILLISECONDS));
+            for (ValueAtPercentile percentile : histogram.percentileValues()) {
+                double millis = percentile.value(TimeUnit.MILLISECONDS);
+                if (percentile.percentile() == 0.5) {
+                    metrics.setP50Millis(millis);
+                } else if (percentile.percentile() == 0.95) {
+                    metrics.setP95Millis(millis);
+                } else if (percentile.percentile() == 0.99) {
+                    metrics.setP99Millis(millis);
+                }
+            }
+            Map<String, Long> errorCounts = new TreeMap<>();
+            errors.forEach((exception, counter) -> errorCounts.put(exception, (long) counter.count()));
+            metrics.setErrors(errorCounts);
+            return metrics;
+        }
+    }
+
+    /**
+     * Completed requests over the last minute in one-second buckets
+     * Each bucket packs the second it holds (high 32 bits, seconds since the route was first seen) with
+     * its count (low 32 bits), so reusing a bucket from a minute ago is one CAS
+     */
+    private static final class RateWindow {
+        private final AtomicLongArray buckets = new AtomicLongArray(RATE_WINDOW_SECONDS);
+        private final long startedAt;
+
+        private RateWindow(long now) {
+            this.startedAt = now;
+        }
+
+        void record(long now) {
+            long second = second(now);
+            int index = (int) (second % RATE_WINDOW_SECONDS);
+            while (true) {
+                long bucket = buckets.get(index);
+                long next = bucket >>> 32 == second ? bucket + 1 : (second << 32) | 1;
+                if (buckets.compareAndSet(index, bucket, next)) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Requests per second over the last minute, or since the route was first seen if that is shorter
+         */
+        double perSecond(long now) {
+            long second = second(now);
+            long requests = 0;
+            for (int i = 0; i < RATE_WINDOW_SECONDS; i++) {
+                long bucket = buckets.get(i);
+                if (second - (bucket >>> 32) < RATE_WINDOW_SECONDS) {
+                    requests += bucket & 0xFFFF_FFFFL;
+                }
+            }
+            double seconds = Math.clamp((now - startedAt) / 1_000_000_000.0, 1.0, RATE_WINDOW_SECONDS);
+            return requests / seconds;
+        }
+
+        private long second(long now) {
+            return (now - startedAt) / 1_000_000_000L;
+        }
+    }
+}
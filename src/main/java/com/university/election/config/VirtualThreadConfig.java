@@ -0,0 +1,38 @@
+package com.university.election.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * Virtual-thread execution mode (spring.threads.virtual.enabled=true)
+ * Spring Boot then runs Tomcat requests on virtual threads; this configuration puts every
+ * DataSource behind a GatedDataSource sized to the Hikari pool, which bounds how many requests
+ * wait inside the pool (it guards the pool, it does not make requests faster).
+ * app.jdbc.gate.enabled=false leaves the DataSource ungated (benchmarks compare both).
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "app.jdbc.gate.enabled", havingValue = "true", matchIfMissing = true)
+    public static BeanPostProcessor jdbcGatePostProcessor(Environment environment) {
+        int permits = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+        long acquireTimeoutMillis = environment.getProperty("app.jdbc.gate.acquire-timeout-ms", Long.class, 30000L);
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof GatedDataSource)) {
+                    return new GatedDataSource(dataSource, permits, acquireTimeoutMillis);
+                }
+                return bean;
+            }
+        };
+    }
+}
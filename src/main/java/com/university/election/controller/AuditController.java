@@ -0,0 +1,49 @@
+package com.university.election.controller;
+
+import com.university.election.dto.AuditQueryResult;
+import com.university.election.dto.AuditStats;
+import com.university.election.patterns.singleton.AuditLogger;
+import com.university.election.utils.CursorUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Audit Log REST Controller
+ */
+@RestController
+@RequestMapping("/api/audit")
+@CrossOrigin(origins = "*")
+public class AuditController {
+
+    private final AuditLogger auditLogger;
+
+    @Autowired
+    public AuditController(AuditLogger auditLogger) {
+        this.auditLogger = auditLogger;
+    }
+
+    /**
+     * GET /api/audit?electionId=7&from=2026-10-16T10:00:00&to=2026-10-16T11:00:00&limit=500
+     * - Audit events of an election (all events without electionId) in a time range, oldest first
+     */
+    @GetMapping
+    public ResponseEntity<AuditQueryResult> query(@RequestParam(required = false) Integer electionId,
+                                                  @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                  @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                                  @RequestParam(defaultValue = "" + CursorUtils.MAX_PAGE_SIZE) int limit) {
+        CursorUtils.checkLimit(limit);
+        return ResponseEntity.ok(auditLogger.query(electionId, from, to, limit));
+    }
+
+    /**
+     * GET /api/audit/stats - Queue depth, dropped events and flush latency of the audit writer
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<AuditStats> getStats() {
+        return ResponseEntity.ok(auditLogger.getStats());
+    }
+}
@@ -0,0 +1,31 @@
+package com.university.election.controller;
+
+import com.university.election.dto.CacheStats;
+import com.university.election.patterns.singleton.CacheManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Cache REST Controller
+ */
+@RestController
+@RequestMapping("/api/cache")
+@CrossOrigin(origins = "*")
+public class CacheController {
+
+    private final CacheManager cacheManager;
+
+    @Autowired
+    public CacheController(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * GET /api/cache/stats - Hit/miss/eviction counters and average load time
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<CacheStats> getStats() {
+        return ResponseEntity.ok(cacheManager.getStats());
+    }
+}
@@ -1,11 +1,16 @@
 package com.university.election.controller;
 
+import com.university.election.dto.PageResponse;
 import com.university.election.model.Candidate;
+import com.university.election.repository.CandidateFilter;
 import com.university.election.service.CandidateService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectMapper;
 
 import java.util.HashMap;
 import java.util.List;
@@ -20,19 +25,49 @@ import java.util.Map;
 public class CandidateController {
 
     private final CandidateService service;
+    private final ObjectMapper objectMapper;
 
     @Autowired
-    public CandidateController(CandidateService service) {
+    public CandidateController(CandidateService service, ObjectMapper objectMapper) {
         this.service = service;
+        this.objectMapper = objectMapper;
     }
 
      // GET /api/candidates - Get all candidates
-    @GetMapping
+    @GetMapping(params = {StreamingResponses.NOT_PAGED, StreamingResponses.NOT_STREAMED})
     public ResponseEntity<List<Candidate>> getAllCandidates() {
         List<Candidate> candidates = service.getAllCandidates();
         return ResponseEntity.ok(candidates);
     }
 
+    // GET /api/candidates?limit=N&after={cursor} - Get one page of candidates (keyset pagination)
+    // Optional filters and order: electionId, faculty, year, sort=id|name
+    @GetMapping(params = {"limit", StreamingResponses.NOT_STREAMED})
+    public ResponseEntity<PageResponse<Candidate>> getCandidatesPage(@RequestParam(required = false) Integer electionId,
+                                                                     @RequestParam(required = false) String faculty,
+                                                                     @RequestParam(required = false) Integer year,
+                                                                     @RequestParam(required = false) String sort,
+                                                                     @RequestParam(required = false) String after,
+                                                                     @RequestParam int limit) {
+        if (electionId == null && faculty == null && year == null && sort == null) {
+            return StreamingResponses.page(service.getCandidatesPage(after, limit));
+        }
+        return StreamingResponses.page(service.queryCandidates(new CandidateFilter(electionId, faculty, year), sort, after, limit));
+    }
+
+    // GET /api/candidates?stream=true - Stream all candidates (JSON array, or NDJSON if accepted)
+    @GetMapping(params = StreamingResponses.STREAMED)
+    public ResponseEntity<StreamingResponseBody> streamCandidates(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        return StreamingResponses.stream(accept, objectMapper, service::streamAllCandidates);
+    }
+
+    // GET /api/candidates with Accept: application/x-ndjson - Stream all candidates as NDJSON
+    @GetMapping(params = {StreamingResponses.NOT_PAGED, StreamingResponses.NOT_STREAMED}, produces = StreamingResponses.NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamCandidatesNdjson() {
+        return StreamingResponses.ndjson(objectMapper, service::streamAllCandidates);
+    }
+
      // GET /api/candidates/{id} - Get candidate by ID
     @GetMapping("/{id}")
     public ResponseEntity<Candidate> getCandidateById(@PathVariable Integer id) {
@@ -47,6 +82,14 @@ public class CandidateController {
         return ResponseEntity.ok(candidates);
     }
 
+    // GET /api/candidates/election/{electionId}?limit=N&after={cursor} - Get one page of an election's candidates
+    @GetMapping(value = "/election/{electionId}", params = "limit")
+    public ResponseEntity<PageResponse<Candidate>> getCandidatesByElectionPage(@PathVariable Integer electionId,
+                                                                               @RequestParam(required = false) String after,
+                                                                               @RequestParam int limit) {
+        return ResponseEntity.ok(service.getCandidatesByElectionIdPage(electionId, after, limit));
+    }
+
     // POST /api/candidates - Create new candidate
     @PostMapping
     public ResponseEntity<Candidate> createCandidate(@RequestBody Candidate candidate) {
@@ -71,6 +114,30 @@ public class CandidateController {
         return ResponseEntity.ok(response);
     }
 
+    // POST /api/candidates/batch - Create candidates in one batch
+    @PostMapping("/batch")
+    public ResponseEntity<List<Candidate>> createCandidates(@RequestBody List<Candidate> candidates) {
+        List<Candidate> created = service.createCandidates(candidates);
+        return ResponseEntity.status(HttpStatus.CREATED).body(created);
+    }
+
+    // PUT /api/candidates/batch - Update candidates in one batch (each element carries its id)
+    @PutMapping("/batch")
+    public ResponseEntity<List<Candidate>> updateCandidates(@RequestBody List<Candidate> candidates) {
+        List<Candidate> updated = service.updateCandidates(candidates);
+        return ResponseEntity.ok(updated);
+    }
+
+    // DELETE /api/candidates/batch - Delete candidates by IDs in one batch
+    @DeleteMapping("/batch")
+    public ResponseEntity<Map<String, Object>> deleteCandidates(@RequestBody List<Integer> ids) {
+        int deleted = service.deleteCandidates(ids);
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", "Candidates deleted successfully");
+        response.put("deleted", deleted);
+        return ResponseEntity.ok(response);
+    }
+
     // GET /api/candidates/count - Count candidates
     @GetMapping("/count")
     public ResponseEntity<Map<String, Long>> countCandidates() {
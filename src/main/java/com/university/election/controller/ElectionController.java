@@ -1,11 +1,16 @@
 package com.university.election.controller;
 
+import com.university.election.dto.ElectionDTO;
+import com.university.election.dto.PageResponse;
 import com.university.election.model.Election;
 import com.university.election.service.ElectionService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectMapper;
 
 import java.util.HashMap;
 import java.util.List;
@@ -21,21 +26,57 @@ import java.util.Map;
 public class ElectionController {
 
     private final ElectionService service;
+    private final ObjectMapper objectMapper;
 
     @Autowired
-    public ElectionController(ElectionService service) {
+    public ElectionController(ElectionService service, ObjectMapper objectMapper) {
         this.service = service;
+        this.objectMapper = objectMapper;
     }
 
     /**
      * GET /api/elections - Get all elections
      */
-    @GetMapping
+    @GetMapping(params = {StreamingResponses.NOT_PAGED, StreamingResponses.NOT_STREAMED})
     public ResponseEntity<List<Election>> getAllElections() {
         List<Election> elections = service.getAllElections();
         return ResponseEntity.ok(elections);
     }
 
+    /**
+     * GET /api/elections?limit=N&after={cursor} - Get one page of elections, newest first (keyset pagination)
+     */
+    @GetMapping(params = {"limit", StreamingResponses.NOT_STREAMED})
+    public ResponseEntity<PageResponse<Election>> getElectionsPage(@RequestParam(required = false) String after,
+                                                                   @RequestParam int limit) {
+        return StreamingResponses.page(service.getElectionsPage(after, limit));
+    }
+
+    /**
+     * GET /api/elections?stream=true - Stream all elections (JSON array, or NDJSON if accepted)
+     */
+    @GetMapping(params = StreamingResponses.STREAMED)
+    public ResponseEntity<StreamingResponseBody> streamElections(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        return StreamingResponses.stream(accept, objectMapper, service::streamAllElections);
+    }
+
+    /**
+     * GET /api/elections with Accept: application/x-ndjson - Stream all elections as NDJSON
+     */
+    @GetMapping(params = {StreamingResponses.NOT_PAGED, StreamingResponses.NOT_STREAMED}, produces = StreamingResponses.NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamElectionsNdjson() {
+        return StreamingResponses.ndjson(objectMapper, service::streamAllElections);
+    }
+
+    /**
+     * GET /api/elections/summary - Every election with candidate and vote counts and status (one query, cached)
+     */
+    @GetMapping("/summary")
+    public ResponseEntity<List<ElectionDTO>> getElectionSummaries() {
+        return ResponseEntity.ok(service.getElectionSummaries());
+    }
+
     /**
      * GET /api/elections/{id} - Get election by ID
      */
@@ -75,6 +116,36 @@ public class ElectionController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * POST /api/elections/batch - Create elections in one batch
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<Election>> createElections(@RequestBody List<Election> elections) {
+        List<Election> created = service.createElections(elections);
+        return ResponseEntity.status(HttpStatus.CREATED).body(created);
+    }
+
+    /**
+     * PUT /api/elections/batch - Update elections in one batch (each element carries its id)
+     */
+    @PutMapping("/batch")
+    public ResponseEntity<List<Election>> updateElections(@RequestBody List<Election> elections) {
+        List<Election> updated = service.updateElections(elections);
+        return ResponseEntity.ok(updated);
+    }
+
+    /**
+     * DELETE /api/elections/batch - Delete elections by IDs in one batch
+     */
+    @DeleteMapping("/batch")
+    public ResponseEntity<Map<String, Object>> deleteElections(@RequestBody List<Integer> ids) {
+        int deleted = service.deleteElections(ids);
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", "Elections deleted successfully");
+        response.put("deleted", deleted);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * GET /api/elections/count - Count elections
      */
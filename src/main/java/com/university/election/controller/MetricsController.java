@@ -0,0 +1,44 @@
+package com.university.election.controller;
+
+import com.university.election.config.RequestMetrics;
+import com.university.election.dto.RouteMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Request Metrics REST Controller
+ */
+@RestController
+@RequestMapping("/api/metrics")
+@CrossOrigin(origins = "*")
+public class MetricsController {
+
+    private static final MediaType PROMETHEUS_TEXT = MediaType.parseMediaType("text/plain;version=0.0.4;charset=utf-8");
+
+    private final RequestMetrics requestMetrics;
+
+    @Autowired
+    public MetricsController(RequestMetrics requestMetrics) {
+        this.requestMetrics = requestMetrics;
+    }
+
+    /**
+     * GET /api/metrics - Per-route latency percentiles, request rate, in-flight requests and errors (JSON)
+     */
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<RouteMetrics>> getMetrics() {
+        return ResponseEntity.ok(requestMetrics.snapshot());
+    }
+
+    /**
+     * GET /api/metrics (Accept: text/plain) - Same meters in Prometheus text format, for scraping
+     */
+    @GetMapping(produces = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<String> getPrometheusMetrics() {
+        return ResponseEntity.ok().contentType(PROMETHEUS_TEXT).body(requestMetrics.scrape());
+    }
+}
@@ -0,0 +1,63 @@
+package com.university.election.controller;
+
+import com.university.election.dto.ResultsStreamStats;
+import com.university.election.service.ResultsBroadcaster;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Live Results REST Controller
+ * Server-Sent Events fed by ResultsBroadcaster: one snapshot per tick, the same bytes for every client
+ */
+@RestController
+@RequestMapping("/api/elections")
+@CrossOrigin(origins = "*")
+public class ResultsStreamController {
+
+    private final ResultsBroadcaster broadcaster;
+
+    @Autowired
+    public ResultsStreamController(ResultsBroadcaster broadcaster) {
+        this.broadcaster = broadcaster;
+    }
+
+    /**
+     * GET /api/elections/{electionId}/results/stream - "results" events with the tally whenever it changes
+     * (at most every app.results.stream.interval-ms); the request thread is released while the stream is open
+     */
+    @GetMapping(value = "/{electionId}/results/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamResults(@PathVariable Integer electionId) {
+        SseEmitter emitter = new SseEmitter();
+        Runnable cancel = broadcaster.subscribe(electionId, new ResultsBroadcaster.FrameSink() {
+            @Override
+            public void send(byte[] frame) throws IOException {
+                // The frame is already a complete SSE event: written as is by the byte[] converter
+                emitter.send(Set.of(new ResponseBodyEmitter.DataWithMediaType(frame, MediaType.TEXT_EVENT_STREAM)));
+            }
+
+            @Override
+            public void close() {
+                emitter.complete();
+            }
+        });
+        emitter.onCompletion(cancel);
+        emitter.onTimeout(cancel);
+        emitter.onError(error -> cancel.run());
+        return emitter;
+    }
+
+    /**
+     * GET /api/elections/results/stream/stats - Subscribers, snapshots taken and frames written, skipped or dropped
+     */
+    @GetMapping("/results/stream/stats")
+    public ResponseEntity<ResultsStreamStats> getStats() {
+        return ResponseEntity.ok(broadcaster.getStats());
+    }
+}
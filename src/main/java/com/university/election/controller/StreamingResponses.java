@@ -0,0 +1,72 @@
+package com.university.election.controller;
+
+import com.university.election.dto.PageResponse;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.SequenceWriter;
+
+import java.util.function.Consumer;
+
+/**
+ * Builds streaming list responses: each row is serialized and written as soon as it is read,
+ * so memory per request stays constant regardless of the number of rows.
+ *
+ * The source is called with a row consumer and must push every row into it.
+ */
+final class StreamingResponses {
+
+    static final String NDJSON = "application/x-ndjson";
+
+    // Params of the list mappings, so they never overlap: ?stream=true streams (and wins over limit),
+    // ?limit= pages, anything else is the full list (plain JSON, or NDJSON when accepted). The plain and
+    // NDJSON mappings carry the same params, so the Accept header alone decides between them
+    static final String STREAMED = "stream=true";
+    static final String NOT_STREAMED = "stream!=true";
+    static final String NOT_PAGED = "!limit";
+
+    private StreamingResponses() {
+    }
+
+    /**
+     * A page is always JSON (items plus cursor), whatever the Accept header lists: the content type is
+     * preset, so an NDJSON-only Accept gets the page instead of 406
+     */
+    static <T> ResponseEntity<PageResponse<T>> page(PageResponse<T> page) {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(page);
+    }
+
+    /**
+     * NDJSON when the Accept header asks for it, otherwise a streamed JSON array
+     */
+    static <T> ResponseEntity<StreamingResponseBody> stream(String accept, ObjectMapper mapper, Consumer<Consumer<T>> source) {
+        return accept != null && accept.contains(NDJSON) ? ndjson(mapper, source) : jsonArray(mapper, source);
+    }
+
+    /**
+     * One JSON document per line (application/x-ndjson)
+     */
+    static <T> ResponseEntity<StreamingResponseBody> ndjson(ObjectMapper mapper, Consumer<Consumer<T>> source) {
+        StreamingResponseBody body = out -> {
+            SequenceWriter writer = mapper.writer().withRootValueSeparator("\n").writeValues(out);
+            source.accept(writer::write);
+            writer.flush();
+            out.write('\n');
+            writer.close();
+        };
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON)).body(body);
+    }
+
+    /**
+     * A regular JSON array written element by element (application/json)
+     */
+    static <T> ResponseEntity<StreamingResponseBody> jsonArray(ObjectMapper mapper, Consumer<Consumer<T>> source) {
+        StreamingResponseBody body = out -> {
+            SequenceWriter writer = mapper.writer().writeValuesAsArray(out);
+            source.accept(writer::write);
+            writer.close();
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+}
@@ -1,12 +1,24 @@
 package com.university.election.controller;
 
+import com.university.election.dto.EligibilityIndexStats;
+import com.university.election.dto.EligibilityStatus;
+import com.university.election.dto.ImportReport;
+import com.university.election.dto.PageResponse;
 import com.university.election.model.Student;
+import com.university.election.repository.StudentFilter;
+import com.university.election.service.StudentImportService;
 import com.university.election.service.StudentService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectMapper;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -20,21 +32,60 @@ import java.util.Map;
 public class StudentController {
 
     private final StudentService service;
+    private final StudentImportService importService;
+    private final ObjectMapper objectMapper;
 
     @Autowired
-    public StudentController(StudentService service) {
+    public StudentController(StudentService service, StudentImportService importService, ObjectMapper objectMapper) {
         this.service = service;
+        this.importService = importService;
+        this.objectMapper = objectMapper;
     }
 
     /**
      * GET /api/students - Get all students
      */
-    @GetMapping
+    @GetMapping(params = {StreamingResponses.NOT_PAGED, StreamingResponses.NOT_STREAMED})
     public ResponseEntity<List<Student>> getAllStudents() {
         List<Student> students = service.getAllStudents();
         return ResponseEntity.ok(students);
     }
 
+    /**
+     * GET /api/students?limit=N&after={cursor} - Get one page of students (keyset pagination)
+     * Optional filters and order: faculty, year, voted, sort=id|name, e.g.
+     * GET /api/students?faculty=Law&year=2&voted=false&sort=name&limit=50
+     */
+    @GetMapping(params = {"limit", StreamingResponses.NOT_STREAMED})
+    public ResponseEntity<PageResponse<Student>> getStudentsPage(@RequestParam(required = false) String faculty,
+                                                                 @RequestParam(required = false) Integer year,
+                                                                 @RequestParam(required = false) Boolean voted,
+                                                                 @RequestParam(required = false) String sort,
+                                                                 @RequestParam(required = false) String after,
+                                                                 @RequestParam int limit) {
+        if (faculty == null && year == null && voted == null && sort == null) {
+            return StreamingResponses.page(service.getStudentsPage(after, limit));
+        }
+        return StreamingResponses.page(service.queryStudents(new StudentFilter(faculty, year, voted), sort, after, limit));
+    }
+
+    /**
+     * GET /api/students?stream=true - Stream all students (JSON array, or NDJSON if accepted)
+     */
+    @GetMapping(params = StreamingResponses.STREAMED)
+    public ResponseEntity<StreamingResponseBody> streamStudents(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        return StreamingResponses.stream(accept, objectMapper, service::streamAllStudents);
+    }
+
+    /**
+     * GET /api/students with Accept: application/x-ndjson - Stream all students as NDJSON
+     */
+    @GetMapping(params = {StreamingResponses.NOT_PAGED, StreamingResponses.NOT_STREAMED}, produces = StreamingResponses.NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamStudentsNdjson() {
+        return StreamingResponses.ndjson(objectMapper, service::streamAllStudents);
+    }
+
     /**
      * GET /api/students/{id} - Get student by ID
      */
@@ -53,6 +104,25 @@ public class StudentController {
         return ResponseEntity.ok(student);
     }
 
+    /**
+     * GET /api/students/studentId/{studentId}/eligibility?electionId= - Polling-kiosk eligibility check (served from memory)
+     * With electionId, hasVoted/canVote refer to that election only
+     */
+    @GetMapping("/studentId/{studentId}/eligibility")
+    public ResponseEntity<EligibilityStatus> checkEligibility(@PathVariable String studentId,
+                                                              @RequestParam(required = false) Integer electionId) {
+        EligibilityStatus status = service.checkEligibility(studentId, electionId);
+        return ResponseEntity.ok(status);
+    }
+
+    /**
+     * GET /api/students/eligibility/stats - Size, memory footprint and hit rate of the eligibility index
+     */
+    @GetMapping("/eligibility/stats")
+    public ResponseEntity<EligibilityIndexStats> getEligibilityIndexStats() {
+        return ResponseEntity.ok(service.getEligibilityIndexStats());
+    }
+
     /**
      * GET /api/students/voted/{hasVoted} - Get students by voting status
      */
@@ -62,6 +132,16 @@ public class StudentController {
         return ResponseEntity.ok(students);
     }
 
+    /**
+     * GET /api/students/voted/{hasVoted}?limit=N&after={cursor} - Get one page of students by voting status
+     */
+    @GetMapping(value = "/voted/{hasVoted}", params = "limit")
+    public ResponseEntity<PageResponse<Student>> getStudentsByVotingStatusPage(@PathVariable Boolean hasVoted,
+                                                                               @RequestParam(required = false) String after,
+                                                                               @RequestParam int limit) {
+        return ResponseEntity.ok(service.getStudentsByVotingStatusPage(hasVoted, after, limit));
+    }
+
     /**
      * POST /api/students - Create new student
      */
@@ -101,6 +181,57 @@ public class StudentController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * POST /api/students/batch - Create students in one batch
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<Student>> createStudents(@RequestBody List<Student> students) {
+        List<Student> created = service.createStudents(students);
+        return ResponseEntity.status(HttpStatus.CREATED).body(created);
+    }
+
+    /**
+     * PUT /api/students/batch - Update students in one batch (each element carries its id)
+     */
+    @PutMapping("/batch")
+    public ResponseEntity<List<Student>> updateStudents(@RequestBody List<Student> students) {
+        List<Student> updated = service.updateStudents(students);
+        return ResponseEntity.ok(updated);
+    }
+
+    /**
+     * DELETE /api/students/batch - Delete students by IDs in one batch
+     */
+    @DeleteMapping("/batch")
+    public ResponseEntity<Map<String, Object>> deleteStudents(@RequestBody List<Integer> ids) {
+        int deleted = service.deleteStudents(ids);
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", "Students deleted successfully");
+        response.put("deleted", deleted);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * POST /api/students/import - Bulk import students from a CSV request body
+     * Columns: name,studentId,faculty,yearOfStudy (optional header row)
+     */
+    @PostMapping(value = "/import", consumes = {"text/csv", "text/plain", "application/octet-stream"})
+    public ResponseEntity<ImportReport> importStudents(InputStream csv) {
+        ImportReport report = importService.importStudents(csv);
+        return ResponseEntity.ok(report);
+    }
+
+    /**
+     * POST /api/students/import - Bulk import students from a multipart CSV upload (part name "file")
+     */
+    @PostMapping(value = "/import", consumes = "multipart/form-data")
+    public ResponseEntity<ImportReport> importStudentsFile(@RequestParam("file") MultipartFile file) throws IOException {
+        try (InputStream csv = file.getInputStream()) {
+            ImportReport report = importService.importStudents(csv);
+            return ResponseEntity.ok(report);
+        }
+    }
+
     /**
      * GET /api/students/count - Count students
      */
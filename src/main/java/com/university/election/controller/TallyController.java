@@ -0,0 +1,41 @@
+package com.university.election.controller;
+
+import com.university.election.dto.TallyReconciliation;
+import com.university.election.dto.TallySnapshot;
+import com.university.election.service.TallyEngine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Tally REST Controller
+ * Live election results served from memory
+ */
+@RestController
+@RequestMapping("/api/elections/{electionId}/tally")
+@CrossOrigin(origins = "*")
+public class TallyController {
+
+    private final TallyEngine tallyEngine;
+
+    @Autowired
+    public TallyController(TallyEngine tallyEngine) {
+        this.tallyEngine = tallyEngine;
+    }
+
+    /**
+     * GET /api/elections/{electionId}/tally - Current vote counts per candidate (no database access)
+     */
+    @GetMapping
+    public ResponseEntity<TallySnapshot> getTally(@PathVariable Integer electionId) {
+        return ResponseEntity.ok(tallyEngine.snapshot(electionId));
+    }
+
+    /**
+     * GET /api/elections/{electionId}/tally/reconcile - Compare the in-memory tally with the votes table
+     */
+    @GetMapping("/reconcile")
+    public ResponseEntity<TallyReconciliation> reconcile(@PathVariable Integer electionId) {
+        return ResponseEntity.ok(tallyEngine.reconcile(electionId));
+    }
+}
@@ -0,0 +1,32 @@
+package com.university.election.controller;
+
+import com.university.election.dto.TurnoutBreakdown;
+import com.university.election.service.TurnoutAnalytics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Turnout REST Controller
+ * Per-election turnout by faculty and year of study, served from in-memory counters
+ */
+@RestController
+@RequestMapping("/api/elections/{electionId}/turnout")
+@CrossOrigin(origins = "*")
+public class TurnoutController {
+
+    private final TurnoutAnalytics turnout;
+
+    @Autowired
+    public TurnoutController(TurnoutAnalytics turnout) {
+        this.turnout = turnout;
+    }
+
+    /**
+     * GET /api/elections/{electionId}/turnout - Eligible and voted students per faculty and year (no database access)
+     */
+    @GetMapping
+    public ResponseEntity<TurnoutBreakdown> getTurnout(@PathVariable Integer electionId) {
+        return ResponseEntity.ok(turnout.breakdown(electionId));
+    }
+}
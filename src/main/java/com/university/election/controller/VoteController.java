@@ -0,0 +1,46 @@
+package com.university.election.controller;
+
+import com.university.election.dto.IngestionStats;
+import com.university.election.model.Vote;
+import com.university.election.service.VoteIngestionPipeline;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Vote REST Controller
+ * Ballots are cast against an election through the group-commit ingestion pipeline
+ */
+@RestController
+@RequestMapping("/api")
+@CrossOrigin(origins = "*")
+public class VoteController {
+
+    private final VoteIngestionPipeline pipeline;
+
+    @Autowired
+    public VoteController(VoteIngestionPipeline pipeline) {
+        this.pipeline = pipeline;
+    }
+
+    /**
+     * POST /api/elections/{electionId}/votes - Cast a vote ({"studentId": 1, "candidateId": 2})
+     * Responds once the batch holding the vote has committed
+     */
+    @PostMapping("/elections/{electionId}/votes")
+    public CompletableFuture<ResponseEntity<Vote>> castVote(@PathVariable Integer electionId, @RequestBody Vote vote) {
+        return pipeline.submit(electionId, vote)
+                .thenApply(recorded -> ResponseEntity.status(HttpStatus.CREATED).body(recorded));
+    }
+
+    /**
+     * GET /api/votes/ingestion - Queue depth, throughput and per-batch commit latency
+     */
+    @GetMapping("/votes/ingestion")
+    public ResponseEntity<IngestionStats> getIngestionStats() {
+        return ResponseEntity.ok(pipeline.getStats());
+    }
+}
@@ -0,0 +1,41 @@
+package com.university.election.controller;
+
+import com.university.election.dto.VoterCounts;
+import com.university.election.service.VoterBitmapIndex;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Voter REST Controller
+ * Per-election turnout served from the in-memory voter bitmaps
+ */
+@RestController
+@RequestMapping("/api/elections/{electionId}/voters")
+@CrossOrigin(origins = "*")
+public class VoterController {
+
+    private final VoterBitmapIndex voterIndex;
+
+    @Autowired
+    public VoterController(VoterBitmapIndex voterIndex) {
+        this.voterIndex = voterIndex;
+    }
+
+    /**
+     * GET /api/elections/{electionId}/voters/count - Students, voters and non-voters (no database access)
+     */
+    @GetMapping("/count")
+    public ResponseEntity<VoterCounts> getCounts(@PathVariable Integer electionId) {
+        return ResponseEntity.ok(voterIndex.counts(electionId));
+    }
+
+    /**
+     * GET /api/elections/{electionId}/voters?voted=true|false - Ids of the students who voted (or not), ascending
+     */
+    @GetMapping
+    public ResponseEntity<int[]> getVoterIds(@PathVariable Integer electionId,
+                                             @RequestParam(defaultValue = "true") boolean voted) {
+        return ResponseEntity.ok(voterIndex.voterIds(electionId, voted));
+    }
+}
@@ -0,0 +1,41 @@
+package com.university.election.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * One audit log event returned by the audit query API
+ */
+public class AuditEntry {
+    private LocalDateTime timestamp;
+    private String level;
+    private String action;
+    private Integer electionId;
+    private String message;
+
+    // Constructors
+    public AuditEntry() {}
+
+    public AuditEntry(LocalDateTime timestamp, String level, String action, Integer electionId, String message) {
+        this.timestamp = timestamp;
+        this.level = level;
+        this.action = action;
+        this.electionId = electionId;
+        this.message = message;
+    }
+
+    // Getters and Setters
+    public LocalDateTime getTimestamp() { return timestamp; }
+    public void setTimestamp(LocalDateTime timestamp) { this.timestamp = timestamp; }
+
+    public String getLevel() { return level; }
+    public void setLevel(String level) { this.level = level; }
+
+    public String getAction() { return action; }
+    public void setAction(String action) { this.action = action; }
+
+    public Integer getElectionId() { return electionId; }
+    public void setElectionId(Integer electionId) { this.electionId = electionId; }
+
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+}
@@ -0,0 +1,34 @@
+package com.university.election.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Audit query response: matching events plus how much of the log had to be read
+ */
+public class AuditQueryResult {
+    private List<AuditEntry> entries = new ArrayList<>();
+    private int segmentsTotal;
+    private int segmentsScanned;
+    private long blocksScanned;
+    private boolean truncated;
+
+    // Constructors
+    public AuditQueryResult() {}
+
+    // Getters and Setters
+    public List<AuditEntry> getEntries() { return entries; }
+    public void setEntries(List<AuditEntry> entries) { this.entries = entries; }
+
+    public int getSegmentsTotal() { return segmentsTotal; }
+    public void setSegmentsTotal(int segmentsTotal) { this.segmentsTotal = segmentsTotal; }
+
+    public int getSegmentsScanned() { return segmentsScanned; }
+    public void setSegmentsScanned(int segmentsScanned) { this.segmentsScanned = segmentsScanned; }
+
+    public long getBlocksScanned() { return blocksScanned; }
+    public void setBlocksScanned(long blocksScanned) { this.blocksScanned = blocksScanned; }
+
+    public boolean isTruncated() { return truncated; }
+    public void setTruncated(boolean truncated) { this.truncated = truncated; }
+}
@@ -0,0 +1,75 @@
+package com.university.election.dto;
+
+/**
+ * Audit log writer counters: queue depth, drops and per-batch flush latency
+ */
+public class AuditStats {
+    private String format;
+    private int segments;
+    private String overflowPolicy;
+    private String durability;
+    private int queueCapacity;
+    private int queueDepth;
+    private long enqueued;
+    private long dropped;
+    private long written;
+    private long batches;
+    private long fsyncs;
+    private long writeErrors;
+    private double averageBatchSize;
+    private double averageFlushMillis;
+    private double maxFlushMillis;
+    private double lastFlushMillis;
+
+    // Constructors
+    public AuditStats() {}
+
+    // Getters and Setters
+    public String getFormat() { return format; }
+    public void setFormat(String format) { this.format = format; }
+
+    public int getSegments() { return segments; }
+    public void setSegments(int segments) { this.segments = segments; }
+
+    public String getOverflowPolicy() { return overflowPolicy; }
+    public void setOverflowPolicy(String overflowPolicy) { this.overflowPolicy = overflowPolicy; }
+
+    public String getDurability() { return durability; }
+    public void setDurability(String durability) { this.durability = durability; }
+
+    public int getQueueCapacity() { return queueCapacity; }
+    public void setQueueCapacity(int queueCapacity) { this.queueCapacity = queueCapacity; }
+
+    public int getQueueDepth() { return queueDepth; }
+    public void setQueueDepth(int queueDepth) { this.queueDepth = queueDepth; }
+
+    public long getEnqueued() { return enqueued; }
+    public void setEnqueued(long enqueued) { this.enqueued = enqueued; }
+
+    public long getDropped() { return dropped; }
+    public void setDropped(long dropped) { this.dropped = dropped; }
+
+    public long getWritten() { return written; }
+    public void setWritten(long written) { this.written = written; }
+
+    public long getBatches() { return batches; }
+    public void setBatches(long batches) { this.batches = batches; }
+
+    public long getFsyncs() { return fsyncs; }
+    public void setFsyncs(long fsyncs) { this.fsyncs = fsyncs; }
+
+    public long getWriteErrors() { return writeErrors; }
+    public void setWriteErrors(long writeErrors) { this.writeErrors = writeErrors; }
+
+    public double getAverageBatchSize() { return averageBatchSize; }
+    public void setAverageBatchSize(double averageBatchSize) { this.averageBatchSize = averageBatchSize; }
+
+    public double getAverageFlushMillis() { return averageFlushMillis; }
+    public void setAverageFlushMillis(double averageFlushMillis) { this.averageFlushMillis = averageFlushMillis; }
+
+    public double getMaxFlushMillis() { return maxFlushMillis; }
+    public void setMaxFlushMillis(double maxFlushMillis) { this.maxFlushMillis = maxFlushMillis; }
+
+    public double getLastFlushMillis() { return lastFlushMillis; }
+    public void setLastFlushMillis(double lastFlushMillis) { this.lastFlushMillis = lastFlushMillis; }
+}
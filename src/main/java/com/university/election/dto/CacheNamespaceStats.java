@@ -0,0 +1,39 @@
+package com.university.election.dto;
+
+/**
+ * CacheManager counters of one key namespace ("elections", "candidates", ...)
+ */
+public class CacheNamespaceStats {
+    private long hits;
+    private long misses;
+    private double hitRate;
+    private long loads;
+    private long loadFailures;
+    private long coalescedLoads;
+    private double averageLoadMillis;
+
+    // Constructors
+    public CacheNamespaceStats() {}
+
+    // Getters and Setters
+    public long getHits() { return hits; }
+    public void setHits(long hits) { this.hits = hits; }
+
+    public long getMisses() { return misses; }
+    public void setMisses(long misses) { this.misses = misses; }
+
+    public double getHitRate() { return hitRate; }
+    public void setHitRate(double hitRate) { this.hitRate = hitRate; }
+
+    public long getLoads() { return loads; }
+    public void setLoads(long loads) { this.loads = loads; }
+
+    public long getLoadFailures() { return loadFailures; }
+    public void setLoadFailures(long loadFailures) { this.loadFailures = loadFailures; }
+
+    public long getCoalescedLoads() { return coalescedLoads; }
+    public void setCoalescedLoads(long coalescedLoads) { this.coalescedLoads = coalescedLoads; }
+
+    public double getAverageLoadMillis() { return averageLoadMillis; }
+    public void setAverageLoadMillis(double averageLoadMillis) { this.averageLoadMillis = averageLoadMillis; }
+}
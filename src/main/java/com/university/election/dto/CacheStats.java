@@ -0,0 +1,69 @@
+package com.university.election.dto;
+
+import java.util.Map;
+
+/**
+ * CacheManager counters since startup
+ */
+public class CacheStats {
+    private int size;
+    private int maxSize;
+    private long hits;
+    private long misses;
+    private double hitRate;
+    private long evictions;
+    private long expirations;
+    private long invalidations;
+    private long namespaceInvalidations;
+    private long loads;
+    private long loadFailures;
+    private double averageLoadMillis;
+    private long coalescedLoads;
+    private Map<String, CacheNamespaceStats> namespaces;
+
+    // Constructors
+    public CacheStats() {}
+
+    // Getters and Setters
+    public int getSize() { return size; }
+    public void setSize(int size) { this.size = size; }
+
+    public int getMaxSize() { return maxSize; }
+    public void setMaxSize(int maxSize) { this.maxSize = maxSize; }
+
+    public long getHits() { return hits; }
+    public void setHits(long hits) { this.hits = hits; }
+
+    public long getMisses() { return misses; }
+    public void setMisses(long misses) { this.misses = misses; }
+
+    public double getHitRate() { return hitRate; }
+    public void setHitRate(double hitRate) { this.hitRate = hitRate; }
+
+    public long getEvictions() { return evictions; }
+    public void setEvictions(long evictions) { this.evictions = evictions; }
+
+    public long getExpirations() { return expirations; }
+    public void setExpirations(long expirations) { this.expirations = expirations; }
+
+    public long getInvalidations() { return invalidations; }
+    public void setInvalidations(long invalidations) { this.invalidations = invalidations; }
+
+    public long getNamespaceInvalidations() { return namespaceInvalidations; }
+    public void setNamespaceInvalidations(long namespaceInvalidations) { this.namespaceInvalidations = namespaceInvalidations; }
+
+    public long getLoads() { return loads; }
+    public void setLoads(long loads) { this.loads = loads; }
+
+    public long getLoadFailures() { return loadFailures; }
+    public void setLoadFailures(long loadFailures) { this.loadFailures = loadFailures; }
+
+    public double getAverageLoadMillis() { return averageLoadMillis; }
+    public void setAverageLoadMillis(double averageLoadMillis) { this.averageLoadMillis = averageLoadMillis; }
+
+    public long getCoalescedLoads() { return coalescedLoads; }
+    public void setCoalescedLoads(long coalescedLoads) { this.coalescedLoads = coalescedLoads; }
+
+    public Map<String, CacheNamespaceStats> getNamespaces() { return namespaces; }
+    public void setNamespaces(Map<String, CacheNamespaceStats> namespaces) { this.namespaces = namespaces; }
+}
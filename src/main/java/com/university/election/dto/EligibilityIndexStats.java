@@ -0,0 +1,40 @@
+package com.university.election.dto;
+
+/**
+ * Size and hit counters of the in-memory EligibilityIndex
+ * memoryBytes counts the index arrays (slots, id table, key arena) including array headers
+ */
+public class EligibilityIndexStats {
+    private int size;
+    private int capacity;
+    private long memoryBytes;
+    private double bytesPerStudent;
+    private long hits;
+    private long misses;
+    private long loadMillis;
+
+    // Constructors
+    public EligibilityIndexStats() {}
+
+    // Getters and Setters
+    public int getSize() { return size; }
+    public void setSize(int size) { this.size = size; }
+
+    public int getCapacity() { return capacity; }
+    public void setCapacity(int capacity) { this.capacity = capacity; }
+
+    public long getMemoryBytes() { return memoryBytes; }
+    public void setMemoryBytes(long memoryBytes) { this.memoryBytes = memoryBytes; }
+
+    public double getBytesPerStudent() { return bytesPerStudent; }
+    public void setBytesPerStudent(double bytesPerStudent) { this.bytesPerStudent = bytesPerStudent; }
+
+    public long getHits() { return hits; }
+    public void setHits(long hits) { this.hits = hits; }
+
+    public long getMisses() { return misses; }
+    public void setMisses(long misses) { this.misses = misses; }
+
+    public long getLoadMillis() { return loadMillis; }
+    public void setLoadMillis(long loadMillis) { this.loadMillis = loadMillis; }
+}
@@ -0,0 +1,50 @@
+package com.university.election.dto;
+
+/**
+ * Answer to a polling-kiosk eligibility check, served from the in-memory EligibilityIndex
+ * canVote = year of study 1-4 and not voted yet
+ * hasVoted covers any election, or only electionId when the check names one
+ */
+public class EligibilityStatus {
+    private Integer id;
+    private Integer electionId;
+    private String studentId;
+    private int yearOfStudy;
+    private boolean hasVoted;
+    private boolean canVote;
+
+    // Constructors
+    public EligibilityStatus() {}
+
+    public EligibilityStatus(Integer id, String studentId, int yearOfStudy, boolean hasVoted) {
+        this.id = id;
+        this.studentId = studentId;
+        this.yearOfStudy = yearOfStudy;
+        this.hasVoted = hasVoted;
+        this.canVote = yearOfStudy >= 1 && yearOfStudy <= 4 && !hasVoted;
+    }
+
+    public EligibilityStatus(Integer id, String studentId, int yearOfStudy, boolean hasVoted, Integer electionId) {
+        this(id, studentId, yearOfStudy, hasVoted);
+        this.electionId = electionId;
+    }
+
+    // Getters and Setters
+    public Integer getId() { return id; }
+    public void setId(Integer id) { this.id = id; }
+
+    public Integer getElectionId() { return electionId; }
+    public void setElectionId(Integer electionId) { this.electionId = electionId; }
+
+    public String getStudentId() { return studentId; }
+    public void setStudentId(String studentId) { this.studentId = studentId; }
+
+    public int getYearOfStudy() { return yearOfStudy; }
+    public void setYearOfStudy(int yearOfStudy) { this.yearOfStudy = yearOfStudy; }
+
+    public boolean isHasVoted() { return hasVoted; }
+    public void setHasVoted(boolean hasVoted) { this.hasVoted = hasVoted; }
+
+    public boolean isCanVote() { return canVote; }
+    public void setCanVote(boolean canVote) { this.canVote = canVote; }
+}
@@ -0,0 +1,76 @@
+package com.university.election.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Result of a bulk student import: row counts, rejected rows and throughput
+ */
+public class ImportReport {
+    private long rowsRead;
+    private long imported;
+    private long rejected;
+    private long duplicates;
+    private List<RowError> errors = new ArrayList<>();
+    private boolean errorsTruncated;
+    private String loader;
+    private long elapsedMillis;
+    private double rowsPerSecond;
+
+    // Constructors
+    public ImportReport() {}
+
+    // Getters and Setters
+    public long getRowsRead() { return rowsRead; }
+    public void setRowsRead(long rowsRead) { this.rowsRead = rowsRead; }
+
+    public long getImported() { return imported; }
+    public void setImported(long imported) { this.imported = imported; }
+
+    public long getRejected() { return rejected; }
+    public void setRejected(long rejected) { this.rejected = rejected; }
+
+    public long getDuplicates() { return duplicates; }
+    public void setDuplicates(long duplicates) { this.duplicates = duplicates; }
+
+    public List<RowError> getErrors() { return errors; }
+    public void setErrors(List<RowError> errors) { this.errors = errors; }
+
+    public boolean isErrorsTruncated() { return errorsTruncated; }
+    public void setErrorsTruncated(boolean errorsTruncated) { this.errorsTruncated = errorsTruncated; }
+
+    public String getLoader() { return loader; }
+    public void setLoader(String loader) { this.loader = loader; }
+
+    public long getElapsedMillis() { return elapsedMillis; }
+    public void setElapsedMillis(long elapsedMillis) { this.elapsedMillis = elapsedMillis; }
+
+    public double getRowsPerSecond() { return rowsPerSecond; }
+    public void setRowsPerSecond(double rowsPerSecond) { this.rowsPerSecond = rowsPerSecond; }
+
+    /**
+     * A rejected or duplicate CSV row
+     */
+    public static class RowError {
+        private long line;
+        private String studentId;
+        private String message;
+
+        public RowError() {}
+
+        public RowError(long line, String studentId, String message) {
+            this.line = line;
+            this.studentId = studentId;
+            this.message = message;
+        }
+
+        public long getLine() { return line; }
+        public void setLine(long line) { this.line = line; }
+
+        public String getStudentId() { return studentId; }
+        public void setStudentId(String studentId) { this.studentId = studentId; }
+
+        public String getMessage() { return message; }
+        public void setMessage(String message) { this.message = message; }
+    }
+}
@@ -0,0 +1,71 @@
+package com.university.election.dto;
+
+/**
+ * Vote ingestion pipeline counters: throughput and per-batch commit latency
+ */
+public class IngestionStats {
+    private boolean enabled;
+    private int batchSize;
+    private long lingerMillis;
+    private int queueCapacity;
+    private int queueDepth;
+    private long batchesCommitted;
+    private long votesCommitted;
+    private long votesRejected;
+    private long fallbackBatches;
+    private double averageBatchSize;
+    private double averageCommitMillis;
+    private double maxCommitMillis;
+    private int lastBatchSize;
+    private double lastCommitMillis;
+    private double votesPerSecond;
+
+    // Constructors
+    public IngestionStats() {}
+
+    // Getters and Setters
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public int getBatchSize() { return batchSize; }
+    public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+
+    public long getLingerMillis() { return lingerMillis; }
+    public void setLingerMillis(long lingerMillis) { this.lingerMillis = lingerMillis; }
+
+    public int getQueueCapacity() { return queueCapacity; }
+    public void setQueueCapacity(int queueCapacity) { this.queueCapacity = queueCapacity; }
+
+    public int getQueueDepth() { return queueDepth; }
+    public void setQueueDepth(int queueDepth) { this.queueDepth = queueDepth; }
+
+    public long getBatchesCommitted() { return batchesCommitted; }
+    public void setBatchesCommitted(long batchesCommitted) { this.batchesCommitted = batchesCommitted; }
+
+    public long getVotesCommitted() { return votesCommitted; }
+    public void setVotesCommitted(long votesCommitted) { this.votesCommitted = votesCommitted; }
+
+    public long getVotesRejected() { return votesRejected; }
+    public void setVotesRejected(long votesRejected) { this.votesRejected = votesRejected; }
+
+    public long getFallbackBatches() { return fallbackBatches; }
+    public void setFallbackBatches(long fallbackBatches) { this.fallbackBatches = fallbackBatches; }
+
+    public double getAverageBatchSize() { return averageBatchSize; }
+    public void setAverageBatchSize(double averageBatchSize) { this.averageBatchSize = averageBatchSize; }
+
+    public double getAverageCommitMillis() { return averageCommitMillis; }
+    public void setAverageCommitMillis(double averageCommitMillis) { this.averageCommitMillis = averageCommitMillis; }
+
+    public double getMaxCommitMillis() { return maxCommitMillis; }
+    public void setMaxCommitMillis(double maxCommitMillis) { this.maxCommitMillis = maxCommitMillis; }
+
+    public int getLastBatchSize() { return lastBatchSize; }
+    public void setLastBatchSize(int lastBatchSize) { this.lastBatchSize = lastBatchSize; }
+
+    public double getLastCommitMillis() { return lastCommitMillis; }
+    public void setLastCommitMillis(double lastCommitMillis) { this.lastCommitMillis = lastCommitMillis; }
+
+    public double getVotesPerSecond() { return votesPerSecond; }
+    public void setVotesPerSecond(double votesPerSecond) { this.votesPerSecond = votesPerSecond; }
+}
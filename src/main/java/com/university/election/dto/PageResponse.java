@@ -0,0 +1,46 @@
+package com.university.election.dto;
+
+import com.university.election.utils.CursorUtils;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated list
+ * nextCursor is an opaque token for the following page, or null on the last page
+ */
+public class PageResponse<T> {
+    private List<T> items;
+    private String nextCursor;
+    private int limit;
+
+    // Constructors
+    public PageResponse() {}
+
+    public PageResponse(List<T> items, String nextCursor, int limit) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.limit = limit;
+    }
+
+    /**
+     * Build a page from up to limit + 1 rows: the extra row only signals that another page exists
+     */
+    public static <T> PageResponse<T> fromRows(List<T> rows, int limit, Function<T, String> cursorKey) {
+        if (rows.size() <= limit) {
+            return new PageResponse<>(rows, null, limit);
+        }
+        List<T> items = rows.subList(0, limit);
+        return new PageResponse<>(items, CursorUtils.encode(cursorKey.apply(items.get(limit - 1))), limit);
+    }
+
+    // Getters and Setters
+    public List<T> getItems() { return items; }
+    public void setItems(List<T> items) { this.items = items; }
+
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+
+    public int getLimit() { return limit; }
+    public void setLimit(int limit) { this.limit = limit; }
+}
@@ -0,0 +1,55 @@
+package com.university.election.dto;
+
+/**
+ * Live results stream counters: producer work (ticks, snapshots, frames) against fan-out (writes, skips, drops)
+ */
+public class ResultsStreamStats {
+    private long intervalMillis;
+    private int maxSkipped;
+    private int maxSubscribers;
+    private int elections;
+    private int subscribers;
+    private long ticks;
+    private long snapshotsTaken;
+    private long framesPublished;
+    private long framesWritten;
+    private long framesSkipped;
+    private long subscribersDropped;
+
+    // Constructors
+    public ResultsStreamStats() {}
+
+    // Getters and Setters
+    public long getIntervalMillis() { return intervalMillis; }
+    public void setIntervalMillis(long intervalMillis) { this.intervalMillis = intervalMillis; }
+
+    public int getMaxSkipped() { return maxSkipped; }
+    public void setMaxSkipped(int maxSkipped) { this.maxSkipped = maxSkipped; }
+
+    public int getMaxSubscribers() { return maxSubscribers; }
+    public void setMaxSubscribers(int maxSubscribers) { this.maxSubscribers = maxSubscribers; }
+
+    public int getElections() { return elections; }
+    public void setElections(int elections) { this.elections = elections; }
+
+    public int getSubscribers() { return subscribers; }
+    public void setSubscribers(int subscribers) { this.subscribers = subscribers; }
+
+    public long getTicks() { return ticks; }
+    public void setTicks(long ticks) { this.ticks = ticks; }
+
+    public long getSnapshotsTaken() { return snapshotsTaken; }
+    public void setSnapshotsTaken(long snapshotsTaken) { this.snapshotsTaken = snapshotsTaken; }
+
+    public long getFramesPublished() { return framesPublished; }
+    public void setFramesPublished(long framesPublished) { this.framesPublished = framesPublished; }
+
+    public long getFramesWritten() { return framesWritten; }
+    public void setFramesWritten(long framesWritten) { this.framesWritten = framesWritten; }
+
+    public long getFramesSkipped() { return framesSkipped; }
+    public void setFramesSkipped(long framesSkipped) { this.framesSkipped = framesSkipped; }
+
+    public long getSubscribersDropped() { return subscribersDropped; }
+    public void setSubscribersDropped(long subscribersDropped) { this.subscribersDropped = subscribersDropped; }
+}
@@ -0,0 +1,58 @@
+package com.university.election.dto;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Latency, throughput and error counts of one REST route (rate and percentiles over the last minute)
+ */
+public class RouteMetrics {
+    private String method;
+    private String route;
+    private long count;
+    private int inFlight;
+    private double requestsPerSecond;
+    private double meanMillis;
+    private double p50Millis;
+    private double p95Millis;
+    private double p99Millis;
+    private double maxMillis;
+    private Map<String, Long> errors = new TreeMap<>();
+
+    // Constructors
+    public RouteMetrics() {}
+
+    // Getters and Setters
+    public String getMethod() { return method; }
+    public void setMethod(String method) { this.method = method; }
+
+    public String getRoute() { return route; }
+    public void setRoute(String route) { this.route = route; }
+
+    public long getCount() { return count; }
+    public void setCount(long count) { this.count = count; }
+
+    public int getInFlight() { return inFlight; }
+    public void setInFlight(int inFlight) { this.inFlight = inFlight; }
+
+    public double getRequestsPerSecond() { return requestsPerSecond; }
+    public void setRequestsPerSecond(double requestsPerSecond) { this.requestsPerSecond = requestsPerSecond; }
+
+    public double getMeanMillis() { return meanMillis; }
+    public void setMeanMillis(double meanMillis) { this.meanMillis = meanMillis; }
+
+    public double getP50Millis() { return p50Millis; }
+    public void setP50Millis(double p50Millis) { this.p50Millis = p50Millis; }
+
+    public double getP95Millis() { return p95Millis; }
+    public void setP95Millis(double p95Millis) { this.p95Millis = p95Millis; }
+
+    public double getP99Millis() { return p99Millis; }
+    public void setP99Millis(double p99Millis) { this.p99Millis = p99Millis; }
+
+    public double getMaxMillis() { return maxMillis; }
+    public void setMaxMillis(double maxMillis) { this.maxMillis = maxMillis; }
+
+    public Map<String, Long> getErrors() { return errors; }
+    public void setErrors(Map<String, Long> errors) { this.errors = errors; }
+}
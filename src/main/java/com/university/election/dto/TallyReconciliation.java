@@ -0,0 +1,43 @@
+package com.university.election.dto;
+
+import java.util.Map;
+
+/**
+ * In-memory tally compared with a COUNT over the votes table
+ * drift holds memory minus database for every candidate whose counts differ
+ */
+public class TallyReconciliation {
+    private Integer electionId;
+    private Map<Integer, Long> memoryCounts;
+    private Map<Integer, Long> databaseCounts;
+    private Map<Integer, Long> drift;
+    private boolean consistent;
+
+    // Constructors
+    public TallyReconciliation() {}
+
+    public TallyReconciliation(Integer electionId, Map<Integer, Long> memoryCounts,
+                               Map<Integer, Long> databaseCounts, Map<Integer, Long> drift) {
+        this.electionId = electionId;
+        this.memoryCounts = memoryCounts;
+        this.databaseCounts = databaseCounts;
+        this.drift = drift;
+        this.consistent = drift.isEmpty();
+    }
+
+    // Getters and Setters
+    public Integer getElectionId() { return electionId; }
+    public void setElectionId(Integer electionId) { this.electionId = electionId; }
+
+    public Map<Integer, Long> getMemoryCounts() { return memoryCounts; }
+    public void setMemoryCounts(Map<Integer, Long> memoryCounts) { this.memoryCounts = memoryCounts; }
+
+    public Map<Integer, Long> getDatabaseCounts() { return databaseCounts; }
+    public void setDatabaseCounts(Map<Integer, Long> databaseCounts) { this.databaseCounts = databaseCounts; }
+
+    public Map<Integer, Long> getDrift() { return drift; }
+    public void setDrift(Map<Integer, Long> drift) { this.drift = drift; }
+
+    public boolean isConsistent() { return consistent; }
+    public void setConsistent(boolean consistent) { this.consistent = consistent; }
+}
@@ -0,0 +1,38 @@
+package com.university.election.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Vote counts of one election at a point in time
+ * totalVotes is always the sum of the reported candidate counts
+ */
+public class TallySnapshot {
+    private Integer electionId;
+    private Map<Integer, Long> counts;
+    private long totalVotes;
+    private LocalDateTime takenAt;
+
+    // Constructors
+    public TallySnapshot() {}
+
+    public TallySnapshot(Integer electionId, Map<Integer, Long> counts, long totalVotes, LocalDateTime takenAt) {
+        this.electionId = electionId;
+        this.counts = counts;
+        this.totalVotes = totalVotes;
+        this.takenAt = takenAt;
+    }
+
+    // Getters and Setters
+    public Integer getElectionId() { return electionId; }
+    public void setElectionId(Integer electionId) { this.electionId = electionId; }
+
+    public Map<Integer, Long> getCounts() { return counts; }
+    public void setCounts(Map<Integer, Long> counts) { this.counts = counts; }
+
+    public long getTotalVotes() { return totalVotes; }
+    public void setTotalVotes(long totalVotes) { this.totalVotes = totalVotes; }
+
+    public LocalDateTime getTakenAt() { return takenAt; }
+    public void setTakenAt(LocalDateTime takenAt) { this.takenAt = takenAt; }
+}
@@ -0,0 +1,44 @@
+package com.university.election.dto;
+
+import java.util.List;
+
+/**
+ * Turnout of one election by faculty and year of study, from the in-memory TurnoutAnalytics counters
+ * eligible and voted are the sums over groups; groups are ordered by faculty, then year
+ */
+public class TurnoutBreakdown {
+    private Integer electionId;
+    private long eligible;
+    private long voted;
+    private double turnoutPercent;
+    private List<TurnoutGroup> groups;
+
+    // Constructors
+    public TurnoutBreakdown() {}
+
+    public TurnoutBreakdown(Integer electionId, List<TurnoutGroup> groups) {
+        this.electionId = electionId;
+        this.groups = groups;
+        for (TurnoutGroup group : groups) {
+            this.eligible += group.getEligible();
+            this.voted += group.getVoted();
+        }
+        this.turnoutPercent = eligible == 0 ? 0 : voted * 100.0 / eligible;
+    }
+
+    // Getters and Setters
+    public Integer getElectionId() { return electionId; }
+    public void setElectionId(Integer electionId) { this.electionId = electionId; }
+
+    public long getEligible() { return eligible; }
+    public void setEligible(long eligible) { this.eligible = eligible; }
+
+    public long getVoted() { return voted; }
+    public void setVoted(long voted) { this.voted = voted; }
+
+    public double getTurnoutPercent() { return turnoutPercent; }
+    public void setTurnoutPercent(double turnoutPercent) { this.turnoutPercent = turnoutPercent; }
+
+    public List<TurnoutGroup> getGroups() { return groups; }
+    public void setGroups(List<TurnoutGroup> groups) { this.groups = groups; }
+}
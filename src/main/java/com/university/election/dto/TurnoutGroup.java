@@ -0,0 +1,39 @@
+package com.university.election.dto;
+
+/**
+ * Turnout of one faculty and year of study in one election
+ */
+public class TurnoutGroup {
+    private String faculty;
+    private int yearOfStudy;
+    private long eligible;
+    private long voted;
+    private double turnoutPercent;
+
+    // Constructors
+    public TurnoutGroup() {}
+
+    public TurnoutGroup(String faculty, int yearOfStudy, long eligible, long voted) {
+        this.faculty = faculty;
+        this.yearOfStudy = yearOfStudy;
+        this.eligible = eligible;
+        this.voted = voted;
+        this.turnoutPercent = eligible == 0 ? 0 : voted * 100.0 / eligible;
+    }
+
+    // Getters and Setters
+    public String getFaculty() { return faculty; }
+    public void setFaculty(String faculty) { this.faculty = faculty; }
+
+    public int getYearOfStudy() { return yearOfStudy; }
+    public void setYearOfStudy(int yearOfStudy) { this.yearOfStudy = yearOfStudy; }
+
+    public long getEligible() { return eligible; }
+    public void setEligible(long eligible) { this.eligible = eligible; }
+
+    public long getVoted() { return voted; }
+    public void setVoted(long voted) { this.voted = voted; }
+
+    public double getTurnoutPercent() { return turnoutPercent; }
+    public void setTurnoutPercent(double turnoutPercent) { this.turnoutPercent = turnoutPercent; }
+}
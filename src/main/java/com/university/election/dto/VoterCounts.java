@@ -0,0 +1,40 @@
+package com.university.election.dto;
+
+/**
+ * Turnout of one election, counted from the in-memory voter bitmaps
+ * notVoted is always students - voted
+ */
+public class VoterCounts {
+    private Integer electionId;
+    private long students;
+    private long voted;
+    private long notVoted;
+    private double turnoutPercent;
+
+    // Constructors
+    public VoterCounts() {}
+
+    public VoterCounts(Integer electionId, long students, long voted) {
+        this.electionId = electionId;
+        this.students = students;
+        this.voted = voted;
+        this.notVoted = students - voted;
+        this.turnoutPercent = students == 0 ? 0 : voted * 100.0 / students;
+    }
+
+    // Getters and Setters
+    public Integer getElectionId() { return electionId; }
+    public void setElectionId(Integer electionId) { this.electionId = electionId; }
+
+    public long getStudents() { return students; }
+    public void setStudents(long students) { this.students = students; }
+
+    public long getVoted() { return voted; }
+    public void setVoted(long voted) { this.voted = voted; }
+
+    public long getNotVoted() { return notVoted; }
+    public void setNotVoted(long notVoted) { this.notVoted = notVoted; }
+
+    public double getTurnoutPercent() { return turnoutPercent; }
+    public void setTurnoutPercent(double turnoutPercent) { this.turnoutPercent = turnoutPercent; }
+}
@@ -0,0 +1,14 @@
+package com.university.election.exception;
+
+/**
+ * Exception for temporary overload (e.g., the vote ingestion queue is full)
+ */
+public class ServiceUnavailableException extends RuntimeException {
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+
+    public ServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,73 @@
+package com.university.election.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Vote entity: one ballot in the ledger
+ * A student casts at most one ballot per election, for a candidate standing in that election
+ */
+public class Vote {
+    private Integer id;
+    private Integer electionId;
+    private Integer candidateId;
+    private Integer studentId;
+    private LocalDateTime castAt;
+
+    public Vote() {
+    }
+
+    public Vote(Integer id, Integer electionId, Integer candidateId, Integer studentId, LocalDateTime castAt) {
+        this.id = id;
+        this.electionId = electionId;
+        this.candidateId = candidateId;
+        this.studentId = studentId;
+        this.castAt = castAt;
+    }
+
+    // Getters and Setters
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public Integer getElectionId() {
+        return electionId;
+    }
+
+    public void setElectionId(Integer electionId) {
+        this.electionId = electionId;
+    }
+
+    public Integer getCandidateId() {
+        return candidateId;
+    }
+
+    public void setCandidateId(Integer candidateId) {
+        this.candidateId = candidateId;
+    }
+
+    public Integer getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(Integer studentId) {
+        this.studentId = studentId;
+    }
+
+    public LocalDateTime getCastAt() {
+        return castAt;
+    }
+
+    public void setCastAt(LocalDateTime castAt) {
+        this.castAt = castAt;
+    }
+
+    @Override
+    public String toString() {
+        return "Vote{id=" + id + ", electionId=" + electionId + ", candidateId=" + candidateId +
+                ", studentId=" + studentId + ", castAt=" + castAt + "}";
+    }
+}
@@ -1,26 +1,39 @@
 package com.university.election.patterns.singleton;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 /**
  * Singleton Pattern: Application Logger
  * Single shared logging service across the application
+ *
+ * Thin facade over SLF4J/Logback:
+ * - Every call checks the level first, so a disabled debug() costs one boolean check
+ * - Parameterized ("{}" placeholders) and Supplier overloads build the message only when enabled
+ * - Timestamps come from Logback's pattern (%d), which reuses the formatted string within
+ *   the same millisecond instead of creating a LocalDateTime per call
+ * - sampled(interval) gives a rate-limited logger for high-frequency messages
+ *
+ * Levels are configured as usual (logging.level.com.university.election=...)
  */
 @Component
 public class AppLogger {
 
     private static AppLogger instance;
-    private static final DateTimeFormatter formatter =
-            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final Logger logger = LoggerFactory.getLogger(AppLogger.class);
 
     private AppLogger() {
-        if (instance != null) {
-            throw new IllegalStateException("AppLogger instance already exists!");
+        synchronized (AppLogger.class) {
+            if (instance == null) {
+                instance = this;
+            }
         }
-        instance = this;
     }
 
     public static AppLogger getInstance() {
@@ -34,19 +47,146 @@ public class AppLogger {
         return instance;
     }
 
+    public boolean isDebugEnabled() {
+        return logger.isDebugEnabled();
+    }
+
     public void info(String message) {
-        System.out.println("[INFO] " + getCurrentTime() + " - " + message);
+        logger.info(message);
+    }
+
+    public void info(String format, Object arg) {
+        logger.info(format, arg);
+    }
+
+    public void info(String format, Object arg1, Object arg2) {
+        logger.info(format, arg1, arg2);
+    }
+
+    public void info(String format, Object... args) {
+        logger.info(format, args);
+    }
+
+    public void info(Supplier<String> message) {
+        if (logger.isInfoEnabled()) {
+            logger.info(message.get());
+        }
     }
 
     public void debug(String message) {
-        System.out.println("[DEBUG] " + getCurrentTime() + " - " + message);
+        logger.debug(message);
+    }
+
+    public void debug(String format, Object arg) {
+        logger.debug(format, arg);
+    }
+
+    public void debug(String format, Object arg1, Object arg2) {
+        logger.debug(format, arg1, arg2);
+    }
+
+    public void debug(String format, Object... args) {
+        logger.debug(format, args);
+    }
+
+    public void debug(Supplier<String> message) {
+        if (logger.isDebugEnabled()) {
+            logger.debug(message.get());
+        }
+    }
+
+    public void warn(String message) {
+        logger.warn(message);
+    }
+
+    public void warn(String format, Object... args) {
+        logger.warn(format, args);
     }
 
     public void error(String message) {
-        System.err.println("[ERROR] " + getCurrentTime() + " - " + message);
+        logger.error(message);
     }
 
-    private String getCurrentTime() {
-        return LocalDateTime.now().format(formatter);
+    public void error(String message, Throwable error) {
+        logger.error(message, error);
+    }
+
+    public void error(String format, Object... args) {
+        logger.error(format, args);
+    }
+
+    /**
+     * A logger that lets at most one message through per interval
+     * Keep it in a field next to the high-frequency call site:
+     *   private static final AppLogger.Sampler QUEUE_FULL = AppLogger.getInstance().sampled(Duration.ofSeconds(1));
+     */
+    public Sampler sampled(Duration interval) {
+        return new Sampler(interval.toNanos());
+    }
+
+    /**
+     * Rate-limited logging: messages within the interval are counted, and the count of
+     * suppressed messages is reported with the next one that gets through
+     */
+    public final class Sampler {
+        private final long intervalNanos;
+        private final AtomicLong nextAllowedAt = new AtomicLong(System.nanoTime());
+        private final AtomicLong suppressed = new AtomicLong();
+
+        private Sampler(long intervalNanos) {
+            this.intervalNanos = intervalNanos;
+        }
+
+        public void info(String format, Object... args) {
+            if (logger.isInfoEnabled() && acquire()) {
+                logger.info(withSuppressed(format), withCount(args));
+            }
+        }
+
+        public void warn(String format, Object... args) {
+            if (logger.isWarnEnabled() && acquire()) {
+                logger.warn(withSuppressed(format), withCount(args));
+            }
+        }
+
+        public void error(String format, Object... args) {
+            if (logger.isErrorEnabled() && acquire()) {
+                logger.error(withSuppressed(format), withCount(args));
+            }
+        }
+
+        public long getSuppressed() {
+            return suppressed.get();
+        }
+
+        /**
+         * One winner per interval; everyone else only bumps a counter
+         */
+        private boolean acquire() {
+            long now = System.nanoTime();
+            long allowedAt = nextAllowedAt.get();
+            if (now - allowedAt >= 0 && nextAllowedAt.compareAndSet(allowedAt, now + intervalNanos)) {
+                return true;
+            }
+            suppressed.incrementAndGet();
+            return false;
+        }
+
+        private String withSuppressed(String format) {
+            return format + " ({} similar messages suppressed)";
+        }
+
+        /**
+         * Add the suppressed count as the last placeholder argument (before a trailing Throwable,
+         * which SLF4J logs as the exception)
+         */
+        private Object[] withCount(Object[] args) {
+            int placeholders = args.length > 0 && args[args.length - 1] instanceof Throwable ? args.length - 1 : args.length;
+            Object[] withCount = new Object[args.length + 1];
+            System.arraycopy(args, 0, withCount, 0, placeholders);
+            withCount[placeholders] = suppressed.getAndSet(0);
+            System.arraycopy(args, placeholders, withCount, placeholders + 1, args.length - placeholders);
+            return withCount;
+        }
     }
-}
\ No newline at end of file
+}
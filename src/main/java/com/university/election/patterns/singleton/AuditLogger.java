@@ -1,21 +1,137 @@
 package com.university.election.patterns.singleton;
 
-import java.io.FileWriter;
+import com.university.election.audit.AuditTextFormat;
+import com.university.election.audit.SegmentedAuditLog;
+import com.university.election.dto.AuditQueryResult;
+import com.university.election.dto.AuditStats;
+import com.university.election.exception.DatabaseOperationException;
+import com.university.election.exception.InvalidInputException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Asynchronous audit log
+ * - Callers only capture a structured event (timestamp, level, action, message template + arguments)
+ *   and put it on a bounded ring buffer; no formatting or I/O happens on the caller's thread
+ * - One writer thread drains the buffer in batches, formats them and appends each batch with a
+ *   single FileChannel write
+ * - Overflow policy: BLOCK waits for room, DROP discards the event and counts it
+ * - Durability: NONE leaves flushing to the OS, GROUP fsyncs at most every group-commit-ms,
+ *   SYNC fsyncs after every batch
+ * - Format: BINARY appends CRC-checked records to rolling segments with a sparse index
+ *   (SegmentedAuditLog, queryable by election and time range); TEXT appends plain lines to one file
+ */
+@Component
+public class AuditLogger implements AutoCloseable {
+
+    public enum Overflow { BLOCK, DROP }
+
+    public enum Durability { NONE, GROUP, SYNC }
+
+    public enum Format { BINARY, TEXT }
+
+    private record Event(long timestamp, String level, String action, Integer electionId,
+                         String message, Object[] args, Throwable error) {
+    }
+
+    private static final int MAX_BATCH = 1024;
+
+    // Reported through AppLogger (SLF4J), never through this log's own queue, so a failing disk cannot
+    // recurse into the audit path; sampled because a failing disk fails every batch
+    private static final AppLogger LOG = AppLogger.getInstance();
+    private static final AppLogger.Sampler IO_FAILED = LOG.sampled(Duration.ofSeconds(10));
 
-public class AuditLogger {
     private static AuditLogger instance;
-    private PrintWriter logWriter;
-    private final DateTimeFormatter formatter;
-    private final String logFilePath = "logs/election-audit.log";
+
+    private final Format format;
+    private final String logFilePath;
+    private final String segmentDirectory;
+    private final long segmentBytes;
+    private final Overflow overflow;
+    private final Durability durability;
+    private final long groupCommitNanos;
+    private final boolean console;
+    private final int queueCapacity;
+    private final BlockingQueue<Event> queue;
+    private final Thread writer;
+    private FileChannel channel;
+    private SegmentedAuditLog segmentLog;
+    private volatile boolean running = true;
+
+    // Statistics
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private volatile long written;
+    private volatile long batches;
+    private volatile long fsyncs;
+    private volatile long writeErrors;
+    private volatile long totalFlushNanos;
+    private volatile long maxFlushNanos;
+    private volatile long lastFlushNanos;
+
+    // Writer thread only
+    private final AuditTextFormat textFormat = new AuditTextFormat();
+    private boolean dirty;
+    private long lastForceAt = System.nanoTime();
 
     // Private constructor
     private AuditLogger() {
-        formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+        this(Format.BINARY, "logs/audit", 64L * 1024 * 1024, "logs/election-audit.log",
+                8192, Overflow.BLOCK, Durability.GROUP, 50, false);
+        Runtime.getRuntime().addShutdownHook(new Thread(this::close, "audit-shutdown"));
+    }
+
+    @Autowired
+    private AuditLogger(@Value("${app.audit.format:BINARY}") Format format,
+                        @Value("${app.audit.directory:logs/audit}") String segmentDirectory,
+                        @Value("${app.audit.segment-bytes:67108864}") long segmentBytes,
+                        @Value("${app.audit.file:logs/election-audit.log}") String logFilePath,
+                        @Value("${app.audit.queue-capacity:8192}") int queueCapacity,
+                        @Value("${app.audit.overflow:BLOCK}") Overflow overflow,
+                        @Value("${app.audit.durability:GROUP}") Durability durability,
+                        @Value("${app.audit.group-commit-ms:50}") long groupCommitMillis,
+                        @Value("${app.audit.console:false}") boolean console) {
+        this.format = format;
+        this.segmentDirectory = segmentDirectory;
+        this.segmentBytes = segmentBytes;
+        this.logFilePath = logFilePath;
+        this.queueCapacity = queueCapacity;
+        this.overflow = overflow;
+        this.durability = durability;
+        this.groupCommitNanos = TimeUnit.MILLISECONDS.toNanos(groupCommitMillis);
+        this.console = console;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
         initializeLogFile();
+
+        writer = new Thread(this::runWriter, "audit-writer");
+        writer.setDaemon(true);
+        writer.start();
+
+        synchronized (AuditLogger.class) {
+            if (instance == null) {
+                instance = this;
+            }
+        }
     }
 
     public static AuditLogger getInstance() {
@@ -31,23 +147,22 @@ public class AuditLogger {
 
     private void initializeLogFile() {
         try {
-            logWriter = new PrintWriter(new FileWriter(logFilePath, true), true);
+            if (format == Format.BINARY) {
+                segmentLog = new SegmentedAuditLog(Path.of(segmentDirectory), segmentBytes);
+                return;
+            }
+            Path path = Path.of(logFilePath);
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
         } catch (IOException e) {
-            System.err.println("Failed to initialize audit log file: " + e.getMessage());
+            LOG.warn("Failed to initialize audit log file: {}", e.getMessage());
         }
     }
 
     public void log(String level, String message) {
-        String timestamp = LocalDateTime.now().format(formatter);
-        String logMessage = String.format("[%s] [%s] %s", timestamp, level, message);
-
-        // Console output
-        System.out.println(logMessage);
-
-        // File output
-        if (logWriter != null) {
-            logWriter.println(logMessage);
-        }
+        enqueue(new Event(System.currentTimeMillis(), level, null, null, message, null, null));
     }
 
     public void info(String message) {
@@ -67,31 +182,228 @@ public class AuditLogger {
     }
 
     public void error(String message, Exception e) {
-        log("ERROR", message + " - " + e.getMessage());
-        if (logWriter != null) {
-            e.printStackTrace(logWriter);
-        }
+        enqueue(new Event(System.currentTimeMillis(), "ERROR", null, null, message + " - " + e.getMessage(), null, e));
     }
 
     public void logElectionAction(String action, String details) {
-        log("AUDIT", String.format("[%s] %s", action, details));
+        enqueue(new Event(System.currentTimeMillis(), "AUDIT", action, null, details, null, null));
     }
 
     public void logVote(Integer studentId, Integer candidateId, Integer electionId) {
-        logElectionAction("VOTE_CAST",
-                String.format("Student ID=%d voted for Candidate ID=%d in Election ID=%d",
-                        studentId, candidateId, electionId));
+        enqueue(new Event(System.currentTimeMillis(), "AUDIT", "VOTE_CAST", electionId,
+                "Student ID=%d voted for Candidate ID=%d in Election ID=%d",
+                new Object[]{studentId, candidateId, electionId}, null));
     }
 
     public void logCandidateRegistration(String candidateName, Integer electionId) {
-        logElectionAction("CANDIDATE_REGISTERED",
-                String.format("Candidate '%s' registered for Election ID=%d",
-                        candidateName, electionId));
+        enqueue(new Event(System.currentTimeMillis(), "AUDIT", "CANDIDATE_REGISTERED", electionId,
+                "Candidate '%s' registered for Election ID=%d",
+                new Object[]{candidateName, electionId}, null));
     }
 
+    /**
+     * Stop accepting events, write everything already queued and close the file
+     */
+    @Override
     public void close() {
-        if (logWriter != null) {
-            logWriter.close();
+        synchronized (this) {
+            if (!running) {
+                return;
+            }
+            running = false;
+        }
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (AuditLogger.class) {
+            if (instance == this) {
+                instance = null;
+            }
+        }
+    }
+
+    /**
+     * Written events of an election (null = all) between from and to (inclusive, null = open)
+     * Only the segments and index blocks that overlap the query are read
+     */
+    public AuditQueryResult query(Integer electionId, LocalDateTime from, LocalDateTime to, int limit) {
+        if (segmentLog == null) {
+            throw new InvalidInputException("Audit queries need app.audit.format=BINARY");
+        }
+        long fromMillis = from == null ? Long.MIN_VALUE : from.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        long toMillis = to == null ? Long.MAX_VALUE : to.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        try {
+            return segmentLog.query(electionId, fromMillis, toMillis, limit);
+        } catch (IOException e) {
+            throw new DatabaseOperationException("Failed to read audit log: " + e.getMessage(), e);
+        }
+    }
+
+    public AuditStats getStats() {
+        AuditStats stats = new AuditStats();
+        stats.setFormat(format.name());
+        stats.setSegments(segmentLog == null ? 0 : segmentLog.getSegmentCount());
+        stats.setOverflowPolicy(overflow.name());
+        stats.setDurability(durability.name());
+        stats.setQueueCapacity(queueCapacity);
+        stats.setQueueDepth(queue.size());
+        stats.setEnqueued(enqueued.sum());
+        stats.setDropped(dropped.sum());
+        stats.setWritten(written);
+        stats.setBatches(batches);
+        stats.setFsyncs(fsyncs);
+        stats.setWriteErrors(writeErrors);
+        stats.setLastFlushMillis(lastFlushNanos / 1_000_000.0);
+        stats.setMaxFlushMillis(maxFlushNanos / 1_000_000.0);
+        if (batches > 0) {
+            stats.setAverageBatchSize((double) written / batches);
+            stats.setAverageFlushMillis(totalFlushNanos / 1_000_000.0 / batches);
+        }
+        return stats;
+    }
+
+    private void enqueue(Event event) {
+        if (!running) {
+            dropped.increment();
+            return;
+        }
+        if (overflow == Overflow.DROP) {
+            if (!queue.offer(event)) {
+                dropped.increment();
+                return;
+            }
+        } else {
+            try {
+                queue.put(event);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                dropped.increment();
+                return;
+            }
+        }
+        enqueued.increment();
+    }
+
+    private void runWriter() {
+        List<Event> batch = new ArrayList<>(MAX_BATCH);
+        StringBuilder text = new StringBuilder(8192);
+        long pollNanos = durability == Durability.GROUP ? groupCommitNanos : TimeUnit.MILLISECONDS.toNanos(100);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                Event first = queue.poll(pollNanos, TimeUnit.NANOSECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, MAX_BATCH - 1);
+                }
+            } catch (InterruptedException e) {
+                running = false;
+            }
+
+            if (!batch.isEmpty()) {
+                write(batch, text);
+                batch.clear();
+            }
+            if (dirty && durability == Durability.GROUP && System.nanoTime() - lastForceAt >= groupCommitNanos) {
+                force();
+            }
+        }
+
+        if (dirty && durability != Durability.NONE) {
+            force();
+        }
+        closeChannel();
+    }
+
+    /**
+     * Format one batch and append it with a single write (plus fsync for SYNC durability)
+     */
+    private void write(List<Event> batch, StringBuilder text) {
+        long started = System.nanoTime();
+        text.setLength(0);
+        try {
+            for (Event event : batch) {
+                String message = render(event);
+                if (segmentLog != null) {
+                    segmentLog.append(event.timestamp(), event.level(), event.action(), event.electionId(), message);
+                }
+                if (channel != null || console) {
+                    textFormat.append(text, event.timestamp(), event.level(), event.action(), message);
+                }
+            }
+            if (console) {
+                System.out.print(text);
+            }
+
+            if (segmentLog != null) {
+                segmentLog.flush();
+                dirty = true;
+            } else if (channel != null) {
+                ByteBuffer buffer = ByteBuffer.wrap(text.toString().getBytes(StandardCharsets.UTF_8));
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                dirty = true;
+            }
+            if (dirty && durability == Durability.SYNC) {
+                force();
+            }
+        } catch (IOException e) {
+            writeErrors++;
+            IO_FAILED.warn("Failed to write audit log: {}", e.getMessage());
+        }
+
+        long flushNanos = System.nanoTime() - started;
+        written += batch.size();
+        batches++;
+        totalFlushNanos += flushNanos;
+        lastFlushNanos = flushNanos;
+        if (flushNanos > maxFlushNanos) {
+            maxFlushNanos = flushNanos;
+        }
+    }
+
+    /**
+     * Message text with arguments applied and the stack trace (if any) on the following lines
+     */
+    private String render(Event event) {
+        String message = event.args() == null ? event.message() : String.format(event.message(), event.args());
+        if (event.error() == null) {
+            return message;
+        }
+        StringWriter trace = new StringWriter();
+        event.error().printStackTrace(new PrintWriter(trace));
+        return message + System.lineSeparator() + trace.toString().stripTrailing();
+    }
+
+    private void force() {
+        try {
+            if (segmentLog != null) {
+                segmentLog.force();
+            } else {
+                channel.force(false);
+            }
+            fsyncs++;
+        } catch (IOException e) {
+            writeErrors++;
+            IO_FAILED.warn("Failed to sync audit log: {}", e.getMessage());
+        }
+        dirty = false;
+        lastForceAt = System.nanoTime();
+    }
+
+    private void closeChannel() {
+        try {
+            if (segmentLog != null) {
+                segmentLog.close();
+            }
+            if (channel != null) {
+                channel.close();
+            }
+        } catch (IOException e) {
+            LOG.warn("Failed to close audit log: {}", e.getMessage());
         }
     }
-}
\ No newline at end of file
+}
@@ -1,38 +1,91 @@
 package com.university.election.patterns.singleton;
 
+import com.university.election.dto.CacheNamespaceStats;
+import com.university.election.dto.CacheStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
 
 /**
  *
  * Purpose: Store frequently accessed data in memory to avoid repeated database queries
  *
  * Features:
- * - Thread-safe using ConcurrentHashMap
+ * - Bounded: LRU eviction once max-size entries are cached, split over independently locked segments
+ * - Per-entry TTL (default app.cache.default-ttl-seconds)
+ * - O(1) namespace invalidation: keys are "namespace:rest"; invalidating a namespace bumps its
+ *   generation and entries stored under an older generation are treated as misses
+ * - Read-through get(key, loader) with per-key request coalescing: concurrent misses on the same key
+ *   wait for one load instead of each querying the database
+ * - Hit/miss/eviction/expiration/load-time counters (LongAdder), overall and per namespace,
+ *   no logging on get/put
  * - Singleton instance across application
- * - Manual and automatic cache invalidation
- * - Generic key-value storage
  *
  * Example Usage:
  *   CacheManager cache = CacheManager.getInstance();
- *   cache.put("elections_all", electionsList);
- *   List<Election> cached = cache.get("elections_all");
+ *   List<Election> elections = cache.get("elections:all", repository::findAll);
+ *   cache.invalidateNamespace("elections");
  */
 @Component
 public class CacheManager {
 
+    private static final int SEGMENTS = 16;
+
     // Single instance (Singleton)
     private static CacheManager instance;
 
-    // In-memory storage - thread-safe Map
-    private final Map<String, Object> cache;
+    private final Segment[] segments = new Segment[SEGMENTS];
+    private final ConcurrentHashMap<String, AtomicLong> generations = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, InFlight> loading = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Counters> namespaceCounters = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final long defaultTtlNanos;
+
+    // Statistics
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    private final LongAdder namespaceInvalidations = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+    private final LongAdder coalescedLoads = new LongAdder();
 
     // Private constructor prevents external instantiation
     private CacheManager() {
-        this.cache = new ConcurrentHashMap<>();
-        System.out.println("✅ CacheManager initialized (Singleton)");
+        this(10_000, 300);
+    }
+
+    @Autowired
+    private CacheManager(@Value("${app.cache.max-size:10000}") int maxSize,
+                         @Value("${app.cache.default-ttl-seconds:300}") long defaultTtlSeconds) {
+        this.maxSize = maxSize;
+        this.defaultTtlNanos = Duration.ofSeconds(defaultTtlSeconds).toNanos();
+        int perSegment = Math.max(1, (maxSize + SEGMENTS - 1) / SEGMENTS);
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(perSegment);
+        }
+        synchronized (CacheManager.class) {
+            if (instance == null) {
+                instance = this;
+            }
+        }
+        System.out.println("✅ CacheManager initialized (Singleton, max " + maxSize + " entries)");
     }
 
     /**
@@ -46,76 +99,395 @@ public class CacheManager {
     }
 
     /**
-     * Put data in cache
-     * @param key Unique identifier
+     * Put data in cache with the default TTL
+     * @param key Unique identifier ("namespace:rest")
      * @param value Data to cache
      */
     public void put(String key, Object value) {
-        cache.put(key, value);
-        System.out.println("📦 Cached: " + key);
+        put(key, value, defaultTtlNanos);
+    }
+
+    /**
+     * Put data in cache with its own TTL
+     */
+    public void put(String key, Object value, Duration ttl) {
+        put(key, value, ttl.toNanos());
     }
 
     /**
      * Get data from cache
      * @param key Unique identifier
-     * @return Cached data or null if not found
+     * @return Cached data or null if not found, expired or invalidated
      */
     @SuppressWarnings("unchecked")
     public <T> T get(String key) {
-        Object value = cache.get(key);
-        if (value != null) {
-            System.out.println("⚡ Cache HIT: " + key);
-        } else {
-            System.out.println("❌ Cache MISS: " + key);
+        Entry entry = lookup(key);
+        Counters counters = countersFor(namespaceOf(key));
+        if (entry == null) {
+            misses.increment();
+            counters.misses.increment();
+            return null;
         }
-        return (T) value;
+        hits.increment();
+        counters.hits.increment();
+        return (T) entry.value;
     }
 
     /**
-     * Check if key exists in cache
+     * Get data from cache, loading and caching it with the default TTL on a miss
+     * A null result is returned but not cached
+     */
+    public <T> T get(String key, Supplier<T> loader) {
+        return get(key, defaultTtlNanos, loader);
+    }
+
+    /**
+     * Get data from cache, loading and caching it with the given TTL on a miss
+     */
+    public <T> T get(String key, Duration ttl, Supplier<T> loader) {
+        return get(key, ttl.toNanos(), loader);
+    }
+
+    /**
+     * Check if key exists in cache (does not count as a hit or miss)
      */
     public boolean contains(String key) {
-        return cache.containsKey(key);
+        return lookup(key) != null;
     }
 
     /**
      * Remove specific key from cache
      */
     public void invalidate(String key) {
-        cache.remove(key);
-        System.out.println("🗑️  Cache invalidated: " + key);
+        // A load that is running for this key may have read the old data: don't store its result
+        InFlight inFlight = loading.get(key);
+        if (inFlight != null) {
+            inFlight.stale = true;
+            loading.remove(key, inFlight);
+        }
+        if (segmentFor(key).remove(key)) {
+            invalidations.increment();
+        }
     }
 
     /**
-     * Remove all keys matching pattern
-     * Example: invalidatePattern("elections_") removes all election caches
+     * Invalidate every key of a namespace in O(1) by moving it to a new generation
+     * Example: invalidateNamespace("elections") drops "elections:all", "elections:5", ...
      */
-    public void invalidatePattern(String pattern) {
-        cache.keySet().removeIf(key -> key.startsWith(pattern));
-        System.out.println("🗑️  Cache pattern invalidated: " + pattern + "*");
+    public void invalidateNamespace(String namespace) {
+        generations.computeIfAbsent(namespace, ns -> new AtomicLong()).incrementAndGet();
+        namespaceInvalidations.increment();
     }
 
     /**
      * Clear entire cache
      */
     public void clear() {
-        cache.clear();
-        System.out.println("🗑️  Cache cleared completely");
+        loading.values().forEach(inFlight -> inFlight.stale = true);
+        loading.clear();
+        for (Segment segment : segments) {
+            segment.clear();
+        }
     }
 
     /**
      * Get cache statistics
      */
+    public CacheStats getStats() {
+        CacheStats stats = new CacheStats();
+        stats.setSize(size());
+        stats.setMaxSize(maxSize);
+        stats.setHits(hits.sum());
+        stats.setMisses(misses.sum());
+        long requests = stats.getHits() + stats.getMisses();
+        stats.setHitRate(requests == 0 ? 0 : (double) stats.getHits() / requests);
+        stats.setEvictions(evictions.sum());
+        stats.setExpirations(expirations.sum());
+        stats.setInvalidations(invalidations.sum());
+        stats.setNamespaceInvalidations(namespaceInvalidations.sum());
+        stats.setLoads(loads.sum());
+        stats.setLoadFailures(loadFailures.sum());
+        long loadCount = stats.getLoads() + stats.getLoadFailures();
+        stats.setAverageLoadMillis(loadCount == 0 ? 0 : loadNanos.sum() / 1_000_000.0 / loadCount);
+        stats.setCoalescedLoads(coalescedLoads.sum());
+        Map<String, CacheNamespaceStats> namespaces = new TreeMap<>();
+        namespaceCounters.forEach((namespace, counters) -> namespaces.put(namespace, counters.snapshot()));
+        stats.setNamespaces(namespaces);
+        return stats;
+    }
+
+    /**
+     * Print cache statistics
+     */
     public void printStats() {
+        CacheStats stats = getStats();
         System.out.println("📊 Cache Statistics:");
-        System.out.println("   Total entries: " + cache.size());
-        System.out.println("   Keys: " + cache.keySet());
+        System.out.println("   Total entries: " + stats.getSize() + " / " + stats.getMaxSize());
+        System.out.println("   Hits: " + stats.getHits() + ", Misses: " + stats.getMisses()
+                + ", Evictions: " + stats.getEvictions());
     }
 
     /**
-     * Get cache size
+     * Get cache size (may include expired or invalidated entries not yet reclaimed)
      */
     public int size() {
-        return cache.size();
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(String key, long ttlNanos, Supplier<T> loader) {
+        T cached = get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        // Capture the generation first: if the namespace is invalidated while loading,
+        // the loaded value is stored under the old generation and never served
+        String namespace = namespaceOf(key);
+        long generation = generation(namespace);
+        InFlight mine = new InFlight(generation);
+        InFlight current = loading.putIfAbsent(key, mine);
+        while (current != null) {
+            if (current.generation == generation && !current.stale) {
+                // Someone is already loading this key: share their result
+                coalescedLoads.increment();
+                countersFor(namespace).coalescedLoads.increment();
+                return (T) current.await();
+            }
+            // That load started before an invalidation; take over the key with a fresh one
+            if (loading.replace(key, current, mine)) {
+                break;
+            }
+            current = loading.putIfAbsent(key, mine);
+        }
+
+        Counters counters = countersFor(namespace);
+        long started = System.nanoTime();
+        try {
+            T value;
+            try {
+                value = loader.get();
+            } catch (RuntimeException e) {
+                loadFailures.increment();
+                counters.loadFailures.increment();
+                throw e;
+            } finally {
+                long elapsed = System.nanoTime() - started;
+                loadNanos.add(elapsed);
+                counters.loadNanos.add(elapsed);
+            }
+            loads.increment();
+            counters.loads.increment();
+
+            if (value != null) {
+                Entry entry = store(key, value, ttlNanos, generation);
+                // invalidate(key) marks the load stale before removing the key, so either it
+                // removes this entry or this check sees the mark
+                if (mine.stale) {
+                    segmentFor(key).remove(key, entry);
+                }
+            }
+            mine.future.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            mine.future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, mine);
+        }
+    }
+
+    private void put(String key, Object value, long ttlNanos) {
+        if (value == null) {
+            invalidate(key);
+            return;
+        }
+        store(key, value, ttlNanos, generation(namespaceOf(key)));
+    }
+
+    private Entry store(String key, Object value, long ttlNanos, long generation) {
+        Entry entry = new Entry(value, System.nanoTime() + ttlNanos, generation);
+        if (segmentFor(key).put(key, entry)) {
+            evictions.increment();
+        }
+        return entry;
+    }
+
+    /**
+     * Live entry for key, or null; expired and invalidated entries are removed on the way
+     */
+    private Entry lookup(String key) {
+        Segment segment = segmentFor(key);
+        Entry entry = segment.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.generation != generation(namespaceOf(key))) {
+            segment.remove(key, entry);
+            return null;
+        }
+        if (System.nanoTime() - entry.expiresAt >= 0) {
+            if (segment.remove(key, entry)) {
+                expirations.increment();
+            }
+            return null;
+        }
+        return entry;
+    }
+
+    private long generation(String namespace) {
+        AtomicLong generation = generations.get(namespace);
+        return generation == null ? 0 : generation.get();
+    }
+
+    private Counters countersFor(String namespace) {
+        Counters counters = namespaceCounters.get(namespace);
+        return counters != null ? counters : namespaceCounters.computeIfAbsent(namespace, ns -> new Counters());
+    }
+
+    private static String namespaceOf(String key) {
+        int separator = key.indexOf(':');
+        return separator < 0 ? key : key.substring(0, separator);
+    }
+
+    private Segment segmentFor(String key) {
+        int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (SEGMENTS - 1)];
+    }
+
+    private record Entry(Object value, long expiresAt, long generation) {
+    }
+
+    /**
+     * A load in progress; callers that miss on the same key wait for its future
+     */
+    private static final class InFlight {
+        private final CompletableFuture<Object> future = new CompletableFuture<>();
+        private final long generation;
+        private volatile boolean stale;
+
+        private InFlight(long generation) {
+            this.generation = generation;
+        }
+
+        Object await() {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                // Rethrow the loader's own exception (e.g. ResourceNotFoundException) to every waiter
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Per-namespace counters
+     */
+    private static final class Counters {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder loads = new LongAdder();
+        private final LongAdder loadFailures = new LongAdder();
+        private final LongAdder loadNanos = new LongAdder();
+        private final LongAdder coalescedLoads = new LongAdder();
+
+        CacheNamespaceStats snapshot() {
+            CacheNamespaceStats stats = new CacheNamespaceStats();
+            stats.setHits(hits.sum());
+            stats.setMisses(misses.sum());
+            long requests = stats.getHits() + stats.getMisses();
+            stats.setHitRate(requests == 0 ? 0 : (double) stats.getHits() / requests);
+            stats.setLoads(loads.sum());
+            stats.setLoadFailures(loadFailures.sum());
+            stats.setCoalescedLoads(coalescedLoads.sum());
+            long loadCount = stats.getLoads() + stats.getLoadFailures();
+            stats.setAverageLoadMillis(loadCount == 0 ? 0 : loadNanos.sum() / 1_000_000.0 / loadCount);
+            return stats;
+        }
+    }
+
+    /**
+     * One lock-guarded access-ordered map; the least recently used entry is evicted when full
+     */
+    private static final class Segment {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final int capacity;
+        private final LinkedHashMap<String, Entry> entries;
+
+        private Segment(int capacity) {
+            this.capacity = capacity;
+            this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        }
+
+        Entry get(String key) {
+            lock.lock();
+            try {
+                return entries.get(key);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * @return true if an entry had to be evicted to make room
+         */
+        boolean put(String key, Entry entry) {
+            lock.lock();
+            try {
+                entries.put(key, entry);
+                if (entries.size() > capacity) {
+                    Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+                    eldest.next();
+                    eldest.remove();
+                    return true;
+                }
+                return false;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        boolean remove(String key) {
+            lock.lock();
+            try {
+                return entries.remove(key) != null;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        boolean remove(String key, Entry entry) {
+            lock.lock();
+            try {
+                return entries.remove(key, entry);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void clear() {
+            lock.lock();
+            try {
+                entries.clear();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int size() {
+            lock.lock();
+            try {
+                return entries.size();
+            } finally {
+                lock.unlock();
+            }
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,22 @@
+package com.university.election.repository;
+
+/**
+ * Optional filters of a candidate list query; null means "any"
+ */
+public class CandidateFilter {
+    private final Integer electionId;
+    private final String faculty;
+    private final Integer yearOfStudy;
+
+    public CandidateFilter(Integer electionId, String faculty, Integer yearOfStudy) {
+        this.electionId = electionId;
+        this.faculty = faculty;
+        this.yearOfStudy = yearOfStudy;
+    }
+
+    public Integer getElectionId() { return electionId; }
+
+    public String getFaculty() { return faculty; }
+
+    public Integer getYearOfStudy() { return yearOfStudy; }
+}
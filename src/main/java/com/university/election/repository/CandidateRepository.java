@@ -1,23 +1,34 @@
 package com.university.election.repository;
 
 import com.university.election.exception.DatabaseOperationException;
+import com.university.election.exception.InvalidInputException;
 import com.university.election.exception.ResourceNotFoundException;
 import com.university.election.model.Candidate;
-import com.university.election.model.Election;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
-import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
 import java.sql.PreparedStatement;
-import java.sql.Statement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Candidate Repository Implementation
+ * Candidates are always read together with their election in a single JOIN query
  */
 @Repository
 public class CandidateRepository implements CrudRepository<Candidate, Integer> {
@@ -25,24 +36,16 @@ public class CandidateRepository implements CrudRepository<Candidate, Integer> {
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
-    @Autowired
-    private ElectionRepository electionRepository;
-
-    private final RowMapper<Candidate> rowMapper = (rs, rowNum) -> {
-        Candidate candidate = new Candidate();
-        candidate.setId(rs.getInt("id"));
-        candidate.setName(rs.getString("name"));
-        candidate.setFaculty(rs.getString("faculty"));
-        candidate.setYearOfStudy(rs.getInt("year_of_study"));
-        candidate.setCampaign(rs.getString("campaign"));
+    private static final Set<String> FOREIGN_KEY_VIOLATIONS = Set.of("23503", "23506");
+    // Constraint names from scheme.sql (PostgreSQL's default names, spelled out so H2 reports the same)
+    private static final String ELECTION_FOREIGN_KEY = "candidates_election_id_fkey";
+    private static final String BALLOTS_FOREIGN_KEY = "votes_candidate_id_election_id_fkey";
 
-        // Load election (composition)
-        Integer electionId = rs.getInt("election_id");
-        Election election = electionRepository.findById(electionId).orElse(null);
-        candidate.setElection(election);
+    @Value("${app.jdbc.candidate-batch-size:500}")
+    private int batchSize;
 
-        return candidate;
-    };
+    @Value("${app.jdbc.stream-fetch-size:500}")
+    private int fetchSize;
 
     @Override
     public Candidate save(Candidate candidate) {
@@ -52,7 +55,7 @@ public class CandidateRepository implements CrudRepository<Candidate, Integer> {
             KeyHolder keyHolder = new GeneratedKeyHolder();
 
             jdbcTemplate.update(connection -> {
-                PreparedStatement ps = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+                PreparedStatement ps = connection.prepareStatement(sql, new String[]{"id"});
                 ps.setString(1, candidate.getName());
                 ps.setString(2, candidate.getFaculty());
                 ps.setInt(3, candidate.getYearOfStudy());
@@ -63,6 +66,8 @@ public class CandidateRepository implements CrudRepository<Candidate, Integer> {
 
             candidate.setId(keyHolder.getKey().intValue());
             return candidate;
+        } catch (DataIntegrityViolationException e) {
+            throw foreignKeyViolation(e, "Election not found with id: " + candidate.getElection().getId());
         } catch (Exception e) {
             throw new DatabaseOperationException("Failed to save candidate: " + e.getMessage(), e);
         }
@@ -70,9 +75,9 @@ public class CandidateRepository implements CrudRepository<Candidate, Integer> {
 
     @Override
     public Optional<Candidate> findById(Integer id) {
-        String sql = "SELECT * FROM candidates WHERE id = ?";
+        String sql = CandidateRowMapper.SELECT_COLUMNS + " WHERE c.id = ?";
         try {
-            Candidate candidate = jdbcTemplate.queryForObject(sql, rowMapper, id);
+            Candidate candidate = jdbcTemplate.queryForObject(sql, new CandidateRowMapper(), id);
             return Optional.ofNullable(candidate);
         } catch (Exception e) {
             return Optional.empty();
@@ -81,43 +86,126 @@ public class CandidateRepository implements CrudRepository<Candidate, Integer> {
 
     @Override
     public List<Candidate> findAll() {
-        String sql = "SELECT * FROM candidates ORDER BY id";
+        String sql = CandidateRowMapper.SELECT_COLUMNS + " ORDER BY c.id";
+        try {
+            return jdbcTemplate.query(sql, new CandidateRowMapper());
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Failed to fetch candidates: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Keyset page of candidates ordered by id: up to limit rows after afterId (null for the first page)
+     */
+    public List<Candidate> findPage(Integer afterId, int limit) {
+        String sql = CandidateRowMapper.SELECT_COLUMNS + " WHERE c.id > ? ORDER BY c.id LIMIT ?";
         try {
-            return jdbcTemplate.query(sql, rowMapper);
+            return jdbcTemplate.query(sql, new CandidateRowMapper(), afterId == null ? 0 : afterId, limit);
         } catch (Exception e) {
             throw new DatabaseOperationException("Failed to fetch candidates: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * Stream all candidates with their elections through a forward-only cursor (requires a read-only transaction)
+     */
+    public void streamAll(Consumer<Candidate> action) {
+        String sql = CandidateRowMapper.SELECT_COLUMNS + " ORDER BY c.id";
+        try {
+            CandidateRowMapper mapper = new CandidateRowMapper();
+            jdbcTemplate.query(connection -> {
+                PreparedStatement ps = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(fetchSize);
+                return ps;
+            }, (RowCallbackHandler) rs -> action.accept(mapper.mapRow(rs, rs.getRow())));
+        } catch (DataAccessException e) {
+            throw new DatabaseOperationException("Failed to stream candidates: " + e.getMessage(), e);
+        }
+    }
+
     public List<Candidate> findByElectionId(Integer electionId) {
-        String sql = "SELECT * FROM candidates WHERE election_id = ? ORDER BY id";
+        String sql = CandidateRowMapper.SELECT_COLUMNS + " WHERE c.election_id = ? ORDER BY c.id";
         try {
-            return jdbcTemplate.query(sql, rowMapper, electionId);
+            return jdbcTemplate.query(sql, new CandidateRowMapper(), electionId);
         } catch (Exception e) {
             throw new DatabaseOperationException("Failed to fetch candidates: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * Keyset page of an election's candidates (uses idx_candidates_election_id_id)
+     */
+    public List<Candidate> findByElectionIdPage(Integer electionId, Integer afterId, int limit) {
+        String sql = CandidateRowMapper.SELECT_COLUMNS + " WHERE c.election_id = ? AND c.id > ? ORDER BY c.id LIMIT ?";
+        try {
+            return jdbcTemplate.query(sql, new CandidateRowMapper(), electionId, afterId == null ? 0 : afterId, limit);
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Failed to fetch candidates: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Keyset page of candidates matching the given filters, ordered by id or by (name, id)
+     * Each filter combination is served by an index in scheme.sql (idx_candidates_*)
+     * @param afterName name of the last row of the previous page (NAME order only)
+     * @param afterId id of the last row of the previous page, or null for the first page
+     */
+    public List<Candidate> findFiltered(CandidateFilter filter, SortField sort, String afterName, Integer afterId, int limit) {
+        FilteredQuery query = filteredQuery(filter, sort, afterName, afterId, limit);
+        try {
+            return jdbcTemplate.query(query.sql(), new CandidateRowMapper(), query.args());
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Failed to fetch candidates: " + e.getMessage(), e);
+        }
+    }
+
+    // Package-private so the index test can EXPLAIN the exact statement
+    FilteredQuery filteredQuery(CandidateFilter filter, SortField sort, String afterName, Integer afterId, int limit) {
+        return new FilteredQuery(CandidateRowMapper.SELECT_COLUMNS)
+                .equal("c.election_id", filter.getElectionId())
+                .equal("c.faculty", filter.getFaculty())
+                .equal("c.year_of_study", filter.getYearOfStudy())
+                .page("c.id", sort == SortField.NAME ? "c.name" : null, afterName, afterId, limit);
+    }
+
+    /**
+     * Update a candidate and read the stored row back from the same statement (UPDATE ... RETURNING)
+     * A missing election is reported by the foreign key, not by a separate lookup
+     */
     @Override
     public Candidate update(Integer id, Candidate candidate) {
         String sql = "UPDATE candidates SET name = ?, faculty = ?, year_of_study = ?, campaign = ?, election_id = ? WHERE id = ?";
 
         try {
-            int rows = jdbcTemplate.update(sql,
-                    candidate.getName(),
-                    candidate.getFaculty(),
-                    candidate.getYearOfStudy(),
-                    candidate.getCampaign(),
-                    candidate.getElection().getId(),
-                    id
-            );
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+
+            int rows = jdbcTemplate.update(connection -> {
+                PreparedStatement ps = connection.prepareStatement(sql,
+                        new String[]{"id", "name", "faculty", "year_of_study", "campaign"});
+                ps.setString(1, candidate.getName());
+                ps.setString(2, candidate.getFaculty());
+                ps.setInt(3, candidate.getYearOfStudy());
+                ps.setString(4, candidate.getCampaign());
+                ps.setInt(5, candidate.getElection().getId());
+                ps.setInt(6, id);
+                return ps;
+            }, keyHolder);
 
             if (rows == 0) {
                 throw new ResourceNotFoundException("Candidate not found with id: " + id);
             }
 
-            candidate.setId(id);
-            return candidate;
+            Map<String, Object> row = keyHolder.getKeys();
+            return new Candidate(
+                    ((Number) row.get("id")).intValue(),
+                    (String) row.get("name"),
+                    (String) row.get("faculty"),
+                    ((Number) row.get("year_of_study")).intValue(),
+                    (String) row.get("campaign"),
+                    candidate.getElection()
+            );
+        } catch (DataIntegrityViolationException e) {
+            throw foreignKeyViolation(e, "Election not found with id: " + candidate.getElection().getId());
         } catch (ResourceNotFoundException e) {
             throw e;
         } catch (Exception e) {
@@ -142,10 +230,9 @@ public class CandidateRepository implements CrudRepository<Candidate, Integer> {
 
     @Override
     public boolean existsById(Integer id) {
-        String sql = "SELECT COUNT(*) FROM candidates WHERE id = ?";
+        String sql = "SELECT EXISTS (SELECT 1 FROM candidates WHERE id = ?)";
         try {
-            Integer count = jdbcTemplate.queryForObject(sql, Integer.class, id);
-            return count != null && count > 0;
+            return Boolean.TRUE.equals(jdbcTemplate.queryForObject(sql, Boolean.class, id));
         } catch (Exception e) {
             return false;
         }
@@ -161,4 +248,133 @@ public class CandidateRepository implements CrudRepository<Candidate, Integer> {
             return 0;
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<Candidate> saveAll(List<Candidate> candidates) {
+        String sql = "INSERT INTO candidates (name, faculty, year_of_study, campaign, election_id) VALUES (?, ?, ?, ?, ?)";
+
+        try {
+            for (int from = 0; from < candidates.size(); from += batchSize) {
+                List<Candidate> chunk = candidates.subList(from, Math.min(from + batchSize, candidates.size()));
+                KeyHolder keyHolder = new GeneratedKeyHolder();
+
+                jdbcTemplate.batchUpdate(
+                        connection -> connection.prepareStatement(sql, new String[]{"id"}),
+                        new BatchPreparedStatementSetter() {
+                            @Override
+                            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                                Candidate candidate = chunk.get(i);
+                                ps.setString(1, candidate.getName());
+                                ps.setString(2, candidate.getFaculty());
+                                ps.setInt(3, candidate.getYearOfStudy());
+                                ps.setString(4, candidate.getCampaign());
+                                ps.setInt(5, candidate.getElection().getId());
+                            }
+
+                            @Override
+                            public int getBatchSize() {
+                                return chunk.size();
+                            }
+                        },
+                        keyHolder);
+
+                List<Map<String, Object>> keys = keyHolder.getKeyList();
+                for (int i = 0; i < chunk.size(); i++) {
+                    Number key = (Number) keys.get(i).values().iterator().next();
+                    chunk.get(i).setId(key.intValue());
+                }
+            }
+            return candidates;
+        } catch (DataIntegrityViolationException e) {
+            throw foreignKeyViolation(e, "Election not found for candidate batch: " + e.getMostSpecificCause().getMessage());
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Failed to save candidates: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public List<Candidate> updateAll(List<Candidate> candidates) {
+        String sql = "UPDATE candidates SET name = ?, faculty = ?, year_of_study = ?, campaign = ?, election_id = ? WHERE id = ?";
+
+        try {
+            int[][] counts = jdbcTemplate.batchUpdate(sql, candidates, batchSize, (ps, candidate) -> {
+                ps.setString(1, candidate.getName());
+                ps.setString(2, candidate.getFaculty());
+                ps.setInt(3, candidate.getYearOfStudy());
+                ps.setString(4, candidate.getCampaign());
+                ps.setInt(5, candidate.getElection().getId());
+                ps.setInt(6, candidate.getId());
+            });
+
+            List<Integer> missing = new ArrayList<>();
+            for (int batch = 0; batch < counts.length; batch++) {
+                for (int i = 0; i < counts[batch].length; i++) {
+                    if (counts[batch][i] == 0) {
+                        missing.add(candidates.get(batch * batchSize + i).getId());
+                    }
+                }
+            }
+            if (!missing.isEmpty()) {
+                throw new ResourceNotFoundException("Candidates not found with ids: " + missing);
+            }
+
+            return candidates;
+        } catch (DataIntegrityViolationException e) {
+            throw foreignKeyViolation(e, "Election not found for candidate batch: " + e.getMostSpecificCause().getMessage());
+        } catch (ResourceNotFoundException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Failed to update candidates: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public int deleteAllById(List<Integer> ids) {
+        String sql = "DELETE FROM candidates WHERE id = ?";
+
+        try {
+            int[][] counts = jdbcTemplate.batchUpdate(sql, ids, batchSize, (ps, id) -> ps.setInt(1, id));
+
+            int deleted = 0;
+            List<Integer> missing = new ArrayList<>();
+            for (int batch = 0; batch < counts.length; batch++) {
+                for (int i = 0; i < counts[batch].length; i++) {
+                    if (counts[batch][i] == 0) {
+                        missing.add(ids.get(batch * batchSize + i));
+                    } else {
+                        deleted++;
+                    }
+                }
+            }
+            if (!missing.isEmpty()) {
+                throw new ResourceNotFoundException("Candidates not found with ids: " + missing);
+            }
+
+            return deleted;
+        } catch (ResourceNotFoundException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Failed to delete candidates: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Foreign key violations (SQLState 23503 on PostgreSQL, 23503/23506 on H2), told apart by constraint name:
+     * - candidates.election_id -> elections: the election does not exist
+     * - votes -> candidates(id, election_id): the candidate has ballots, so it cannot move to another election
+     * Any other integrity violation is a database error
+     */
+    private static RuntimeException foreignKeyViolation(DataIntegrityViolationException e, String missingElectionMessage) {
+        if (e.getMostSpecificCause() instanceof SQLException sqlException
+                && FOREIGN_KEY_VIOLATIONS.contains(sqlException.getSQLState())) {
+            String detail = String.valueOf(sqlException.getMessage()).toLowerCase(Locale.ROOT);
+            if (detail.contains(ELECTION_FOREIGN_KEY)) {
+                return new ResourceNotFoundException(missingElectionMessage);
+            }
+            if (detail.contains(BALLOTS_FOREIGN_KEY)) {
+                return new InvalidInputException("Candidate has ballots and cannot change election");
+            }
+        }
+        return new DatabaseOperationException("Failed to write candidates: " + e.getMessage(), e);
+    }
+}
@@ -0,0 +1,58 @@
+package com.university.election.repository;
+
+import com.university.election.model.Candidate;
+import com.university.election.model.Election;
+import com.university.election.patterns.builder.ElectionBuilder;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Maps rows of the candidates JOIN elections query
+ * Keeps a per-query identity map so each distinct Election is built once
+ * and shared by all candidates of that election.
+ * Not thread-safe: create a new instance for every query.
+ */
+class CandidateRowMapper implements RowMapper<Candidate> {
+
+    /**
+     * Column list expected by this mapper (candidates aliased as c, elections as e)
+     */
+    static final String SELECT_COLUMNS =
+            "SELECT c.id, c.name, c.faculty, c.year_of_study, c.campaign, c.election_id, " +
+            "e.name AS election_name, e.start_date AS election_start_date, " +
+            "e.end_date AS election_end_date, e.academic_year AS election_academic_year " +
+            "FROM candidates c JOIN elections e ON e.id = c.election_id";
+
+    private final Map<Integer, Election> elections = new HashMap<>();
+
+    @Override
+    public Candidate mapRow(ResultSet rs, int rowNum) throws SQLException {
+        Candidate candidate = new Candidate();
+        candidate.setId(rs.getInt("id"));
+        candidate.setName(rs.getString("name"));
+        candidate.setFaculty(rs.getString("faculty"));
+        candidate.setYearOfStudy(rs.getInt("year_of_study"));
+        candidate.setCampaign(rs.getString("campaign"));
+
+        // Election comes from the same row (composition without an extra query)
+        Integer electionId = rs.getInt("election_id");
+        Election election = elections.get(electionId);
+        if (election == null) {
+            election = ElectionBuilder.builder()
+                    .withId(electionId)
+                    .withName(rs.getString("election_name"))
+                    .withStartDate(rs.getDate("election_start_date").toLocalDate())
+                    .withEndDate(rs.getDate("election_end_date").toLocalDate())
+                    .withAcademicYear(rs.getString("election_academic_year"))
+                    .build();
+            elections.put(electionId, election);
+        }
+        candidate.setElection(election);
+
+        return candidate;
+    }
+}
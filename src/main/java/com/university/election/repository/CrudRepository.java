@@ -45,4 +45,21 @@ public interface CrudRepository<T, ID> {
      * Count all entities
      */
     long count();
+
+    /**
+     * Save entities using JDBC batch updates
+     * Generated IDs are set on the given entities
+     */
+    List<T> saveAll(List<T> entities);
+
+    /**
+     * Update entities (identified by their own IDs) using JDBC batch updates
+     */
+    List<T> updateAll(List<T> entities);
+
+    /**
+     * Delete entities by IDs using JDBC batch updates
+     * @return number of deleted entities
+     */
+    int deleteAllById(List<ID> ids);
 }
\ No newline at end of file
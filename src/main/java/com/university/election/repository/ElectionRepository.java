@@ -5,7 +5,11 @@ import com.university.election.exception.ResourceNotFoundException;
 import com.university.election.model.Election;
 import com.university.election.patterns.builder.ElectionBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
@@ -13,9 +17,14 @@ import org.springframework.stereotype.Repository;
 
 import java.sql.Date;
 import java.sql.PreparedStatement;
-import java.sql.Statement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Election Repository Implementation
@@ -28,7 +37,14 @@ public class ElectionRepository implements CrudRepository<Election, Integer> {
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
-    private final RowMapper<Election> rowMapper = (rs, rowNum) ->
+    @Value("${app.jdbc.election-batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.jdbc.stream-fetch-size:500}")
+    private int fetchSize;
+
+    // Package-private so RowMapperBenchmark can drive it directly
+    final RowMapper<Election> rowMapper = (rs, rowNum) ->
             ElectionBuilder.builder()
                     .withId(rs.getInt("id"))
                     .withName(rs.getString("name"))
@@ -45,7 +61,7 @@ public class ElectionRepository implements CrudRepository<Election, Integer> {
             KeyHolder keyHolder = new GeneratedKeyHolder();
 
             jdbcTemplate.update(connection -> {
-                PreparedStatement ps = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+                PreparedStatement ps = connection.prepareStatement(sql, new String[]{"id"});
                 ps.setString(1, election.getName());
                 ps.setDate(2, Date.valueOf(election.getStartDate()));
                 ps.setDate(3, Date.valueOf(election.getEndDate()));
@@ -73,7 +89,7 @@ public class ElectionRepository implements CrudRepository<Election, Integer> {
 
     @Override
     public List<Election> findAll() {
-        String sql = "SELECT * FROM elections ORDER BY start_date DESC";
+        String sql = "SELECT * FROM elections ORDER BY start_date DESC, id DESC";
         try {
             return jdbcTemplate.query(sql, rowMapper);
         } catch (Exception e) {
@@ -81,25 +97,97 @@ public class ElectionRepository implements CrudRepository<Election, Integer> {
         }
     }
 
+    /**
+     * Keyset page of elections, newest first
+     * The cursor is the (start_date, id) of the last row seen because start dates are not unique;
+     * pass nulls for the first page. Uses idx_elections_start_date_id.
+     */
+    public List<Election> findPage(LocalDate afterStartDate, Integer afterId, int limit) {
+        try {
+            if (afterStartDate == null) {
+                return jdbcTemplate.query("SELECT * FROM elections ORDER BY start_date DESC, id DESC LIMIT ?", rowMapper, limit);
+            }
+            String sql = "SELECT * FROM elections WHERE (start_date, id) < (?, ?) ORDER BY start_date DESC, id DESC LIMIT ?";
+            return jdbcTemplate.query(sql, rowMapper, Date.valueOf(afterStartDate), afterId, limit);
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Failed to fetch elections: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Every election with its candidate count, newest first, in one aggregate query
+     * Candidates are counted before the join (ballot counts come from TallyEngine)
+     */
+    public void findSummaries(SummaryRowHandler handler) {
+        String sql = "SELECT e.*, COALESCE(c.total, 0) AS total_candidates " +
+                "FROM elections e " +
+                "LEFT JOIN (SELECT election_id, COUNT(*) AS total FROM candidates GROUP BY election_id) c ON c.election_id = e.id " +
+                "ORDER BY e.start_date DESC, e.id DESC";
+        try {
+            jdbcTemplate.query(sql, (RowCallbackHandler) rs -> handler.accept(rowMapper.mapRow(rs, 0),
+                    rs.getLong("total_candidates")));
+        } catch (DataAccessException e) {
+            throw new DatabaseOperationException("Failed to fetch election summaries: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Receives one row of findSummaries
+     */
+    @FunctionalInterface
+    public interface SummaryRowHandler {
+        void accept(Election election, long candidates);
+    }
+
+    /**
+     * Stream all elections, newest first through a forward-only cursor (requires a read-only transaction)
+     */
+    public void streamAll(Consumer<Election> action) {
+        String sql = "SELECT * FROM elections ORDER BY start_date DESC, id DESC";
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement ps = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(fetchSize);
+                return ps;
+            }, (RowCallbackHandler) rs -> action.accept(rowMapper.mapRow(rs, rs.getRow())));
+        } catch (DataAccessException e) {
+            throw new DatabaseOperationException("Failed to stream elections: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Update an election and read the stored row back from the same statement (UPDATE ... RETURNING)
+     */
     @Override
     public Election update(Integer id, Election election) {
         String sql = "UPDATE elections SET name = ?, start_date = ?, end_date = ?, academic_year = ? WHERE id = ?";
 
         try {
-            int rows = jdbcTemplate.update(sql,
-                    election.getName(),
-                    Date.valueOf(election.getStartDate()),
-                    Date.valueOf(election.getEndDate()),
-                    election.getAcademicYear(),
-                    id
-            );
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+
+            int rows = jdbcTemplate.update(connection -> {
+                PreparedStatement ps = connection.prepareStatement(sql,
+                        new String[]{"id", "name", "start_date", "end_date", "academic_year"});
+                ps.setString(1, election.getName());
+                ps.setDate(2, Date.valueOf(election.getStartDate()));
+                ps.setDate(3, Date.valueOf(election.getEndDate()));
+                ps.setString(4, election.getAcademicYear());
+                ps.setInt(5, id);
+                return ps;
+            }, keyHolder);
 
             if (rows == 0) {
                 throw new ResourceNotFoundException("Election not found with id: " + id);
             }
 
-            election.setId(id);
-            return election;
+            Map<String, Object> row = keyHolder.getKeys();
+            return ElectionBuilder.builder()
+                    .withId(((Number) row.get("id")).intValue())
+                    .withName((String) row.get("name"))
+                    .withStartDate(toLocalDate(row.get("start_date")))
+                    .withEndDate(toLocalDate(row.get("end_date")))
+                    .withAcademicYear((String) row.get("academic_year"))
+                    .build();
         } catch (ResourceNotFoundException e) {
             throw e;
         } catch (Exception e) {
@@ -124,10 +212,9 @@ public class ElectionRepository implements CrudRepository<Election, Integer> {
 
     @Override
     public boolean existsById(Integer id) {
-        String sql = "SELECT COUNT(*) FROM elections WHERE id = ?";
+        String sql = "SELECT EXISTS (SELECT 1 FROM elections WHERE id = ?)";
         try {
-            Integer count = jdbcTemplate.queryForObject(sql, Integer.class, id);
-            return count != null && count > 0;
+            return Boolean.TRUE.equals(jdbcTemplate.queryForObject(sql, Boolean.class, id));
         } catch (Exception e) {
             return false;
         }
@@ -143,4 +230,114 @@ public class ElectionRepository implements CrudRepository<Election, Integer> {
             return 0;
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<Election> saveAll(List<Election> elections) {
+        String sql = "INSERT INTO elections (name, start_date, end_date, academic_year) VALUES (?, ?, ?, ?)";
+
+        try {
+            for (int from = 0; from < elections.size(); from += batchSize) {
+                List<Election> chunk = elections.subList(from, Math.min(from + batchSize, elections.size()));
+                KeyHolder keyHolder = new GeneratedKeyHolder();
+
+                jdbcTemplate.batchUpdate(
+                        connection -> connection.prepareStatement(sql, new String[]{"id"}),
+                        new BatchPreparedStatementSetter() {
+                            @Override
+                            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                                Election election = chunk.get(i);
+                                ps.setString(1, election.getName());
+                                ps.setDate(2, Date.valueOf(election.getStartDate()));
+                                ps.setDate(3, Date.valueOf(election.getEndDate()));
+                                ps.setString(4, election.getAcademicYear());
+                            }
+
+                            @Override
+                            public int getBatchSize() {
+                                return chunk.size();
+                            }
+                        },
+                        keyHolder);
+
+                List<Map<String, Object>> keys = keyHolder.getKeyList();
+                for (int i = 0; i < chunk.size(); i++) {
+                    Number key = (Number) keys.get(i).values().iterator().next();
+                    chunk.get(i).setId(key.intValue());
+                }
+            }
+            return elections;
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Failed to save elections: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public List<Election> updateAll(List<Election> elections) {
+        String sql = "UPDATE elections SET name = ?, start_date = ?, end_date = ?, academic_year = ? WHERE id = ?";
+
+        try {
+            int[][] counts = jdbcTemplate.batchUpdate(sql, elections, batchSize, (ps, election) -> {
+                ps.setString(1, election.getName());
+                ps.setDate(2, Date.valueOf(election.getStartDate()));
+                ps.setDate(3, Date.valueOf(election.getEndDate()));
+                ps.setString(4, election.getAcademicYear());
+                ps.setInt(5, election.getId());
+            });
+
+            List<Integer> missing = new ArrayList<>();
+            for (int batch = 0; batch < counts.length; batch++) {
+                for (int i = 0; i < counts[batch].length; i++) {
+                    if (counts[batch][i] == 0) {
+                        missing.add(elections.get(batch * batchSize + i).getId());
+                    }
+                }
+            }
+            if (!missing.isEmpty()) {
+                throw new ResourceNotFoundException("Elections not found with ids: " + missing);
+            }
+
+            return elections;
+        } catch (ResourceNotFoundException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Failed to update elections: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public int deleteAllById(List<Integer> ids) {
+        String sql = "DELETE FROM elections WHERE id = ?";
+
+        try {
+            int[][] counts = jdbcTemplate.batchUpdate(sql, ids, batchSize, (ps, id) -> ps.setInt(1, id));
+
+            int deleted = 0;
+            List<Integer> missing = new ArrayList<>();
+            for (int batch = 0; batch < counts.length; batch++) {
+                for (int i = 0; i < counts[batch].length; i++) {
+                    if (counts[batch][i] == 0) {
+                        missing.add(ids.get(batch * batchSize + i));
+                    } else {
+                        deleted++;
+                    }
+                }
+            }
+            if (!missing.isEmpty()) {
+                throw new ResourceNotFoundException("Elections not found with ids: " + missing);
+            }
+
+            return deleted;
+        } catch (ResourceNotFoundException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Failed to delete elections: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returned DATE values come back as java.sql.Date (PostgreSQL) or LocalDate depending on the driver
+     */
+    private static LocalDate toLocalDate(Object value) {
+        return value instanceof Date date ? date.toLocalDate() : (LocalDate) value;
+    }
+}
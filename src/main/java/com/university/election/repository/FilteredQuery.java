@@ -0,0 +1,79 @@
+package com.university.election.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds the WHERE / ORDER BY / LIMIT tail of a filtered keyset query
+ * Values are always bound as parameters; only column names from the repositories themselves
+ * (and boolean literals, see predicate()) are written into the SQL text
+ */
+final class FilteredQuery {
+
+    private final StringBuilder sql;
+    private final List<Object> args = new ArrayList<>();
+    private boolean where;
+
+    FilteredQuery(String select) {
+        this.sql = new StringBuilder(select);
+    }
+
+    /**
+     * Add "column = ?" when the value is given
+     */
+    FilteredQuery equal(String column, Object value) {
+        if (value != null) {
+            condition(column + " = ?");
+            args.add(value);
+        }
+        return this;
+    }
+
+    /**
+     * Add "column = TRUE|FALSE" when the value is given
+     * Written as a literal: PostgreSQL only matches a partial index (WHERE has_voted = FALSE) when the
+     * value is known while planning, which a bound parameter is not once the plan is cached
+     */
+    FilteredQuery predicate(String column, Boolean value) {
+        if (value != null) {
+            condition(column + (value ? " = TRUE" : " = FALSE"));
+        }
+        return this;
+    }
+
+    /**
+     * Keyset seek and order: by id, or by (name, id) when sortColumn is given
+     */
+    FilteredQuery page(String idColumn, String sortColumn, String afterSortKey, Integer afterId, int limit) {
+        if (sortColumn == null) {
+            if (afterId != null) {
+                condition(idColumn + " > ?");
+                args.add(afterId);
+            }
+            sql.append(" ORDER BY ").append(idColumn);
+        } else {
+            if (afterId != null) {
+                condition("(" + sortColumn + ", " + idColumn + ") > (?, ?)");
+                args.add(afterSortKey);
+                args.add(afterId);
+            }
+            sql.append(" ORDER BY ").append(sortColumn).append(", ").append(idColumn);
+        }
+        sql.append(" LIMIT ?");
+        args.add(limit);
+        return this;
+    }
+
+    String sql() {
+        return sql.toString();
+    }
+
+    Object[] args() {
+        return args.toArray();
+    }
+
+    private void condition(String condition) {
+        sql.append(where ? " AND " : " WHERE ").append(condition);
+        where = true;
+    }
+}
@@ -0,0 +1,24 @@
+package com.university.election.repository;
+
+import com.university.election.exception.InvalidInputException;
+
+/**
+ * Sort order of filtered list queries; every order ends with id so keyset cursors are unique
+ */
+public enum SortField {
+    ID,
+    NAME;
+
+    /**
+     * Parse the sort request parameter (id or name, default id)
+     */
+    public static SortField parse(String sort) {
+        if (sort == null || sort.isBlank() || sort.equalsIgnoreCase("id")) {
+            return ID;
+        }
+        if (sort.equalsIgnoreCase("name")) {
+            return NAME;
+        }
+        throw new InvalidInputException("Unsupported sort: " + sort + " (use id or name)");
+    }
+}
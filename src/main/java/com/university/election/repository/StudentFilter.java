@@ -0,0 +1,22 @@
+package com.university.election.repository;
+
+/**
+ * Optional filters of a student list query; null means "any"
+ */
+public class StudentFilter {
+    private final String faculty;
+    private final Integer yearOfStudy;
+    private final Boolean hasVoted;
+
+    public StudentFilter(String faculty, Integer yearOfStudy, Boolean hasVoted) {
+        this.faculty = faculty;
+        this.yearOfStudy = yearOfStudy;
+        this.hasVoted = hasVoted;
+    }
+
+    public String getFaculty() { return faculty; }
+
+    public Integer getYearOfStudy() { return yearOfStudy; }
+
+    public Boolean getHasVoted() { return hasVoted; }
+}
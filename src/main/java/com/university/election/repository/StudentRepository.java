@@ -4,18 +4,35 @@ import com.university.election.exception.DatabaseOperationException;
 import com.university.election.exception.DuplicateResourceException;
 import com.university.election.exception.ResourceNotFoundException;
 import com.university.election.model.Student;
+import com.university.election.utils.CsvUtils;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
 import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
+import java.nio.charset.StandardCharsets;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 
 /**
  * Student Repository Implementation
@@ -26,7 +43,17 @@ public class StudentRepository implements CrudRepository<Student, Integer> {
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
-    private final RowMapper<Student> rowMapper = (rs, rowNum) -> new Student(
+    @Value("${app.jdbc.student-batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.jdbc.stream-fetch-size:500}")
+    private int fetchSize;
+
+    // Columns read back by UPDATE statements (PostgreSQL: RETURNING clause)
+    private static final String[] RETURNED_COLUMNS = {"id", "name", "student_id", "faculty", "year_of_study", "has_voted"};
+
+    // Package-private so RowMapperBenchmark can drive it directly
+    final RowMapper<Student> rowMapper = (rs, rowNum) -> new Student(
             rs.getInt("id"),
             rs.getString("name"),
             rs.getString("student_id"),
@@ -43,7 +70,7 @@ public class StudentRepository implements CrudRepository<Student, Integer> {
             KeyHolder keyHolder = new GeneratedKeyHolder();
 
             jdbcTemplate.update(connection -> {
-                PreparedStatement ps = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+                PreparedStatement ps = connection.prepareStatement(sql, new String[]{"id"});
                 ps.setString(1, student.getName());
                 ps.setString(2, student.getStudentId());
                 ps.setString(3, student.getFaculty());
@@ -82,6 +109,135 @@ public class StudentRepository implements CrudRepository<Student, Integer> {
         }
     }
 
+    /**
+     * Keyset page of students ordered by id: up to limit rows after afterId (null for the first page)
+     * Seeks through the primary key index, so every page costs the same regardless of depth
+     */
+    public List<Student> findPage(Integer afterId, int limit) {
+        String sql = "SELECT * FROM students WHERE id > ? ORDER BY id LIMIT ?";
+        try {
+            return jdbcTemplate.query(sql, rowMapper, afterId == null ? 0 : afterId, limit);
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Failed to fetch students: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Stream all students row by row through a forward-only cursor (fetch size app.jdbc.stream-fetch-size)
+     * Call inside a read-only transaction so PostgreSQL fetches in chunks instead of loading all rows
+     */
+    public void streamAll(Consumer<Student> action) {
+        String sql = "SELECT * FROM students ORDER BY id";
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement ps = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(fetchSize);
+                return ps;
+            }, (RowCallbackHandler) rs -> action.accept(rowMapper.mapRow(rs, rs.getRow())));
+        } catch (DataAccessException e) {
+            throw new DatabaseOperationException("Failed to stream students: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Stream the eligibility columns (id, student_id, year_of_study, has_voted) of every student
+     * Same cursor as streamAll, but no Student objects: each row goes straight to the handler
+     */
+    public void streamEligibility(EligibilityRowHandler handler) {
+        String sql = "SELECT id, student_id, year_of_study, has_voted FROM students";
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement ps = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(fetchSize);
+                return ps;
+            }, (RowCallbackHandler) rs -> handler.accept(rs.getInt(1), rs.getString(2), rs.getInt(3), rs.getBoolean(4)));
+        } catch (DataAccessException e) {
+            throw new DatabaseOperationException("Failed to stream students: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Stream every student id (same cursor as streamAll)
+     */
+    public void streamIds(IntConsumer action) {
+        String sql = "SELECT id FROM students";
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement ps = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(fetchSize);
+                return ps;
+            }, (RowCallbackHandler) rs -> action.accept(rs.getInt(1)));
+        } catch (DataAccessException e) {
+            throw new DatabaseOperationException("Failed to stream students: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Stream the turnout columns (id, faculty, year_of_study, has_voted) of every student
+     * Same cursor as streamAll, but no Student objects
+     */
+    public void streamTurnoutGroups(TurnoutGroupRowHandler handler) {
+        String sql = "SELECT id, faculty, year_of_study, has_voted FROM students";
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement ps = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(fetchSize);
+                return ps;
+            }, (RowCallbackHandler) rs -> handler.accept(rs.getInt(1), rs.getString(2), rs.getInt(3), rs.getBoolean(4)));
+        } catch (DataAccessException e) {
+            throw new DatabaseOperationException("Failed to stream students: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Students per faculty and year, and ballots per election, faculty and year, in one aggregate query
+     * Student rows come with electionId 0 (SERIAL ids are never 0)
+     * @return the highest ballot id the statement saw (0 when none): a ballot with a higher id is not in the counts
+     */
+    public long countTurnout(TurnoutCountHandler handler) {
+        // Every row carries the same MAX(id), read in the statement's own snapshot
+        String maxVoteId = "(SELECT COALESCE(MAX(id), 0) FROM votes)";
+        String sql = "SELECT faculty, year_of_study, CAST(NULL AS INTEGER) AS election_id, COUNT(*) AS total, " +
+                maxVoteId + " AS max_vote_id FROM students GROUP BY faculty, year_of_study " +
+                "UNION ALL " +
+                "SELECT s.faculty, s.year_of_study, v.election_id, COUNT(*), " + maxVoteId + " FROM votes v " +
+                "JOIN students s ON s.id = v.student_id GROUP BY s.faculty, s.year_of_study, v.election_id";
+        try {
+            long[] max = new long[1];
+            jdbcTemplate.query(sql, (RowCallbackHandler) rs -> {
+                handler.accept(rs.getString(1), rs.getInt(2), rs.getInt(3), rs.getLong(4));
+                max[0] = rs.getLong(5);
+            });
+            return max[0];
+        } catch (DataAccessException e) {
+            throw new DatabaseOperationException("Failed to count turnout: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Receives one row of streamTurnoutGroups as primitives
+     */
+    @FunctionalInterface
+    public interface TurnoutGroupRowHandler {
+        void accept(int id, String faculty, int yearOfStudy, boolean hasVoted);
+    }
+
+    /**
+     * Receives one row of countTurnout (electionId 0 = eligible students, otherwise ballots)
+     */
+    @FunctionalInterface
+    public interface TurnoutCountHandler {
+        void accept(String faculty, int yearOfStudy, int electionId, long count);
+    }
+
+    /**
+     * Receives one row of streamEligibility as primitives
+     */
+    @FunctionalInterface
+    public interface EligibilityRowHandler {
+        void accept(int id, String studentId, int yearOfStudy, boolean hasVoted);
+    }
+
     public Optional<Student> findByStudentId(String studentId) {
         String sql = "SELECT * FROM students WHERE student_id = ?";
         try {
@@ -101,26 +257,68 @@ public class StudentRepository implements CrudRepository<Student, Integer> {
         }
     }
 
+    /**
+     * Keyset page of students by voting status (uses idx_students_has_voted_id)
+     */
+    public List<Student> findByVotingStatusPage(Boolean hasVoted, Integer afterId, int limit) {
+        String sql = "SELECT * FROM students WHERE has_voted = ? AND id > ? ORDER BY id LIMIT ?";
+        try {
+            return jdbcTemplate.query(sql, rowMapper, hasVoted, afterId == null ? 0 : afterId, limit);
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Failed to fetch students: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Keyset page of students matching the given filters, ordered by id or by (name, id)
+     * Each filter combination is served by an index in scheme.sql (idx_students_*)
+     * @param afterName name of the last row of the previous page (NAME order only)
+     * @param afterId id of the last row of the previous page, or null for the first page
+     */
+    public List<Student> findFiltered(StudentFilter filter, SortField sort, String afterName, Integer afterId, int limit) {
+        FilteredQuery query = filteredQuery(filter, sort, afterName, afterId, limit);
+        try {
+            return jdbcTemplate.query(query.sql(), rowMapper, query.args());
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Failed to fetch students: " + e.getMessage(), e);
+        }
+    }
+
+    // Package-private so the index test can EXPLAIN the exact statement
+    FilteredQuery filteredQuery(StudentFilter filter, SortField sort, String afterName, Integer afterId, int limit) {
+        return new FilteredQuery("SELECT * FROM students")
+                .equal("faculty", filter.getFaculty())
+                .equal("year_of_study", filter.getYearOfStudy())
+                .predicate("has_voted", filter.getHasVoted())
+                .page("id", sort == SortField.NAME ? "name" : null, afterName, afterId, limit);
+    }
+
+    /**
+     * Update a student and read the stored row back from the same statement (UPDATE ... RETURNING)
+     */
     @Override
     public Student update(Integer id, Student student) {
         String sql = "UPDATE students SET name = ?, student_id = ?, faculty = ?, year_of_study = ?, has_voted = ? WHERE id = ?";
 
         try {
-            int rows = jdbcTemplate.update(sql,
-                    student.getName(),
-                    student.getStudentId(),
-                    student.getFaculty(),
-                    student.getYearOfStudy(),
-                    student.getHasVoted(),
-                    id
-            );
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+
+            int rows = jdbcTemplate.update(connection -> {
+                PreparedStatement ps = connection.prepareStatement(sql, RETURNED_COLUMNS);
+                ps.setString(1, student.getName());
+                ps.setString(2, student.getStudentId());
+                ps.setString(3, student.getFaculty());
+                ps.setInt(4, student.getYearOfStudy());
+                ps.setBoolean(5, student.getHasVoted());
+                ps.setInt(6, id);
+                return ps;
+            }, keyHolder);
 
             if (rows == 0) {
                 throw new ResourceNotFoundException("Student not found with id: " + id);
             }
 
-            student.setId(id);
-            return student;
+            return fromReturnedRow(keyHolder.getKeys());
         } catch (DuplicateKeyException e) {
             throw new DuplicateResourceException("Student ID already exists: " + student.getStudentId());
         } catch (ResourceNotFoundException e) {
@@ -130,6 +328,91 @@ public class StudentRepository implements CrudRepository<Student, Integer> {
         }
     }
 
+    /**
+     * Flip has_voted with one conditional UPDATE and read the row back from the same statement
+     * The row lock serializes concurrent calls, so exactly one of them sees the student as not yet voted
+     * @return the updated student, or empty if the student does not exist or has already voted
+     */
+    public Optional<Student> markAsVoted(Integer id) {
+        String sql = "UPDATE students SET has_voted = TRUE WHERE id = ? AND has_voted = FALSE";
+
+        try {
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+
+            int rows = jdbcTemplate.update(connection -> {
+                PreparedStatement ps = connection.prepareStatement(sql, RETURNED_COLUMNS);
+                ps.setInt(1, id);
+                return ps;
+            }, keyHolder);
+
+            if (rows == 0) {
+                return Optional.empty();
+            }
+
+            return Optional.of(fromReturnedRow(keyHolder.getKeys()));
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Failed to mark student as voted: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Record that a student has voted in at least one election (has_voted); whether they voted in a
+     * given election is decided by the votes ledger
+     * Unconditional, so it also locks the student row: concurrent ballots of one student are serialized
+     * @return false if the student does not exist
+     */
+    public boolean flagAsVoted(Integer id) {
+        String sql = "UPDATE students SET has_voted = TRUE WHERE id = ?";
+        try {
+            return jdbcTemplate.update(sql, id) > 0;
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Failed to mark student as voted: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Batched form of flagAsVoted: one UPDATE per id, sent in a single JDBC batch
+     * @return for each id, whether the student exists
+     */
+    public boolean[] flagAllAsVoted(List<Integer> ids) {
+        String sql = "UPDATE students SET has_voted = TRUE WHERE id = ?";
+
+        try {
+            int[] counts = jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    ps.setInt(1, ids.get(i));
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return ids.size();
+                }
+            });
+
+            boolean[] found = new boolean[ids.size()];
+            for (int i = 0; i < counts.length; i++) {
+                found[i] = counts[i] != 0;
+            }
+            return found;
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Failed to mark students as voted: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Lock the students' rows until the transaction ends (SELECT ... FOR UPDATE)
+     * A ballot locks its student first (flagAsVoted), so none can be cast for them meanwhile
+     */
+    public void lockAll(List<Integer> ids) {
+        String sql = "SELECT id FROM students WHERE id = ANY(?) FOR UPDATE";
+        try {
+            jdbcTemplate.query(sql, (RowCallbackHandler) rs -> { }, (Object) ids.toArray(new Integer[0]));
+        } catch (DataAccessException e) {
+            throw new DatabaseOperationException("Failed to lock students: " + e.getMessage(), e);
+        }
+    }
+
     @Override
     public void deleteById(Integer id) {
         String sql = "DELETE FROM students WHERE id = ?";
@@ -147,10 +430,9 @@ public class StudentRepository implements CrudRepository<Student, Integer> {
 
     @Override
     public boolean existsById(Integer id) {
-        String sql = "SELECT COUNT(*) FROM students WHERE id = ?";
+        String sql = "SELECT EXISTS (SELECT 1 FROM students WHERE id = ?)";
         try {
-            Integer count = jdbcTemplate.queryForObject(sql, Integer.class, id);
-            return count != null && count > 0;
+            return Boolean.TRUE.equals(jdbcTemplate.queryForObject(sql, Boolean.class, id));
         } catch (Exception e) {
             return false;
         }
@@ -166,4 +448,233 @@ public class StudentRepository implements CrudRepository<Student, Integer> {
             return 0;
         }
     }
+
+    @Override
+    public List<Student> saveAll(List<Student> students) {
+        String sql = "INSERT INTO students (name, student_id, faculty, year_of_study, has_voted) VALUES (?, ?, ?, ?, ?)";
+
+        try {
+            for (int from = 0; from < students.size(); from += batchSize) {
+                List<Student> chunk = students.subList(from, Math.min(from + batchSize, students.size()));
+                KeyHolder keyHolder = new GeneratedKeyHolder();
+
+                jdbcTemplate.batchUpdate(
+                        connection -> connection.prepareStatement(sql, new String[]{"id"}),
+                        new BatchPreparedStatementSetter() {
+                            @Override
+                            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                                Student student = chunk.get(i);
+                                ps.setString(1, student.getName());
+                                ps.setString(2, student.getStudentId());
+                                ps.setString(3, student.getFaculty());
+                                ps.setInt(4, student.getYearOfStudy());
+                                ps.setBoolean(5, student.getHasVoted());
+                            }
+
+                            @Override
+                            public int getBatchSize() {
+                                return chunk.size();
+                            }
+                        },
+                        keyHolder);
+
+                List<Map<String, Object>> keys = keyHolder.getKeyList();
+                for (int i = 0; i < chunk.size(); i++) {
+                    Number key = (Number) keys.get(i).values().iterator().next();
+                    chunk.get(i).setId(key.intValue());
+                }
+            }
+            return students;
+        } catch (DuplicateKeyException e) {
+            throw new DuplicateResourceException("Student ID already exists: " + e.getMostSpecificCause().getMessage());
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Failed to save students: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public List<Student> updateAll(List<Student> students) {
+        String sql = "UPDATE students SET name = ?, student_id = ?, faculty = ?, year_of_study = ?, has_voted = ? WHERE id = ?";
+
+        try {
+            int[][] counts = jdbcTemplate.batchUpdate(sql, students, batchSize, (ps, student) -> {
+                ps.setString(1, student.getName());
+                ps.setString(2, student.getStudentId());
+                ps.setString(3, student.getFaculty());
+                ps.setInt(4, student.getYearOfStudy());
+                ps.setBoolean(5, student.getHasVoted());
+                ps.setInt(6, student.getId());
+            });
+
+            List<Integer> missing = new ArrayList<>();
+            for (int batch = 0; batch < counts.length; batch++) {
+                for (int i = 0; i < counts[batch].length; i++) {
+                    if (counts[batch][i] == 0) {
+                        missing.add(students.get(batch * batchSize + i).getId());
+                    }
+                }
+            }
+            if (!missing.isEmpty()) {
+                throw new ResourceNotFoundException("Students not found with ids: " + missing);
+            }
+
+            return students;
+        } catch (DuplicateKeyException e) {
+            throw new DuplicateResourceException("Student ID already exists: " + e.getMostSpecificCause().getMessage());
+        } catch (ResourceNotFoundException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Failed to update students: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public int deleteAllById(List<Integer> ids) {
+        String sql = "DELETE FROM students WHERE id = ?";
+
+        try {
+            int[][] counts = jdbcTemplate.batchUpdate(sql, ids, batchSize, (ps, id) -> ps.setInt(1, id));
+
+            int deleted = 0;
+            List<Integer> missing = new ArrayList<>();
+            for (int batch = 0; batch < counts.length; batch++) {
+                for (int i = 0; i < counts[batch].length; i++) {
+                    if (counts[batch][i] == 0) {
+                        missing.add(ids.get(batch * batchSize + i));
+                    } else {
+                        deleted++;
+                    }
+                }
+            }
+            if (!missing.isEmpty()) {
+                throw new ResourceNotFoundException("Students not found with ids: " + missing);
+            }
+
+            return deleted;
+        } catch (ResourceNotFoundException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Failed to delete students: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Check whether the database connection supports PostgreSQL COPY
+     */
+    public boolean supportsCopy() {
+        try {
+            Boolean supported = jdbcTemplate.execute(
+                    (ConnectionCallback<Boolean>) connection -> connection.isWrapperFor(PGConnection.class));
+            return Boolean.TRUE.equals(supported);
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * Bulk load new students with PostgreSQL COPY into a session temp table,
+     * then move them into students skipping student IDs that already exist.
+     * Must run inside a transaction: the temp table is emptied on commit.
+     * @return inserted flag for every given student (false = duplicate student ID)
+     */
+    public boolean[] copyIgnoringDuplicates(List<Student> students) {
+        String createStaging = "CREATE TEMP TABLE IF NOT EXISTS students_import (name VARCHAR(255), student_id VARCHAR(50), " +
+                "faculty VARCHAR(255), year_of_study INTEGER) ON COMMIT DELETE ROWS";
+        String copySql = "COPY students_import (name, student_id, faculty, year_of_study) FROM STDIN WITH (FORMAT csv)";
+        String insertSql = "INSERT INTO students (name, student_id, faculty, year_of_study, has_voted) " +
+                "SELECT name, student_id, faculty, year_of_study, FALSE FROM students_import " +
+                "ON CONFLICT DO NOTHING RETURNING student_id";
+
+        try {
+            return jdbcTemplate.execute((ConnectionCallback<boolean[]>) connection -> {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute(createStaging);
+                }
+
+                CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(copySql);
+                try {
+                    StringBuilder buffer = new StringBuilder(64 * 1024);
+                    for (Student student : students) {
+                        CsvUtils.appendField(buffer, student.getName()).append(',');
+                        CsvUtils.appendField(buffer, student.getStudentId()).append(',');
+                        CsvUtils.appendField(buffer, student.getFaculty()).append(',');
+                        buffer.append(student.getYearOfStudy()).append('\n');
+                        if (buffer.length() >= 60 * 1024) {
+                            writeToCopy(copyIn, buffer);
+                        }
+                    }
+                    writeToCopy(copyIn, buffer);
+                    copyIn.endCopy();
+                } finally {
+                    if (copyIn.isActive()) {
+                        copyIn.cancelCopy();
+                    }
+                }
+
+                Set<String> inserted = new HashSet<>();
+                try (Statement statement = connection.createStatement();
+                     ResultSet rs = statement.executeQuery(insertSql)) {
+                    while (rs.next()) {
+                        inserted.add(rs.getString(1));
+                    }
+                }
+
+                // The first occurrence of an inserted student ID is the inserted row
+                boolean[] result = new boolean[students.size()];
+                for (int i = 0; i < result.length; i++) {
+                    result[i] = inserted.remove(students.get(i).getStudentId());
+                }
+                return result;
+            });
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Failed to copy students: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Bulk load new students with JDBC batch inserts, skipping student IDs that already exist
+     * Fallback for databases without COPY support
+     * @return inserted flag for every given student (false = duplicate student ID)
+     */
+    public boolean[] batchInsertIgnoringDuplicates(List<Student> students) {
+        String sql = "INSERT INTO students (name, student_id, faculty, year_of_study, has_voted) VALUES (?, ?, ?, ?, FALSE) " +
+                "ON CONFLICT DO NOTHING";
+
+        try {
+            int[][] counts = jdbcTemplate.batchUpdate(sql, students, batchSize, (ps, student) -> {
+                ps.setString(1, student.getName());
+                ps.setString(2, student.getStudentId());
+                ps.setString(3, student.getFaculty());
+                ps.setInt(4, student.getYearOfStudy());
+            });
+
+            boolean[] result = new boolean[students.size()];
+            int index = 0;
+            for (int[] batch : counts) {
+                for (int count : batch) {
+                    result[index++] = count != 0;
+                }
+            }
+            return result;
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Failed to insert students: " + e.getMessage(), e);
+        }
+    }
+
+    private static Student fromReturnedRow(Map<String, Object> row) {
+        return new Student(
+                ((Number) row.get("id")).intValue(),
+                (String) row.get("name"),
+                (String) row.get("student_id"),
+                (String) row.get("faculty"),
+                ((Number) row.get("year_of_study")).intValue(),
+                (Boolean) row.get("has_voted")
+        );
+    }
+
+    private static void writeToCopy(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,224 @@
+package com.university.election.repository;
+
+import com.university.election.exception.DatabaseOperationException;
+import com.university.election.exception.ResourceNotFoundException;
+import com.university.election.model.Vote;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.IntConsumer;
+
+/**
+ * Vote Repository Implementation
+ * The votes table is an append-only ballot ledger
+ */
+@Repository
+public class VoteRepository {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${app.jdbc.stream-fetch-size:500}")
+    private int fetchSize;
+
+    /**
+     * Record a ballot in one statement
+     * @return the stored vote, or empty if the student already has a ballot in this election
+     * @throws ResourceNotFoundException if the candidate is not standing in the election
+     */
+    public Optional<Vote> insertIfAbsent(Vote vote) {
+        String sql = "INSERT INTO votes (election_id, candidate_id, student_id) VALUES (?, ?, ?) ON CONFLICT DO NOTHING";
+
+        try {
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+
+            int rows = jdbcTemplate.update(connection -> {
+                PreparedStatement ps = connection.prepareStatement(sql, new String[]{"id", "cast_at"});
+                ps.setInt(1, vote.getElectionId());
+                ps.setInt(2, vote.getCandidateId());
+                ps.setInt(3, vote.getStudentId());
+                return ps;
+            }, keyHolder);
+
+            if (rows == 0) {
+                return Optional.empty();
+            }
+
+            Map<String, Object> keys = keyHolder.getKeys();
+            vote.setId(((Number) keys.get("id")).intValue());
+            vote.setCastAt(((Timestamp) keys.get("cast_at")).toLocalDateTime());
+            return Optional.of(vote);
+        } catch (DataIntegrityViolationException e) {
+            throw new ResourceNotFoundException("Candidate not found with id: " + vote.getCandidateId()
+                    + " in election: " + vote.getElectionId());
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Failed to record vote: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Batched form of insertIfAbsent: all ballots in one JDBC batch
+     * Stored votes get their id and castAt; a ballot naming a candidate outside its election fails the whole batch
+     * @return for each vote, whether it was stored (false if the student already has a ballot in that election)
+     */
+    public boolean[] insertAllIfAbsent(List<Vote> votes) {
+        String sql = "INSERT INTO votes (election_id, candidate_id, student_id) VALUES (?, ?, ?) ON CONFLICT DO NOTHING";
+
+        try {
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+
+            int[] counts = jdbcTemplate.batchUpdate(
+                    connection -> connection.prepareStatement(sql, new String[]{"id", "cast_at"}),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            Vote vote = votes.get(i);
+                            ps.setInt(1, vote.getElectionId());
+                            ps.setInt(2, vote.getCandidateId());
+                            ps.setInt(3, vote.getStudentId());
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return votes.size();
+                        }
+                    },
+                    keyHolder);
+
+            // Keys come back only for stored rows, in batch order
+            Iterator<Map<String, Object>> keys = keyHolder.getKeyList().iterator();
+            boolean[] inserted = new boolean[votes.size()];
+            for (int i = 0; i < counts.length; i++) {
+                inserted[i] = counts[i] != 0;
+                if (inserted[i]) {
+                    Map<String, Object> row = keys.next();
+                    votes.get(i).setId(((Number) row.get("id")).intValue());
+                    votes.get(i).setCastAt(((Timestamp) row.get("cast_at")).toLocalDateTime());
+                }
+            }
+            return inserted;
+        } catch (DataIntegrityViolationException e) {
+            throw new ResourceNotFoundException("Ballot batch names a candidate outside its election: "
+                    + e.getMostSpecificCause().getMessage());
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Failed to record votes: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Ballot counts of every candidate with at least one vote, grouped by election
+     */
+    public Map<Integer, Map<Integer, Long>> countAllByCandidate() {
+        String sql = "SELECT election_id, candidate_id, COUNT(*) AS votes FROM votes GROUP BY election_id, candidate_id";
+        try {
+            Map<Integer, Map<Integer, Long>> counts = new HashMap<>();
+            jdbcTemplate.query(sql, (RowCallbackHandler) rs ->
+                    counts.computeIfAbsent(rs.getInt("election_id"), id -> new TreeMap<>())
+                            .put(rs.getInt("candidate_id"), rs.getLong("votes")));
+            return counts;
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Failed to count votes: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Ballot counts of an election's candidates that have at least one vote
+     */
+    public Map<Integer, Long> countByCandidate(Integer electionId) {
+        String sql = "SELECT candidate_id, COUNT(*) AS votes FROM votes WHERE election_id = ? GROUP BY candidate_id";
+        try {
+            Map<Integer, Long> counts = new TreeMap<>();
+            jdbcTemplate.query(sql, (RowCallbackHandler) rs -> counts.put(rs.getInt("candidate_id"), rs.getLong("votes")), electionId);
+            return counts;
+        } catch (Exception e) {
+            throw new DatabaseOperationException("Failed to count votes: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Stream (election_id, student_id) of every ballot through a forward-only cursor
+     * Call inside a read-only transaction so PostgreSQL fetches in chunks
+     */
+    public void streamBallots(BallotHandler handler) {
+        String sql = "SELECT election_id, student_id FROM votes";
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement ps = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(fetchSize);
+                return ps;
+            }, (RowCallbackHandler) rs -> handler.accept(rs.getInt(1), rs.getInt(2)));
+        } catch (DataAccessException e) {
+            throw new DatabaseOperationException("Failed to stream votes: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Ids of the students with a ballot in an election (read from the (election_id, student_id) unique index)
+     */
+    public void findStudentIds(Integer electionId, IntConsumer action) {
+        String sql = "SELECT student_id FROM votes WHERE election_id = ?";
+        try {
+            jdbcTemplate.query(sql, (RowCallbackHandler) rs -> action.accept(rs.getInt(1)), electionId);
+        } catch (DataAccessException e) {
+            throw new DatabaseOperationException("Failed to read votes: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Ballots of the given students (uses idx_votes_student_id)
+     */
+    public List<Vote> findByStudentIds(List<Integer> studentIds) {
+        String sql = "SELECT id, election_id, candidate_id, student_id, cast_at FROM votes WHERE student_id = ANY(?)";
+        try {
+            return jdbcTemplate.query(sql, (rs, rowNum) -> {
+                Timestamp castAt = rs.getTimestamp("cast_at");
+                return new Vote(rs.getInt("id"), rs.getInt("election_id"), rs.getInt("candidate_id"),
+                        rs.getInt("student_id"), castAt == null ? null : castAt.toLocalDateTime());
+            }, (Object) studentIds.toArray(new Integer[0]));
+        } catch (DataAccessException e) {
+            throw new DatabaseOperationException("Failed to read votes: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Which of the given ballot ids exist (primary key lookups)
+     */
+    public Set<Integer> findExistingIds(List<Integer> ids) {
+        String sql = "SELECT id FROM votes WHERE id = ANY(?)";
+        try {
+            Set<Integer> existing = new HashSet<>();
+            jdbcTemplate.query(sql, (RowCallbackHandler) rs -> existing.add(rs.getInt(1)), (Object) ids.toArray(new Integer[0]));
+            return existing;
+        } catch (DataAccessException e) {
+            throw new DatabaseOperationException("Failed to read votes: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Receives one row of streamBallots as primitives
+     */
+    @FunctionalInterface
+    public interface BallotHandler {
+        void accept(int electionId, int studentId);
+    }
+}
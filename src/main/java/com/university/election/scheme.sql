@@ -1,4 +1,5 @@
 -- Drop tables if they exist
+DROP TABLE IF EXISTS votes CASCADE;
 DROP TABLE IF EXISTS candidates CASCADE;
 DROP TABLE IF EXISTS students CASCADE;
 DROP TABLE IF EXISTS elections CASCADE;
@@ -22,7 +23,8 @@ CREATE TABLE candidates (
     campaign TEXT,
     election_id INTEGER NOT NULL,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-    FOREIGN KEY (election_id) REFERENCES elections(id) ON DELETE CASCADE
+    CONSTRAINT candidates_election_id_fkey FOREIGN KEY (election_id) REFERENCES elections(id) ON DELETE CASCADE,
+    UNIQUE (id, election_id)
 );
 
 -- Create students table
@@ -36,6 +38,45 @@ CREATE TABLE students (
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
 
+-- Create votes table (ballot ledger: one ballot per student per election,
+-- and the candidate must be standing in that election)
+CREATE TABLE votes (
+    id SERIAL PRIMARY KEY,
+    election_id INTEGER NOT NULL,
+    candidate_id INTEGER NOT NULL,
+    student_id INTEGER NOT NULL,
+    cast_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    UNIQUE (election_id, student_id),
+    FOREIGN KEY (election_id) REFERENCES elections(id) ON DELETE CASCADE,
+    CONSTRAINT votes_candidate_id_election_id_fkey
+        FOREIGN KEY (candidate_id, election_id) REFERENCES candidates(id, election_id) ON DELETE CASCADE,
+    FOREIGN KEY (student_id) REFERENCES students(id) ON DELETE CASCADE
+);
+
+-- Per-candidate vote counts and cascade deletes look votes up by candidate
+CREATE INDEX idx_votes_candidate_id ON votes (candidate_id);
+-- Student deletes read the ballots they remove (for the tally), then cascade through the same index
+CREATE INDEX idx_votes_student_id ON votes (student_id);
+
+-- Keyset pagination indexes (seek to the cursor instead of scanning skipped rows)
+CREATE INDEX idx_elections_start_date_id ON elections (start_date, id);
+CREATE INDEX idx_candidates_election_id_id ON candidates (election_id, id);
+CREATE INDEX idx_students_has_voted_id ON students (has_voted, id);
+
+-- Filter/sort indexes for GET /api/students and /api/candidates (faculty, year, voted, sort=name)
+-- Each ends in id: when every column before id is filtered (faculty and year), the keyset seek and
+-- ORDER BY id come from the index; with only faculty filtered it narrows the rows, which are then sorted
+CREATE INDEX idx_students_faculty_year_id ON students (faculty, year_of_study, id);
+CREATE INDEX idx_students_year_id ON students (year_of_study, id);
+CREATE INDEX idx_students_name_id ON students (name, id);
+-- Partial index for the "who has not voted yet" lists: holds only the shrinking set of non-voters, so
+-- no index row is read and then dropped on has_voted. PostgreSQL matches it only when the query says
+-- has_voted = FALSE literally (FilteredQuery.predicate)
+CREATE INDEX idx_students_not_voted_faculty_year_id ON students (faculty, year_of_study, id) WHERE has_voted = FALSE;
+CREATE INDEX idx_candidates_faculty_year_id ON candidates (faculty, year_of_study, id);
+CREATE INDEX idx_candidates_year_id ON candidates (year_of_study, id);
+CREATE INDEX idx_candidates_name_id ON candidates (name, id);
+
 -- Insert sample data
 INSERT INTO elections (name, start_date, end_date, academic_year) VALUES
     ('University President Election 2026', '2026-01-10', '2026-01-19', '2025-2026'),
@@ -1,8 +1,11 @@
 package com.university.election.service;
 
+import com.university.election.dto.PageResponse;
 import com.university.election.model.Candidate;
+import com.university.election.repository.CandidateFilter;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Candidate Service Interface
@@ -11,8 +14,15 @@ public interface CandidateService {
     Candidate createCandidate(Candidate candidate);
     Candidate getCandidateById(Integer id);
     List<Candidate> getAllCandidates();
+    void streamAllCandidates(Consumer<Candidate> action);
     List<Candidate> getCandidatesByElectionId(Integer electionId);
+    PageResponse<Candidate> getCandidatesPage(String after, int limit);
+    PageResponse<Candidate> getCandidatesByElectionIdPage(Integer electionId, String after, int limit);
+    PageResponse<Candidate> queryCandidates(CandidateFilter filter, String sort, String after, int limit);
     Candidate updateCandidate(Integer id, Candidate candidate);
     void deleteCandidate(Integer id);
     long countCandidates();
+    List<Candidate> createCandidates(List<Candidate> candidates);
+    List<Candidate> updateCandidates(List<Candidate> candidates);
+    int deleteCandidates(List<Integer> ids);
 }
\ No newline at end of file
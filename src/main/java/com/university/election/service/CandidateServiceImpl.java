@@ -1,35 +1,69 @@
 package com.university.election.service;
 
+import com.university.election.dto.PageResponse;
 import com.university.election.exception.InvalidInputException;
 import com.university.election.exception.ResourceNotFoundException;
 import com.university.election.model.Candidate;
+import com.university.election.patterns.singleton.CacheManager;
+import com.university.election.repository.CandidateFilter;
 import com.university.election.repository.CandidateRepository;
 import com.university.election.repository.ElectionRepository;
+import com.university.election.repository.SortField;
+import com.university.election.utils.BatchUtils;
+import com.university.election.utils.CursorUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static com.university.election.utils.TransactionUtils.afterCommit;
 
 /**
  * Candidate Service Implementation
  * Implements business logic and validation
+ * - Caches the candidate list of each election (read-through, concurrent misses share one query)
+ * - Invalidates it on candidate create/update/delete; ElectionServiceImpl does on election update/delete
  */
 @Service
 public class CandidateServiceImpl implements CandidateService {
 
     private final CandidateRepository repository;
     private final ElectionRepository electionRepository;
+    private final TallyEngine tallyEngine;
+    private final VoterBitmapIndex voterIndex;
+    private final TurnoutAnalytics turnout;
+    private final CacheManager cacheManager;
+
+    // Cache keys: "candidates:election:<electionId>"
+    static final String CACHE_NAMESPACE = "candidates";
+    private static final String CACHE_KEY_ELECTION_PREFIX = CACHE_NAMESPACE + ":election:";
 
     @Autowired
-    public CandidateServiceImpl(CandidateRepository repository, ElectionRepository electionRepository) {
+    public CandidateServiceImpl(CandidateRepository repository, ElectionRepository electionRepository,
+                                TallyEngine tallyEngine, VoterBitmapIndex voterIndex, TurnoutAnalytics turnout,
+                                CacheManager cacheManager) {
         this.repository = repository;
         this.electionRepository = electionRepository;
+        this.tallyEngine = tallyEngine;
+        this.voterIndex = voterIndex;
+        this.turnout = turnout;
+        this.cacheManager = cacheManager;
     }
 
     @Override
     public Candidate createCandidate(Candidate candidate) {
         validateCandidate(candidate);
-        return repository.save(candidate);
+        // A missing election is reported by the foreign key on the INSERT
+        Candidate created = repository.save(candidate);
+
+        // Invalidate cache after create (only the list of the candidate's election)
+        cacheManager.invalidate(CACHE_KEY_ELECTION_PREFIX + created.getElection().getId());
+        cacheManager.invalidate(ElectionServiceImpl.CACHE_KEY_SUMMARIES);
+
+        return created;
     }
 
     @Override
@@ -43,29 +77,98 @@ public class CandidateServiceImpl implements CandidateService {
         return repository.findAll();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllCandidates(Consumer<Candidate> action) {
+        repository.streamAll(action);
+    }
+
     @Override
     public List<Candidate> getCandidatesByElectionId(Integer electionId) {
-        if (!electionRepository.existsById(electionId)) {
-            throw new ResourceNotFoundException("Election not found with id: " + electionId);
+        // Served from cache; on a miss loaded from the database and cached
+        return cacheManager.get(CACHE_KEY_ELECTION_PREFIX + electionId, () -> {
+            List<Candidate> candidates = repository.findByElectionId(electionId);
+            // Only an empty result needs the second query: no candidates yet, or no such election
+            if (candidates.isEmpty()) {
+                requireElection(electionId);
+            }
+            return List.copyOf(candidates);
+        });
+    }
+
+    @Override
+    public PageResponse<Candidate> getCandidatesPage(String after, int limit) {
+        CursorUtils.checkLimit(limit);
+        List<Candidate> rows = repository.findPage(CursorUtils.decodeId(after), limit + 1);
+        return PageResponse.fromRows(rows, limit, candidate -> String.valueOf(candidate.getId()));
+    }
+
+    @Override
+    public PageResponse<Candidate> getCandidatesByElectionIdPage(Integer electionId, String after, int limit) {
+        CursorUtils.checkLimit(limit);
+        List<Candidate> rows = repository.findByElectionIdPage(electionId, CursorUtils.decodeId(after), limit + 1);
+        if (rows.isEmpty()) {
+            requireElection(electionId);
         }
-        return repository.findByElectionId(electionId);
+        return PageResponse.fromRows(rows, limit, candidate -> String.valueOf(candidate.getId()));
+    }
+
+    /**
+     * Filtered pages are read straight from the database; with sort=name the cursor encodes "name|id"
+     */
+    @Override
+    public PageResponse<Candidate> queryCandidates(CandidateFilter filter, String sort, String after, int limit) {
+        CursorUtils.checkLimit(limit);
+        SortField order = SortField.parse(sort);
+        List<Candidate> rows;
+        PageResponse<Candidate> page;
+        if (order == SortField.NAME) {
+            Map.Entry<String, Integer> cursor = CursorUtils.decodeTextAndId(after);
+            rows = repository.findFiltered(filter, order, cursor == null ? null : cursor.getKey(),
+                    cursor == null ? null : cursor.getValue(), limit + 1);
+            page = PageResponse.fromRows(rows, limit, candidate -> candidate.getName() + "|" + candidate.getId());
+        } else {
+            rows = repository.findFiltered(filter, order, null, CursorUtils.decodeId(after), limit + 1);
+            page = PageResponse.fromRows(rows, limit, candidate -> String.valueOf(candidate.getId()));
+        }
+        if (rows.isEmpty() && filter.getElectionId() != null) {
+            requireElection(filter.getElectionId());
+        }
+        return page;
     }
 
     @Override
     public Candidate updateCandidate(Integer id, Candidate candidate) {
-        if (!repository.existsById(id)) {
-            throw new ResourceNotFoundException("Candidate not found with id: " + id);
+        try {
+            validateCandidate(candidate);
+        } catch (InvalidInputException e) {
+            // A missing candidate is still reported before an invalid body; only this path pays the lookup
+            if (!repository.existsById(id)) {
+                throw new ResourceNotFoundException("Candidate not found with id: " + id);
+            }
+            throw e;
         }
-        validateCandidate(candidate);
-        return repository.update(id, candidate);
+        // One statement: no row means no such candidate, a foreign key violation no such election
+        Candidate updated = repository.update(id, candidate);
+
+        // The candidate may have moved between elections, whose lists are unknown here
+        cacheManager.invalidateNamespace(CACHE_NAMESPACE);
+        cacheManager.invalidate(ElectionServiceImpl.CACHE_KEY_SUMMARIES);
+
+        return updated;
     }
 
     @Override
     public void deleteCandidate(Integer id) {
-        if (!repository.existsById(id)) {
-            throw new ResourceNotFoundException("Candidate not found with id: " + id);
-        }
+        // Throws ResourceNotFoundException when no row was deleted
         repository.deleteById(id);
+        tallyEngine.forgetCandidate(id);
+        voterIndex.invalidateVotes();
+        turnout.invalidateVotes();
+
+        // Invalidate cache after delete (the candidate's election is not known without another query)
+        cacheManager.invalidateNamespace(CACHE_NAMESPACE);
+        cacheManager.invalidate(ElectionServiceImpl.CACHE_KEY_SUMMARIES);
     }
 
     @Override
@@ -73,8 +176,81 @@ public class CandidateServiceImpl implements CandidateService {
         return repository.count();
     }
 
+    @Override
+    @Transactional
+    public List<Candidate> createCandidates(List<Candidate> candidates) {
+        BatchUtils.requireNotEmpty(candidates);
+        validateCandidates(candidates);
+        List<Candidate> created = repository.saveAll(candidates);
+
+        // Invalidate the whole namespace in O(1) instead of key by key, once the batch commits
+        afterCommit(this::invalidateLists);
+
+        return created;
+    }
+
+    @Override
+    @Transactional
+    public List<Candidate> updateCandidates(List<Candidate> candidates) {
+        BatchUtils.requireNotEmpty(candidates);
+        for (Candidate candidate : candidates) {
+            if (candidate.getId() == null) {
+                throw new InvalidInputException("Candidate id is required for batch update");
+            }
+        }
+        validateCandidates(candidates);
+        List<Candidate> updated = repository.updateAll(candidates);
+
+        // Invalidate the whole namespace in O(1) instead of key by key, once the batch commits
+        afterCommit(this::invalidateLists);
+
+        return updated;
+    }
+
+    @Override
+    @Transactional
+    public int deleteCandidates(List<Integer> ids) {
+        BatchUtils.requireNotEmpty(ids);
+        int deleted = repository.deleteAllById(ids);
+        // A rolled-back batch keeps its candidates: drop their counts only once it commits
+        afterCommit(() -> ids.forEach(tallyEngine::forgetCandidate));
+        // These two register their own after-commit changes (nesting them here would lose them)
+        voterIndex.invalidateVotes();
+        turnout.invalidateVotes();
+
+        // Invalidate the whole namespace in O(1) instead of key by key, once the batch commits
+        afterCommit(this::invalidateLists);
+
+        return deleted;
+    }
+
+    /**
+     * Drop every cached candidate list and the election summaries
+     * Batches call it after commit: a miss before that would cache the pre-commit rows for the whole TTL
+     */
+    private void invalidateLists() {
+        cacheManager.invalidateNamespace(CACHE_NAMESPACE);
+        cacheManager.invalidate(ElectionServiceImpl.CACHE_KEY_SUMMARIES);
+    }
+
+    /**
+     * Validate a batch of candidates; elections are checked by the foreign key when the batch is written
+     */
+    private void validateCandidates(List<Candidate> candidates) {
+        candidates.forEach(this::validateCandidate);
+    }
+
     /**
-     * Validate candidate data
+     * Throw if the election does not exist (SELECT EXISTS)
+     */
+    private void requireElection(Integer electionId) {
+        if (!electionRepository.existsById(electionId)) {
+            throw new ResourceNotFoundException("Election not found with id: " + electionId);
+        }
+    }
+
+    /**
+     * Validate candidate fields without touching the database
      */
     private void validateCandidate(Candidate candidate) {
         if (!candidate.validate()) {
@@ -89,9 +265,5 @@ public class CandidateServiceImpl implements CandidateService {
         if (candidate.getElection() == null || candidate.getElection().getId() == null) {
             throw new InvalidInputException("Candidate must be associated with an election");
         }
-
-        if (!electionRepository.existsById(candidate.getElection().getId())) {
-            throw new ResourceNotFoundException("Election not found with id: " + candidate.getElection().getId());
-        }
     }
 }
\ No newline at end of file
@@ -1,8 +1,11 @@
 package com.university.election.service;
 
+import com.university.election.dto.ElectionDTO;
+import com.university.election.dto.PageResponse;
 import com.university.election.model.Election;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Election Service Interface
@@ -12,7 +15,13 @@ public interface ElectionService {
     Election createElection(Election election);
     Election getElectionById(Integer id);
     List<Election> getAllElections();
+    PageResponse<Election> getElectionsPage(String after, int limit);
+    List<ElectionDTO> getElectionSummaries();
+    void streamAllElections(Consumer<Election> action);
     Election updateElection(Integer id, Election election);
     void deleteElection(Integer id);
     long countElections();
+    List<Election> createElections(List<Election> elections);
+    List<Election> updateElections(List<Election> elections);
+    int deleteElections(List<Integer> ids);
 }
\ No newline at end of file
@@ -1,20 +1,32 @@
 package com.university.election.service;
 
+import com.university.election.dto.ElectionDTO;
+import com.university.election.dto.PageResponse;
 import com.university.election.exception.InvalidInputException;
 import com.university.election.exception.ResourceNotFoundException;
 import com.university.election.model.Election;
 import com.university.election.patterns.singleton.CacheManager;
 import com.university.election.repository.ElectionRepository;
+import com.university.election.utils.BatchUtils;
+import com.university.election.utils.CursorUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
+import java.util.function.Consumer;
+
+import static com.university.election.utils.TransactionUtils.afterCommit;
 
 /**
  * Election Service Implementation with Caching
  * - Caches getAllElections() results
  * - Caches getElectionById() results
+ * - Caches the rows behind getElectionSummaries() (one aggregate query), also invalidated by candidate
+ *   changes; ballot counts are read from TallyEngine on every call
  * - Invalidates cache on create/update/delete
  * - Follows SOLID principles
  * - Maintains layered architecture
@@ -24,15 +36,29 @@ public class ElectionServiceImpl implements ElectionService {
 
     private final ElectionRepository repository;
     private final CacheManager cacheManager;
+    private final TallyEngine tallyEngine;
+    private final VoterBitmapIndex voterIndex;
+    private final TurnoutAnalytics turnout;
+
+    // Cache keys (all in the "elections" namespace)
+    private static final String CACHE_NAMESPACE = "elections";
+    private static final String CACHE_KEY_ALL_ELECTIONS = CACHE_NAMESPACE + ":all";
+    private static final String CACHE_KEY_ELECTION_PREFIX = CACHE_NAMESPACE + ":";
+    // Summary rows embed candidate counts: candidate writers invalidate this key too
+    static final String CACHE_KEY_SUMMARIES = CACHE_NAMESPACE + ":summaries";
 
-    // Cache keys
-    private static final String CACHE_KEY_ALL_ELECTIONS = "elections:all";
-    private static final String CACHE_KEY_ELECTION_PREFIX = "election:";
+    static final String STATUS_UPCOMING = "UPCOMING";
+    static final String STATUS_ACTIVE = "ACTIVE";
+    static final String STATUS_COMPLETED = "COMPLETED";
 
     @Autowired
-    public ElectionServiceImpl(ElectionRepository repository, CacheManager cacheManager) {
+    public ElectionServiceImpl(ElectionRepository repository, CacheManager cacheManager, TallyEngine tallyEngine,
+                               VoterBitmapIndex voterIndex, TurnoutAnalytics turnout) {
         this.repository = repository;
         this.cacheManager = cacheManager;
+        this.tallyEngine = tallyEngine;
+        this.voterIndex = voterIndex;
+        this.turnout = turnout;
     }
 
     @Override
@@ -41,76 +67,143 @@ public class ElectionServiceImpl implements ElectionService {
         Election created = repository.save(election);
 
         // Invalidate cache after create
-        cacheManager.invalidatePattern("elections");
+        cacheManager.invalidate(CACHE_KEY_ALL_ELECTIONS);
+        cacheManager.invalidate(CACHE_KEY_SUMMARIES);
 
         return created;
     }
 
     @Override
     public Election getElectionById(Integer id) {
-        String cacheKey = CACHE_KEY_ELECTION_PREFIX + id;
-
-        // Try to get from cache first
-        Optional<Object> cached = cacheManager.get(cacheKey);
-        if (cached.isPresent()) {
-            return (Election) cached.get();
+        // Served from cache; on a miss loaded from the database and cached
+        Election election = cacheManager.get(CACHE_KEY_ELECTION_PREFIX + id, () -> repository.findById(id).orElse(null));
+        if (election == null) {
+            throw new ResourceNotFoundException("Election not found with id: " + id);
         }
+        return election;
+    }
 
-        // Cache miss - get from database
-        Election election = repository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Election not found with id: " + id));
+    @Override
+    public List<Election> getAllElections() {
+        // Served from cache; on a miss loaded from the database and cached
+        return cacheManager.get(CACHE_KEY_ALL_ELECTIONS, repository::findAll);
+    }
 
-        // Put in cache for next time
-        cacheManager.put(cacheKey, election);
+    /**
+     * Pages are read straight from the database; the cursor encodes "startDate|id" of the last row
+     */
+    @Override
+    public PageResponse<Election> getElectionsPage(String after, int limit) {
+        CursorUtils.checkLimit(limit);
+        String key = CursorUtils.decode(after);
+        LocalDate afterStartDate = null;
+        Integer afterId = null;
+        if (key != null) {
+            int separator = key.indexOf('|');
+            try {
+                afterStartDate = LocalDate.parse(key.substring(0, separator));
+                afterId = Integer.valueOf(key.substring(separator + 1));
+            } catch (RuntimeException e) {
+                throw new InvalidInputException("Invalid page cursor: " + after);
+            }
+        }
+        List<Election> rows = repository.findPage(afterStartDate, afterId, limit + 1);
+        return PageResponse.fromRows(rows, limit, election -> election.getStartDate() + "|" + election.getId());
+    }
 
-        return election;
+    /**
+     * An election with its candidate count, as cached for the summaries
+     */
+    private record SummaryRow(Election election, long candidates) {
     }
 
+    /**
+     * Every election with its candidate and ballot counts and its status for today
+     * One aggregate query on a miss, cached until an election or candidate changes; ballot counts and
+     * status are filled in on every call, so ballots never drop the cached rows
+     */
     @Override
-    @SuppressWarnings("unchecked")
-    public List<Election> getAllElections() {
-        // Try to get from cache first
-        Optional<Object> cached = cacheManager.get(CACHE_KEY_ALL_ELECTIONS);
-        if (cached.isPresent()) {
-            return (List<Election>) cached.get();
+    public List<ElectionDTO> getElectionSummaries() {
+        List<SummaryRow> rows = cacheManager.get(CACHE_KEY_SUMMARIES, () -> {
+            List<SummaryRow> loaded = new ArrayList<>();
+            repository.findSummaries((election, candidates) -> loaded.add(new SummaryRow(election, candidates)));
+            return Collections.unmodifiableList(loaded);
+        });
+        LocalDate today = LocalDate.now();
+        List<ElectionDTO> summaries = new ArrayList<>(rows.size());
+        for (SummaryRow row : rows) {
+            summaries.add(toSummary(row.election(), row.candidates(), tallyEngine.total(row.election().getId()), today));
         }
+        return summaries;
+    }
 
-        // Cache miss - query database
-        List<Election> elections = repository.findAll();
+    /**
+     * Status from the date window: voting is open from the start date through the end date
+     */
+    static ElectionDTO toSummary(Election election, long candidates, long votes, LocalDate today) {
+        ElectionDTO summary = new ElectionDTO();
+        summary.setId(election.getId());
+        summary.setName(election.getName());
+        summary.setStartDate(election.getStartDate());
+        summary.setEndDate(election.getEndDate());
+        summary.setTotalCandidates(Math.toIntExact(candidates));
+        summary.setTotalVotes(Math.toIntExact(votes));
 
-        // Put in cache for next time
-        cacheManager.put(CACHE_KEY_ALL_ELECTIONS, elections);
+        boolean open = !today.isBefore(election.getStartDate()) && !today.isAfter(election.getEndDate());
+        if (open) {
+            summary.setStatus(STATUS_ACTIVE);
+        } else {
+            summary.setStatus(today.isBefore(election.getStartDate()) ? STATUS_UPCOMING : STATUS_COMPLETED);
+        }
+        summary.setVotingOpen(open);
+        summary.setActive(open);
+        return summary;
+    }
 
-        return elections;
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllElections(Consumer<Election> action) {
+        // Streams straight from the database; the cached list is only used by getAllElections()
+        repository.streamAll(action);
     }
 
     @Override
     public Election updateElection(Integer id, Election election) {
-        if (!repository.existsById(id)) {
-            throw new ResourceNotFoundException("Election not found with id: " + id);
+        try {
+            validateElection(election);
+        } catch (InvalidInputException e) {
+            // A missing election is still reported before an invalid body; only this path pays the lookup
+            if (!repository.existsById(id)) {
+                throw new ResourceNotFoundException("Election not found with id: " + id);
+            }
+            throw e;
         }
-        validateElection(election);
 
+        // One statement: the UPDATE reports a missing election (no row) and returns the stored row
         Election updated = repository.update(id, election);
 
-        // Invalidate cache after update
+        // Invalidate cache after update (candidate lists embed the election)
         cacheManager.invalidate(CACHE_KEY_ELECTION_PREFIX + id);
         cacheManager.invalidate(CACHE_KEY_ALL_ELECTIONS);
+        cacheManager.invalidate(CACHE_KEY_SUMMARIES);
+        cacheManager.invalidateNamespace(CandidateServiceImpl.CACHE_NAMESPACE);
 
         return updated;
     }
 
     @Override
     public void deleteElection(Integer id) {
-        if (!repository.existsById(id)) {
-            throw new ResourceNotFoundException("Election not found with id: " + id);
-        }
-
+        // Throws ResourceNotFoundException when no row was deleted
         repository.deleteById(id);
+        tallyEngine.forgetElection(id);
+        voterIndex.forgetElection(id);
+        turnout.forgetElection(id);
 
-        // Invalidate cache after delete
+        // Invalidate cache after delete (its candidates are deleted by ON DELETE CASCADE)
         cacheManager.invalidate(CACHE_KEY_ELECTION_PREFIX + id);
         cacheManager.invalidate(CACHE_KEY_ALL_ELECTIONS);
+        cacheManager.invalidate(CACHE_KEY_SUMMARIES);
+        cacheManager.invalidateNamespace(CandidateServiceImpl.CACHE_NAMESPACE);
     }
 
     @Override
@@ -118,6 +211,65 @@ public class ElectionServiceImpl implements ElectionService {
         return repository.count();
     }
 
+    @Override
+    @Transactional
+    public List<Election> createElections(List<Election> elections) {
+        BatchUtils.requireNotEmpty(elections);
+        elections.forEach(this::validateElection);
+        List<Election> created = repository.saveAll(elections);
+
+        // Invalidate cache once the batch commits: a miss before that would cache the old list again
+        afterCommit(() -> {
+            cacheManager.invalidate(CACHE_KEY_ALL_ELECTIONS);
+            cacheManager.invalidate(CACHE_KEY_SUMMARIES);
+        });
+
+        return created;
+    }
+
+    @Override
+    @Transactional
+    public List<Election> updateElections(List<Election> elections) {
+        BatchUtils.requireNotEmpty(elections);
+        for (Election election : elections) {
+            if (election.getId() == null) {
+                throw new InvalidInputException("Election id is required for batch update");
+            }
+            validateElection(election);
+        }
+
+        List<Election> updated = repository.updateAll(elections);
+
+        // Invalidate the whole namespace in O(1) instead of key by key, once the batch commits
+        afterCommit(() -> {
+            cacheManager.invalidateNamespace(CACHE_NAMESPACE);
+            cacheManager.invalidateNamespace(CandidateServiceImpl.CACHE_NAMESPACE);
+        });
+
+        return updated;
+    }
+
+    @Override
+    @Transactional
+    public int deleteElections(List<Integer> ids) {
+        BatchUtils.requireNotEmpty(ids);
+
+        int deleted = repository.deleteAllById(ids);
+        // A rolled-back batch keeps its elections: drop their counts only once it commits
+        afterCommit(() -> ids.forEach(tallyEngine::forgetElection));
+        // These two register their own after-commit changes (nesting them here would lose them)
+        ids.forEach(voterIndex::forgetElection);
+        ids.forEach(turnout::forgetElection);
+
+        // Invalidate the whole namespace in O(1) instead of key by key, once the batch commits
+        afterCommit(() -> {
+            cacheManager.invalidateNamespace(CACHE_NAMESPACE);
+            cacheManager.invalidateNamespace(CandidateServiceImpl.CACHE_NAMESPACE);
+        });
+
+        return deleted;
+    }
+
     /**
      * Validate election data
      */
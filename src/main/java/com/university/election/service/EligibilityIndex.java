@@ -0,0 +1,211 @@
+package com.university.election.service;
+
+import com.university.election.dto.EligibilityIndexStats;
+import com.university.election.dto.EligibilityStatus;
+import com.university.election.model.Student;
+import com.university.election.patterns.singleton.AppLogger;
+import com.university.election.repository.StudentRepository;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+
+import static com.university.election.utils.TransactionUtils.afterCommit;
+
+/**
+ * In-memory voter eligibility index: student_id -> (id, year of study, has voted)
+ * - Primitive open-addressing table (EligibilityTable), no per-student objects
+ * - Loaded at startup with one streaming scan of four columns; lookups wait for the load
+ * - Kept current by the student and vote write paths, after commit when they run in a transaction
+ * - Lookups take an optimistic StampedLock read: no lock, no database, no allocation besides the answer
+ * - A miss falls back to the database and adds the row, so rows inserted behind the service layer
+ *   (CSV import) appear on their first lookup
+ *
+ * Assumes this application is the only writer of students; changes made directly in the database
+ * to students already indexed are not seen until the next load().
+ */
+@Component
+public class EligibilityIndex implements SmartInitializingSingleton {
+
+    private final StudentRepository repository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final StampedLock lock = new StampedLock();
+
+    // Guarded by lock
+    private EligibilityTable table = new EligibilityTable();
+    private volatile long version;
+
+    // Statistics
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private volatile long loadMillis;
+
+    @Autowired
+    public EligibilityIndex(StudentRepository repository, PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Load before lifecycle beans (web server, vote ingestion) start serving
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        load();
+    }
+
+    /**
+     * Rebuild the index from the students table in one streaming scan
+     * Holds the write lock for the whole scan: lookups wait instead of falling back row by row
+     */
+    public void load() {
+        long started = System.nanoTime();
+        long stamp = lock.writeLock();
+        try {
+            table = new EligibilityTable();
+            readOnlyTransaction.executeWithoutResult(status -> repository.streamEligibility(
+                    (id, studentId, yearOfStudy, hasVoted) -> table = table.put(id, studentId, yearOfStudy, hasVoted)));
+            table.trim();
+        } catch (RuntimeException e) {
+            // An empty index is still correct: every lookup falls back to the database
+            table = new EligibilityTable();
+            AppLogger.getInstance().warn("Eligibility index not loaded, lookups will query the database: {}", e.getMessage());
+        } finally {
+            version++;
+            lock.unlockWrite(stamp);
+        }
+        loadMillis = (System.nanoTime() - started) / 1_000_000;
+    }
+
+    /**
+     * Eligibility of a student by student ID, from memory; the database is queried only on a miss
+     */
+    public Optional<EligibilityStatus> lookup(String studentId) {
+        if (EligibilityTable.indexable(studentId)) {
+            long entry = read(studentId);
+            if (entry != EligibilityTable.NOT_FOUND) {
+                hits.increment();
+                return Optional.of(new EligibilityStatus(EligibilityTable.idOf(entry), studentId,
+                        EligibilityTable.yearOf(entry), EligibilityTable.votedOf(entry)));
+            }
+        }
+        misses.increment();
+        return loadMissing(studentId);
+    }
+
+    /**
+     * Add or refresh a created/updated student
+     */
+    public void put(Student student) {
+        afterCommit(() -> write(() -> upsert(student)));
+    }
+
+    public void putAll(List<Student> students) {
+        afterCommit(() -> write(() -> students.forEach(this::upsert)));
+    }
+
+    /**
+     * Record a committed vote
+     */
+    public void markVoted(Integer id) {
+        afterCommit(() -> write(() -> table.markVoted(id)));
+    }
+
+    /**
+     * Drop a deleted student
+     */
+    public void remove(Integer id) {
+        afterCommit(() -> write(() -> table.remove(id)));
+    }
+
+    public void removeAll(List<Integer> ids) {
+        afterCommit(() -> write(() -> ids.forEach(table::remove)));
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return table.size();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public EligibilityIndexStats getStats() {
+        EligibilityIndexStats stats = new EligibilityIndexStats();
+        long stamp = lock.readLock();
+        try {
+            stats.setSize(table.size());
+            stats.setCapacity(table.capacity());
+            stats.setMemoryBytes(table.memoryBytes());
+        } finally {
+            lock.unlockRead(stamp);
+        }
+        stats.setBytesPerStudent(stats.getSize() == 0 ? 0 : (double) stats.getMemoryBytes() / stats.getSize());
+        stats.setHits(hits.sum());
+        stats.setMisses(misses.sum());
+        stats.setLoadMillis(loadMillis);
+        return stats;
+    }
+
+    /**
+     * Optimistic read first; retry under the read lock only if a writer got in between
+     */
+    private long read(String studentId) {
+        long stamp = lock.tryOptimisticRead();
+        long entry = table.get(studentId);
+        if (lock.validate(stamp)) {
+            return entry;
+        }
+        stamp = lock.readLock();
+        try {
+            return table.get(studentId);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Query the database and index the row, unless a write happened meanwhile (the row may be stale)
+     */
+    private Optional<EligibilityStatus> loadMissing(String studentId) {
+        long seen = version;
+        Optional<Student> student = repository.findByStudentId(studentId);
+        student.ifPresent(found -> {
+            long stamp = lock.writeLock();
+            try {
+                if (version == seen) {
+                    upsert(found);
+                }
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        });
+        return student.map(found -> new EligibilityStatus(found.getId(), found.getStudentId(),
+                found.getYearOfStudy() == null ? 0 : found.getYearOfStudy(), Boolean.TRUE.equals(found.getHasVoted())));
+    }
+
+    private void upsert(Student student) {
+        if (student.getId() != null) {
+            table = table.put(student.getId(), student.getStudentId(),
+                    student.getYearOfStudy() == null ? 0 : student.getYearOfStudy(), Boolean.TRUE.equals(student.getHasVoted()));
+        }
+    }
+
+    private void write(Runnable change) {
+        long stamp = lock.writeLock();
+        try {
+            change.run();
+            version++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+}
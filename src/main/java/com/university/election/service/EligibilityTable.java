@@ -0,0 +1,330 @@
+package com.university.election.service;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash table student_id -> (id, year of study, has voted) over primitive arrays
+ * - Linear probing over one interleaved int[] of [hash, id, key offset] slots; removal shifts the
+ *   following entries back, so there are no tombstones
+ * - Keys are Latin-1 strings (student IDs are ASCII) stored as [flags][length][bytes] in one shared
+ *   byte arena; lookups compare chars to bytes in place and hash with the String's cached hashCode,
+ *   so a hit reads one slot and one arena run (two cache lines)
+ * - A second interleaved table of [id, slot] pairs finds an entry by id for updates, votes and deletes
+ * - Fixed capacity: put() returns a larger (or compacted) copy when it runs out of room, so a reader
+ *   holding a table never sees its arrays resized
+ *
+ * Not thread-safe: EligibilityIndex serializes writers and validates optimistic readers.
+ * Lookups never throw on a table that is being written; they may return a wrong slot, which the
+ * caller's validation discards.
+ */
+final class EligibilityTable {
+
+    static final long NOT_FOUND = -1;
+
+    private static final int EMPTY = 0;            // ids come from SERIAL and are never 0
+    private static final int VOTED = 0x80;         // flags: bit 7 = has voted, bits 0-6 = year of study
+    private static final int YEAR_MASK = 0x7F;
+    private static final int MAX_KEY_LENGTH = 255; // the key length is stored in one byte
+    private static final int MIN_CAPACITY = 16;
+    private static final int MIN_ARENA = 256;
+
+    // Slot layout in slots[]: hash, id, key offset; pair layout in idPairs[]: id, slot
+    private static final int SLOT = 3;
+    private static final int HASH = 0;
+    private static final int ID = 1;
+    private static final int KEY = 2;
+    private static final int PAIR = 2;
+
+    private final int mask;
+    private final int[] slots;
+    private final int[] idPairs;
+    private byte[] arena;
+    private int arenaUsed;
+    private int garbage;
+    private int size;
+
+    EligibilityTable() {
+        this(MIN_CAPACITY, MIN_ARENA);
+    }
+
+    private EligibilityTable(int capacity, int arenaBytes) {
+        this.mask = capacity - 1;
+        this.slots = new int[capacity * SLOT];
+        this.idPairs = new int[capacity * PAIR];
+        this.arena = new byte[arenaBytes];
+    }
+
+    /**
+     * Only ASCII/Latin-1 keys of at most 255 chars fit the arena; other keys are never indexed
+     */
+    static boolean indexable(String studentId) {
+        if (studentId == null || studentId.isEmpty() || studentId.length() > MAX_KEY_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < studentId.length(); i++) {
+            if (studentId.charAt(i) > 0xFF) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Entry of studentId packed as (id << 8 | flags), or NOT_FOUND
+     */
+    long get(String studentId) {
+        int hash = mix(studentId.hashCode());
+        int[] table = slots;
+        byte[] keys = arena;
+        for (int slot = hash & mask, probes = 0; probes <= mask; slot = (slot + 1) & mask, probes++) {
+            int base = slot * SLOT;
+            int id = table[base + ID];
+            if (id == EMPTY) {
+                return NOT_FOUND;
+            }
+            int offset = table[base + KEY];
+            if (table[base + HASH] == hash && keyEquals(keys, offset, studentId)) {
+                return ((long) id << 8) | (keys[offset] & 0xFF);
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    static int idOf(long entry) {
+        return (int) (entry >>> 8);
+    }
+
+    static int yearOf(long entry) {
+        return (int) entry & YEAR_MASK;
+    }
+
+    static boolean votedOf(long entry) {
+        return (entry & VOTED) != 0;
+    }
+
+    /**
+     * Insert or replace the entry of a student id (also when its student_id changed)
+     * @return this table, or a new one if it had to grow; the caller must use the returned table
+     */
+    EligibilityTable put(int id, String studentId, int yearOfStudy, boolean hasVoted) {
+        if (id == EMPTY) {
+            return this;
+        }
+        int existing = slotOf(id);
+        if (!indexable(studentId)) {
+            if (existing >= 0) {
+                removeSlot(existing);
+            }
+            return this;
+        }
+
+        byte flag = (byte) (Math.clamp(yearOfStudy, 0, YEAR_MASK) | (hasVoted ? VOTED : 0));
+        int hash = mix(studentId.hashCode());
+        if (existing >= 0 && slots[existing * SLOT + HASH] == hash
+                && keyEquals(arena, slots[existing * SLOT + KEY], studentId)) {
+            arena[slots[existing * SLOT + KEY]] = flag;
+            return this;
+        }
+        if (existing >= 0) {
+            removeSlot(existing);
+        }
+        // student_id is unique: an entry still holding this key belongs to a student that was renamed since
+        int holder = find(studentId, hash);
+        if (holder >= 0) {
+            removeSlot(holder);
+        }
+
+        EligibilityTable table = withRoomFor(studentId.length() + 2);
+        table.insert(id, studentId, hash, flag);
+        return table;
+    }
+
+    /**
+     * @return false if the id is not in the table
+     */
+    boolean markVoted(int id) {
+        int slot = slotOf(id);
+        if (slot < 0) {
+            return false;
+        }
+        arena[slots[slot * SLOT + KEY]] |= (byte) VOTED;
+        return true;
+    }
+
+    /**
+     * @return false if the id is not in the table
+     */
+    boolean remove(int id) {
+        int slot = slotOf(id);
+        if (slot < 0) {
+            return false;
+        }
+        removeSlot(slot);
+        return true;
+    }
+
+    /**
+     * Drop the arena's spare room (after a bulk load)
+     */
+    void trim() {
+        arena = Arrays.copyOf(arena, Math.max(arenaUsed, MIN_ARENA));
+    }
+
+    int size() {
+        return size;
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Heap used by the arrays, including 16-byte array headers (compressed oops layout)
+     */
+    long memoryBytes() {
+        return arrayBytes(slots.length, Integer.BYTES) + arrayBytes(idPairs.length, Integer.BYTES)
+                + arrayBytes(arena.length, 1);
+    }
+
+    private static long arrayBytes(int length, int elementBytes) {
+        return 16 + (((long) length * elementBytes + 7) & ~7L);
+    }
+
+    private int find(String studentId, int hash) {
+        for (int slot = hash & mask; slots[slot * SLOT + ID] != EMPTY; slot = (slot + 1) & mask) {
+            if (slots[slot * SLOT + HASH] == hash && keyEquals(arena, slots[slot * SLOT + KEY], studentId)) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private int slotOf(int id) {
+        int pair = pairOf(id);
+        return pair < 0 ? -1 : idPairs[pair * PAIR + 1];
+    }
+
+    private int pairOf(int id) {
+        for (int pair = mix(id) & mask; idPairs[pair * PAIR] != EMPTY; pair = (pair + 1) & mask) {
+            if (idPairs[pair * PAIR] == id) {
+                return pair;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Bounds-checked so a reader racing a writer gets a mismatch instead of an exception
+     */
+    private static boolean keyEquals(byte[] keys, int offset, String studentId) {
+        int length = studentId.length();
+        if (offset < 0 || offset + 1 + length >= keys.length || (keys[offset + 1] & 0xFF) != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if ((keys[offset + 2 + i] & 0xFF) != studentId.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void insert(int id, String studentId, int hash, byte flag) {
+        int offset = arenaUsed;
+        arena[offset] = flag;
+        arena[offset + 1] = (byte) studentId.length();
+        for (int i = 0; i < studentId.length(); i++) {
+            arena[offset + 2 + i] = (byte) studentId.charAt(i);
+        }
+        arenaUsed += studentId.length() + 2;
+        place(id, hash, offset);
+    }
+
+    private void place(int id, int hash, int offset) {
+        int slot = hash & mask;
+        while (slots[slot * SLOT + ID] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        slots[slot * SLOT + HASH] = hash;
+        slots[slot * SLOT + KEY] = offset;
+        slots[slot * SLOT + ID] = id;
+
+        int pair = mix(id) & mask;
+        while (idPairs[pair * PAIR] != EMPTY) {
+            pair = (pair + 1) & mask;
+        }
+        idPairs[pair * PAIR] = id;
+        idPairs[pair * PAIR + 1] = slot;
+        size++;
+    }
+
+    /**
+     * Backward-shift deletion: move each following entry of the probe run into the hole
+     * unless the hole lies before its home slot
+     */
+    private void removeSlot(int slot) {
+        garbage += (arena[slots[slot * SLOT + KEY] + 1] & 0xFF) + 2;
+        removeId(slots[slot * SLOT + ID]);
+
+        int hole = slot;
+        for (int next = (slot + 1) & mask; slots[next * SLOT + ID] != EMPTY; next = (next + 1) & mask) {
+            if (((next - (slots[next * SLOT + HASH] & mask)) & mask) >= ((next - hole) & mask)) {
+                System.arraycopy(slots, next * SLOT, slots, hole * SLOT, SLOT);
+                idPairs[pairOf(slots[hole * SLOT + ID]) * PAIR + 1] = hole;
+                hole = next;
+            }
+        }
+        slots[hole * SLOT + ID] = EMPTY;
+        size--;
+    }
+
+    private void removeId(int id) {
+        int hole = pairOf(id);
+        for (int next = (hole + 1) & mask; idPairs[next * PAIR] != EMPTY; next = (next + 1) & mask) {
+            if (((next - (mix(idPairs[next * PAIR]) & mask)) & mask) >= ((next - hole) & mask)) {
+                idPairs[hole * PAIR] = idPairs[next * PAIR];
+                idPairs[hole * PAIR + 1] = idPairs[next * PAIR + 1];
+                hole = next;
+            }
+        }
+        idPairs[hole * PAIR] = EMPTY;
+    }
+
+    /**
+     * Keep the load factor at or below 3/4 and make room in the arena for one more key
+     * Removed keys stay in the arena as garbage until the table is copied
+     */
+    private EligibilityTable withRoomFor(int keyBytes) {
+        if ((size + 1) * 4L > capacity() * 3L) {
+            return copy(capacity() * 2, keyBytes);
+        }
+        if (arenaUsed + keyBytes > arena.length) {
+            if (garbage * 2 >= arenaUsed) {
+                return copy(capacity(), keyBytes);
+            }
+            arena = Arrays.copyOf(arena, Math.max(arena.length * 2, arenaUsed + keyBytes));
+        }
+        return this;
+    }
+
+    private EligibilityTable copy(int capacity, int keyBytes) {
+        int live = arenaUsed - garbage;
+        EligibilityTable table = new EligibilityTable(capacity, Math.max(MIN_ARENA, (live + keyBytes) * 2));
+        for (int slot = 0; slot <= mask; slot++) {
+            int base = slot * SLOT;
+            if (slots[base + ID] != EMPTY) {
+                int length = (arena[slots[base + KEY] + 1] & 0xFF) + 2;
+                int offset = table.arenaUsed;
+                System.arraycopy(arena, slots[base + KEY], table.arena, offset, length);
+                table.arenaUsed += length;
+                table.place(slots[base + ID], slots[base + HASH], offset);
+            }
+        }
+        return table;
+    }
+
+    private static int mix(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,349 @@
+package com.university.election.service;
+
+import com.university.election.dto.ResultsStreamStats;
+import com.university.election.dto.TallySnapshot;
+import com.university.election.exception.ResourceNotFoundException;
+import com.university.election.exception.ServiceUnavailableException;
+import com.university.election.patterns.singleton.AppLogger;
+import com.university.election.repository.ElectionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live results fan-out for Server-Sent Events (GET /api/elections/{id}/results/stream)
+ * - One producer thread ticks every interval-ms; it takes a snapshot only when TallyEngine.version()
+ *   moved, and publishes only when an election's counts changed
+ * - Each snapshot is serialized once into a complete SSE frame; every subscriber gets the same byte[]
+ * - Frames are written on virtual threads, one drain per subscriber at a time, so a slow client
+ *   never blocks the producer or the other clients
+ * - A subscriber keeps only its latest unsent frame: frames it could not take in time are skipped, and
+ *   after max-skipped consecutive skips it is dropped (the client reconnects and resumes from the next frame)
+ *
+ * Snapshots come from memory: the only database access is one existence check when an election gets
+ * its first subscriber, so database load does not grow with the number of subscribers.
+ */
+@Component
+public class ResultsBroadcaster implements SmartLifecycle {
+
+    private static final AppLogger LOG = AppLogger.getInstance();
+    private static final AppLogger.Sampler TICK_FAILED = LOG.sampled(Duration.ofSeconds(10));
+
+    /**
+     * Where a subscriber's frames are written (an SseEmitter in production)
+     */
+    public interface FrameSink {
+        /**
+         * Write one complete SSE frame; may block while the client is slow
+         */
+        void send(byte[] frame) throws IOException;
+
+        /**
+         * End the stream after the subscriber was dropped
+         */
+        void close();
+    }
+
+    private final TallyEngine tallyEngine;
+    private final ElectionRepository electionRepository;
+    private final ObjectMapper objectMapper;
+    private final long intervalMillis;
+    private final int maxSkipped;
+    private final int maxSubscribers;
+
+    private final ConcurrentHashMap<Integer, Feed> feeds = new ConcurrentHashMap<>();
+    private final AtomicInteger subscribers = new AtomicInteger();
+    private final ExecutorService writers = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("results-writer-", 0).factory());
+    private volatile ScheduledExecutorService producer;
+    private volatile boolean running;
+
+    // Producer thread only
+    private long lastVersion = -1;
+
+    private final AtomicLong ticks = new AtomicLong();
+    private final AtomicLong snapshotsTaken = new AtomicLong();
+    private final AtomicLong framesPublished = new AtomicLong();
+    private final LongAdder framesWritten = new LongAdder();
+    private final LongAdder framesSkipped = new LongAdder();
+    private final LongAdder subscribersDropped = new LongAdder();
+
+    @Autowired
+    public ResultsBroadcaster(TallyEngine tallyEngine,
+                              ElectionRepository electionRepository,
+                              ObjectMapper objectMapper,
+                              @Value("${app.results.stream.interval-ms:250}") long intervalMillis,
+                              @Value("${app.results.stream.max-skipped:40}") int maxSkipped,
+                              @Value("${app.results.stream.max-subscribers:20000}") int maxSubscribers) {
+        this.tallyEngine = tallyEngine;
+        this.electionRepository = electionRepository;
+        this.objectMapper = objectMapper;
+        this.intervalMillis = intervalMillis;
+        this.maxSkipped = maxSkipped;
+        this.maxSubscribers = maxSubscribers;
+    }
+
+    /**
+     * Follow the results of an election; the latest frame (if any) is sent right away
+     * @return cancels the subscription (call it when the client goes away)
+     * @throws ResourceNotFoundException if the election does not exist
+     * @throws ServiceUnavailableException if max-subscribers streams are already open
+     */
+    public Runnable subscribe(Integer electionId, FrameSink sink) {
+        if (subscribers.incrementAndGet() > maxSubscribers) {
+            subscribers.decrementAndGet();
+            throw new ServiceUnavailableException("Too many live result streams, please retry");
+        }
+        // One query per election while it has subscribers, not one per subscriber
+        if (!feeds.containsKey(electionId) && !electionRepository.existsById(electionId)) {
+            subscribers.decrementAndGet();
+            throw new ResourceNotFoundException("Election not found with id: " + electionId);
+        }
+
+        Subscriber subscriber = new Subscriber(sink);
+        // compute() is atomic per key, so the producer cannot retire the feed while it is joined
+        Feed feed = feeds.compute(electionId, (id, current) -> {
+            Feed joined = current != null ? current : new Feed(id);
+            subscriber.feed = joined;
+            joined.subscribers.add(subscriber);
+            return joined;
+        });
+        byte[] latest = feed.frame;
+        if (latest != null) {
+            subscriber.offer(latest);
+        }
+        return subscriber::cancel;
+    }
+
+    @Override
+    public void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        producer = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("results-producer").daemon().factory());
+        producer.scheduleWithFixedDelay(this::tick, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stop publishing and end every open stream
+     */
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        producer.shutdownNow();
+        for (Feed feed : feeds.values()) {
+            for (Subscriber subscriber : feed.subscribers) {
+                subscriber.drop();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    public ResultsStreamStats getStats() {
+        ResultsStreamStats stats = new ResultsStreamStats();
+        stats.setIntervalMillis(intervalMillis);
+        stats.setMaxSkipped(maxSkipped);
+        stats.setMaxSubscribers(maxSubscribers);
+        stats.setElections(feeds.size());
+        stats.setSubscribers(subscribers.get());
+        stats.setTicks(ticks.get());
+        stats.setSnapshotsTaken(snapshotsTaken.get());
+        stats.setFramesPublished(framesPublished.get());
+        stats.setFramesWritten(framesWritten.sum());
+        stats.setFramesSkipped(framesSkipped.sum());
+        stats.setSubscribersDropped(subscribersDropped.sum());
+        return stats;
+    }
+
+    /**
+     * One producer pass: snapshot and publish the elections whose counts changed
+     * Package-private so tests can drive ticks without waiting for the scheduler
+     */
+    void tick() {
+        try {
+            ticks.incrementAndGet();
+            // Read before the snapshots: a ballot counted during this pass moves it again for the next one
+            long version = tallyEngine.version();
+            boolean changed = version != lastVersion;
+            lastVersion = version;
+
+            for (Feed feed : feeds.values()) {
+                if (feed.subscribers.isEmpty()) {
+                    feeds.computeIfPresent(feed.electionId, (id, current) -> current.subscribers.isEmpty() ? null : current);
+                    continue;
+                }
+                if (!changed && feed.frame != null) {
+                    continue;
+                }
+                TallySnapshot snapshot = tallyEngine.snapshot(feed.electionId);
+                snapshotsTaken.incrementAndGet();
+                if (feed.frame != null && snapshot.getCounts().equals(feed.counts)) {
+                    continue;
+                }
+                publish(feed, snapshot);
+            }
+        } catch (RuntimeException e) {
+            // Keep the schedule alive: a task that throws is never run again
+            TICK_FAILED.warn("Live results tick failed: {}", e.getMessage());
+        }
+    }
+
+    private void publish(Feed feed, TallySnapshot snapshot) {
+        byte[] frame = frame(++feed.sequence, snapshot);
+        feed.counts = snapshot.getCounts();
+        feed.frame = frame;
+        framesPublished.incrementAndGet();
+        for (Subscriber subscriber : feed.subscribers) {
+            subscriber.offer(frame);
+        }
+    }
+
+    /**
+     * A complete SSE event: "id: n", "event: results", "data: {json}" and the blank line
+     */
+    private byte[] frame(long id, TallySnapshot snapshot) {
+        byte[] json = objectMapper.writeValueAsBytes(snapshot);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length + 48);
+        out.writeBytes(("id: " + id + "\nevent: results\ndata: ").getBytes(StandardCharsets.UTF_8));
+        out.writeBytes(json);
+        out.writeBytes("\n\n".getBytes(StandardCharsets.UTF_8));
+        return out.toByteArray();
+    }
+
+    /**
+     * Subscribers of one election and the last frame published to them
+     */
+    private static final class Feed {
+        private final Integer electionId;
+        private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        private volatile byte[] frame;
+
+        // Producer thread only
+        private Map<Integer, Long> counts;
+        private long sequence;
+
+        private Feed(Integer electionId) {
+            this.electionId = electionId;
+        }
+    }
+
+    private final class Subscriber {
+        private final FrameSink sink;
+        private final AtomicReference<byte[]> pending = new AtomicReference<>();
+        private final AtomicBoolean writing = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final AtomicInteger skippedInARow = new AtomicInteger();
+        private volatile Feed feed;
+
+        private Subscriber(FrameSink sink) {
+            this.sink = sink;
+        }
+
+        /**
+         * Hand over the newest frame; never blocks
+         * A frame still pending from before is replaced (skipped)
+         */
+        void offer(byte[] frame) {
+            if (closed.get()) {
+                return;
+            }
+            byte[] previous = pending.getAndSet(frame);
+            if (previous != null && previous != frame) {
+                framesSkipped.increment();
+                if (skippedInARow.incrementAndGet() > maxSkipped) {
+                    drop();
+                    return;
+                }
+            }
+            if (writing.compareAndSet(false, true)) {
+                writers.execute(this::drain);
+            }
+        }
+
+        /**
+         * Write pending frames until none is left (runs on a virtual thread)
+         */
+        private void drain() {
+            try {
+                while (true) {
+                    byte[] frame;
+                    while (!closed.get() && (frame = pending.getAndSet(null)) != null) {
+                        skippedInARow.set(0);
+                        sink.send(frame);
+                        framesWritten.increment();
+                    }
+                    writing.set(false);
+                    // A frame offered after the loop and before the flag was cleared would be stranded
+                    if (closed.get() || pending.get() == null || !writing.compareAndSet(false, true)) {
+                        return;
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                // The client went away
+                writing.set(false);
+                cancel();
+            }
+        }
+
+        /**
+         * Remove a client that cannot keep up (or on shutdown) and end its stream
+         */
+        void drop() {
+            if (cancel()) {
+                subscribersDropped.increment();
+                // Closing may wait for a write in progress: not on the producer thread
+                writers.execute(() -> {
+                    try {
+                        sink.close();
+                    } catch (RuntimeException e) {
+                        // Already closed by the client
+                    }
+                });
+            }
+        }
+
+        /**
+         * @return false if it was already cancelled
+         */
+        boolean cancel() {
+            if (!closed.compareAndSet(false, true)) {
+                return false;
+            }
+            pending.set(null);
+            Feed current = feed;
+            if (current != null) {
+                current.subscribers.remove(this);
+            }
+            subscribers.decrementAndGet();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.university.election.service;
+
+import com.university.election.dto.ImportReport;
+
+import java.io.InputStream;
+
+/**
+ * Student Import Service Interface
+ * Bulk loads students from a CSV stream
+ */
+public interface StudentImportService {
+    ImportReport importStudents(InputStream csv);
+}
@@ -0,0 +1,218 @@
+package com.university.election.service;
+
+import com.university.election.dto.ImportReport;
+import com.university.election.exception.InvalidInputException;
+import com.university.election.model.Student;
+import com.university.election.repository.StudentRepository;
+import com.university.election.utils.CsvUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Student Import Service Implementation
+ * - Reads the CSV line by line, so memory stays flat regardless of file size
+ * - Validates rows with the same rules as Student.validate()/isEligible()
+ * - Loads valid rows in chunks (PostgreSQL COPY, JDBC batch fallback), one transaction per chunk
+ * - Reports rejected and duplicate rows instead of aborting the load
+ *
+ * CSV columns: name,studentId,faculty,yearOfStudy (an optional header row may reorder them)
+ */
+@Service
+public class StudentImportServiceImpl implements StudentImportService {
+
+    private static final String[] COLUMNS = {"name", "studentid", "faculty", "yearofstudy"};
+
+    private final StudentRepository repository;
+    private final VoterBitmapIndex voterIndex;
+    private final TurnoutAnalytics turnout;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxReportedErrors;
+
+    @Autowired
+    public StudentImportServiceImpl(StudentRepository repository,
+                                    VoterBitmapIndex voterIndex,
+                                    TurnoutAnalytics turnout,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${app.import.chunk-size:5000}") int chunkSize,
+                                    @Value("${app.import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.repository = repository;
+        this.voterIndex = voterIndex;
+        this.turnout = turnout;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    @Override
+    public ImportReport importStudents(InputStream csv) {
+        long started = System.nanoTime();
+        ImportReport report = new ImportReport();
+        boolean useCopy = repository.supportsCopy();
+        report.setLoader(useCopy ? "COPY" : "BATCH");
+
+        List<Student> chunk = new ArrayList<>(chunkSize);
+        long[] chunkLines = new long[chunkSize];
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8))) {
+            int[] columns = {0, 1, 2, 3};
+            long lineNumber = 0;
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (lineNumber == 1 && line.startsWith("\uFEFF")) {
+                    line = line.substring(1);
+                }
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                List<String> fields = CsvUtils.parseLine(line);
+                if (lineNumber == 1 && isHeader(fields)) {
+                    columns = headerColumns(fields);
+                    continue;
+                }
+
+                report.setRowsRead(report.getRowsRead() + 1);
+                Student student = parseStudent(fields, columns, lineNumber, report);
+                if (student == null) {
+                    continue;
+                }
+
+                chunkLines[chunk.size()] = lineNumber;
+                chunk.add(student);
+                if (chunk.size() == chunkSize) {
+                    loadChunk(chunk, chunkLines, useCopy, report);
+                }
+            }
+            loadChunk(chunk, chunkLines, useCopy, report);
+        } catch (IOException e) {
+            throw new InvalidInputException("Failed to read CSV upload: " + e.getMessage(), e);
+        } finally {
+            // Chunks committed before a failure are in the table too
+            if (report.getImported() > 0) {
+                voterIndex.reloadStudents();
+                turnout.load();
+            }
+        }
+
+        long elapsedNanos = System.nanoTime() - started;
+        report.setElapsedMillis(elapsedNanos / 1_000_000);
+        report.setRowsPerSecond(elapsedNanos > 0 ? report.getRowsRead() * 1_000_000_000.0 / elapsedNanos : 0);
+        return report;
+    }
+
+    /**
+     * Load one chunk in its own transaction and record duplicates
+     */
+    private void loadChunk(List<Student> chunk, long[] chunkLines, boolean useCopy, ImportReport report) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        boolean[] inserted = transactionTemplate.execute(status -> useCopy
+                ? repository.copyIgnoringDuplicates(chunk)
+                : repository.batchInsertIgnoringDuplicates(chunk));
+
+        for (int i = 0; i < chunk.size(); i++) {
+            if (inserted != null && inserted[i]) {
+                report.setImported(report.getImported() + 1);
+            } else {
+                report.setDuplicates(report.getDuplicates() + 1);
+                addError(report, chunkLines[i], chunk.get(i).getStudentId(), "Student ID already exists");
+            }
+        }
+        chunk.clear();
+    }
+
+    /**
+     * Build and validate a student from CSV fields; returns null and records the error if the row is invalid
+     */
+    private Student parseStudent(List<String> fields, int[] columns, long lineNumber, ImportReport report) {
+        for (int column : columns) {
+            if (column >= fields.size()) {
+                rejectRow(report, lineNumber, null, "Expected " + COLUMNS.length + " columns but found " + fields.size());
+                return null;
+            }
+        }
+
+        String studentId = fields.get(columns[1]);
+        Integer yearOfStudy;
+        try {
+            yearOfStudy = Integer.valueOf(fields.get(columns[3]));
+        } catch (NumberFormatException e) {
+            rejectRow(report, lineNumber, studentId, "Invalid year of study: " + fields.get(columns[3]));
+            return null;
+        }
+
+        Student student = new Student(null, fields.get(columns[0]), studentId, fields.get(columns[2]), yearOfStudy, false);
+
+        if (!student.isEligible()) {
+            rejectRow(report, lineNumber, studentId, "Student must be in year 1-4. Current year: " + yearOfStudy);
+            return null;
+        }
+
+        if (!student.validate()) {
+            rejectRow(report, lineNumber, studentId, "Invalid student data: " + student.getValidationMessage());
+            return null;
+        }
+
+        return student;
+    }
+
+    private void rejectRow(ImportReport report, long lineNumber, String studentId, String message) {
+        report.setRejected(report.getRejected() + 1);
+        addError(report, lineNumber, studentId, message);
+    }
+
+    /**
+     * Keep at most maxReportedErrors row errors so the report stays bounded
+     */
+    private void addError(ImportReport report, long lineNumber, String studentId, String message) {
+        if (report.getErrors().size() < maxReportedErrors) {
+            report.getErrors().add(new ImportReport.RowError(lineNumber, studentId, message));
+        } else {
+            report.setErrorsTruncated(true);
+        }
+    }
+
+    private boolean isHeader(List<String> fields) {
+        return fields.stream().map(this::normalize).anyMatch("studentid"::equals);
+    }
+
+    /**
+     * Map the expected columns to their positions in the header row
+     */
+    private int[] headerColumns(List<String> header) {
+        int[] columns = new int[COLUMNS.length];
+        for (int i = 0; i < COLUMNS.length; i++) {
+            columns[i] = -1;
+            for (int j = 0; j < header.size(); j++) {
+                if (COLUMNS[i].equals(normalize(header.get(j)))) {
+                    columns[i] = j;
+                }
+            }
+            if (columns[i] < 0) {
+                throw new InvalidInputException("CSV header must contain name, studentId, faculty and yearOfStudy");
+            }
+        }
+        return columns;
+    }
+
+    private String normalize(String column) {
+        return column.replace("_", "").replace(" ", "").toLowerCase(Locale.ROOT);
+    }
+}
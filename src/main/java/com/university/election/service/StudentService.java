@@ -1,8 +1,13 @@
 package com.university.election.service;
 
+import com.university.election.dto.EligibilityIndexStats;
+import com.university.election.dto.EligibilityStatus;
+import com.university.election.dto.PageResponse;
 import com.university.election.model.Student;
+import com.university.election.repository.StudentFilter;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Student Service Interface
@@ -11,10 +16,20 @@ public interface StudentService {
     Student createStudent(Student student);
     Student getStudentById(Integer id);
     Student getStudentByStudentId(String studentId);
+    EligibilityStatus checkEligibility(String studentId);
+    EligibilityStatus checkEligibility(String studentId, Integer electionId);
+    EligibilityIndexStats getEligibilityIndexStats();
     List<Student> getAllStudents();
+    void streamAllStudents(Consumer<Student> action);
     List<Student> getStudentsByVotingStatus(Boolean hasVoted);
+    PageResponse<Student> getStudentsPage(String after, int limit);
+    PageResponse<Student> getStudentsByVotingStatusPage(Boolean hasVoted, String after, int limit);
+    PageResponse<Student> queryStudents(StudentFilter filter, String sort, String after, int limit);
     Student updateStudent(Integer id, Student student);
     Student markAsVoted(Integer id);
     void deleteStudent(Integer id);
     long countStudents();
+    List<Student> createStudents(List<Student> students);
+    List<Student> updateStudents(List<Student> students);
+    int deleteStudents(List<Integer> ids);
 }
\ No newline at end of file
@@ -1,32 +1,64 @@
 package com.university.election.service;
 
+import com.university.election.dto.EligibilityIndexStats;
+import com.university.election.dto.EligibilityStatus;
+import com.university.election.dto.PageResponse;
 import com.university.election.exception.InvalidInputException;
 import com.university.election.exception.ResourceNotFoundException;
 import com.university.election.model.Student;
+import com.university.election.model.Vote;
+import com.university.election.repository.SortField;
+import com.university.election.repository.StudentFilter;
 import com.university.election.repository.StudentRepository;
+import com.university.election.repository.VoteRepository;
+import com.university.election.utils.BatchUtils;
+import com.university.election.utils.CursorUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static com.university.election.utils.TransactionUtils.afterCommit;
 
 /**
  * Student Service Implementation
+ * Every write also updates the in-memory EligibilityIndex, VoterBitmapIndex and TurnoutAnalytics
+ * (after commit for batch writes); deletes also take the student's ballots back from the TallyEngine
+ * and drop the cached election summaries (ballots cascade)
  */
 @Service
 public class StudentServiceImpl implements StudentService {
 
     private final StudentRepository repository;
+    private final VoteRepository voteRepository;
+    private final TallyEngine tallyEngine;
+    private final EligibilityIndex eligibilityIndex;
+    private final VoterBitmapIndex voterIndex;
+    private final TurnoutAnalytics turnout;
 
     @Autowired
-    public StudentServiceImpl(StudentRepository repository) {
+    public StudentServiceImpl(StudentRepository repository, VoteRepository voteRepository, TallyEngine tallyEngine,
+                              EligibilityIndex eligibilityIndex, VoterBitmapIndex voterIndex, TurnoutAnalytics turnout) {
         this.repository = repository;
+        this.voteRepository = voteRepository;
+        this.tallyEngine = tallyEngine;
+        this.eligibilityIndex = eligibilityIndex;
+        this.voterIndex = voterIndex;
+        this.turnout = turnout;
     }
 
     @Override
     public Student createStudent(Student student) {
         validateStudent(student);
         student.setHasVoted(false); // New students haven't voted
-        return repository.save(student);
+        Student created = repository.save(student);
+        eligibilityIndex.put(created);
+        voterIndex.addStudent(created.getId());
+        turnout.addStudent(created);
+        return created;
     }
 
     @Override
@@ -41,43 +73,116 @@ public class StudentServiceImpl implements StudentService {
                 .orElseThrow(() -> new ResourceNotFoundException("Student not found with student ID: " + studentId));
     }
 
+    @Override
+    public EligibilityStatus checkEligibility(String studentId) {
+        return eligibilityIndex.lookup(studentId)
+                .orElseThrow(() -> new ResourceNotFoundException("Student not found with student ID: " + studentId));
+    }
+
+    @Override
+    public EligibilityStatus checkEligibility(String studentId, Integer electionId) {
+        EligibilityStatus status = checkEligibility(studentId);
+        if (electionId == null) {
+            return status;
+        }
+        // has_voted covers any election; the voter bitmap answers for this one
+        return new EligibilityStatus(status.getId(), status.getStudentId(), status.getYearOfStudy(),
+                voterIndex.hasVoted(electionId, status.getId()), electionId);
+    }
+
+    @Override
+    public EligibilityIndexStats getEligibilityIndexStats() {
+        return eligibilityIndex.getStats();
+    }
+
     @Override
     public List<Student> getAllStudents() {
         return repository.findAll();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllStudents(Consumer<Student> action) {
+        repository.streamAll(action);
+    }
+
     @Override
     public List<Student> getStudentsByVotingStatus(Boolean hasVoted) {
         return repository.findByVotingStatus(hasVoted);
     }
 
     @Override
-    public Student updateStudent(Integer id, Student student) {
-        if (!repository.existsById(id)) {
-            throw new ResourceNotFoundException("Student not found with id: " + id);
-        }
-        validateStudent(student);
-        return repository.update(id, student);
+    public PageResponse<Student> getStudentsPage(String after, int limit) {
+        CursorUtils.checkLimit(limit);
+        List<Student> rows = repository.findPage(CursorUtils.decodeId(after), limit + 1);
+        return PageResponse.fromRows(rows, limit, student -> String.valueOf(student.getId()));
     }
 
     @Override
-    public Student markAsVoted(Integer id) {
-        Student student = getStudentById(id);
+    public PageResponse<Student> getStudentsByVotingStatusPage(Boolean hasVoted, String after, int limit) {
+        CursorUtils.checkLimit(limit);
+        List<Student> rows = repository.findByVotingStatusPage(hasVoted, CursorUtils.decodeId(after), limit + 1);
+        return PageResponse.fromRows(rows, limit, student -> String.valueOf(student.getId()));
+    }
+
+    /**
+     * Filtered pages are read straight from the database; with sort=name the cursor encodes "name|id"
+     */
+    @Override
+    public PageResponse<Student> queryStudents(StudentFilter filter, String sort, String after, int limit) {
+        CursorUtils.checkLimit(limit);
+        SortField order = SortField.parse(sort);
+        if (order == SortField.NAME) {
+            Map.Entry<String, Integer> cursor = CursorUtils.decodeTextAndId(after);
+            List<Student> rows = repository.findFiltered(filter, order, cursor == null ? null : cursor.getKey(),
+                    cursor == null ? null : cursor.getValue(), limit + 1);
+            return PageResponse.fromRows(rows, limit, student -> student.getName() + "|" + student.getId());
+        }
+        List<Student> rows = repository.findFiltered(filter, order, null, CursorUtils.decodeId(after), limit + 1);
+        return PageResponse.fromRows(rows, limit, student -> String.valueOf(student.getId()));
+    }
 
-        if (student.getHasVoted()) {
-            throw new InvalidInputException("Student has already voted");
+    @Override
+    public Student updateStudent(Integer id, Student student) {
+        try {
+            validateStudent(student);
+        } catch (InvalidInputException e) {
+            // A missing student is still reported before an invalid body; only this path pays the lookup
+            if (!repository.existsById(id)) {
+                throw new ResourceNotFoundException("Student not found with id: " + id);
+            }
+            throw e;
         }
+        // One statement: the UPDATE reports a missing student (no row) and returns the stored row
+        Student updated = repository.update(id, student);
+        eligibilityIndex.put(updated);
+        turnout.addStudent(updated);
+        return updated;
+    }
 
-        student.setHasVoted(true);
-        return repository.update(id, student);
+    @Override
+    public Student markAsVoted(Integer id) {
+        Student voted = repository.markAsVoted(id).orElseThrow(() -> {
+            // Failure path only: the conditional update does not say why no row matched
+            if (!repository.existsById(id)) {
+                return new ResourceNotFoundException("Student not found with id: " + id);
+            }
+            return new InvalidInputException("Student has already voted");
+        });
+        eligibilityIndex.markVoted(id);
+        return voted;
     }
 
     @Override
+    @Transactional
     public void deleteStudent(Integer id) {
-        if (!repository.existsById(id)) {
-            throw new ResourceNotFoundException("Student not found with id: " + id);
-        }
+        List<Vote> ballots = lockWithBallots(List.of(id));
+        // Throws ResourceNotFoundException when no row was deleted
         repository.deleteById(id);
+        forgetBallots(ballots);
+        eligibilityIndex.remove(id);
+        voterIndex.removeStudent(id);
+        turnout.removeStudent(id);
     }
 
     @Override
@@ -85,6 +190,69 @@ public class StudentServiceImpl implements StudentService {
         return repository.count();
     }
 
+    @Override
+    @Transactional
+    public List<Student> createStudents(List<Student> students) {
+        BatchUtils.requireNotEmpty(students);
+        for (Student student : students) {
+            validateStudent(student);
+            student.setHasVoted(false); // New students haven't voted
+        }
+        List<Student> created = repository.saveAll(students);
+        eligibilityIndex.putAll(created);
+        voterIndex.addStudents(created.stream().map(Student::getId).toList());
+        turnout.addStudents(created);
+        return created;
+    }
+
+    @Override
+    @Transactional
+    public List<Student> updateStudents(List<Student> students) {
+        BatchUtils.requireNotEmpty(students);
+        for (Student student : students) {
+            if (student.getId() == null) {
+                throw new InvalidInputException("Student id is required for batch update");
+            }
+            validateStudent(student);
+        }
+        List<Student> updated = repository.updateAll(students);
+        eligibilityIndex.putAll(updated);
+        turnout.addStudents(updated);
+        return updated;
+    }
+
+    @Override
+    @Transactional
+    public int deleteStudents(List<Integer> ids) {
+        BatchUtils.requireNotEmpty(ids);
+        List<Vote> ballots = lockWithBallots(ids);
+        int deleted = repository.deleteAllById(ids);
+        forgetBallots(ballots);
+        eligibilityIndex.removeAll(ids);
+        voterIndex.removeStudents(ids);
+        turnout.removeStudents(ids);
+        return deleted;
+    }
+
+    /**
+     * Ballots that deleting these students removes by cascade
+     * The students are locked first: a ballot locks its student before it is inserted, so none is
+     * added between this read and the delete
+     */
+    private List<Vote> lockWithBallots(List<Integer> ids) {
+        repository.lockAll(ids);
+        return voteRepository.findByStudentIds(ids);
+    }
+
+    /**
+     * Take the deleted ballots back from the tally once the delete commits
+     */
+    private void forgetBallots(List<Vote> ballots) {
+        if (!ballots.isEmpty()) {
+            afterCommit(() -> ballots.forEach(ballot -> tallyEngine.remove(ballot.getElectionId(), ballot.getCandidateId())));
+        }
+    }
+
     /**
      * Validate student data
      */
@@ -0,0 +1,165 @@
+package com.university.election.service;
+
+import com.university.election.dto.TallyReconciliation;
+import com.university.election.dto.TallySnapshot;
+import com.university.election.repository.VoteRepository;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Real-time vote tally kept in memory
+ * - One LongAdder per (election, candidate): concurrent increments do not contend on a single counter
+ * - Seeded from the votes table at startup, then incremented after every committed ballot
+ * - Snapshots never touch the database
+ * - version() changes with every count, so pollers (ResultsBroadcaster) can skip unchanged ticks
+ * - Ballots removed by cascade with their student are taken back once that delete commits (remove())
+ */
+@Component
+public class TallyEngine implements SmartInitializingSingleton {
+
+    private final VoteRepository voteRepository;
+    private final ConcurrentHashMap<Integer, ConcurrentHashMap<Integer, LongAdder>> elections = new ConcurrentHashMap<>();
+    private final LongAdder changes = new LongAdder();
+
+    @Autowired
+    public TallyEngine(VoteRepository voteRepository) {
+        this.voteRepository = voteRepository;
+    }
+
+    /**
+     * Seed before lifecycle beans (web server, vote ingestion) start accepting votes
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        seed();
+    }
+
+    /**
+     * Load the counts from the database (at startup, before votes are accepted)
+     */
+    public void seed() {
+        elections.clear();
+        voteRepository.countAllByCandidate().forEach((electionId, counts) ->
+                counts.forEach((candidateId, votes) -> counter(electionId, candidateId).add(votes)));
+        changes.increment();
+    }
+
+    /**
+     * Count one committed ballot
+     */
+    public void record(Integer electionId, Integer candidateId) {
+        counter(electionId, candidateId).increment();
+        changes.increment();
+    }
+
+    /**
+     * Take back one committed ballot that was deleted with its student
+     */
+    public void remove(Integer electionId, Integer candidateId) {
+        Map<Integer, LongAdder> candidates = elections.get(electionId);
+        LongAdder counter = candidates == null ? null : candidates.get(candidateId);
+        if (counter != null) {
+            counter.decrement();
+            changes.increment();
+        }
+    }
+
+    /**
+     * Drop an election whose ballots were deleted with it
+     */
+    public void forgetElection(Integer electionId) {
+        elections.remove(electionId);
+        changes.increment();
+    }
+
+    /**
+     * Drop a candidate whose ballots were deleted with it
+     */
+    public void forgetCandidate(Integer candidateId) {
+        for (Map<Integer, LongAdder> candidates : elections.values()) {
+            candidates.remove(candidateId);
+        }
+        changes.increment();
+    }
+
+    /**
+     * A number that moves whenever a count changes; bumped after the count itself, so a reader that
+     * sees a new version and then takes a snapshot sees the change
+     */
+    public long version() {
+        return changes.sum();
+    }
+
+    /**
+     * Ballots counted in an election so far (election summaries)
+     */
+    public long total(Integer electionId) {
+        Map<Integer, LongAdder> candidates = elections.get(electionId);
+        long total = 0;
+        if (candidates != null) {
+            for (LongAdder counter : candidates.values()) {
+                total += counter.sum();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Current counts of an election, ordered by candidate id
+     * Each count is read once and the total is summed from those reads, so the snapshot is self-consistent
+     */
+    public TallySnapshot snapshot(Integer electionId) {
+        Map<Integer, Long> counts = new TreeMap<>();
+        long total = 0;
+        Map<Integer, LongAdder> candidates = elections.get(electionId);
+        if (candidates != null) {
+            for (Map.Entry<Integer, LongAdder> entry : candidates.entrySet()) {
+                long votes = entry.getValue().sum();
+                counts.put(entry.getKey(), votes);
+                total += votes;
+            }
+        }
+        return new TallySnapshot(electionId, counts, total, LocalDateTime.now());
+    }
+
+    /**
+     * Compare the in-memory counts of an election with a COUNT over the votes table
+     */
+    public TallyReconciliation reconcile(Integer electionId) {
+        Map<Integer, Long> memory = snapshot(electionId).getCounts();
+        Map<Integer, Long> database = voteRepository.countByCandidate(electionId);
+
+        Set<Integer> candidateIds = new TreeSet<>(memory.keySet());
+        candidateIds.addAll(database.keySet());
+
+        Map<Integer, Long> drift = new TreeMap<>();
+        for (Integer candidateId : candidateIds) {
+            long difference = memory.getOrDefault(candidateId, 0L) - database.getOrDefault(candidateId, 0L);
+            if (difference != 0) {
+                drift.put(candidateId, difference);
+            }
+        }
+        return new TallyReconciliation(electionId, memory, database, drift);
+    }
+
+    private LongAdder counter(Integer electionId, Integer candidateId) {
+        ConcurrentHashMap<Integer, LongAdder> candidates = elections.get(electionId);
+        if (candidates == null) {
+            candidates = elections.computeIfAbsent(electionId, id -> new ConcurrentHashMap<>());
+        }
+        LongAdder counter = candidates.get(candidateId);
+        if (counter == null) {
+            counter = candidates.computeIfAbsent(candidateId, id -> new LongAdder());
+        }
+        return counter;
+    }
+}
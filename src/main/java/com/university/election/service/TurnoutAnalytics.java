@@ -0,0 +1,376 @@
+package com.university.election.service;
+
+import com.university.election.dto.TurnoutBreakdown;
+import com.university.election.exception.ResourceNotFoundException;
+import com.university.election.model.Student;
+import com.university.election.repository.ElectionRepository;
+import com.university.election.repository.StudentRepository;
+import com.university.election.repository.VoteRepository;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static com.university.election.utils.TransactionUtils.afterCommit;
+
+/**
+ * Per-election turnout by faculty x year of study, kept in memory (TurnoutTable)
+ * - Counters rebuilt at startup from one aggregate query; the student -> group directory from one
+ *   streaming scan of four columns
+ * - Updated after every committed ballot and student create/update/delete
+ * - A breakdown costs the number of faculty x year groups, whatever the number of students
+ *
+ * Changes the table cannot apply incrementally (deleting or moving a student who has voted, ballots
+ * removed by a candidate cascade, a ballot of a student it has not seen) mark the counters stale: the
+ * next breakdown recounts them with the aggregate query. The recount runs outside the lock, so ballots
+ * keep committing meanwhile. The query also reports the highest ballot id it saw: a ballot recorded
+ * meanwhile with a higher id is replayed onto the result, one with a lower id (it committed out of id
+ * order) is looked up in the recount's own snapshot. A recount therefore converges in one pass.
+ * Assumes this application is the only writer of votes and students.
+ */
+@Component
+public class TurnoutAnalytics implements SmartInitializingSingleton {
+
+    private final StudentRepository studentRepository;
+    private final ElectionRepository electionRepository;
+    private final VoteRepository voteRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // One recount at a time; never taken by writers
+    private final ReentrantLock recounting = new ReentrantLock();
+
+    // Guarded by lock
+    private TurnoutTable table = new TurnoutTable();
+    private final Set<Integer> elections = new HashSet<>();
+    private boolean stale;
+    // Elections with a ballot that may be counted twice (it committed before the last count was taken,
+    // but was recorded only after that count was installed)
+    private final Set<Integer> staleElections = new HashSet<>();
+    // Changes seen while a recount runs (null when none runs)
+    private Recount recount;
+    // Highest ballot id included in the installed counts
+    private long countedVoteId;
+
+    /**
+     * What happened while a recount's query ran, replayed onto its counts before they are installed
+     */
+    private static final class Recount {
+        private final List<Ballot> ballots = new ArrayList<>();
+        private final Set<Integer> forgotten = new HashSet<>();
+        private boolean invalidated;
+    }
+
+    /**
+     * A committed ballot recorded while a recount ran; counted = already in the recount's query
+     * (null until looked up, only ever for ids not above the query's highest id)
+     */
+    private static final class Ballot {
+        private final int electionId;
+        private final int studentId;
+        private final int voteId;
+        private Boolean counted;
+
+        private Ballot(int electionId, int studentId, int voteId) {
+            this.electionId = electionId;
+            this.studentId = studentId;
+            this.voteId = voteId;
+        }
+    }
+
+    /**
+     * One row of the aggregate query, kept until the recount is installed
+     */
+    private record TurnoutCount(String faculty, int yearOfStudy, int electionId, long count) {
+    }
+
+    @Autowired
+    public TurnoutAnalytics(StudentRepository studentRepository, ElectionRepository electionRepository,
+                            VoteRepository voteRepository, PlatformTransactionManager transactionManager) {
+        this.studentRepository = studentRepository;
+        this.electionRepository = electionRepository;
+        this.voteRepository = voteRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // One snapshot for the count and the lookups of ballots that committed out of id order
+        this.readOnlyTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    /**
+     * Load before lifecycle beans (web server, vote ingestion) start accepting votes
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        load();
+    }
+
+    /**
+     * Rebuild the directory and every counter
+     * Also call once students were inserted behind the service layer (CSV import) and have committed
+     */
+    public void load() {
+        write(() -> {
+            TurnoutTable loaded = new TurnoutTable();
+            long[] counted = new long[1];
+            readOnlyTransaction.executeWithoutResult(status -> {
+                studentRepository.streamTurnoutGroups(loaded::putStudent);
+                loaded.clearCounts();
+                counted[0] = count(loaded);
+            });
+            table = loaded;
+            countedVoteId = counted[0];
+            stale = false;
+            staleElections.clear();
+            if (recount != null) {
+                recount.invalidated = true;
+            }
+        });
+    }
+
+    public void addStudent(Student student) {
+        addStudents(List.of(student));
+    }
+
+    /**
+     * Add created students, or move updated ones to their current faculty and year
+     */
+    public void addStudents(List<Student> students) {
+        afterCommit(() -> write(() -> {
+            for (Student student : students) {
+                if (!table.putStudent(student.getId(), student.getFaculty(), student.getYearOfStudy(), student.getHasVoted())) {
+                    markStale();
+                }
+            }
+            // The recount's eligible counts may predate these students
+            if (recount != null) {
+                recount.invalidated = true;
+            }
+        }));
+    }
+
+    /**
+     * Drop a deleted student (its ballots went with it)
+     */
+    public void removeStudent(Integer id) {
+        removeStudents(List.of(id));
+    }
+
+    public void removeStudents(List<Integer> ids) {
+        afterCommit(() -> write(() -> {
+            for (Integer id : ids) {
+                if (!table.removeStudent(id)) {
+                    markStale();
+                }
+            }
+            if (recount != null) {
+                recount.invalidated = true;
+            }
+        }));
+    }
+
+    /**
+     * Count a committed ballot in the voter's faculty and year
+     */
+    public void recordVote(Integer electionId, Integer studentId, Integer voteId) {
+        afterCommit(() -> write(() -> {
+            if (!table.recordVote(electionId, studentId)) {
+                markStale();
+            }
+            if (recount != null) {
+                recount.ballots.add(new Ballot(electionId, studentId, voteId));
+            } else if (voteId <= countedVoteId) {
+                // Committed before the installed count was taken, yet recorded only now: it may be in it
+                staleElections.add(electionId);
+            }
+        }));
+    }
+
+    /**
+     * Drop an election whose ballots were deleted with it
+     */
+    public void forgetElection(Integer electionId) {
+        afterCommit(() -> write(() -> {
+            table.forgetElection(electionId);
+            elections.remove(electionId);
+            staleElections.remove(electionId);
+            if (recount != null) {
+                recount.forgotten.add(electionId);
+            }
+        }));
+    }
+
+    /**
+     * Ballots were deleted by cascade (candidate removed): recount on the next breakdown
+     */
+    public void invalidateVotes() {
+        afterCommit(() -> write(this::markStale));
+    }
+
+    /**
+     * Eligible and voted students of an election by faculty and year (no database access once the
+     * election has been seen and the counters are current)
+     * The existence check and a recount run outside the lock: ballots keep committing meanwhile
+     */
+    public TurnoutBreakdown breakdown(Integer electionId) {
+        boolean known;
+        lock.readLock().lock();
+        try {
+            if (isCurrent(electionId)) {
+                return table.breakdown(electionId);
+            }
+            known = elections.contains(electionId);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        if (!known) {
+            if (!electionRepository.existsById(electionId)) {
+                throw new ResourceNotFoundException("Election not found with id: " + electionId);
+            }
+            write(() -> elections.add(electionId));
+        }
+
+        recounting.lock();
+        try {
+            // A recount that finished while this one waited may have brought the election up to date
+            lock.readLock().lock();
+            boolean current;
+            try {
+                current = isCurrent(electionId);
+            } finally {
+                lock.readLock().unlock();
+            }
+            if (!current) {
+                recount();
+            }
+        } finally {
+            recounting.unlock();
+        }
+
+        lock.readLock().lock();
+        try {
+            return table.breakdown(electionId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean isCurrent(Integer electionId) {
+        return !stale && !staleElections.contains(electionId) && elections.contains(electionId);
+    }
+
+    /**
+     * Recount every counter with the aggregate query (outside the lock), then install the result with
+     * the ballots recorded meanwhile replayed onto it, except those the query already counted
+     */
+    private void recount() {
+        Recount started = new Recount();
+        write(() -> recount = started);
+
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                List<TurnoutCount> counts = new ArrayList<>();
+                long counted = studentRepository.countTurnout((faculty, yearOfStudy, electionId, count) ->
+                        counts.add(new TurnoutCount(faculty, yearOfStudy, electionId, count)));
+
+                // A ballot id not above the query's highest one committed out of order: it may or may not be
+                // in the count. Look those up in this transaction's snapshot until none is left, then install
+                // (ids are never reused, so only ballots already inserted when the query ran can be such)
+                List<Ballot> unresolved = install(started, counts, counted);
+                while (!unresolved.isEmpty()) {
+                    List<Ballot> lookup = unresolved;
+                    Set<Integer> existing = voteRepository.findExistingIds(
+                            lookup.stream().map(ballot -> ballot.voteId).toList());
+                    write(() -> lookup.forEach(ballot -> ballot.counted = existing.contains(ballot.voteId)));
+                    unresolved = install(started, counts, counted);
+                }
+            });
+        } finally {
+            write(() -> {
+                if (recount == started) {
+                    recount = null;
+                }
+            });
+        }
+    }
+
+    /**
+     * Install the recount unless some ballot recorded meanwhile has not been resolved yet
+     * @return the ballots to look up first (empty once installed)
+     */
+    private List<Ballot> install(Recount started, List<TurnoutCount> counts, long counted) {
+        lock.writeLock().lock();
+        try {
+            List<Ballot> unresolved = new ArrayList<>();
+            for (Ballot ballot : started.ballots) {
+                if (ballot.voteId <= counted && ballot.counted == null) {
+                    unresolved.add(ballot);
+                }
+            }
+            if (!unresolved.isEmpty()) {
+                return unresolved;
+            }
+
+            recount = null;
+            countedVoteId = counted;
+            table.clearCounts();
+            for (TurnoutCount count : counts) {
+                if (count.electionId() == 0) {
+                    table.addEligible(count.faculty(), count.yearOfStudy(), count.count());
+                } else {
+                    table.addVoted(count.electionId(), count.faculty(), count.yearOfStudy(), count.count());
+                }
+            }
+            stale = started.invalidated;
+            staleElections.clear();
+            for (Ballot ballot : started.ballots) {
+                if (ballot.voteId > counted || !ballot.counted) {
+                    if (!table.recordVote(ballot.electionId, ballot.studentId)) {
+                        stale = true;
+                    }
+                }
+            }
+            started.forgotten.forEach(table::forgetElection);
+            return unresolved;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Counters can no longer be updated incrementally: recount on the next breakdown
+     */
+    private void markStale() {
+        stale = true;
+        if (recount != null) {
+            recount.invalidated = true;
+        }
+    }
+
+    private long count(TurnoutTable target) {
+        return studentRepository.countTurnout((faculty, yearOfStudy, electionId, count) -> {
+            if (electionId == 0) {
+                target.addEligible(faculty, yearOfStudy, count);
+            } else {
+                target.addVoted(electionId, faculty, yearOfStudy, count);
+            }
+        });
+    }
+
+    private void write(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            change.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
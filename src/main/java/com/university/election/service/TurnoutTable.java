@@ -0,0 +1,147 @@
+package com.university.election.service;
+
+import com.university.election.dto.TurnoutBreakdown;
+import com.university.election.dto.TurnoutGroup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Turnout counters by faculty x year of study over primitive arrays
+ * - A group is (faculty index * 4 + year - 1); faculty names are interned once
+ * - eligible[group] counts students, voted[election][group] counts ballots
+ * - A directory int[] indexed by student id holds each student's group + 1 (0 = unknown) and a
+ *   "voted in some election" bit, so a ballot or a student change is a couple of array writes
+ *
+ * Moving or deleting a student who has voted would need to know which elections the ballots were in;
+ * those calls return false and the caller recounts the ballots instead (clearCounts + add*).
+ * Not thread-safe: TurnoutAnalytics serializes writers against readers.
+ */
+final class TurnoutTable {
+
+    static final int YEARS = 4;
+
+    private static final int VOTED = 0x8000_0000;
+    private static final int GROUP_MASK = ~VOTED;
+    private static final int MIN_DIRECTORY = 1024;
+
+    private final Map<String, Integer> facultyIndex = new HashMap<>();
+    private final TreeMap<String, Integer> facultiesByName = new TreeMap<>();
+    private long[] eligible = new long[0];
+    private final Map<Integer, long[]> voted = new HashMap<>();
+    private int[] directory = new int[MIN_DIRECTORY];
+
+    /**
+     * Add a student, or move it to its (possibly changed) faculty and year
+     * @return false if a student who has voted changed group: the ballot counts must be recounted
+     */
+    boolean putStudent(int id, String faculty, int yearOfStudy, boolean hasVoted) {
+        int group = group(faculty, yearOfStudy);
+        if (id >= directory.length) {
+            directory = Arrays.copyOf(directory, Math.max(id + 1, directory.length * 2));
+        }
+        int entry = directory[id];
+        int previous = (entry & GROUP_MASK) - 1;
+        boolean voter = (entry & VOTED) != 0 || hasVoted;
+        directory[id] = (group + 1) | (voter ? VOTED : 0);
+        if (previous == group) {
+            return true;
+        }
+        if (previous >= 0) {
+            eligible[previous]--;
+        }
+        eligible[group]++;
+        return previous < 0 || (entry & VOTED) == 0;
+    }
+
+    /**
+     * @return false if the student had voted: its ballots went with it and must be recounted
+     */
+    boolean removeStudent(int id) {
+        if (id < 0 || id >= directory.length || directory[id] == 0) {
+            return true;
+        }
+        int entry = directory[id];
+        directory[id] = 0;
+        eligible[(entry & GROUP_MASK) - 1]--;
+        return (entry & VOTED) == 0;
+    }
+
+    /**
+     * Count one ballot in the voter's group
+     * @return false if the student is not in the directory (the ballot was not counted)
+     */
+    boolean recordVote(int electionId, int studentId) {
+        if (studentId < 0 || studentId >= directory.length || directory[studentId] == 0) {
+            return false;
+        }
+        directory[studentId] |= VOTED;
+        counts(electionId)[(directory[studentId] & GROUP_MASK) - 1]++;
+        return true;
+    }
+
+    void forgetElection(int electionId) {
+        voted.remove(electionId);
+    }
+
+    /**
+     * Zero every counter before a recount; the directory is kept
+     */
+    void clearCounts() {
+        Arrays.fill(eligible, 0);
+        voted.clear();
+    }
+
+    void addEligible(String faculty, int yearOfStudy, long students) {
+        eligible[group(faculty, yearOfStudy)] += students;
+    }
+
+    void addVoted(int electionId, String faculty, int yearOfStudy, long ballots) {
+        int group = group(faculty, yearOfStudy);
+        counts(electionId)[group] += ballots;
+    }
+
+    /**
+     * Every group with at least one eligible student or ballot, by faculty then year
+     * Cost depends on the number of faculties only, not on the number of students
+     */
+    TurnoutBreakdown breakdown(int electionId) {
+        long[] ballots = voted.get(electionId);
+        List<TurnoutGroup> groups = new ArrayList<>();
+        for (Map.Entry<String, Integer> faculty : facultiesByName.entrySet()) {
+            int first = faculty.getValue() * YEARS;
+            for (int year = 1; year <= YEARS; year++) {
+                int group = first + year - 1;
+                long votes = ballots != null && group < ballots.length ? ballots[group] : 0;
+                if (eligible[group] != 0 || votes != 0) {
+                    groups.add(new TurnoutGroup(faculty.getKey(), year, eligible[group], votes));
+                }
+            }
+        }
+        return new TurnoutBreakdown(electionId, groups);
+    }
+
+    private long[] counts(int electionId) {
+        long[] counts = voted.get(electionId);
+        if (counts == null || counts.length < eligible.length) {
+            counts = counts == null ? new long[eligible.length] : Arrays.copyOf(counts, eligible.length);
+            voted.put(electionId, counts);
+        }
+        return counts;
+    }
+
+    private int group(String faculty, int yearOfStudy) {
+        Integer index = facultyIndex.get(faculty);
+        if (index == null) {
+            index = facultyIndex.size();
+            facultyIndex.put(faculty, index);
+            facultiesByName.put(faculty, index);
+            eligible = Arrays.copyOf(eligible, (index + 1) * YEARS);
+        }
+        return index * YEARS + Math.clamp(yearOfStudy, 1, YEARS) - 1;
+    }
+}
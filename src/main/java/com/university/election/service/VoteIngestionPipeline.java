@@ -0,0 +1,343 @@
+package com.university.election.service;
+
+import com.university.election.dto.IngestionStats;
+import com.university.election.exception.DuplicateResourceException;
+import com.university.election.exception.InvalidInputException;
+import com.university.election.exception.ResourceNotFoundException;
+import com.university.election.exception.ServiceUnavailableException;
+import com.university.election.model.Vote;
+import com.university.election.patterns.singleton.AppLogger;
+import com.university.election.patterns.singleton.AuditLogger;
+import com.university.election.repository.StudentRepository;
+import com.university.election.repository.VoteRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Group-commit vote ingestion
+ * - Votes wait on a bounded queue; a full queue is rejected with 503 instead of piling up requests
+ * - One committer thread flushes every batch-size votes or linger-ms, whichever comes first,
+ *   as a single transaction (batched has_voted flags + batched ballot insert)
+ * - Each caller's future completes only after its batch has committed
+ * - If a batch fails (e.g., a ballot names a candidate outside the election) it is split in halves
+ *   and each half retried, so one bad ballot costs about log2(batch-size) extra transactions rather
+ *   than one per vote; a single failing vote goes through VoteService to report its own error
+ *
+ * With app.votes.ingestion.enabled=false votes are cast synchronously, one transaction each.
+ */
+@Component
+public class VoteIngestionPipeline implements SmartLifecycle {
+
+    private enum Outcome { STORED, NOT_FOUND, DUPLICATE_BALLOT }
+
+    private static final AppLogger LOG = AppLogger.getInstance();
+    private static final AppLogger.Sampler QUEUE_FULL = LOG.sampled(Duration.ofSeconds(1));
+
+    private static final class PendingVote {
+        private final Vote vote;
+        private final CompletableFuture<Vote> result = new CompletableFuture<>();
+
+        private PendingVote(Vote vote) {
+            this.vote = vote;
+        }
+    }
+
+    private final VoteService voteService;
+    private final VoteRepository voteRepository;
+    private final StudentRepository studentRepository;
+    private final TallyEngine tallyEngine;
+    private final EligibilityIndex eligibilityIndex;
+    private final VoterBitmapIndex voterIndex;
+    private final TurnoutAnalytics turnout;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final long lingerMillis;
+    private final int queueCapacity;
+    private final BlockingQueue<PendingVote> queue;
+
+    private volatile boolean running;
+    private Thread committer;
+
+    // Written by the committer thread only
+    private final AtomicLong batchesCommitted = new AtomicLong();
+    private final AtomicLong batchedVotes = new AtomicLong();
+    private final AtomicLong votesCommitted = new AtomicLong();
+    private final AtomicLong votesRejected = new AtomicLong();
+    private final AtomicLong fallbackBatches = new AtomicLong();
+    private final AtomicLong totalCommitNanos = new AtomicLong();
+    private volatile long maxCommitNanos;
+    private volatile long lastCommitNanos;
+    private volatile int lastBatchSize;
+    private volatile long firstCommitAt;
+
+    @Autowired
+    public VoteIngestionPipeline(VoteService voteService,
+                                 VoteRepository voteRepository,
+                                 StudentRepository studentRepository,
+                                 TallyEngine tallyEngine,
+                                 EligibilityIndex eligibilityIndex,
+                                 VoterBitmapIndex voterIndex,
+                                 TurnoutAnalytics turnout,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${app.votes.ingestion.enabled:true}") boolean enabled,
+                                 @Value("${app.votes.ingestion.batch-size:200}") int batchSize,
+                                 @Value("${app.votes.ingestion.linger-ms:5}") long lingerMillis,
+                                 @Value("${app.votes.ingestion.queue-capacity:10000}") int queueCapacity) {
+        this.voteService = voteService;
+        this.voteRepository = voteRepository;
+        this.studentRepository = studentRepository;
+        this.tallyEngine = tallyEngine;
+        this.eligibilityIndex = eligibilityIndex;
+        this.voterIndex = voterIndex;
+        this.turnout = turnout;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.lingerMillis = lingerMillis;
+        this.queueCapacity = queueCapacity;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    /**
+     * Queue a vote for the next batch
+     * @return a future completed with the stored vote once its batch has committed
+     * @throws ServiceUnavailableException if the queue is full
+     */
+    public CompletableFuture<Vote> submit(Integer electionId, Vote vote) {
+        if (vote.getStudentId() == null || vote.getCandidateId() == null) {
+            throw new InvalidInputException("Student id and candidate id are required");
+        }
+        if (!enabled || !running) {
+            return CompletableFuture.completedFuture(voteService.castVote(electionId, vote));
+        }
+
+        vote.setElectionId(electionId);
+        PendingVote pending = new PendingVote(vote);
+        if (!queue.offer(pending)) {
+            QUEUE_FULL.warn("Vote queue is full ({} votes), rejecting with 503", queueCapacity);
+            throw new ServiceUnavailableException("Vote queue is full, please retry");
+        }
+        return pending.result;
+    }
+
+    @Override
+    public void start() {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+        committer = new Thread(this::runCommitter, "vote-ingestion");
+        committer.setDaemon(true);
+        committer.start();
+    }
+
+    /**
+     * Stop accepting votes and commit everything already queued
+     */
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            committer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Votes that raced with shutdown
+        PendingVote pending;
+        while ((pending = queue.poll()) != null) {
+            pending.result.completeExceptionally(new ServiceUnavailableException("Vote ingestion is shutting down"));
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    public IngestionStats getStats() {
+        IngestionStats stats = new IngestionStats();
+        stats.setEnabled(enabled);
+        stats.setBatchSize(batchSize);
+        stats.setLingerMillis(lingerMillis);
+        stats.setQueueCapacity(queueCapacity);
+        stats.setQueueDepth(queue.size());
+
+        long batches = batchesCommitted.get();
+        long votes = votesCommitted.get();
+        stats.setBatchesCommitted(batches);
+        stats.setVotesCommitted(votes);
+        stats.setVotesRejected(votesRejected.get());
+        stats.setFallbackBatches(fallbackBatches.get());
+        stats.setLastBatchSize(lastBatchSize);
+        stats.setLastCommitMillis(lastCommitNanos / 1_000_000.0);
+        stats.setMaxCommitMillis(maxCommitNanos / 1_000_000.0);
+        if (batches > 0) {
+            stats.setAverageBatchSize((double) batchedVotes.get() / batches);
+            stats.setAverageCommitMillis(totalCommitNanos.get() / 1_000_000.0 / batches);
+            long elapsed = System.nanoTime() - firstCommitAt;
+            stats.setVotesPerSecond(elapsed > 0 ? votes * 1_000_000_000.0 / elapsed : 0);
+        }
+        return stats;
+    }
+
+    private void runCommitter() {
+        List<PendingVote> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingVote first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // Linger until the batch is full or the time is up
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() == batchSize || remaining <= 0) {
+                        break;
+                    }
+                    PendingVote next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                running = false;
+            }
+
+            if (!batch.isEmpty()) {
+                commit(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Commit one batch in a single transaction, then complete every caller's future
+     */
+    private void commit(List<PendingVote> batch) {
+        List<Vote> votes = new ArrayList<>(batch.size());
+        List<Integer> studentIds = new ArrayList<>(batch.size());
+        for (PendingVote pending : batch) {
+            votes.add(pending.vote);
+            studentIds.add(pending.vote.getStudentId());
+        }
+
+        long started = System.nanoTime();
+        Outcome[] outcomes;
+        try {
+            outcomes = transactionTemplate.execute(status -> {
+                Outcome[] result = new Outcome[votes.size()];
+                boolean[] found = studentRepository.flagAllAsVoted(studentIds);
+
+                List<Vote> ballots = new ArrayList<>(votes.size());
+                for (int i = 0; i < votes.size(); i++) {
+                    if (found[i]) {
+                        ballots.add(votes.get(i));
+                    } else {
+                        result[i] = Outcome.NOT_FOUND;
+                    }
+                }
+
+                boolean[] stored = ballots.isEmpty() ? new boolean[0] : voteRepository.insertAllIfAbsent(ballots);
+                for (int i = 0, ballot = 0; i < votes.size(); i++) {
+                    if (found[i]) {
+                        result[i] = stored[ballot++] ? Outcome.STORED : Outcome.DUPLICATE_BALLOT;
+                    }
+                }
+                return result;
+            });
+        } catch (RuntimeException e) {
+            fallbackBatches.incrementAndGet();
+            LOG.debug("Batch of {} votes failed ({}), retrying in halves", batch.size(), e.getMessage());
+            retry(batch);
+            return;
+        }
+        recordBatch(batch.size(), System.nanoTime() - started);
+
+        for (int i = 0; i < batch.size(); i++) {
+            PendingVote pending = batch.get(i);
+            Vote vote = pending.vote;
+            if (outcomes[i] == Outcome.STORED) {
+                votesCommitted.incrementAndGet();
+                tallyEngine.record(vote.getElectionId(), vote.getCandidateId());
+                eligibilityIndex.markVoted(vote.getStudentId());
+                voterIndex.recordVote(vote.getElectionId(), vote.getStudentId());
+                turnout.recordVote(vote.getElectionId(), vote.getStudentId(), vote.getId());
+                AuditLogger.getInstance().logVote(vote.getStudentId(), vote.getCandidateId(), vote.getElectionId());
+                pending.result.complete(vote);
+            } else {
+                votesRejected.incrementAndGet();
+                pending.result.completeExceptionally(rejection(vote, outcomes[i]));
+            }
+        }
+    }
+
+    /**
+     * Fallback for a failed batch: commit each half as its own batch (the good half commits at once,
+     * the bad one is split again); a single vote is cast through VoteService for its exact error
+     */
+    private void retry(List<PendingVote> batch) {
+        // The rolled-back insert may have assigned them
+        for (PendingVote pending : batch) {
+            pending.vote.setId(null);
+            pending.vote.setCastAt(null);
+        }
+        if (batch.size() > 1) {
+            int half = batch.size() / 2;
+            commit(batch.subList(0, half));
+            commit(batch.subList(half, batch.size()));
+            return;
+        }
+
+        PendingVote pending = batch.get(0);
+        try {
+            pending.result.complete(voteService.castVote(pending.vote.getElectionId(), pending.vote));
+            votesCommitted.incrementAndGet();
+        } catch (RuntimeException e) {
+            votesRejected.incrementAndGet();
+            pending.result.completeExceptionally(e);
+        }
+    }
+
+    private RuntimeException rejection(Vote vote, Outcome outcome) {
+        if (outcome == Outcome.DUPLICATE_BALLOT) {
+            return new DuplicateResourceException("Student has already voted in election: " + vote.getElectionId());
+        }
+        return new ResourceNotFoundException("Student not found with id: " + vote.getStudentId());
+    }
+
+    private void recordBatch(int size, long commitNanos) {
+        if (batchesCommitted.getAndIncrement() == 0) {
+            firstCommitAt = System.nanoTime() - commitNanos;
+        }
+        batchedVotes.addAndGet(size);
+        totalCommitNanos.addAndGet(commitNanos);
+        lastCommitNanos = commitNanos;
+        lastBatchSize = size;
+        if (commitNanos > maxCommitNanos) {
+            maxCommitNanos = commitNanos;
+        }
+    }
+}
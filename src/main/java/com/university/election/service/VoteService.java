@@ -0,0 +1,10 @@
+package com.university.election.service;
+
+import com.university.election.model.Vote;
+
+/**
+ * Vote Service Interface
+ */
+public interface VoteService {
+    Vote castVote(Integer electionId, Vote vote);
+}
@@ -0,0 +1,75 @@
+package com.university.election.service;
+
+import com.university.election.exception.DuplicateResourceException;
+import com.university.election.exception.InvalidInputException;
+import com.university.election.exception.ResourceNotFoundException;
+import com.university.election.model.Vote;
+import com.university.election.patterns.singleton.AuditLogger;
+import com.university.election.repository.StudentRepository;
+import com.university.election.repository.VoteRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Vote Service Implementation
+ * Casting a vote is one transaction of two single-statement steps:
+ * - UPDATE of students.has_voted (voted in at least one election); it also locks the student row,
+ *   so concurrent ballots of one student are serialized
+ * - INSERT into the votes ledger, ignoring a second ballot for the same election
+ * A student may vote once per election. Any failure rolls back the has_voted flip as well.
+ * The tally, eligibility and voter indexes, turnout counters, cached election summaries and audit log are
+ * updated only after the transaction commits.
+ */
+@Service
+public class VoteServiceImpl implements VoteService {
+
+    private final VoteRepository repository;
+    private final StudentRepository studentRepository;
+    private final TallyEngine tallyEngine;
+    private final EligibilityIndex eligibilityIndex;
+    private final VoterBitmapIndex voterIndex;
+    private final TurnoutAnalytics turnout;
+
+    @Autowired
+    public VoteServiceImpl(VoteRepository repository, StudentRepository studentRepository, TallyEngine tallyEngine,
+                           EligibilityIndex eligibilityIndex, VoterBitmapIndex voterIndex, TurnoutAnalytics turnout) {
+        this.repository = repository;
+        this.studentRepository = studentRepository;
+        this.tallyEngine = tallyEngine;
+        this.eligibilityIndex = eligibilityIndex;
+        this.voterIndex = voterIndex;
+        this.turnout = turnout;
+    }
+
+    @Override
+    @Transactional
+    public Vote castVote(Integer electionId, Vote vote) {
+        if (vote.getStudentId() == null || vote.getCandidateId() == null) {
+            throw new InvalidInputException("Student id and candidate id are required");
+        }
+        vote.setElectionId(electionId);
+
+        if (!studentRepository.flagAsVoted(vote.getStudentId())) {
+            throw new ResourceNotFoundException("Student not found with id: " + vote.getStudentId());
+        }
+
+        Vote recorded = repository.insertIfAbsent(vote)
+                .orElseThrow(() -> new DuplicateResourceException("Student has already voted in election: " + electionId));
+
+        // Applied by the indexes themselves once this transaction commits
+        eligibilityIndex.markVoted(recorded.getStudentId());
+        voterIndex.recordVote(recorded.getElectionId(), recorded.getStudentId());
+        turnout.recordVote(recorded.getElectionId(), recorded.getStudentId(), recorded.getId());
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                tallyEngine.record(recorded.getElectionId(), recorded.getCandidateId());
+                AuditLogger.getInstance().logVote(recorded.getStudentId(), recorded.getCandidateId(), recorded.getElectionId());
+            }
+        });
+        return recorded;
+    }
+}
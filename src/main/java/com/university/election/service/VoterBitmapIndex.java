@@ -0,0 +1,333 @@
+package com.university.election.service;
+
+import com.university.election.dto.VoterCounts;
+import com.university.election.exception.ResourceNotFoundException;
+import com.university.election.repository.ElectionRepository;
+import com.university.election.repository.StudentRepository;
+import com.university.election.repository.VoteRepository;
+import com.university.election.utils.IntBitmap;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static com.university.election.utils.TransactionUtils.afterCommit;
+
+/**
+ * Per-election voter sets kept in memory as compressed bitmaps of student ids
+ * - One IntBitmap of all student ids, plus one per election of the students with a ballot in it
+ * - Rebuilt at startup from the votes ledger (the durable, incrementally written record), then
+ *   updated after every committed ballot and student change
+ * - Turnout is two cardinalities; voter / non-voter id lists are a bitmap walk and an and-not walk
+ *
+ * Deleting a candidate removes its ballots by cascade: every election is then re-read from the
+ * votes table on its next query. Assumes this application is the only writer of votes and students.
+ */
+@Component
+public class VoterBitmapIndex implements SmartInitializingSingleton {
+
+    private static final class Voters {
+        private IntBitmap students = new IntBitmap();
+        private long generation;
+        // Ballots recorded while the election is re-read outside the lock (null when no re-read runs)
+        private IntBitmap recordedDuringReload;
+
+        private Voters(long generation) {
+            this.generation = generation;
+        }
+    }
+
+    /**
+     * Student ids added and removed while reloadStudents scans outside the lock
+     */
+    private static final class StudentReload {
+        private final IntBitmap added = new IntBitmap();
+        private final IntBitmap removed = new IntBitmap();
+    }
+
+    private final StudentRepository studentRepository;
+    private final VoteRepository voteRepository;
+    private final ElectionRepository electionRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Guarded by lock
+    private IntBitmap students = new IntBitmap();
+    private final Map<Integer, Voters> elections = new HashMap<>();
+    private long generation;
+    // Bumped by student and election removals: a load that raced one is redone
+    private long removals;
+    // Changes seen while reloadStudents scans (null when no reload runs)
+    private StudentReload studentReload;
+
+    @Autowired
+    public VoterBitmapIndex(StudentRepository studentRepository, VoteRepository voteRepository,
+                            ElectionRepository electionRepository, PlatformTransactionManager transactionManager) {
+        this.studentRepository = studentRepository;
+        this.voteRepository = voteRepository;
+        this.electionRepository = electionRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Load before lifecycle beans (web server, vote ingestion) start accepting votes
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        load();
+    }
+
+    /**
+     * Rebuild every bitmap with one streaming scan of student ids and one of the votes ledger
+     */
+    public void load() {
+        lock.writeLock().lock();
+        try {
+            students.clear();
+            elections.clear();
+            generation++;
+            studentReload = null;
+            readOnlyTransaction.executeWithoutResult(status -> {
+                studentRepository.streamIds(students::add);
+                voteRepository.streamBallots((electionId, studentId) -> voters(electionId).students.add(studentId));
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Record a committed ballot
+     */
+    public void recordVote(Integer electionId, Integer studentId) {
+        afterCommit(() -> write(() -> {
+            addStudentId(studentId);
+            Voters voters = voters(electionId);
+            voters.students.add(studentId);
+            if (voters.recordedDuringReload != null) {
+                voters.recordedDuringReload.add(studentId);
+            }
+        }));
+    }
+
+    public void addStudent(Integer id) {
+        afterCommit(() -> write(() -> addStudentId(id)));
+    }
+
+    public void addStudents(List<Integer> ids) {
+        afterCommit(() -> write(() -> ids.forEach(this::addStudentId)));
+    }
+
+    /**
+     * Drop a deleted student (its ballots went with it)
+     */
+    public void removeStudent(Integer id) {
+        removeStudents(List.of(id));
+    }
+
+    public void removeStudents(List<Integer> ids) {
+        afterCommit(() -> write(() -> {
+            for (Integer id : ids) {
+                students.remove(id);
+                if (studentReload != null) {
+                    studentReload.removed.add(id);
+                }
+                for (Voters voters : elections.values()) {
+                    voters.students.remove(id);
+                }
+            }
+            removals++;
+        }));
+    }
+
+    /**
+     * Drop an election whose ballots were deleted with it
+     */
+    public void forgetElection(Integer electionId) {
+        afterCommit(() -> write(() -> {
+            elections.remove(electionId);
+            removals++;
+        }));
+    }
+
+    /**
+     * Ballots were deleted by cascade (candidate removed): re-read each election on its next query
+     */
+    public void invalidateVotes() {
+        afterCommit(() -> write(() -> {
+            generation++;
+            // Ballots buffered so far may have been deleted by the cascade: later re-reads start afresh
+            for (Voters voters : elections.values()) {
+                voters.recordedDuringReload = null;
+            }
+        }));
+    }
+
+    /**
+     * Students were inserted behind the service layer (CSV import): re-read the student ids
+     * Call once the inserting transactions have committed
+     * The scan fills a new bitmap outside the lock; students added or removed meanwhile are buffered and
+     * applied to it when it is swapped in, and a failed scan leaves the current bitmap as it was
+     */
+    public void reloadStudents() {
+        StudentReload started = new StudentReload();
+        write(() -> studentReload = started);
+        try {
+            IntBitmap reloaded = new IntBitmap();
+            readOnlyTransaction.executeWithoutResult(status -> studentRepository.streamIds(reloaded::add));
+            write(() -> {
+                // A later reload (or a full load) supersedes this one
+                if (studentReload == started) {
+                    started.added.forEach(reloaded::add);
+                    started.removed.forEach(reloaded::remove);
+                    students = reloaded;
+                }
+            });
+        } finally {
+            write(() -> {
+                if (studentReload == started) {
+                    studentReload = null;
+                }
+            });
+        }
+    }
+
+    /**
+     * Students, voters and non-voters of an election (two cardinalities, no database access)
+     */
+    public VoterCounts counts(Integer electionId) {
+        return read(electionId, voters -> new VoterCounts(electionId, students.cardinality(), voters.cardinality()));
+    }
+
+    /**
+     * Ids of the students who voted (or did not vote) in an election, in ascending order
+     */
+    public int[] voterIds(Integer electionId, boolean voted) {
+        return read(electionId, voters -> {
+            if (voted) {
+                return voters.toArray();
+            }
+            int[] ids = new int[students.cardinality() - voters.cardinality()];
+            int[] next = {0};
+            students.forEachAndNot(voters, id -> ids[next[0]++] = id);
+            return ids;
+        });
+    }
+
+    /**
+     * Whether a student has a ballot in an election
+     */
+    public boolean hasVoted(Integer electionId, Integer studentId) {
+        return read(electionId, voters -> voters.contains(studentId));
+    }
+
+    private interface Query<T> {
+        T apply(IntBitmap voters);
+    }
+
+    /**
+     * Run a query against an election's voters under the read lock
+     * An election not seen yet (existence check) or invalidated (re-read) is loaded without holding the
+     * lock, so votes and other readers are never blocked behind a database round trip; the write lock is
+     * taken only to install the result
+     */
+    private <T> T read(Integer electionId, Query<T> query) {
+        while (true) {
+            Voters voters;
+            long expectedGeneration;
+            long expectedRemovals;
+            lock.readLock().lock();
+            try {
+                voters = elections.get(electionId);
+                if (voters != null && voters.generation == generation) {
+                    return query.apply(voters.students);
+                }
+                expectedGeneration = generation;
+                expectedRemovals = removals;
+            } finally {
+                lock.readLock().unlock();
+            }
+
+            if (voters == null) {
+                // No ballot since startup: an existing election has an empty voter set
+                if (!electionRepository.existsById(electionId)) {
+                    throw new ResourceNotFoundException("Election not found with id: " + electionId);
+                }
+                lock.writeLock().lock();
+                try {
+                    if (removals == expectedRemovals) {
+                        return query.apply(voters(electionId).students);
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                continue;
+            }
+
+            // Ballots committed from here on are buffered; earlier ones are visible to the scan
+            Voters stale = voters;
+            lock.writeLock().lock();
+            try {
+                if (elections.get(electionId) != stale || stale.generation == generation) {
+                    continue;
+                }
+                if (stale.recordedDuringReload == null) {
+                    stale.recordedDuringReload = new IntBitmap();
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            IntBitmap reloaded = new IntBitmap();
+            voteRepository.findStudentIds(electionId, reloaded::add);
+
+            lock.writeLock().lock();
+            try {
+                boolean current = elections.get(electionId) == stale && generation == expectedGeneration
+                        && removals == expectedRemovals;
+                if (current && stale.generation != generation) {
+                    // Another reader may have installed this generation already
+                    IntBitmap recorded = stale.recordedDuringReload;
+                    if (recorded != null) {
+                        recorded.forEach(reloaded::add);
+                    }
+                    stale.students = reloaded;
+                    stale.recordedDuringReload = null;
+                    stale.generation = generation;
+                }
+                if (current) {
+                    return query.apply(stale.students);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            // An invalidation or removal raced the re-read: start over
+        }
+    }
+
+    private void addStudentId(int id) {
+        students.add(id);
+        if (studentReload != null) {
+            studentReload.added.add(id);
+        }
+    }
+
+    private Voters voters(Integer electionId) {
+        return elections.computeIfAbsent(electionId, id -> new Voters(generation));
+    }
+
+    private void write(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            change.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.university.election.utils;
+
+import com.university.election.exception.InvalidInputException;
+
+import java.util.List;
+
+/**
+ * Validation shared by the batch endpoints of every service
+ */
+public class BatchUtils {
+
+    /**
+     * Batch operations need at least one element
+     */
+    public static void requireNotEmpty(List<?> items) {
+        if (items == null || items.isEmpty()) {
+            throw new InvalidInputException("Batch cannot be empty");
+        }
+    }
+}
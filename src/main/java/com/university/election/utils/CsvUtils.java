@@ -0,0 +1,68 @@
+package com.university.election.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal CSV helpers (RFC 4180 quoting, one record per line)
+ */
+public class CsvUtils {
+
+    /**
+     * Split one CSV line into fields
+     * Quoted fields may contain commas and doubled quotes ("")
+     */
+    public static List<String> parseLine(String line) {
+        List<String> fields = new ArrayList<>(8);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString().trim());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString().trim());
+        return fields;
+    }
+
+    /**
+     * Append a value as a CSV field, quoting it when needed
+     */
+    public static StringBuilder appendField(StringBuilder out, String value) {
+        if (value == null) {
+            return out;
+        }
+        boolean needsQuotes = value.isEmpty() || value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!needsQuotes) {
+            return out.append(value);
+        }
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                out.append('"');
+            }
+            out.append(c);
+        }
+        return out.append('"');
+    }
+}
@@ -0,0 +1,81 @@
+package com.university.election.utils;
+
+import com.university.election.exception.InvalidInputException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * Keyset pagination helpers
+ * Cursors are the sort key of the last row of a page, Base64url-encoded so clients treat them as opaque
+ */
+public class CursorUtils {
+
+    public static final int MAX_PAGE_SIZE = 500;
+
+    /**
+     * Encode a sort key as an opaque cursor
+     */
+    public static String encode(String key) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor back to its sort key
+     * @return null when no cursor was given (first page)
+     */
+    public static String decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidInputException("Invalid page cursor: " + cursor);
+        }
+    }
+
+    /**
+     * Decode a cursor that holds a single integer id
+     * @return null when no cursor was given (first page)
+     */
+    public static Integer decodeId(String cursor) {
+        String key = decode(cursor);
+        if (key == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(key);
+        } catch (NumberFormatException e) {
+            throw new InvalidInputException("Invalid page cursor: " + cursor);
+        }
+    }
+
+    /**
+     * Decode a cursor that holds "text|id" (the text may itself contain '|')
+     * @return null when no cursor was given (first page)
+     */
+    public static Map.Entry<String, Integer> decodeTextAndId(String cursor) {
+        String key = decode(cursor);
+        if (key == null) {
+            return null;
+        }
+        int separator = key.lastIndexOf('|');
+        try {
+            return Map.entry(key.substring(0, separator), Integer.valueOf(key.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new InvalidInputException("Invalid page cursor: " + cursor);
+        }
+    }
+
+    /**
+     * Validate the requested page size
+     */
+    public static int checkLimit(int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new InvalidInputException("Page limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return limit;
+    }
+}
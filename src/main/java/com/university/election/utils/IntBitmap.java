@@ -0,0 +1,298 @@
+package com.university.election.utils;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Compressed set of non-negative ints (Roaring-style)
+ * - Values are split by their high 16 bits into containers of up to 65536 values
+ * - A container is a sorted char[] of low bits while it holds at most 4096 values (2 bytes per value),
+ *   and a 1024-word long[] bitmap (8 KB, fixed) above that
+ * - cardinality() is O(1); add/remove/contains are a binary search over the container keys, then
+ *   a bit test or a binary search inside the container
+ * - forEach/forEachAndNot iterate in ascending order; bitmap containers are combined a word at a time
+ *
+ * Not thread-safe.
+ */
+public final class IntBitmap {
+
+    private static final int ARRAY_LIMIT = 4096;
+    private static final int BITMAP_WORDS = 1024;
+
+    private char[] keys = new char[4];
+    private char[][] arrays = new char[4][];   // low bits of an array container, null for a bitmap container
+    private long[][] bitmaps = new long[4][];  // words of a bitmap container, null for an array container
+    private int[] counts = new int[4];
+    private int containers;
+    private int cardinality;
+
+    /**
+     * @return true if the value was not in the set
+     */
+    public boolean add(int value) {
+        checkValue(value);
+        char high = (char) (value >>> 16);
+        int container = find(high);
+        if (container < 0) {
+            container = -container - 1;
+            insertContainer(container, high);
+        }
+        if (addLow(container, (char) value)) {
+            cardinality++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return true if the value was in the set
+     */
+    public boolean remove(int value) {
+        if (value < 0) {
+            return false;
+        }
+        int container = find((char) (value >>> 16));
+        if (container < 0 || !removeLow(container, (char) value)) {
+            return false;
+        }
+        cardinality--;
+        if (counts[container] == 0) {
+            removeContainer(container);
+        }
+        return true;
+    }
+
+    public boolean contains(int value) {
+        if (value < 0) {
+            return false;
+        }
+        int container = find((char) (value >>> 16));
+        return container >= 0 && containsLow(container, (char) value);
+    }
+
+    public int cardinality() {
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(arrays, 0, containers, null);
+        Arrays.fill(bitmaps, 0, containers, null);
+        containers = 0;
+        cardinality = 0;
+    }
+
+    /**
+     * Every value in ascending order
+     */
+    public void forEach(IntConsumer action) {
+        for (int container = 0; container < containers; container++) {
+            int base = keys[container] << 16;
+            long[] words = bitmaps[container];
+            if (words == null) {
+                char[] values = arrays[container];
+                for (int i = 0; i < counts[container]; i++) {
+                    action.accept(base | values[i]);
+                }
+            } else {
+                forEachBit(base, words, null, action);
+            }
+        }
+    }
+
+    /**
+     * Every value of this set that is not in other, in ascending order
+     */
+    public void forEachAndNot(IntBitmap other, IntConsumer action) {
+        for (int container = 0; container < containers; container++) {
+            char high = keys[container];
+            int base = high << 16;
+            int match = other.find(high);
+            long[] words = bitmaps[container];
+            if (match < 0) {
+                if (words == null) {
+                    char[] values = arrays[container];
+                    for (int i = 0; i < counts[container]; i++) {
+                        action.accept(base | values[i]);
+                    }
+                } else {
+                    forEachBit(base, words, null, action);
+                }
+            } else if (words != null && other.bitmaps[match] != null) {
+                forEachBit(base, words, other.bitmaps[match], action);
+            } else if (words != null) {
+                for (int word = 0; word < BITMAP_WORDS; word++) {
+                    long bits = words[word];
+                    while (bits != 0) {
+                        char low = (char) ((word << 6) + Long.numberOfTrailingZeros(bits));
+                        if (!other.containsLow(match, low)) {
+                            action.accept(base | low);
+                        }
+                        bits &= bits - 1;
+                    }
+                }
+            } else {
+                char[] values = arrays[container];
+                for (int i = 0; i < counts[container]; i++) {
+                    if (!other.containsLow(match, values[i])) {
+                        action.accept(base | values[i]);
+                    }
+                }
+            }
+        }
+    }
+
+    public int[] toArray() {
+        int[] values = new int[cardinality];
+        int[] next = {0};
+        forEach(value -> values[next[0]++] = value);
+        return values;
+    }
+
+    /**
+     * Approximate heap size of the containers (array headers included)
+     */
+    public long sizeInBytes() {
+        long bytes = 16L + keys.length * 2L + 3 * (16L + keys.length * 8L);
+        for (int container = 0; container < containers; container++) {
+            bytes += bitmaps[container] != null ? 16 + BITMAP_WORDS * 8L : 16 + arrays[container].length * 2L;
+        }
+        return bytes;
+    }
+
+    private static void forEachBit(int base, long[] words, long[] exclude, IntConsumer action) {
+        for (int word = 0; word < BITMAP_WORDS; word++) {
+            long bits = exclude == null ? words[word] : words[word] & ~exclude[word];
+            while (bits != 0) {
+                action.accept(base + (word << 6) + Long.numberOfTrailingZeros(bits));
+                bits &= bits - 1;
+            }
+        }
+    }
+
+    private static void checkValue(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("IntBitmap holds non-negative values only: " + value);
+        }
+    }
+
+    private int find(char high) {
+        return Arrays.binarySearch(keys, 0, containers, high);
+    }
+
+    private boolean containsLow(int container, char low) {
+        long[] words = bitmaps[container];
+        if (words != null) {
+            return (words[low >>> 6] & (1L << low)) != 0;
+        }
+        return Arrays.binarySearch(arrays[container], 0, counts[container], low) >= 0;
+    }
+
+    private boolean addLow(int container, char low) {
+        long[] words = bitmaps[container];
+        if (words == null) {
+            char[] values = arrays[container];
+            int count = counts[container];
+            int position = Arrays.binarySearch(values, 0, count, low);
+            if (position >= 0) {
+                return false;
+            }
+            if (count < ARRAY_LIMIT) {
+                position = -position - 1;
+                if (count == values.length) {
+                    values = Arrays.copyOf(values, Math.min(ARRAY_LIMIT, Math.max(4, count * 2)));
+                    arrays[container] = values;
+                }
+                System.arraycopy(values, position, values, position + 1, count - position);
+                values[position] = low;
+                counts[container]++;
+                return true;
+            }
+            words = toBitmapContainer(container);
+        }
+        long bit = 1L << low;
+        if ((words[low >>> 6] & bit) != 0) {
+            return false;
+        }
+        words[low >>> 6] |= bit;
+        counts[container]++;
+        return true;
+    }
+
+    private boolean removeLow(int container, char low) {
+        long[] words = bitmaps[container];
+        if (words == null) {
+            char[] values = arrays[container];
+            int count = counts[container];
+            int position = Arrays.binarySearch(values, 0, count, low);
+            if (position < 0) {
+                return false;
+            }
+            System.arraycopy(values, position + 1, values, position, count - position - 1);
+            counts[container]--;
+            return true;
+        }
+        long bit = 1L << low;
+        if ((words[low >>> 6] & bit) == 0) {
+            return false;
+        }
+        words[low >>> 6] &= ~bit;
+        if (--counts[container] == ARRAY_LIMIT) {
+            toArrayContainer(container);
+        }
+        return true;
+    }
+
+    private long[] toBitmapContainer(int container) {
+        long[] words = new long[BITMAP_WORDS];
+        char[] values = arrays[container];
+        for (int i = 0; i < counts[container]; i++) {
+            words[values[i] >>> 6] |= 1L << values[i];
+        }
+        bitmaps[container] = words;
+        arrays[container] = null;
+        return words;
+    }
+
+    private void toArrayContainer(int container) {
+        char[] values = new char[ARRAY_LIMIT];
+        int[] next = {0};
+        forEachBit(0, bitmaps[container], null, low -> values[next[0]++] = (char) low);
+        arrays[container] = values;
+        bitmaps[container] = null;
+    }
+
+    private void insertContainer(int container, char high) {
+        if (containers == keys.length) {
+            int capacity = keys.length * 2;
+            keys = Arrays.copyOf(keys, capacity);
+            arrays = Arrays.copyOf(arrays, capacity);
+            bitmaps = Arrays.copyOf(bitmaps, capacity);
+            counts = Arrays.copyOf(counts, capacity);
+        }
+        int moved = containers - container;
+        System.arraycopy(keys, container, keys, container + 1, moved);
+        System.arraycopy(arrays, container, arrays, container + 1, moved);
+        System.arraycopy(bitmaps, container, bitmaps, container + 1, moved);
+        System.arraycopy(counts, container, counts, container + 1, moved);
+        keys[container] = high;
+        arrays[container] = new char[4];
+        bitmaps[container] = null;
+        counts[container] = 0;
+        containers++;
+    }
+
+    private void removeContainer(int container) {
+        int moved = containers - container - 1;
+        System.arraycopy(keys, container + 1, keys, container, moved);
+        System.arraycopy(arrays, container + 1, arrays, container, moved);
+        System.arraycopy(bitmaps, container + 1, bitmaps, container, moved);
+        System.arraycopy(counts, container + 1, counts, container, moved);
+        containers--;
+        arrays[containers] = null;
+        bitmaps[containers] = null;
+    }
+}
@@ -0,0 +1,146 @@
+package com.university.election.utils;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Sorting for large lists (registry exports of a few hundred thousand rows)
+ * - Text keys are compared in locale order through CollationKeys computed once per element,
+ *   not by running the Collator (or String.compareTo) inside every comparison
+ * - Int keys are packed with the element's position into a long[] and sorted as primitives
+ * - Above PARALLEL_THRESHOLD elements keys are built in parallel chunks and sorted with
+ *   Arrays.parallelSort (a parallel merge sort on the common ForkJoin pool)
+ * - firstByText keeps a bounded heap of k elements instead of sorting the whole list
+ *
+ * Every sort is stable and returns a new list; the input is not modified. Null text keys sort last.
+ */
+public final class ListSorter {
+
+    static final int PARALLEL_THRESHOLD = 16_384;
+    private static final int KEY_CHUNK = 4096;
+
+    private record Keyed<T>(CollationKey key, T item) {}
+
+    private static final Comparator<CollationKey> KEY_ORDER = Comparator.nullsLast(Comparator.naturalOrder());
+    private static final Comparator<Keyed<?>> BY_KEY = (a, b) -> KEY_ORDER.compare(a.key(), b.key());
+
+    private ListSorter() {}
+
+    /**
+     * Sort by a text key in the collation order of a locale
+     */
+    public static <T> List<T> sortByText(List<T> items, Function<? super T, String> key, Locale locale) {
+        Keyed<T>[] keyed = keys(items, key, locale);
+        if (keyed.length >= PARALLEL_THRESHOLD) {
+            Arrays.parallelSort(keyed, BY_KEY);
+        } else {
+            Arrays.sort(keyed, BY_KEY);
+        }
+        List<T> sorted = new ArrayList<>(keyed.length);
+        for (Keyed<T> entry : keyed) {
+            sorted.add(entry.item());
+        }
+        return sorted;
+    }
+
+    /**
+     * Sort by an int key (e.g. year of study) without boxing: each element becomes
+     * (key << 32 | position) in a long[], so equal keys keep their input order
+     */
+    public static <T> List<T> sortByInt(List<T> items, ToIntFunction<? super T> key) {
+        Object[] source = items.toArray();
+        long[] packed = new long[source.length];
+        for (int i = 0; i < source.length; i++) {
+            @SuppressWarnings("unchecked")
+            T item = (T) source[i];
+            packed[i] = ((long) key.applyAsInt(item) << 32) | i;
+        }
+        if (packed.length >= PARALLEL_THRESHOLD) {
+            Arrays.parallelSort(packed);
+        } else {
+            Arrays.sort(packed);
+        }
+        List<T> sorted = new ArrayList<>(packed.length);
+        for (long entry : packed) {
+            @SuppressWarnings("unchecked")
+            T item = (T) source[(int) entry];
+            sorted.add(item);
+        }
+        return sorted;
+    }
+
+    /**
+     * The first limit elements in the collation order of a locale, sorted (partial sort)
+     * O(n log limit) with limit + 1 elements held at a time, instead of sorting all n
+     */
+    public static <T> List<T> firstByText(List<T> items, int limit, Function<? super T, String> key, Locale locale) {
+        if (limit <= 0) {
+            return new ArrayList<>();
+        }
+        Object[] source = items.toArray();
+        Collator collator = Collator.getInstance(locale);
+        // Max-heap on (key, position): the root is the element to drop when a smaller one arrives
+        Comparator<Keyed<Integer>> order = (a, b) -> {
+            int byKey = KEY_ORDER.compare(a.key(), b.key());
+            return byKey != 0 ? byKey : Integer.compare(a.item(), b.item());
+        };
+        PriorityQueue<Keyed<Integer>> heap = new PriorityQueue<>(Math.min(limit, source.length) + 1, order.reversed());
+        for (int i = 0; i < source.length; i++) {
+            @SuppressWarnings("unchecked")
+            String text = key.apply((T) source[i]);
+            Keyed<Integer> entry = new Keyed<>(text == null ? null : collator.getCollationKey(text), i);
+            if (heap.size() < limit) {
+                heap.add(entry);
+            } else if (order.compare(entry, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(entry);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        Keyed<Integer>[] first = heap.toArray(new Keyed[0]);
+        Arrays.sort(first, order);
+        List<T> result = new ArrayList<>(first.length);
+        for (Keyed<Integer> entry : first) {
+            @SuppressWarnings("unchecked")
+            T item = (T) source[entry.item()];
+            result.add(item);
+        }
+        return result;
+    }
+
+    /**
+     * One CollationKey per element; large lists are keyed in parallel chunks, each with its own
+     * Collator (collators are not thread-safe)
+     */
+    private static <T> Keyed<T>[] keys(List<T> items, Function<? super T, String> key, Locale locale) {
+        Object[] source = items.toArray();
+        @SuppressWarnings("unchecked")
+        Keyed<T>[] keyed = new Keyed[source.length];
+        int chunks = (source.length + KEY_CHUNK - 1) / KEY_CHUNK;
+        IntStream range = IntStream.range(0, chunks);
+        if (source.length >= PARALLEL_THRESHOLD) {
+            range = range.parallel();
+        }
+        range.forEach(chunk -> {
+            Collator collator = Collator.getInstance(locale);
+            int end = Math.min(source.length, (chunk + 1) * KEY_CHUNK);
+            for (int i = chunk * KEY_CHUNK; i < end; i++) {
+                @SuppressWarnings("unchecked")
+                T item = (T) source[i];
+                String text = key.apply(item);
+                keyed[i] = new Keyed<>(text == null ? null : collator.getCollationKey(text), item);
+            }
+        });
+        return keyed;
+    }
+}
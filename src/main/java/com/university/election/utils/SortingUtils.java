@@ -5,30 +5,43 @@ import com.university.election.model.Student;
 
 import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
 import java.util.stream.Collectors;
 
 /**
  * Sorting Utility Class
  * Demonstrates Lambda Expressions and Functional Programming
+ * Sorts go through ListSorter: names in collation order (Locale.ROOT unless a locale is given)
  */
 public class SortingUtils {
 
     /**
-     * Sort students by name using lambda
+     * Sort students by name in collation order (precomputed sort keys, parallel above a size threshold)
      */
     public static List<Student> sortStudentsByName(List<Student> students) {
-        return students.stream()
-                .sorted((s1, s2) -> s1.getName().compareTo(s2.getName()))
-                .collect(Collectors.toList());
+        return sortStudentsByName(students, Locale.ROOT);
+    }
+
+    public static List<Student> sortStudentsByName(List<Student> students, Locale locale) {
+        return ListSorter.sortByText(students, Student::getName, locale);
     }
 
     /**
-     * Sort students by year using lambda
+     * First limit students by name, without sorting the whole list
+     */
+    public static List<Student> firstStudentsByName(List<Student> students, int limit) {
+        return firstStudentsByName(students, limit, Locale.ROOT);
+    }
+
+    public static List<Student> firstStudentsByName(List<Student> students, int limit, Locale locale) {
+        return ListSorter.firstByText(students, limit, Student::getName, locale);
+    }
+
+    /**
+     * Sort students by year (primitive int keys, stable)
      */
     public static List<Student> sortStudentsByYear(List<Student> students) {
-        return students.stream()
-                .sorted(Comparator.comparing(Student::getYearOfStudy))
-                .collect(Collectors.toList());
+        return ListSorter.sortByInt(students, Student::getYearOfStudy);
     }
 
     /**
@@ -41,12 +54,10 @@ public class SortingUtils {
     }
 
     /**
-     * Sort candidates by name using lambda
+     * Sort candidates by name in collation order
      */
     public static List<Candidate> sortCandidatesByName(List<Candidate> candidates) {
-        return candidates.stream()
-                .sorted((c1, c2) -> c1.getName().compareTo(c2.getName()))
-                .collect(Collectors.toList());
+        return ListSorter.sortByText(candidates, Candidate::getName, Locale.ROOT);
     }
 
     /**
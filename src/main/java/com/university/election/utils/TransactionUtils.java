@@ -0,0 +1,28 @@
+package com.university.election.utils;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Helpers for keeping in-memory indexes in step with committed data
+ */
+public class TransactionUtils {
+
+    /**
+     * Run a change once the surrounding transaction commits (a rollback drops it),
+     * or right away outside a transaction
+     * Call it inside the transaction: synchronizations registered from afterCommit() itself never run
+     */
+    public static void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,87 @@
+package com.university.election.audit;
+
+import com.university.election.dto.AuditEntry;
+import com.university.election.dto.AuditQueryResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SegmentedAuditLogTest {
+
+    private static final long START = 1_800_000_000_000L;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void queriesOnlyTheSegmentsThatOverlapTheElectionAndTimeRange() throws IOException {
+        try (SegmentedAuditLog log = new SegmentedAuditLog(directory, 4096)) {
+            // 1000 events one second apart, alternating elections 1 and 2, flushed in batches of 10
+            for (int i = 0; i < 1000; i++) {
+                log.append(START + i * 1000L, "AUDIT", "VOTE_CAST", 1 + i % 2, "vote " + i);
+                if (i % 10 == 9) {
+                    log.flush();
+                }
+            }
+            log.append(START, "INFO", null, null, "no election");
+            log.flush();
+
+            AuditQueryResult result = log.query(1, START + 100_000, START + 109_000, 500);
+
+            assertThat(result.getEntries()).extracting(AuditEntry::getMessage)
+                    .containsExactly("vote 100", "vote 102", "vote 104", "vote 106", "vote 108");
+            assertThat(result.getEntries()).allSatisfy(entry -> assertThat(entry.getElectionId()).isEqualTo(1));
+            assertThat(result.getSegmentsTotal()).isGreaterThan(10);
+            assertThat(result.getSegmentsScanned()).isEqualTo(1);
+            assertThat(log.query(null, Long.MIN_VALUE, Long.MAX_VALUE, 2000).getEntries()).hasSize(1001);
+            assertThat(log.query(1, Long.MIN_VALUE, Long.MAX_VALUE, 10).isTruncated()).isTrue();
+        }
+    }
+
+    @Test
+    void recoversAfterATornWriteByTruncatingTheLastSegment() throws IOException {
+        SegmentedAuditLog crashed = new SegmentedAuditLog(directory, 1 << 20);
+        for (int i = 0; i < 100; i++) {
+            crashed.append(START + i, "AUDIT", "VOTE_CAST", 7, "vote " + i);
+        }
+        crashed.flush();
+        // Never closed, so no index; then half a record lands on disk
+        Path segment = SegmentedAuditLog.segmentFiles(directory).getFirst();
+        Files.write(segment, new byte[]{0, 0, 0, 40, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        try (SegmentedAuditLog reopened = new SegmentedAuditLog(directory, 1 << 20)) {
+            reopened.append(START + 100, "AUDIT", "VOTE_CAST", 7, "vote 100");
+            reopened.flush();
+
+            List<AuditEntry> entries = reopened.query(7, Long.MIN_VALUE, Long.MAX_VALUE, 500).getEntries();
+            assertThat(entries).hasSize(101);
+            assertThat(entries.getLast().getMessage()).isEqualTo("vote 100");
+        }
+        assertThat(Files.exists(directory.resolve("segment-0000000001.idx"))).isTrue();
+    }
+
+    @Test
+    void exportsSegmentsToTheTextFormat() throws IOException {
+        try (SegmentedAuditLog log = new SegmentedAuditLog(directory, 1 << 20)) {
+            log.append(START, "AUDIT", "VOTE_CAST", 3, "Student ID=1 voted for Candidate ID=2 in Election ID=3");
+            log.append(START, "INFO", null, null, "Application started");
+        }
+
+        StringWriter text = new StringWriter();
+        long exported = AuditTextConverter.export(directory, text);
+
+        assertThat(exported).isEqualTo(2);
+        assertThat(text.toString().lines().toList()).satisfiesExactly(
+                line -> assertThat(line).matches("\\[\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2}] \\[AUDIT] \\[VOTE_CAST] "
+                        + "Student ID=1 voted for Candidate ID=2 in Election ID=3"),
+                line -> assertThat(line).endsWith("[INFO] Application started"));
+    }
+}
@@ -0,0 +1,72 @@
+package com.university.election.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GatedDataSourceTest {
+
+    private final DataSource h2 = new SimpleDriverDataSource(new org.h2.Driver(),
+            "jdbc:h2:mem:gate-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+
+    @Test
+    void neverHandsOutMoreConnectionsThanPermits() throws Exception {
+        GatedDataSource gated = new GatedDataSource(h2, 2, 10_000);
+        AtomicInteger open = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 200; i++) {
+                executor.submit(() -> {
+                    try (Connection connection = gated.getConnection()) {
+                        peak.accumulateAndGet(open.incrementAndGet(), Math::max);
+                        Thread.sleep(2);
+                        open.decrementAndGet();
+                    }
+                    return null;
+                });
+            }
+        }
+
+        assertThat(peak.get()).isEqualTo(2);
+        assertThat(gated.getAvailablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    void closingTwiceReturnsThePermitOnceAndWaitersTimeOut() throws Exception {
+        GatedDataSource gated = new GatedDataSource(h2, 1, 50);
+
+        Connection connection = gated.getConnection();
+        assertThatThrownBy(gated::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+
+        connection.close();
+        connection.close();
+        assertThat(gated.getAvailablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    void virtualThreadModeWrapsTheDataSource() {
+        new ApplicationContextRunner()
+                .withBean(DataSource.class, () -> h2)
+                .withUserConfiguration(VirtualThreadConfig.class)
+                .withPropertyValues("spring.threads.virtual.enabled=true", "spring.datasource.hikari.maximum-pool-size=3")
+                .run(context -> assertThat(context.getBean(DataSource.class))
+                        .isInstanceOfSatisfying(GatedDataSource.class, gated -> assertThat(gated.getAvailablePermits()).isEqualTo(3)));
+
+        new ApplicationContextRunner()
+                .withBean(DataSource.class, () -> h2)
+                .withUserConfiguration(VirtualThreadConfig.class)
+                .run(context -> assertThat(context.getBean(DataSource.class)).isNotInstanceOf(GatedDataSource.class));
+    }
+}
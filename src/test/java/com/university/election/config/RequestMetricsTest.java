@@ -0,0 +1,115 @@
+package com.university.election.config;
+
+import com.university.election.dto.RouteMetrics;
+import com.university.election.exception.GlobalExceptionHandler;
+import com.university.election.exception.ResourceNotFoundException;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class RequestMetricsTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private RequestMetrics metrics;
+    private MockMvc mockMvc;
+
+    @RestController
+    static class ItemController {
+
+        @GetMapping("/api/items/{id}")
+        String item(@PathVariable int id) {
+            if (id < 0) {
+                throw new ResourceNotFoundException("Item not found with id: " + id);
+            }
+            return "item " + id;
+        }
+
+        @GetMapping("/api/items/{id}/async")
+        CompletableFuture<String> asyncItem(@PathVariable int id) {
+            return CompletableFuture.supplyAsync(() -> "item " + id);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        metrics = new RequestMetrics(new PrometheusMeterRegistry(PrometheusConfig.DEFAULT), clock::get);
+        mockMvc = MockMvcBuilders.standaloneSetup(new ItemController())
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .addInterceptors(metrics)
+                .build();
+    }
+
+    @Test
+    void recordsLatencyAndErrorsPerRoutePattern() throws Exception {
+        mockMvc.perform(get("/api/items/1")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/items/2")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/items/-1")).andExpect(status().isNotFound());
+
+        assertThat(metrics.snapshot()).singleElement().satisfies(route -> {
+            assertThat(route.getMethod()).isEqualTo("GET");
+            assertThat(route.getRoute()).isEqualTo("/api/items/{id}");
+            assertThat(route.getCount()).isEqualTo(3);
+            assertThat(route.getInFlight()).isZero();
+            assertThat(route.getMaxMillis()).isGreaterThan(0);
+            assertThat(route.getErrors()).containsExactly(Map.entry("ResourceNotFoundException", 1L));
+        });
+        assertThat(metrics.scrape())
+                .contains("http_server_requests_seconds_count{method=\"GET\",uri=\"/api/items/{id}\"} 3")
+                .contains("http_server_requests_seconds{method=\"GET\",uri=\"/api/items/{id}\",quantile=\"0.99\"}")
+                .contains("http_server_errors_total{exception=\"ResourceNotFoundException\",method=\"GET\",status=\"404\",uri=\"/api/items/{id}\"} 1.0");
+    }
+
+    @Test
+    void requestRateCoversTheLastMinuteLikeThePercentiles() throws Exception {
+        for (int i = 0; i < 120; i++) {
+            mockMvc.perform(get("/api/items/1")).andExpect(status().isOk());
+        }
+        clock.set(TimeUnit.SECONDS.toNanos(10));
+        assertThat(metrics.snapshot()).singleElement()
+                .satisfies(route -> assertThat(route.getRequestsPerSecond()).isEqualTo(12.0));
+
+        // After an idle hour a burst shows at its own rate, not diluted by the route's lifetime
+        clock.set(TimeUnit.HOURS.toNanos(1));
+        for (int i = 0; i < 30; i++) {
+            mockMvc.perform(get("/api/items/1")).andExpect(status().isOk());
+        }
+        assertThat(metrics.snapshot()).singleElement().satisfies(route -> {
+            assertThat(route.getCount()).isEqualTo(150);
+            assertThat(route.getRequestsPerSecond()).isEqualTo(0.5);
+        });
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(60));
+        assertThat(metrics.snapshot()).singleElement()
+                .satisfies(route -> assertThat(route.getRequestsPerSecond()).isZero());
+    }
+
+    @Test
+    void timesAsyncRequestsOnceUntilTheAsyncDispatchCompletes() throws Exception {
+        var started = mockMvc.perform(get("/api/items/5/async")).andExpect(request().asyncStarted()).andReturn();
+        assertThat(metrics.snapshot()).extracting(RouteMetrics::getInFlight).containsExactly(1);
+
+        mockMvc.perform(asyncDispatch(started)).andExpect(status().isOk());
+
+        assertThat(metrics.snapshot()).singleElement().satisfies(route -> {
+            assertThat(route.getCount()).isEqualTo(1);
+            assertThat(route.getInFlight()).isZero();
+        });
+    }
+}
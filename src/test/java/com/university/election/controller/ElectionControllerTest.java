@@ -0,0 +1,116 @@
+package com.university.election.controller;
+
+import com.university.election.exception.GlobalExceptionHandler;
+import com.university.election.patterns.singleton.CacheManager;
+import com.university.election.repository.ElectionRepository;
+import com.university.election.repository.StudentRepository;
+import com.university.election.repository.VoteRepository;
+import com.university.election.service.ElectionService;
+import com.university.election.service.ElectionServiceImpl;
+import com.university.election.service.TallyEngine;
+import com.university.election.service.TurnoutAnalytics;
+import com.university.election.service.VoterBitmapIndex;
+import com.university.election.support.TestDatabaseConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The three list mappings (page, streamed array, NDJSON) never overlap, whatever params and Accept are sent
+ */
+@SpringJUnitConfig({TestDatabaseConfig.class, ElectionRepository.class, VoteRepository.class, StudentRepository.class,
+        TallyEngine.class, CacheManager.class, ElectionServiceImpl.class, VoterBitmapIndex.class, TurnoutAnalytics.class})
+class ElectionControllerTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+
+    @Autowired
+    private ElectionService service;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        TestDatabaseConfig.resetSchema(dataSource);
+        mockMvc = MockMvcBuilders.standaloneSetup(new ElectionController(service, objectMapper))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void pageIsJsonEvenWhenOnlyNdjsonIsAccepted() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/elections").param("limit", "1")
+                        .header(HttpHeaders.ACCEPT, "application/x-ndjson"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertThat(result.getResponse().getContentType()).startsWith(MediaType.APPLICATION_JSON_VALUE);
+        JsonNode page = objectMapper.readTree(result.getResponse().getContentAsString());
+        assertThat(page.get("items").size()).isEqualTo(1);
+        assertThat(page.get("nextCursor").isNull()).isFalse();
+    }
+
+    @Test
+    void streamWinsOverLimit() throws Exception {
+        MvcResult result = streamed(get("/api/elections").param("limit", "1").param("stream", "true"));
+
+        assertThat(result.getResponse().getContentType()).startsWith(MediaType.APPLICATION_JSON_VALUE);
+        assertThat(objectMapper.readTree(result.getResponse().getContentAsString()).size()).isEqualTo(2);
+    }
+
+    @Test
+    void streamedArrayAndNdjson() throws Exception {
+        MvcResult array = streamed(get("/api/elections").param("stream", "true"));
+        JsonNode elections = objectMapper.readTree(array.getResponse().getContentAsString());
+        assertThat(elections.isArray()).isTrue();
+        assertThat(elections.size()).isEqualTo(2);
+
+        for (MockHttpServletRequestBuilder list : new MockHttpServletRequestBuilder[]{
+                get("/api/elections"), get("/api/elections").param("stream", "true")}) {
+            MvcResult ndjson = streamed(list.header(HttpHeaders.ACCEPT, "application/x-ndjson"));
+            assertThat(ndjson.getResponse().getContentType()).startsWith("application/x-ndjson");
+            String[] lines = ndjson.getResponse().getContentAsString().strip().split("\n");
+            assertThat(lines).hasSize(2);
+            for (String line : lines) {
+                assertThat(objectMapper.readTree(line).get("id").asInt()).isPositive();
+            }
+        }
+    }
+
+    @Test
+    void plainListIsUnaffected() throws Exception {
+        for (MockHttpServletRequestBuilder list : new MockHttpServletRequestBuilder[]{
+                get("/api/elections"), get("/api/elections").param("stream", "false")}) {
+            MvcResult result = mockMvc.perform(list).andExpect(status().isOk()).andReturn();
+
+            assertThat(result.getRequest().isAsyncStarted()).isFalse();
+            assertThat(objectMapper.readTree(result.getResponse().getContentAsString()).size()).isEqualTo(2);
+        }
+    }
+
+    private MvcResult streamed(MockHttpServletRequestBuilder builder) throws Exception {
+        MvcResult started = mockMvc.perform(builder).andExpect(request().asyncStarted()).andReturn();
+        return mockMvc.perform(asyncDispatch(started)).andExpect(status().isOk()).andReturn();
+    }
+}
@@ -0,0 +1,63 @@
+package com.university.election.patterns.singleton;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AppLoggerTest {
+
+    private final Logger logback = (Logger) LoggerFactory.getLogger(AppLogger.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private Level previousLevel;
+
+    @BeforeEach
+    void setUp() {
+        previousLevel = logback.getLevel();
+        appender.start();
+        logback.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logback.detachAppender(appender);
+        logback.setLevel(previousLevel);
+    }
+
+    @Test
+    void doesNotBuildMessagesForDisabledLevels() {
+        logback.setLevel(Level.INFO);
+        AtomicInteger built = new AtomicInteger();
+
+        AppLogger.getInstance().debug(() -> "expensive " + built.incrementAndGet());
+        AppLogger.getInstance().info(() -> "enabled " + built.incrementAndGet());
+
+        assertThat(built).hasValue(1);
+        assertThat(appender.list).extracting(ILoggingEvent::getFormattedMessage).containsExactly("enabled 1");
+    }
+
+    @Test
+    void samplerLetsOneMessagePerIntervalThroughAndReportsTheRest() throws InterruptedException {
+        logback.setLevel(Level.INFO);
+        AppLogger.Sampler sampler = AppLogger.getInstance().sampled(Duration.ofMillis(200));
+
+        for (int i = 0; i < 1000; i++) {
+            sampler.warn("Queue full at {}", i);
+        }
+        Thread.sleep(250);
+        sampler.warn("Queue full at {}", 1000);
+
+        assertThat(appender.list).extracting(ILoggingEvent::getFormattedMessage).containsExactly(
+                "Queue full at 0 (0 similar messages suppressed)",
+                "Queue full at 1000 (999 similar messages suppressed)");
+    }
+}
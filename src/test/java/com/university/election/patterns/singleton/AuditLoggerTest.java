@@ -0,0 +1,83 @@
+package com.university.election.patterns.singleton;
+
+import com.university.election.dto.AuditStats;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringJUnitConfig(AuditLogger.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class AuditLoggerTest {
+
+    private static final Path DIRECTORY = createDirectory();
+    private static Path file;
+
+    @Autowired
+    private AuditLogger auditLogger;
+
+    @DynamicPropertySource
+    static void auditProperties(DynamicPropertyRegistry registry) {
+        registry.add("app.audit.file", () -> {
+            file = DIRECTORY.resolve("audit-" + System.nanoTime() + ".log");
+            return file.toString();
+        });
+        registry.add("app.audit.format", () -> "TEXT");
+        registry.add("app.audit.durability", () -> "SYNC");
+    }
+
+    @Test
+    void writesEveryEventFromConcurrentProducersInBatches() throws IOException {
+        try (ExecutorService producers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int producer = 0; producer < 8; producer++) {
+                int electionId = producer;
+                producers.submit(() -> {
+                    for (int i = 0; i < 500; i++) {
+                        auditLogger.logVote(i, 1, electionId);
+                    }
+                });
+            }
+        }
+        auditLogger.close();
+
+        List<String> lines = Files.readAllLines(file);
+        AuditStats stats = auditLogger.getStats();
+        assertThat(lines).hasSize(4000);
+        assertThat(lines.getFirst()).matches("\\[\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2}] \\[AUDIT] \\[VOTE_CAST] "
+                + "Student ID=\\d+ voted for Candidate ID=1 in Election ID=\\d");
+        assertThat(stats.getEnqueued()).isEqualTo(4000);
+        assertThat(stats.getWritten()).isEqualTo(4000);
+        assertThat(stats.getDropped()).isZero();
+        assertThat(stats.getFsyncs()).isEqualTo(stats.getBatches());
+        assertThat(stats.getQueueDepth()).isZero();
+    }
+
+    @Test
+    void countsEventsLoggedAfterCloseAsDropped() throws IOException {
+        auditLogger.info("before close");
+        auditLogger.close();
+        auditLogger.info("after close");
+
+        assertThat(Files.readAllLines(file)).singleElement().asString().endsWith("[INFO] before close");
+        assertThat(auditLogger.getStats().getDropped()).isEqualTo(1);
+    }
+
+    private static Path createDirectory() {
+        try {
+            return Files.createTempDirectory("audit-test");
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.university.election.patterns.singleton;
+
+import com.university.election.dto.CacheStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringJUnitConfig(CacheManager.class)
+@TestPropertySource(properties = "app.cache.max-size=32")
+class CacheManagerTest {
+
+    @Autowired
+    private CacheManager cache;
+
+    @BeforeEach
+    void setUp() {
+        cache.clear();
+    }
+
+    @Test
+    void staysWithinMaxSizeByEvictingLeastRecentlyUsedEntries() {
+        long evictionsBefore = cache.getStats().getEvictions();
+
+        for (int i = 0; i < 1000; i++) {
+            cache.put("students:" + i, i);
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(32);
+        assertThat(cache.getStats().getEvictions() - evictionsBefore).isEqualTo(1000 - cache.size());
+        assertThat((Integer) cache.get("students:999")).isEqualTo(999);
+    }
+
+    @Test
+    void expiresEntriesAfterTheirOwnTtl() throws InterruptedException {
+        cache.put("elections:short", "short", Duration.ofMillis(1));
+        cache.put("elections:long", "long");
+
+        Thread.sleep(5);
+
+        assertThat((String) cache.get("elections:short")).isNull();
+        assertThat((String) cache.get("elections:long")).isEqualTo("long");
+    }
+
+    @Test
+    void invalidatesAWholeNamespaceWithoutTouchingOthers() {
+        cache.put("elections:all", "all");
+        cache.put("elections:5", "five");
+        cache.put("candidates:5", "candidates");
+
+        cache.invalidateNamespace("elections");
+
+        assertThat(cache.contains("elections:all")).isFalse();
+        assertThat(cache.contains("elections:5")).isFalse();
+        assertThat(cache.contains("candidates:5")).isTrue();
+    }
+
+    @Test
+    void loadsOnMissOnlyAndCountsLoads() {
+        AtomicInteger calls = new AtomicInteger();
+        CacheStats before = cache.getStats();
+
+        String first = cache.get("elections:7", () -> "loaded-" + calls.incrementAndGet());
+        String second = cache.get("elections:7", () -> "loaded-" + calls.incrementAndGet());
+
+        CacheStats after = cache.getStats();
+        assertThat(first).isEqualTo("loaded-1");
+        assertThat(second).isEqualTo("loaded-1");
+        assertThat(after.getLoads() - before.getLoads()).isEqualTo(1);
+        assertThat(after.getHits() - before.getHits()).isEqualTo(1);
+        assertThat(after.getMisses() - before.getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void doesNotServeAValueLoadedWhileItsNamespaceWasInvalidated() {
+        String loaded = cache.get("elections:all", () -> {
+            cache.invalidateNamespace("elections");
+            return "stale";
+        });
+
+        assertThat(loaded).isEqualTo("stale");
+        assertThat(cache.contains("elections:all")).isFalse();
+    }
+
+    @Test
+    void doesNotStoreAValueLoadedWhileItsKeyWasInvalidated() {
+        String loaded = cache.get("candidates:election:1", () -> {
+            cache.invalidate("candidates:election:1");
+            return "stale";
+        });
+
+        assertThat(loaded).isEqualTo("stale");
+        assertThat(cache.contains("candidates:election:1")).isFalse();
+    }
+
+    @Test
+    void concurrentMissesOnOneKeyShareASingleLoad() throws Exception {
+        int callers = 50;
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        CacheStats before = cache.getStats();
+
+        List<Future<String>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> cache.get("candidates:election:1", () -> {
+                    calls.incrementAndGet();
+                    await(release);
+                    return "candidates";
+                })));
+            }
+            // Let every caller reach the cache before the one load completes
+            while (cache.getStats().getMisses() - before.getMisses() < callers) {
+                Thread.sleep(1);
+            }
+            release.countDown();
+            for (Future<String> result : results) {
+                assertThat(result.get()).isEqualTo("candidates");
+            }
+        }
+
+        CacheStats after = cache.getStats();
+        assertThat(calls).hasValue(1);
+        assertThat(after.getCoalescedLoads() - before.getCoalescedLoads()).isEqualTo(callers - 1);
+        assertThat(after.getNamespaces().get("candidates").getLoads()).isPositive();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.university.election.repository;
+
+import com.university.election.model.Candidate;
+import com.university.election.support.StatementCounter;
+import com.university.election.support.TestDatabaseConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringJUnitConfig({TestDatabaseConfig.class, CandidateRepository.class})
+class CandidateRepositoryTest {
+
+    @Autowired
+    private CandidateRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private StatementCounter statements;
+
+    @BeforeEach
+    void setUp() {
+        TestDatabaseConfig.resetSchema(dataSource);
+        jdbcTemplate.update("INSERT INTO candidates (name, faculty, year_of_study, campaign, election_id) " +
+                "VALUES ('Nurlan Sapar', 'Mathematics', 3, 'Open labs', 2)");
+    }
+
+    @Test
+    void findAllUsesOneStatementAndSharesElections() {
+        AtomicReference<List<Candidate>> result = new AtomicReference<>();
+
+        int issued = statements.count(() -> result.set(repository.findAll()));
+
+        assertThat(issued).isEqualTo(1);
+        List<Candidate> candidates = result.get();
+        assertThat(candidates).hasSize(4);
+        assertThat(candidates.get(0).getElection().getName()).isEqualTo("University President Election 2026");
+        assertThat(candidates.get(0).getElection()).isSameAs(candidates.get(1).getElection());
+        assertThat(candidates.get(0).getElection()).isSameAs(candidates.get(2).getElection());
+        assertThat(candidates.get(3).getElection().getId()).isEqualTo(2);
+    }
+
+    @Test
+    void findByElectionIdUsesOneStatement() {
+        AtomicReference<List<Candidate>> result = new AtomicReference<>();
+
+        int issued = statements.count(() -> result.set(repository.findByElectionId(1)));
+
+        assertThat(issued).isEqualTo(1);
+        assertThat(result.get()).hasSize(3)
+                .allSatisfy(c -> assertThat(c.getElection().getAcademicYear()).isEqualTo("2025-2026"));
+    }
+
+    @Test
+    void findFilteredCombinesFiltersWithTheKeysetCursor() {
+        assertThat(repository.findFiltered(new CandidateFilter(1, null, null), SortField.ID, null, 1, 10))
+                .extracting(Candidate::getId).containsExactly(2, 3);
+        assertThat(repository.findFiltered(new CandidateFilter(null, "Mathematics", 3), SortField.ID, null, null, 10))
+                .extracting(Candidate::getName).containsExactly("Nurlan Sapar");
+        assertThat(repository.findFiltered(new CandidateFilter(1, null, null), SortField.NAME, null, null, 10))
+                .extracting(Candidate::getName)
+                .containsExactly("Aigerim Samal", "Alikhan Nursultan", "Bekbolat Aruzhan");
+    }
+
+    /**
+     * Every filter combination reads candidates through an index (elections may still be scanned:
+     * the optimizer can start the join from that small table)
+     */
+    @Test
+    void everyFilterCombinationIsServedByAnIndex() {
+        jdbcTemplate.update("INSERT INTO candidates (name, faculty, year_of_study, campaign, election_id) "
+                + "SELECT 'Candidate ' || n, 'Faculty ' || MOD(n, 8), MOD(n, 4) + 1, 'Campaign', MOD(n, 2) + 1 "
+                + "FROM SYSTEM_RANGE(1, 2000) AS r(n)");
+        jdbcTemplate.execute("ANALYZE");
+
+        for (Integer electionId : new Integer[]{null, 1}) {
+            for (String faculty : new String[]{null, "Faculty 1"}) {
+                for (Integer year : new Integer[]{null, 2}) {
+                    for (SortField sort : SortField.values()) {
+                        for (Integer afterId : new Integer[]{null, 100}) {
+                            if (electionId == null && faculty == null && year == null && sort == SortField.ID) {
+                                continue;
+                            }
+                            FilteredQuery query = repository.filteredQuery(new CandidateFilter(electionId, faculty, year),
+                                    sort, afterId == null ? null : "Candidate 100", afterId, 50);
+                            String plan = jdbcTemplate.queryForObject("EXPLAIN " + query.sql(), String.class, query.args());
+
+                            assertThat(query.sql()).doesNotContain("Faculty 1");
+                            assertThat(plan).as(query.sql()).doesNotContainIgnoringCase("candidates.tableScan");
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void findByIdUsesOneStatement() {
+        AtomicReference<Optional<Candidate>> result = new AtomicReference<>();
+
+        int issued = statements.count(() -> result.set(repository.findById(2)));
+
+        assertThat(issued).isEqualTo(1);
+        assertThat(result.get()).get()
+                .satisfies(c -> assertThat(c.getName()).isEqualTo("Alikhan Nursultan"))
+                .satisfies(c -> assertThat(c.getElection().getStartDate()).hasToString("2026-01-10"));
+    }
+}
@@ -0,0 +1,57 @@
+package com.university.election.repository;
+
+import com.university.election.model.Election;
+import com.university.election.patterns.builder.ElectionBuilder;
+import com.university.election.support.TestDatabaseConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringJUnitConfig({TestDatabaseConfig.class, ElectionRepository.class})
+class ElectionRepositoryTest {
+
+    @Autowired
+    private ElectionRepository repository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        TestDatabaseConfig.resetSchema(dataSource);
+    }
+
+    @Test
+    void keysetPagesWalkElectionsWithSharedStartDatesWithoutGapsOrRepeats() {
+        List<Election> elections = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            elections.add(ElectionBuilder.builder()
+                    .withName("Faculty Council " + i)
+                    .withStartDate(LocalDate.of(2026, 1, 10))
+                    .withEndDate(LocalDate.of(2026, 1, 19))
+                    .withAcademicYear("2025-2026")
+                    .build());
+        }
+        repository.saveAll(elections);
+
+        List<Election> walked = new ArrayList<>();
+        List<Election> page = repository.findPage(null, null, 2);
+        while (!page.isEmpty()) {
+            walked.addAll(page);
+            Election last = page.get(page.size() - 1);
+            page = repository.findPage(last.getStartDate(), last.getId(), 2);
+        }
+
+        assertThat(walked).extracting(Election::getId)
+                .containsExactlyElementsOf(repository.findAll().stream().map(Election::getId).toList());
+        assertThat(walked).hasSize(7);
+    }
+}
@@ -0,0 +1,96 @@
+package com.university.election.repository;
+
+import com.university.election.support.TestDatabaseConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The partial index checked by PostgreSQL's own planner (H2 has no partial indexes)
+ * Runs only with -Ppostgres (or -Dtest.postgres.url=...), in a throwaway schema of that database
+ */
+@SpringJUnitConfig({StudentRepositoryPostgresTest.Postgres.class, StudentRepository.class})
+@EnabledIfSystemProperty(named = "test.postgres.url", matches = ".+")
+class StudentRepositoryPostgresTest {
+
+    private static final String SCHEMA = "explain_" + UUID.randomUUID().toString().replace("-", "");
+
+    @Configuration
+    static class Postgres {
+        @Bean
+        DataSource dataSource() {
+            String url = System.getProperty("test.postgres.url");
+            String username = System.getProperty("test.postgres.username", "postgres");
+            String password = System.getProperty("test.postgres.password", "postgres");
+            new JdbcTemplate(new SimpleDriverDataSource(new org.postgresql.Driver(), url, username, password))
+                    .execute("CREATE SCHEMA " + SCHEMA);
+            DataSource dataSource = new SimpleDriverDataSource(new org.postgresql.Driver(),
+                    url + (url.contains("?") ? "&" : "?") + "currentSchema=" + SCHEMA, username, password);
+            new ResourceDatabasePopulator(new FileSystemResource(TestDatabaseConfig.SCHEMA)).execute(dataSource);
+            return dataSource;
+        }
+
+        @Bean
+        JdbcTemplate jdbcTemplate(DataSource dataSource) {
+            return new JdbcTemplate(dataSource);
+        }
+
+        @Bean
+        DisposableBean dropSchema(JdbcTemplate jdbcTemplate) {
+            return () -> jdbcTemplate.execute("DROP SCHEMA " + SCHEMA + " CASCADE");
+        }
+    }
+
+    @Autowired
+    private StudentRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Election day: most students have voted, the non-voter lists read only the partial index
+     */
+    @Test
+    void nonVoterListsAreServedByThePartialIndex() {
+        jdbcTemplate.update("INSERT INTO students (name, student_id, faculty, year_of_study, has_voted) "
+                + "SELECT 'Student ' || n, 'X' || n, 'Faculty ' || n % 8, n % 4 + 1, n % 10 <> 0 "
+                + "FROM generate_series(1, 50000) AS n");
+        jdbcTemplate.execute("ANALYZE students");
+
+        for (Integer afterId : new Integer[]{null, 100}) {
+            FilteredQuery query = repository.filteredQuery(new StudentFilter("Faculty 1", 2, false),
+                    SortField.ID, null, afterId, 50);
+            assertThat(query.sql()).contains("has_voted = FALSE");
+            assertThat(plan(query)).as(query.sql())
+                    .contains("idx_students_not_voted_faculty_year_id")
+                    .doesNotContain("Seq Scan");
+        }
+
+        for (String faculty : new String[]{null, "Faculty 1"}) {
+            for (Integer year : new Integer[]{null, 2}) {
+                for (SortField sort : SortField.values()) {
+                    FilteredQuery query = repository.filteredQuery(new StudentFilter(faculty, year, false),
+                            sort, null, null, 50);
+                    assertThat(plan(query)).as(query.sql()).doesNotContain("Seq Scan on students");
+                }
+            }
+        }
+    }
+
+    private String plan(FilteredQuery query) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + query.sql(), String.class, query.args()));
+    }
+}
@@ -0,0 +1,136 @@
+package com.university.election.repository;
+
+import com.university.election.exception.ResourceNotFoundException;
+import com.university.election.model.Student;
+import com.university.election.support.StatementCounter;
+import com.university.election.support.TestDatabaseConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringJUnitConfig({TestDatabaseConfig.class, StudentRepository.class})
+@TestPropertySource(properties = "app.jdbc.student-batch-size=2")
+class StudentRepositoryTest {
+
+    @Autowired
+    private StudentRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private StatementCounter statements;
+
+    @BeforeEach
+    void setUp() {
+        TestDatabaseConfig.resetSchema(dataSource);
+    }
+
+    @Test
+    void saveAllSendsOneBatchPerChunkAndAssignsIds() {
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            students.add(new Student(null, "Student " + i, "B" + i, "Physics", 1, false));
+        }
+
+        int issued = statements.count(() -> repository.saveAll(students));
+
+        assertThat(issued).isEqualTo(3);
+        assertThat(students).extracting(Student::getId).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(repository.findById(students.get(4).getId())).get()
+                .extracting(Student::getStudentId).isEqualTo("B4");
+    }
+
+    @Test
+    void updateAllReportsMissingIds() {
+        Student existing = repository.findById(1).orElseThrow();
+        existing.setFaculty("Mathematics");
+        Student missing = new Student(999, "Nobody", "X999", "Physics", 1, false);
+
+        assertThatThrownBy(() -> repository.updateAll(List.of(existing, missing)))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("999");
+    }
+
+    @Test
+    void deleteAllByIdReturnsDeletedCount() {
+        int deleted = repository.deleteAllById(List.of(1, 2, 3));
+
+        assertThat(deleted).isEqualTo(3);
+        assertThat(repository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void findFilteredCombinesFiltersWithTheKeysetCursor() {
+        assertThat(repository.findFiltered(new StudentFilter("Software Engineering", null, null), SortField.ID, null, null, 10))
+                .extracting(Student::getId).containsExactly(1, 4);
+        assertThat(repository.findFiltered(new StudentFilter("Software Engineering", 4, true), SortField.ID, null, null, 10))
+                .extracting(Student::getId).containsExactly(4);
+        assertThat(repository.findFiltered(new StudentFilter(null, null, false), SortField.ID, null, 1, 10))
+                .extracting(Student::getId).containsExactly(3);
+        assertThat(repository.findFiltered(new StudentFilter(null, null, null), SortField.NAME, "Dias Yerlan", 2, 10))
+                .extracting(Student::getName).containsExactly("Kamila Aisha", "Timur Bolat");
+    }
+
+    /**
+     * Every filter combination is answered from an index, never by scanning the students table
+     * (the unfiltered id order is left out: it is the primary key scan itself)
+     */
+    @Test
+    void everyFilterCombinationIsServedByAnIndex() {
+        jdbcTemplate.update("INSERT INTO students (name, student_id, faculty, year_of_study, has_voted) "
+                + "SELECT 'Student ' || n, 'X' || n, 'Faculty ' || MOD(n, 8), MOD(n, 4) + 1, MOD(n, 3) = 0 "
+                + "FROM SYSTEM_RANGE(1, 2000) AS r(n)");
+        jdbcTemplate.execute("ANALYZE");
+
+        for (String faculty : new String[]{null, "Faculty 1"}) {
+            for (Integer year : new Integer[]{null, 2}) {
+                for (Boolean voted : new Boolean[]{null, true, false}) {
+                    for (SortField sort : SortField.values()) {
+                        for (Integer afterId : new Integer[]{null, 100}) {
+                            if (faculty == null && year == null && voted == null && sort == SortField.ID) {
+                                continue;
+                            }
+                            FilteredQuery query = repository.filteredQuery(new StudentFilter(faculty, year, voted),
+                                    sort, afterId == null ? null : "Student 100", afterId, 50);
+                            String plan = jdbcTemplate.queryForObject("EXPLAIN " + query.sql(), String.class, query.args());
+
+                            assertThat(query.sql()).doesNotContain("Faculty 1");
+                            assertThat(plan).as(query.sql()).doesNotContainIgnoringCase("students.tableScan");
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void markAsVotedFlipsTheFlagOnceInASingleStatement() {
+        AtomicReference<Optional<Student>> first = new AtomicReference<>();
+
+        int issued = statements.count(() -> first.set(repository.markAsVoted(1)));
+
+        assertThat(issued).isEqualTo(1);
+        assertThat(first.get()).get().satisfies(student -> {
+            assertThat(student.getStudentId()).isEqualTo("S001");
+            assertThat(student.getHasVoted()).isTrue();
+        });
+        assertThat(repository.markAsVoted(1)).isEmpty();
+        assertThat(repository.markAsVoted(999)).isEmpty();
+    }
+}
@@ -0,0 +1,206 @@
+package com.university.election.service;
+
+import com.university.election.exception.InvalidInputException;
+import com.university.election.exception.ResourceNotFoundException;
+import com.university.election.model.Candidate;
+import com.university.election.model.Election;
+import com.university.election.patterns.builder.ElectionBuilder;
+import com.university.election.patterns.singleton.CacheManager;
+import com.university.election.repository.CandidateRepository;
+import com.university.election.repository.ElectionRepository;
+import com.university.election.repository.StudentRepository;
+import com.university.election.repository.VoteRepository;
+import com.university.election.support.StatementCounter;
+import com.university.election.support.TestDatabaseConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringJUnitConfig({TestDatabaseConfig.class, CandidateRepository.class, ElectionRepository.class, VoteRepository.class,
+        StudentRepository.class, TallyEngine.class, CacheManager.class, CandidateServiceImpl.class, ElectionServiceImpl.class, VoterBitmapIndex.class,
+        TurnoutAnalytics.class})
+class CandidateServiceTest {
+
+    @Autowired
+    private CandidateService service;
+
+    @Autowired
+    private CandidateRepository repository;
+
+    @Autowired
+    private ElectionService electionService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TallyEngine tallyEngine;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private StatementCounter statements;
+
+    @BeforeEach
+    void setUp() {
+        TestDatabaseConfig.resetSchema(dataSource);
+        cacheManager.clear();
+    }
+
+    @Test
+    void createAndUpdateAreOneStatementEach() {
+        Candidate candidate = candidate("Nurlan Sapar", 1);
+        assertThat(statements.count(() -> service.createCandidate(candidate))).isEqualTo(1);
+
+        AtomicReference<Candidate> updated = new AtomicReference<>();
+        Candidate changes = candidate("Nurlan Sapar", 2);
+        changes.setCampaign("Open labs");
+
+        int issued = statements.count(() -> updated.set(service.updateCandidate(candidate.getId(), changes)));
+
+        assertThat(issued).isEqualTo(1);
+        assertThat(updated.get().getId()).isEqualTo(candidate.getId());
+        assertThat(updated.get().getCampaign()).isEqualTo("Open labs");
+        assertThat(repository.findById(candidate.getId())).get()
+                .satisfies(c -> assertThat(c.getElection().getId()).isEqualTo(2));
+    }
+
+    @Test
+    void missingElectionIsReportedByTheForeignKey() {
+        int before = statements.get();
+
+        assertThatThrownBy(() -> service.createCandidate(candidate("Nurlan Sapar", 99)))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Election not found with id: 99");
+        assertThatThrownBy(() -> service.updateCandidate(1, candidate("Bekbolat Aruzhan", 99)))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Election not found with id: 99");
+        assertThatThrownBy(() -> service.updateCandidate(999, candidate("Nobody", 1)))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Candidate not found with id: 999");
+        assertThatThrownBy(() -> service.updateCandidate(999, candidate("", 1)))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Candidate not found with id: 999");
+        assertThatThrownBy(() -> service.createCandidates(List.of(candidate("A", 1), candidate("B", 99))))
+                .isInstanceOf(ResourceNotFoundException.class);
+
+        assertThat(statements.get() - before).isEqualTo(4);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM candidates", Integer.class)).isEqualTo(3);
+    }
+
+    @Test
+    void candidateWithBallotsCannotChangeElection() {
+        jdbcTemplate.update("INSERT INTO votes (election_id, candidate_id, student_id) VALUES (1, 1, 2)");
+
+        // The votes foreign key rejects the move: not a missing election
+        assertThatThrownBy(() -> service.updateCandidate(1, candidate("Bekbolat Aruzhan", 2)))
+                .isInstanceOf(InvalidInputException.class)
+                .isNotInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Candidate has ballots and cannot change election");
+        assertThatThrownBy(() -> service.updateCandidates(List.of(withId(candidate("Bekbolat Aruzhan", 2), 1))))
+                .isInstanceOf(InvalidInputException.class)
+                .hasMessage("Candidate has ballots and cannot change election");
+        assertThat(repository.findById(1)).get()
+                .satisfies(c -> assertThat(c.getElection().getId()).isEqualTo(1));
+    }
+
+    @Test
+    void candidatesByElectionCheckTheElectionOnlyWhenEmpty() {
+        assertThat(statements.count(() -> service.getCandidatesByElectionId(1))).isEqualTo(1);
+        assertThat(statements.count(() -> service.getCandidatesByElectionId(2))).isEqualTo(2);
+
+        int before = statements.get();
+        assertThatThrownBy(() -> service.getCandidatesByElectionId(99)).isInstanceOf(ResourceNotFoundException.class);
+        assertThat(statements.get() - before).isEqualTo(2);
+    }
+
+    @Test
+    void deleteCandidateIsOneStatement() {
+        assertThat(statements.count(() -> service.deleteCandidate(3))).isEqualTo(1);
+        assertThat(repository.existsById(3)).isFalse();
+    }
+
+    @Test
+    void candidateListsAreCachedUntilACandidateOrElectionChanges() {
+        assertThat(statements.count(() -> service.getCandidatesByElectionId(1))).isEqualTo(1);
+        assertThat(statements.count(() -> service.getCandidatesByElectionId(1))).isZero();
+
+        Candidate created = service.createCandidate(candidate("Nurlan Sapar", 1));
+        assertThat(service.getCandidatesByElectionId(1)).hasSize(4);
+
+        service.updateCandidate(created.getId(), candidate("Nurlan Sapar", 2));
+        assertThat(service.getCandidatesByElectionId(1)).hasSize(3);
+        assertThat(service.getCandidatesByElectionId(2)).extracting(Candidate::getName).containsExactly("Nurlan Sapar");
+
+        electionService.updateElection(2, ElectionBuilder.builder()
+                .withName("Renamed Election")
+                .withStartDate(LocalDate.of(2027, 1, 10))
+                .withEndDate(LocalDate.of(2027, 1, 19))
+                .withAcademicYear("2026-2027")
+                .build());
+        assertThat(service.getCandidatesByElectionId(2).get(0).getElection().getName()).isEqualTo("Renamed Election");
+
+        service.deleteCandidate(created.getId());
+        assertThat(statements.count(() -> assertThat(service.getCandidatesByElectionId(2)).isEmpty())).isEqualTo(2);
+    }
+
+    @Test
+    void batchWritesInvalidateCandidateListsOnlyOnceCommitted() {
+        service.getCandidatesByElectionId(1);
+
+        // Rolled back: nothing was committed, so the cached list stays
+        assertThatThrownBy(() -> service.createCandidates(List.of(candidate("A", 1), candidate("B", 99))))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThat(statements.count(() -> assertThat(service.getCandidatesByElectionId(1)).hasSize(3))).isZero();
+
+        service.createCandidates(List.of(candidate("A", 1), candidate("B", 1)));
+        assertThat(statements.count(() -> assertThat(service.getCandidatesByElectionId(1)).hasSize(5))).isEqualTo(1);
+    }
+
+    @Test
+    void rolledBackBatchDeleteKeepsTheTally() {
+        jdbcTemplate.update("INSERT INTO votes (election_id, candidate_id, student_id) VALUES (1, 1, 2)");
+        tallyEngine.seed();
+
+        // The batch joins an outer transaction that then rolls back
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            service.deleteCandidates(List.of(1));
+            status.setRollbackOnly();
+        });
+        assertThat(repository.existsById(1)).isTrue();
+        assertThat(tallyEngine.snapshot(1).getCounts()).containsEntry(1, 1L);
+
+        service.deleteCandidates(List.of(1));
+        assertThat(tallyEngine.snapshot(1).getCounts()).doesNotContainKey(1);
+    }
+
+    private static Candidate withId(Candidate candidate, int id) {
+        candidate.setId(id);
+        return candidate;
+    }
+
+    private static Candidate candidate(String name, int electionId) {
+        Election election = new Election();
+        election.setId(electionId);
+        return new Candidate(null, name, "Law", 3, "Campaign", election);
+    }
+}
@@ -0,0 +1,164 @@
+package com.university.election.service;
+
+import com.university.election.dto.ElectionDTO;
+import com.university.election.exception.InvalidInputException;
+import com.university.election.exception.ResourceNotFoundException;
+import com.university.election.model.Election;
+import com.university.election.patterns.builder.ElectionBuilder;
+import com.university.election.patterns.singleton.CacheManager;
+import com.university.election.repository.ElectionRepository;
+import com.university.election.repository.StudentRepository;
+import com.university.election.repository.VoteRepository;
+import com.university.election.support.StatementCounter;
+import com.university.election.support.TestDatabaseConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringJUnitConfig({TestDatabaseConfig.class, ElectionRepository.class, VoteRepository.class, StudentRepository.class, TallyEngine.class,
+        CacheManager.class, ElectionServiceImpl.class, VoterBitmapIndex.class, TurnoutAnalytics.class})
+class ElectionServiceTest {
+
+    @Autowired
+    private ElectionService service;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private StatementCounter statements;
+
+    @Autowired
+    private TallyEngine tallyEngine;
+
+    @BeforeEach
+    void setUp() {
+        TestDatabaseConfig.resetSchema(dataSource);
+        cacheManager.clear();
+    }
+
+    @Test
+    void updateElectionIsOneStatementReturningTheStoredRow() {
+        AtomicReference<Election> updated = new AtomicReference<>();
+        Election changes = ElectionBuilder.builder()
+                .withName("University President Election 2026 (rescheduled)")
+                .withStartDate(LocalDate.of(2026, 2, 1))
+                .withEndDate(LocalDate.of(2026, 2, 10))
+                .withAcademicYear("2025-2026")
+                .build();
+
+        int issued = statements.count(() -> updated.set(service.updateElection(1, changes)));
+
+        assertThat(issued).isEqualTo(1);
+        assertThat(updated.get().getId()).isEqualTo(1);
+        assertThat(updated.get().getStartDate()).isEqualTo(LocalDate.of(2026, 2, 1));
+        assertThat(service.getElectionById(1).getName()).isEqualTo("University President Election 2026 (rescheduled)");
+    }
+
+    @Test
+    void missingElectionIsReportedByTheWriteItself() {
+        Election changes = ElectionBuilder.builder()
+                .withName("Nothing")
+                .withStartDate(LocalDate.of(2026, 2, 1))
+                .withEndDate(LocalDate.of(2026, 2, 10))
+                .withAcademicYear("2025-2026")
+                .build();
+        int before = statements.get();
+
+        assertThatThrownBy(() -> service.updateElection(99, changes)).isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> service.deleteElection(99)).isInstanceOf(ResourceNotFoundException.class);
+
+        assertThat(statements.get() - before).isEqualTo(2);
+
+        // An invalid body is reported as such only for an election that exists
+        Election invalid = ElectionBuilder.builder()
+                .withName("Nothing")
+                .withStartDate(LocalDate.of(2026, 2, 1))
+                .withEndDate(LocalDate.of(2026, 2, 10))
+                .withAcademicYear("2025-2026")
+                .build();
+        invalid.setName("");
+        assertThatThrownBy(() -> service.updateElection(99, invalid)).isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> service.updateElection(1, invalid)).isInstanceOf(InvalidInputException.class);
+    }
+
+    @Test
+    void deleteElectionIsOneStatement() {
+        assertThat(statements.count(() -> service.deleteElection(2))).isEqualTo(1);
+    }
+
+    @Test
+    void summariesComeFromOneCachedAggregateQuery() {
+        jdbcTemplate.update("INSERT INTO votes (election_id, candidate_id, student_id) VALUES (1, 1, 2), (1, 2, 4)");
+        tallyEngine.seed();
+        AtomicReference<List<ElectionDTO>> summaries = new AtomicReference<>();
+
+        assertThat(statements.count(() -> summaries.set(service.getElectionSummaries()))).isEqualTo(1);
+        assertThat(summaries.get()).extracting(ElectionDTO::getId, ElectionDTO::getTotalCandidates, ElectionDTO::getTotalVotes)
+                .containsExactly(tuple(2, 0, 0), tuple(1, 3, 2));
+        assertThat(statements.count(service::getElectionSummaries)).isZero();
+
+        // A counted ballot shows up without dropping the cached rows
+        tallyEngine.record(1, 3);
+        assertThat(statements.count(() -> summaries.set(service.getElectionSummaries()))).isZero();
+        assertThat(summaries.get()).extracting(ElectionDTO::getId, ElectionDTO::getTotalVotes)
+                .containsExactly(tuple(2, 0), tuple(1, 3));
+
+        service.createElection(ElectionBuilder.builder()
+                .withName("Student Council Election 2028")
+                .withStartDate(LocalDate.of(2028, 1, 10))
+                .withEndDate(LocalDate.of(2028, 1, 19))
+                .withAcademicYear("2027-2028")
+                .build());
+
+        assertThat(statements.count(() -> summaries.set(service.getElectionSummaries()))).isEqualTo(1);
+        assertThat(summaries.get()).hasSize(3);
+
+        // The batch create drops the cached summaries too
+        service.createElections(List.of(ElectionBuilder.builder()
+                .withName("Faculty Council Election 2028")
+                .withStartDate(LocalDate.of(2028, 3, 1))
+                .withEndDate(LocalDate.of(2028, 3, 5))
+                .withAcademicYear("2027-2028")
+                .build()));
+
+        assertThat(statements.count(() -> summaries.set(service.getElectionSummaries()))).isEqualTo(1);
+        assertThat(summaries.get()).hasSize(4);
+    }
+
+    @Test
+    void summaryStatusFollowsTheDateWindow() {
+        Election election = new Election(1, "Election", LocalDate.of(2026, 1, 10), LocalDate.of(2026, 1, 19), "2025-2026");
+
+        assertThat(ElectionServiceImpl.toSummary(election, 0, 0, LocalDate.of(2026, 1, 9)))
+                .satisfies(summary -> {
+                    assertThat(summary.getStatus()).isEqualTo("UPCOMING");
+                    assertThat(summary.isVotingOpen()).isFalse();
+                });
+        assertThat(ElectionServiceImpl.toSummary(election, 0, 0, LocalDate.of(2026, 1, 10)).getStatus()).isEqualTo("ACTIVE");
+        assertThat(ElectionServiceImpl.toSummary(election, 0, 0, LocalDate.of(2026, 1, 19)))
+                .satisfies(summary -> {
+                    assertThat(summary.getStatus()).isEqualTo("ACTIVE");
+                    assertThat(summary.isVotingOpen()).isTrue();
+                    assertThat(summary.isActive()).isTrue();
+                });
+        assertThat(ElectionServiceImpl.toSummary(election, 0, 0, LocalDate.of(2026, 1, 20)).getStatus()).isEqualTo("COMPLETED");
+    }
+}
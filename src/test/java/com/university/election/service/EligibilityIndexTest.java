@@ -0,0 +1,170 @@
+package com.university.election.service;
+
+import com.university.election.dto.EligibilityStatus;
+import com.university.election.exception.ResourceNotFoundException;
+import com.university.election.model.Student;
+import com.university.election.model.Vote;
+import com.university.election.patterns.singleton.CacheManager;
+import com.university.election.repository.ElectionRepository;
+import com.university.election.repository.StudentRepository;
+import com.university.election.repository.VoteRepository;
+import com.university.election.support.StatementCounter;
+import com.university.election.support.TestDatabaseConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringJUnitConfig({TestDatabaseConfig.class, StudentRepository.class, VoteRepository.class, ElectionRepository.class, StudentServiceImpl.class,
+        VoteServiceImpl.class, TallyEngine.class, EligibilityIndex.class, VoterBitmapIndex.class, TurnoutAnalytics.class, CacheManager.class})
+class EligibilityIndexTest {
+
+    @Autowired
+    private EligibilityIndex index;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private VoteService voteService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private StatementCounter statements;
+
+    @BeforeEach
+    void setUp() {
+        TestDatabaseConfig.resetSchema(dataSource);
+        index.load();
+    }
+
+    @Test
+    void lookupsAreServedFromMemory() {
+        int issued = statements.count(() -> {
+            for (int i = 0; i < 100; i++) {
+                assertThat(index.lookup("S001")).isPresent();
+            }
+        });
+
+        assertThat(issued).isZero();
+        EligibilityStatus s001 = index.lookup("S001").orElseThrow();
+        assertThat(s001.getId()).isEqualTo(1);
+        assertThat(s001.getYearOfStudy()).isEqualTo(1);
+        assertThat(s001.isCanVote()).isTrue();
+        EligibilityStatus s002 = index.lookup("S002").orElseThrow();
+        assertThat(s002.isHasVoted()).isTrue();
+        assertThat(s002.isCanVote()).isFalse();
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    @Test
+    void studentWritesKeepTheIndexCurrent() {
+        Student created = studentService.createStudent(new Student(null, "New Voter", "N100", "Physics", 2, false));
+        assertThat(statements.count(() -> assertThat(index.lookup("N100")).isPresent())).isZero();
+
+        studentService.updateStudent(created.getId(), new Student(null, "New Voter", "N200", "Physics", 3, false));
+        assertThat(index.lookup("N200")).get().satisfies(s -> assertThat(s.getYearOfStudy()).isEqualTo(3));
+        assertThat(index.lookup("N100")).isEmpty();
+
+        studentService.markAsVoted(created.getId());
+        assertThat(index.lookup("N200")).get().satisfies(s -> assertThat(s.isHasVoted()).isTrue());
+
+        studentService.deleteStudent(created.getId());
+        assertThat(index.lookup("N200")).isEmpty();
+        assertThatThrownBy(() -> studentService.checkEligibility("N200")).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void committedVoteMarksTheStudent() {
+        Vote vote = new Vote();
+        vote.setStudentId(3);
+        vote.setCandidateId(1);
+
+        voteService.castVote(1, vote);
+
+        assertThat(index.lookup("S003")).get().satisfies(s -> assertThat(s.isCanVote()).isFalse());
+    }
+
+    @Test
+    void rolledBackBatchLeavesTheIndexUnchanged() {
+        Student renamed = new Student(1, "Arguan Bakikair", "S901", "Software Engineering", 1, false);
+        Student missing = new Student(999, "Nobody", "S999", "Physics", 1, false);
+
+        assertThatThrownBy(() -> studentService.updateStudents(List.of(renamed, missing)))
+                .isInstanceOf(ResourceNotFoundException.class);
+
+        assertThat(statements.count(() -> assertThat(index.lookup("S001")).isPresent())).isZero();
+    }
+
+    @Test
+    void missFallsBackToTheDatabaseOnceAndIndexesTheRow() {
+        // Rows inserted behind the service layer, like the CSV import does
+        jdbcTemplate.update("INSERT INTO students (name, student_id, faculty, year_of_study, has_voted) " +
+                "VALUES ('Imported', 'I001', 'Physics', 4, FALSE)");
+
+        assertThat(statements.count(() -> assertThat(index.lookup("I001")).isPresent())).isEqualTo(1);
+        assertThat(statements.count(() -> assertThat(index.lookup("I001")).isPresent())).isZero();
+    }
+
+    @Test
+    void tableAgreesWithHashMapUnderRandomWrites() {
+        EligibilityTable table = new EligibilityTable();
+        Map<Integer, String> keys = new HashMap<>();
+        Map<String, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int op = 0; op < 50_000; op++) {
+            int id = 1 + random.nextInt(2_000);
+            String old = keys.get(id);
+            switch (random.nextInt(4)) {
+                case 0, 1 -> {
+                    String studentId = "K" + random.nextInt(3_000);
+                    int year = 1 + random.nextInt(4);
+                    boolean voted = random.nextBoolean();
+                    table = table.put(id, studentId, year, voted);
+                    if (old != null) {
+                        expected.remove(old);
+                    }
+                    // A student_id held by another id moves to this one
+                    keys.values().remove(studentId);
+                    keys.put(id, studentId);
+                    expected.put(studentId, ((long) id << 8) | year | (voted ? 0x80 : 0));
+                }
+                case 2 -> {
+                    assertThat(table.markVoted(id)).isEqualTo(old != null);
+                    if (old != null) {
+                        expected.put(old, expected.get(old) | 0x80);
+                    }
+                }
+                default -> {
+                    assertThat(table.remove(id)).isEqualTo(old != null);
+                    keys.remove(id);
+                    if (old != null) {
+                        expected.remove(old);
+                    }
+                }
+            }
+        }
+
+        assertThat(table.size()).isEqualTo(expected.size());
+        for (int k = 0; k < 3_000; k++) {
+            String studentId = "K" + k;
+            assertThat(table.get(studentId)).isEqualTo(expected.getOrDefault(studentId, EligibilityTable.NOT_FOUND));
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.university.election.service;
+
+import com.university.election.exception.ResourceNotFoundException;
+import com.university.election.repository.ElectionRepository;
+import com.university.election.repository.VoteRepository;
+import com.university.election.support.StatementCounter;
+import com.university.election.support.TestDatabaseConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * The producer is driven by calling tick() directly (the scheduled interval is set to an hour)
+ */
+@SpringJUnitConfig({TestDatabaseConfig.class, VoteRepository.class, ElectionRepository.class, TallyEngine.class,
+        ResultsBroadcaster.class, ResultsBroadcasterTest.Json.class})
+@TestPropertySource(properties = {"app.results.stream.interval-ms=3600000", "app.results.stream.max-skipped=2"})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class ResultsBroadcasterTest {
+
+    @Configuration
+    static class Json {
+        @Bean
+        ObjectMapper objectMapper() {
+            return JsonMapper.builder().build();
+        }
+    }
+
+    /**
+     * Keeps the last frame it was sent
+     */
+    private static class RecordingSink implements ResultsBroadcaster.FrameSink {
+        private volatile byte[] last;
+        private volatile int received;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        @Override
+        public void send(byte[] frame) {
+            last = frame;
+            received++;
+        }
+
+        @Override
+        public void close() {
+            closed.set(true);
+        }
+    }
+
+    @Autowired
+    private ResultsBroadcaster broadcaster;
+
+    @Autowired
+    private TallyEngine tallyEngine;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private StatementCounter statements;
+
+    @BeforeEach
+    void setUp() {
+        TestDatabaseConfig.resetSchema(dataSource);
+        tallyEngine.seed();
+    }
+
+    @Test
+    void databaseLoadStaysFlatAsSubscribersGrow() throws Exception {
+        List<Integer> issued = new ArrayList<>();
+        for (int subscribers : new int[]{1, 100, 10_000}) {
+            List<RecordingSink> sinks = new ArrayList<>();
+            List<Runnable> cancels = new ArrayList<>();
+            long snapshotsBefore = broadcaster.getStats().getSnapshotsTaken();
+            long writtenBefore = broadcaster.getStats().getFramesWritten();
+
+            int before = statements.get();
+            for (int i = 0; i < subscribers; i++) {
+                RecordingSink sink = new RecordingSink();
+                sinks.add(sink);
+                cancels.add(broadcaster.subscribe(1, sink));
+            }
+            broadcaster.tick();
+            awaitAtLeast(writtenBefore + subscribers, () -> broadcaster.getStats().getFramesWritten());
+            for (int i = 0; i < 5; i++) {
+                tallyEngine.record(1, 1 + i % 3);
+                broadcaster.tick();
+                broadcaster.tick(); // nothing changed: no snapshot
+                // Let every client take the frame, so none of them skips one
+                awaitAtLeast(writtenBefore + (i + 2L) * subscribers, () -> broadcaster.getStats().getFramesWritten());
+            }
+            issued.add(statements.get() - before);
+
+            // One snapshot per change, whatever the number of subscribers
+            assertThat(broadcaster.getStats().getSnapshotsTaken() - snapshotsBefore).isEqualTo(6);
+            byte[] latest = sinks.get(0).last;
+            assertThat(sinks).allSatisfy(sink -> assertThat(sink.last).isSameAs(latest));
+
+            cancels.forEach(Runnable::run);
+            broadcaster.tick(); // retires the feed: the next subscriber checks the election again
+        }
+
+        // The election existence check of the first subscriber, nothing per subscriber or per tick
+        assertThat(issued).containsOnly(1);
+        assertThat(broadcaster.getStats().getSubscribers()).isZero();
+    }
+
+    @Test
+    void framesAreCompleteServerSentEvents() throws Exception {
+        RecordingSink sink = new RecordingSink();
+        broadcaster.subscribe(1, sink);
+        broadcaster.tick();
+        awaitAtLeast(1, () -> sink.received);
+
+        String frame = new String(sink.last, StandardCharsets.UTF_8);
+        assertThat(frame).startsWith("id: 1\nevent: results\ndata: {").endsWith("}\n\n");
+        assertThat(frame).contains("\"electionId\":1").doesNotContain("\n\n\n");
+
+        // A late subscriber gets the latest frame without waiting for a change
+        RecordingSink late = new RecordingSink();
+        broadcaster.subscribe(1, late);
+        awaitAtLeast(1, () -> late.received);
+        assertThat(late.last).isSameAs(sink.last);
+    }
+
+    @Test
+    void slowClientIsSkippedThenDroppedWithoutBlockingOthers() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingSink slow = new RecordingSink() {
+            @Override
+            public void send(byte[] frame) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.send(frame);
+            }
+        };
+        RecordingSink fast = new RecordingSink();
+        broadcaster.subscribe(1, slow);
+        broadcaster.subscribe(1, fast);
+
+        broadcaster.tick();
+        awaitAtLeast(1, () -> fast.received);
+        for (int i = 0; i < 4; i++) {
+            tallyEngine.record(1, 1);
+            broadcaster.tick();
+            awaitAtLeast(i + 2, () -> fast.received);
+        }
+
+        // The slow client's writer is stuck on its first frame; the next one waits and later ones replace
+        // it: the third skip in a row (max-skipped=2) drops the client
+        assertThat(broadcaster.getStats().getSubscribersDropped()).isEqualTo(1);
+        assertThat(broadcaster.getStats().getSubscribers()).isEqualTo(1);
+        release.countDown();
+        awaitAtLeast(1, () -> slow.closed.get() ? 1 : 0);
+        assertThat(fast.closed).isFalse();
+    }
+
+    @Test
+    void unknownElectionIsRejected() {
+        assertThatThrownBy(() -> broadcaster.subscribe(999, new RecordingSink()))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThat(broadcaster.getStats().getSubscribers()).isZero();
+    }
+
+    /**
+     * Frames are written on virtual threads: wait for them
+     */
+    private static void awaitAtLeast(long expected, LongSupplier actual) throws InterruptedException {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (actual.getAsLong() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(actual.getAsLong()).isGreaterThanOrEqualTo(expected);
+    }
+}
@@ -0,0 +1,62 @@
+package com.university.election.service;
+
+import com.university.election.dto.ImportReport;
+import com.university.election.repository.ElectionRepository;
+import com.university.election.repository.StudentRepository;
+import com.university.election.repository.VoteRepository;
+import com.university.election.support.TestDatabaseConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringJUnitConfig({TestDatabaseConfig.class, StudentRepository.class, VoteRepository.class, ElectionRepository.class,
+        StudentImportServiceImpl.class, VoterBitmapIndex.class, TurnoutAnalytics.class})
+@TestPropertySource(properties = "app.import.chunk-size=2")
+class StudentImportServiceTest {
+
+    @Autowired
+    private StudentImportService importService;
+
+    @Autowired
+    private StudentRepository repository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        TestDatabaseConfig.resetSchema(dataSource);
+    }
+
+    @Test
+    void importsValidRowsAndReportsRejectedAndDuplicateRows() {
+        String csv = """
+                studentId,name,faculty,yearOfStudy
+                S100,"Sultanov, Askar",Physics,2
+                S001,Duplicate Of Sample,Physics,1
+                S101,Too Senior,Physics,5
+                S102,Madina Orazova,Chemistry,3
+                S102,Repeated In File,Chemistry,3
+                S103,Bad Year,Chemistry,two
+                """;
+
+        ImportReport report = importService.importStudents(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(report.getLoader()).isEqualTo("BATCH");
+        assertThat(report.getRowsRead()).isEqualTo(6);
+        assertThat(report.getImported()).isEqualTo(2);
+        assertThat(report.getDuplicates()).isEqualTo(2);
+        assertThat(report.getRejected()).isEqualTo(2);
+        assertThat(report.getErrors()).extracting(ImportReport.RowError::getLine).containsExactlyInAnyOrder(3L, 4L, 6L, 7L);
+        assertThat(repository.findByStudentId("S100")).get().extracting(s -> s.getName()).isEqualTo("Sultanov, Askar");
+        assertThat(repository.count()).isEqualTo(6);
+    }
+}
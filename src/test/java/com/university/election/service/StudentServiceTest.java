@@ -0,0 +1,133 @@
+package com.university.election.service;
+
+import com.university.election.dto.PageResponse;
+import com.university.election.exception.InvalidInputException;
+import com.university.election.exception.ResourceNotFoundException;
+import com.university.election.model.Student;
+import com.university.election.model.Vote;
+import com.university.election.patterns.singleton.CacheManager;
+import com.university.election.repository.ElectionRepository;
+import com.university.election.repository.StudentFilter;
+import com.university.election.repository.StudentRepository;
+import com.university.election.repository.VoteRepository;
+import com.university.election.support.StatementCounter;
+import com.university.election.support.TestDatabaseConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import javax.sql.DataSource;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringJUnitConfig({TestDatabaseConfig.class, StudentRepository.class, VoteRepository.class, ElectionRepository.class,
+        StudentServiceImpl.class, VoteServiceImpl.class, TallyEngine.class, EligibilityIndex.class, VoterBitmapIndex.class,
+        TurnoutAnalytics.class, CacheManager.class})
+class StudentServiceTest {
+
+    @Autowired
+    private StudentService service;
+
+    @Autowired
+    private StudentRepository repository;
+
+    @Autowired
+    private VoteService voteService;
+
+    @Autowired
+    private TallyEngine tallyEngine;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private StatementCounter statements;
+
+    @BeforeEach
+    void setUp() {
+        TestDatabaseConfig.resetSchema(dataSource);
+        tallyEngine.seed();
+    }
+
+    @Test
+    void updateStudentIsOneStatementReturningTheStoredRow() {
+        AtomicReference<Student> updated = new AtomicReference<>();
+        Student changes = new Student(null, "Arguan Bakikair", "S001", "Mathematics", 2, true);
+
+        int issued = statements.count(() -> updated.set(service.updateStudent(1, changes)));
+
+        assertThat(issued).isEqualTo(1);
+        assertThat(updated.get().getId()).isEqualTo(1);
+        assertThat(updated.get().getFaculty()).isEqualTo("Mathematics");
+        assertThat(updated.get().getHasVoted()).isTrue();
+        assertThat(repository.findById(1)).get().satisfies(s -> assertThat(s.getYearOfStudy()).isEqualTo(2));
+    }
+
+    @Test
+    void missingStudentIsReportedByTheWriteItself() {
+        Student changes = new Student(null, "Nobody", "S999", "Physics", 1, false);
+        int before = statements.get();
+
+        assertThatThrownBy(() -> service.updateStudent(999, changes)).isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> service.deleteStudent(999)).isInstanceOf(ResourceNotFoundException.class);
+
+        assertThat(statements.get() - before).isEqualTo(2);
+
+        // An invalid body is reported as such only for a student that exists
+        Student invalid = new Student(null, "", "S999", "Physics", 1, false);
+        assertThatThrownBy(() -> service.updateStudent(999, invalid)).isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> service.updateStudent(1, invalid)).isInstanceOf(InvalidInputException.class);
+    }
+
+    @Test
+    void deleteStudentLocksReadsItsBallotsAndDeletesInThreeStatements() {
+        int issued = statements.count(() -> service.deleteStudent(3));
+
+        assertThat(issued).isEqualTo(3);
+        assertThat(repository.existsById(3)).isFalse();
+    }
+
+    @Test
+    void deletingAStudentTakesTheirBallotsBackFromTheTally() {
+        Vote vote = new Vote();
+        vote.setStudentId(1);
+        vote.setCandidateId(2);
+        voteService.castVote(1, vote);
+        assertThat(tallyEngine.snapshot(1).getCounts()).containsEntry(2, 1L);
+
+        service.deleteStudent(1);
+
+        assertThat(tallyEngine.snapshot(1).getTotalVotes()).isZero();
+        assertThat(tallyEngine.reconcile(1).getDrift()).isEmpty();
+    }
+
+    @Test
+    void markAsVotedChecksExistenceOnlyWhenItFails() {
+        assertThat(statements.count(() -> service.markAsVoted(1))).isEqualTo(1);
+
+        int before = statements.get();
+        assertThatThrownBy(() -> service.markAsVoted(1)).isInstanceOf(InvalidInputException.class);
+        assertThatThrownBy(() -> service.markAsVoted(999)).isInstanceOf(ResourceNotFoundException.class);
+        assertThat(statements.get() - before).isEqualTo(4);
+    }
+
+    @Test
+    void queryStudentsPagesByNameWithTheFilters() {
+        StudentFilter all = new StudentFilter(null, null, null);
+
+        PageResponse<Student> first = service.queryStudents(all, "name", null, 3);
+        PageResponse<Student> second = service.queryStudents(all, "name", first.getNextCursor(), 3);
+
+        assertThat(first.getItems()).extracting(Student::getName)
+                .containsExactly("Arguan Bakikair", "Dias Yerlan", "Kamila Aisha");
+        assertThat(second.getItems()).extracting(Student::getName).containsExactly("Timur Bolat");
+        assertThat(second.getNextCursor()).isNull();
+        assertThat(service.queryStudents(new StudentFilter(null, null, false), null, null, 10).getItems())
+                .extracting(Student::getId).containsExactly(1, 3);
+        assertThatThrownBy(() -> service.queryStudents(all, "faculty", null, 10))
+                .isInstanceOf(InvalidInputException.class);
+    }
+}
@@ -0,0 +1,62 @@
+package com.university.election.service;
+
+import com.university.election.dto.TallySnapshot;
+import com.university.election.repository.VoteRepository;
+import com.university.election.support.StatementCounter;
+import com.university.election.support.TestDatabaseConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringJUnitConfig({TestDatabaseConfig.class, VoteRepository.class, TallyEngine.class})
+class TallyEngineTest {
+
+    @Autowired
+    private TallyEngine tallyEngine;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private StatementCounter statements;
+
+    @BeforeEach
+    void setUp() {
+        TestDatabaseConfig.resetSchema(dataSource);
+        jdbcTemplate.update("INSERT INTO votes (election_id, candidate_id, student_id) VALUES (1, 1, 1), (1, 1, 2), (1, 3, 3)");
+        tallyEngine.seed();
+    }
+
+    @Test
+    void snapshotIsSeededFromTheLedgerAndServedWithoutQueries() {
+        tallyEngine.record(1, 2);
+        AtomicReference<TallySnapshot> snapshot = new AtomicReference<>();
+
+        int issued = statements.count(() -> snapshot.set(tallyEngine.snapshot(1)));
+
+        assertThat(issued).isZero();
+        assertThat(snapshot.get().getCounts()).containsExactly(Map.entry(1, 2L), Map.entry(2, 1L), Map.entry(3, 1L));
+        assertThat(snapshot.get().getTotalVotes()).isEqualTo(4);
+    }
+
+    @Test
+    void reconcileReportsDriftAgainstTheDatabase() {
+        assertThat(tallyEngine.reconcile(1).isConsistent()).isTrue();
+
+        // Deleting a student cascades to their ballot behind the tally's back
+        jdbcTemplate.update("DELETE FROM students WHERE id = 1");
+
+        assertThat(tallyEngine.reconcile(1).getDrift()).containsExactly(Map.entry(1, 1L));
+    }
+}
@@ -0,0 +1,262 @@
+package com.university.election.service;
+
+import com.university.election.dto.TurnoutBreakdown;
+import com.university.election.dto.TurnoutGroup;
+import com.university.election.exception.DuplicateResourceException;
+import com.university.election.exception.ResourceNotFoundException;
+import com.university.election.model.Student;
+import com.university.election.model.Vote;
+import com.university.election.patterns.singleton.CacheManager;
+import com.university.election.repository.CandidateRepository;
+import com.university.election.repository.ElectionRepository;
+import com.university.election.repository.StudentRepository;
+import com.university.election.repository.VoteRepository;
+import com.university.election.support.StatementCounter;
+import com.university.election.support.TestDatabaseConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringJUnitConfig({TestDatabaseConfig.class, TurnoutAnalyticsTest.PausingStudentRepository.class, VoteRepository.class, ElectionRepository.class,
+        CandidateRepository.class, StudentServiceImpl.class, VoteServiceImpl.class, CandidateServiceImpl.class,
+        TallyEngine.class, EligibilityIndex.class, VoterBitmapIndex.class, TurnoutAnalytics.class, CacheManager.class})
+class TurnoutAnalyticsTest {
+
+    private static final String[] FACULTIES = {"Software Engineering", "Computer Science", "Law", "Physics"};
+
+    /**
+     * Can hold a recount after its aggregate query, to let ballots commit in between
+     */
+    static class PausingStudentRepository extends StudentRepository {
+        private volatile CountDownLatch counted;
+        private volatile CountDownLatch resume;
+
+        void pauseNextCount() {
+            counted = new CountDownLatch(1);
+            resume = new CountDownLatch(1);
+        }
+
+        @Override
+        public long countTurnout(TurnoutCountHandler handler) {
+            long highest = super.countTurnout(handler);
+            CountDownLatch paused = resume;
+            if (paused != null) {
+                resume = null;
+                counted.countDown();
+                try {
+                    paused.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return highest;
+        }
+    }
+
+    @Autowired
+    private PausingStudentRepository studentRepository;
+
+    @Autowired
+    private TurnoutAnalytics turnout;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private VoteService voteService;
+
+    @Autowired
+    private CandidateService candidateService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private StatementCounter statements;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        TestDatabaseConfig.resetSchema(dataSource);
+        jdbcTemplate.update("INSERT INTO votes (election_id, candidate_id, student_id) VALUES (1, 1, 2), (1, 2, 4)");
+        turnout.load();
+    }
+
+    @Test
+    void breakdownIsServedFromMemory() {
+        turnout.breakdown(1); // first sight of the election checks that it exists
+
+        int issued = statements.count(() -> {
+            TurnoutBreakdown breakdown = turnout.breakdown(1);
+            assertThat(breakdown.getEligible()).isEqualTo(4);
+            assertThat(breakdown.getVoted()).isEqualTo(2);
+            assertThat(breakdown.getTurnoutPercent()).isEqualTo(50.0);
+            assertThat(breakdown.getGroups()).extracting(TurnoutGroup::getFaculty, TurnoutGroup::getYearOfStudy,
+                            TurnoutGroup::getEligible, TurnoutGroup::getVoted)
+                    .containsExactly(
+                            tuple("Computer Science", 2, 1L, 1L),
+                            tuple("Information Systems", 3, 1L, 0L),
+                            tuple("Software Engineering", 1, 1L, 0L),
+                            tuple("Software Engineering", 4, 1L, 1L));
+        });
+
+        assertThat(issued).isZero();
+        assertThat(turnout.breakdown(2).getVoted()).isZero();
+        assertThatThrownBy(() -> turnout.breakdown(999)).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void votesAndStudentChangesAreAppliedIncrementally() {
+        turnout.breakdown(1);
+        Student created = studentService.createStudent(new Student(null, "New Voter", "N100", "Physics", 2, false));
+        voteService.castVote(1, new Vote(null, null, 3, created.getId(), null));
+        // Moving a student who has not voted keeps the counters current
+        studentService.updateStudent(1, new Student(null, "Arguan Bakikair", "S001", "Physics", 2, false));
+
+        TurnoutBreakdown[] breakdown = new TurnoutBreakdown[1];
+        assertThat(statements.count(() -> breakdown[0] = turnout.breakdown(1))).isZero();
+        assertThat(breakdown[0].getGroups()).filteredOn(group -> group.getFaculty().equals("Physics"))
+                .singleElement()
+                .satisfies(group -> {
+                    assertThat(group.getEligible()).isEqualTo(2);
+                    assertThat(group.getVoted()).isEqualTo(1);
+                });
+        assertThat(breakdown[0].getVoted()).isEqualTo(3);
+    }
+
+    @Test
+    void recountRunsOutsideTheLockAndConverges() throws Exception {
+        turnout.breakdown(1);
+        candidateService.deleteCandidate(2); // cascade: the next breakdown recounts
+        studentRepository.pauseNextCount();
+        CountDownLatch counted = studentRepository.counted;
+        CountDownLatch resume = studentRepository.resume;
+
+        CompletableFuture<TurnoutBreakdown> recounted = CompletableFuture.supplyAsync(() -> turnout.breakdown(1));
+        assertThat(counted.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // The query has returned and the recount is held: the vote commits without waiting for it
+        voteService.castVote(1, new Vote(null, null, 1, 1, null));
+        assertThatThrownBy(() -> turnout.breakdown(999)).isInstanceOf(ResourceNotFoundException.class);
+
+        resume.countDown();
+        assertThat(recounted.get(10, TimeUnit.SECONDS).getVoted()).isEqualTo(2);
+
+        // The ballot's id is above the query's highest one, so it was replayed once: no second recount
+        assertThat(statements.count(() -> assertThat(turnout.breakdown(1).getVoted()).isEqualTo(2))).isZero();
+    }
+
+    @Test
+    void ballotInTheQueryButRecordedAfterItIsCountedOnce() throws Exception {
+        turnout.breakdown(1);
+        candidateService.deleteCandidate(2); // cascade: the next breakdown recounts
+
+        // The ballot commits, but its after-commit work is held behind an earlier synchronization
+        CountDownLatch committed = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> voting = CompletableFuture.runAsync(() ->
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            committed.countDown();
+                            try {
+                                release.await();
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                        }
+                    });
+                    voteService.castVote(1, new Vote(null, null, 1, 1, null));
+                }));
+        assertThat(committed.await(10, TimeUnit.SECONDS)).isTrue();
+
+        studentRepository.pauseNextCount();
+        CountDownLatch counted = studentRepository.counted;
+        CountDownLatch resume = studentRepository.resume;
+        CompletableFuture<TurnoutBreakdown> recounted = CompletableFuture.supplyAsync(() -> turnout.breakdown(1));
+        assertThat(counted.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // Recorded while the recount is held: its id is not above the query's highest, so it is looked up
+        release.countDown();
+        voting.get(10, TimeUnit.SECONDS);
+        resume.countDown();
+
+        assertThat(recounted.get(10, TimeUnit.SECONDS).getVoted()).isEqualTo(2);
+        assertThat(statements.count(() -> assertThat(turnout.breakdown(1).getVoted()).isEqualTo(2))).isZero();
+    }
+
+    @Test
+    void votingAfterARecountKeepsBreakdownsInMemory() {
+        turnout.breakdown(1);
+        candidateService.deleteCandidate(2);
+        turnout.breakdown(1); // recount
+
+        // Each ballot is newer than the recount's query: applied to the counters, no second recount
+        voteService.castVote(1, new Vote(null, null, 1, 1, null));
+        assertThat(statements.count(() -> assertThat(turnout.breakdown(1).getVoted()).isEqualTo(2))).isZero();
+        voteService.castVote(1, new Vote(null, null, 1, 3, null));
+        assertThat(statements.count(() -> assertThat(turnout.breakdown(1).getVoted()).isEqualTo(3))).isZero();
+    }
+
+    @Test
+    void incrementalCountersMatchARebuildUnderRandomWrites() {
+        Random random = new Random(7);
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            students.add(studentService.createStudent(new Student(null, "Voter " + i, "V" + i,
+                    FACULTIES[random.nextInt(FACULTIES.length)], 1 + random.nextInt(4), false)));
+        }
+
+        for (int op = 0; op < 200 && !students.isEmpty(); op++) {
+            Student student = students.get(random.nextInt(students.size()));
+            switch (random.nextInt(4)) {
+                case 0, 1 -> {
+                    try {
+                        voteService.castVote(1, new Vote(null, null, 1 + random.nextInt(3), student.getId(), null));
+                    } catch (DuplicateResourceException e) {
+                        // Already voted in this election
+                    }
+                }
+                case 2 -> studentService.updateStudent(student.getId(), new Student(null, student.getName(),
+                        student.getStudentId(), FACULTIES[random.nextInt(FACULTIES.length)], 1 + random.nextInt(4), false));
+                default -> {
+                    studentService.deleteStudent(student.getId());
+                    students.remove(student);
+                }
+            }
+        }
+        candidateService.deleteCandidate(3);
+
+        TurnoutBreakdown incremental = turnout.breakdown(1);
+        turnout.load();
+        TurnoutBreakdown rebuilt = turnout.breakdown(1);
+
+        assertThat(incremental).usingRecursiveComparison().isEqualTo(rebuilt);
+        assertThat(rebuilt.getVoted()).isEqualTo(
+                jdbcTemplate.queryForObject("SELECT COUNT(*) FROM votes WHERE election_id = 1", Long.class));
+    }
+}
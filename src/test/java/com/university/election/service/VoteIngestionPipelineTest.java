@@ -0,0 +1,158 @@
+package com.university.election.service;
+
+import com.university.election.dto.IngestionStats;
+import com.university.election.exception.DuplicateResourceException;
+import com.university.election.exception.ResourceNotFoundException;
+import com.university.election.model.Student;
+import com.university.election.model.Vote;
+import com.university.election.patterns.singleton.CacheManager;
+import com.university.election.repository.ElectionRepository;
+import com.university.election.repository.StudentRepository;
+import com.university.election.repository.VoteRepository;
+import com.university.election.support.TestDatabaseConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@SpringJUnitConfig({TestDatabaseConfig.class, StudentRepository.class, VoteRepository.class, ElectionRepository.class,
+        VoteServiceImpl.class, TallyEngine.class, EligibilityIndex.class, VoteIngestionPipeline.class, VoterBitmapIndex.class,
+        TurnoutAnalytics.class, CacheManager.class})
+@TestPropertySource(properties = {"app.votes.ingestion.batch-size=50", "app.votes.ingestion.linger-ms=20"})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class VoteIngestionPipelineTest {
+
+    private static final int STUDENTS = 200;
+    private static final int REQUESTS = 1000;
+
+    @Autowired
+    private VoteIngestionPipeline pipeline;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private TallyEngine tallyEngine;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        TestDatabaseConfig.resetSchema(dataSource);
+        tallyEngine.seed();
+    }
+
+    @Test
+    void concurrentVotesAreCommittedInFewBatchesWithExactlyOneBallotPerStudent() throws Exception {
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < STUDENTS; i++) {
+            students.add(new Student(null, "Voter " + i, "V" + i, "Physics", 1 + i % 4, false));
+        }
+        studentRepository.saveAll(students);
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < REQUESTS; i++) {
+                Vote vote = new Vote(null, null, 1 + i % 3, students.get(i % STUDENTS).getId(), null);
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return outcome(pipeline.submit(1, vote));
+                }));
+            }
+            start.countDown();
+        }
+
+        List<String> outcomes = new ArrayList<>();
+        for (Future<String> result : results) {
+            outcomes.add(result.get());
+        }
+
+        assertThat(outcomes).filteredOn("recorded"::equals).hasSize(STUDENTS);
+        assertThat(outcomes).filteredOn("duplicate"::equals).hasSize(REQUESTS - STUDENTS);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM votes", Integer.class)).isEqualTo(STUDENTS);
+        assertThat(tallyEngine.snapshot(1).getTotalVotes()).isEqualTo(STUDENTS);
+
+        IngestionStats stats = pipeline.getStats();
+        assertThat(stats.getVotesCommitted()).isEqualTo(STUDENTS);
+        assertThat(stats.getVotesRejected()).isEqualTo(REQUESTS - STUDENTS);
+        assertThat(stats.getBatchesCommitted()).isLessThan(REQUESTS / 2);
+        assertThat(stats.getFallbackBatches()).isZero();
+    }
+
+    @Test
+    void failedBatchFallsBackToOneVoteAtATime() throws Exception {
+        // Candidate 1 stands in election 1, so the second ballot fails the batch's foreign key
+        CompletableFuture<Vote> good = pipeline.submit(1, new Vote(null, null, 2, 1, null));
+        CompletableFuture<Vote> bad = pipeline.submit(2, new Vote(null, null, 1, 3, null));
+
+        assertThat(good.get().getId()).isNotNull();
+        assertThat(outcome(bad)).isEqualTo("not found");
+        assertThat(studentRepository.findById(3)).get().extracting(Student::getHasVoted).isEqualTo(false);
+        assertThat(pipeline.getStats().getFallbackBatches()).isPositive();
+    }
+
+    @Test
+    void oneBadBallotDoesNotSendTheWholeBatchOneByOne() throws Exception {
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            students.add(new Student(null, "Voter " + i, "V" + i, "Physics", 1 + i % 4, false));
+        }
+        studentRepository.saveAll(students);
+
+        List<CompletableFuture<Vote>> good = new ArrayList<>();
+        CompletableFuture<Vote> bad = null;
+        for (int i = 0; i < students.size(); i++) {
+            if (i == 17) {
+                bad = pipeline.submit(2, new Vote(null, null, 1, students.get(i).getId(), null));
+            } else {
+                good.add(pipeline.submit(1, new Vote(null, null, 1 + i % 3, students.get(i).getId(), null)));
+            }
+        }
+
+        assertThat(outcome(bad)).isEqualTo("not found");
+        for (CompletableFuture<Vote> vote : good) {
+            assertThat(outcome(vote)).isEqualTo("recorded");
+        }
+        // Every good ballot went in through a (smaller) batch, none through the one-vote path
+        IngestionStats stats = pipeline.getStats();
+        assertThat(stats.getAverageBatchSize() * stats.getBatchesCommitted()).isCloseTo(good.size(), within(0.001));
+        assertThat(stats.getFallbackBatches()).isPositive();
+        assertThat(tallyEngine.snapshot(1).getTotalVotes()).isEqualTo(good.size());
+    }
+
+    private String outcome(CompletableFuture<Vote> future) throws InterruptedException {
+        try {
+            future.get();
+            return "recorded";
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof DuplicateResourceException) {
+                return "duplicate";
+            }
+            if (e.getCause() instanceof ResourceNotFoundException) {
+                return "not found";
+            }
+            throw new AssertionError(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.university.election.service;
+
+import com.university.election.exception.DuplicateResourceException;
+import com.university.election.exception.ResourceNotFoundException;
+import com.university.election.model.Student;
+import com.university.election.model.Vote;
+import com.university.election.patterns.singleton.CacheManager;
+import com.university.election.repository.ElectionRepository;
+import com.university.election.repository.StudentRepository;
+import com.university.election.repository.VoteRepository;
+import com.university.election.support.TestDatabaseConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringJUnitConfig({TestDatabaseConfig.class, StudentRepository.class, VoteRepository.class, ElectionRepository.class, VoteServiceImpl.class, TallyEngine.class,
+        EligibilityIndex.class, VoterBitmapIndex.class, TurnoutAnalytics.class, CacheManager.class})
+class VoteServiceTest {
+
+    private static final int STUDENTS = 200;
+    private static final int REQUESTS = 1000;
+
+    @Autowired
+    private VoteService voteService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private TallyEngine tallyEngine;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        TestDatabaseConfig.resetSchema(dataSource);
+        tallyEngine.seed();
+    }
+
+    @Test
+    void concurrentRequestsRecordExactlyOneBallotPerStudent() throws Exception {
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < STUDENTS; i++) {
+            students.add(new Student(null, "Voter " + i, "V" + i, "Physics", 1 + i % 4, false));
+        }
+        studentRepository.saveAll(students);
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < REQUESTS; i++) {
+                Vote vote = new Vote(null, null, 1 + i % 3, students.get(i % STUDENTS).getId(), null);
+                results.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        voteService.castVote(1, vote);
+                        return "recorded";
+                    } catch (DuplicateResourceException e) {
+                        return "duplicate";
+                    }
+                }));
+            }
+            start.countDown();
+        }
+
+        List<String> outcomes = new ArrayList<>();
+        for (Future<String> result : results) {
+            outcomes.add(result.get());
+        }
+
+        assertThat(outcomes).filteredOn("recorded"::equals).hasSize(STUDENTS);
+        assertThat(outcomes).filteredOn("duplicate"::equals).hasSize(REQUESTS - STUDENTS);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM votes", Integer.class)).isEqualTo(STUDENTS);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(DISTINCT student_id) FROM votes", Integer.class)).isEqualTo(STUDENTS);
+        assertThat(studentRepository.findByVotingStatus(false)).extracting(Student::getStudentId)
+                .containsExactlyInAnyOrder("S001", "S003");
+        assertThat(tallyEngine.snapshot(1).getTotalVotes()).isEqualTo(STUDENTS);
+        assertThat(tallyEngine.reconcile(1).isConsistent()).isTrue();
+    }
+
+    @Test
+    void ballotForCandidateOutsideTheElectionRollsBackTheVotedFlag() {
+        // Candidate 1 stands in election 1, not election 2
+        assertThatThrownBy(() -> voteService.castVote(2, new Vote(null, null, 1, 1, null)))
+                .isInstanceOf(ResourceNotFoundException.class);
+
+        assertThat(studentRepository.findById(1)).get().extracting(Student::getHasVoted).isEqualTo(false);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM votes", Integer.class)).isZero();
+        assertThat(tallyEngine.snapshot(2).getTotalVotes()).isZero();
+    }
+
+    @Test
+    void committedBallotKeepsTheCachedElectionSummaries() {
+        cacheManager.put(ElectionServiceImpl.CACHE_KEY_SUMMARIES, List.of());
+
+        voteService.castVote(1, new Vote(null, null, 1, 1, null));
+
+        // Summaries read ballot counts from the tally, so only election and candidate changes drop them
+        assertThat(cacheManager.contains(ElectionServiceImpl.CACHE_KEY_SUMMARIES)).isTrue();
+    }
+}
@@ -0,0 +1,285 @@
+package com.university.election.service;
+
+import com.university.election.dto.VoterCounts;
+import com.university.election.exception.DatabaseOperationException;
+import com.university.election.exception.DuplicateResourceException;
+import com.university.election.exception.ResourceNotFoundException;
+import com.university.election.model.Student;
+import com.university.election.model.Vote;
+import com.university.election.patterns.singleton.CacheManager;
+import com.university.election.repository.CandidateRepository;
+import com.university.election.repository.ElectionRepository;
+import com.university.election.repository.StudentRepository;
+import com.university.election.repository.VoteRepository;
+import com.university.election.support.StatementCounter;
+import com.university.election.support.TestDatabaseConfig;
+import com.university.election.utils.IntBitmap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringJUnitConfig({TestDatabaseConfig.class, VoterBitmapIndexTest.PausingStudentRepository.class, VoterBitmapIndexTest.PausingVoteRepository.class, ElectionRepository.class,
+        CandidateRepository.class, StudentServiceImpl.class, VoteServiceImpl.class, CandidateServiceImpl.class,
+        TallyEngine.class, EligibilityIndex.class, VoterBitmapIndex.class, TurnoutAnalytics.class, CacheManager.class})
+class VoterBitmapIndexTest {
+
+    /**
+     * Can hold a re-read of an election after its scan, to let ballots commit in between
+     */
+    static class PausingVoteRepository extends VoteRepository {
+        private volatile CountDownLatch scanned;
+        private volatile CountDownLatch resume;
+
+        void pauseNextScan() {
+            scanned = new CountDownLatch(1);
+            resume = new CountDownLatch(1);
+        }
+
+        @Override
+        public void findStudentIds(Integer electionId, IntConsumer action) {
+            super.findStudentIds(electionId, action);
+            CountDownLatch paused = resume;
+            if (paused != null) {
+                resume = null;
+                scanned.countDown();
+                try {
+                    paused.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    /**
+     * Can hold a reload of the student ids after its scan, or fail the scan once it has streamed every id
+     */
+    static class PausingStudentRepository extends StudentRepository {
+        private volatile CountDownLatch scanned;
+        private volatile CountDownLatch resume;
+        private volatile boolean failNextScan;
+
+        void pauseNextScan() {
+            scanned = new CountDownLatch(1);
+            resume = new CountDownLatch(1);
+        }
+
+        @Override
+        public void streamIds(IntConsumer action) {
+            super.streamIds(action);
+            if (failNextScan) {
+                failNextScan = false;
+                throw new DatabaseOperationException("Failed to stream students: connection reset");
+            }
+            CountDownLatch paused = resume;
+            if (paused != null) {
+                resume = null;
+                scanned.countDown();
+                try {
+                    paused.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    @Autowired
+    private PausingStudentRepository studentRepository;
+
+    @Autowired
+    private PausingVoteRepository voteRepository;
+
+    @Autowired
+    private VoterBitmapIndex index;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private VoteService voteService;
+
+    @Autowired
+    private CandidateService candidateService;
+
+    @Autowired
+    private EligibilityIndex eligibilityIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private StatementCounter statements;
+
+    @BeforeEach
+    void setUp() {
+        TestDatabaseConfig.resetSchema(dataSource);
+        jdbcTemplate.update("INSERT INTO votes (election_id, candidate_id, student_id) VALUES (1, 1, 2), (1, 2, 4)");
+        index.load();
+        eligibilityIndex.load();
+    }
+
+    @Test
+    void turnoutIsServedFromMemory() {
+        int issued = statements.count(() -> {
+            VoterCounts counts = index.counts(1);
+            assertThat(counts.getStudents()).isEqualTo(4);
+            assertThat(counts.getVoted()).isEqualTo(2);
+            assertThat(counts.getNotVoted()).isEqualTo(2);
+            assertThat(counts.getTurnoutPercent()).isEqualTo(50.0);
+            assertThat(index.voterIds(1, true)).containsExactly(2, 4);
+            assertThat(index.voterIds(1, false)).containsExactly(1, 3);
+        });
+
+        assertThat(issued).isZero();
+    }
+
+    @Test
+    void studentVotesOncePerElection() {
+        jdbcTemplate.update("INSERT INTO candidates (name, faculty, year_of_study, campaign, election_id) " +
+                "VALUES ('Nurlan Sapar', 'Mathematics', 3, 'Open labs', 2)");
+        Integer candidate = jdbcTemplate.queryForObject("SELECT id FROM candidates WHERE election_id = 2", Integer.class);
+
+        voteService.castVote(1, new Vote(null, null, 1, 1, null));
+        assertThat(studentService.checkEligibility("S001", 1).isCanVote()).isFalse();
+        assertThat(studentService.checkEligibility("S001", 2).isCanVote()).isTrue();
+
+        voteService.castVote(2, new Vote(null, null, candidate, 1, null));
+        assertThatThrownBy(() -> voteService.castVote(1, new Vote(null, null, 2, 1, null)))
+                .isInstanceOf(DuplicateResourceException.class);
+
+        assertThat(index.voterIds(1, true)).containsExactly(1, 2, 4);
+        assertThat(index.voterIds(2, true)).containsExactly(1);
+        assertThat(index.counts(2).getNotVoted()).isEqualTo(3);
+        assertThat(studentService.checkEligibility("S001", 2).isCanVote()).isFalse();
+    }
+
+    @Test
+    void deletesKeepTheBitmapsCurrent() {
+        Student created = studentService.createStudent(new Student(null, "New Voter", "N100", "Physics", 2, false));
+        assertThat(index.voterIds(1, false)).containsExactly(1, 3, created.getId());
+
+        // The cascade removes candidate 2's ballot: the election is re-read once
+        candidateService.deleteCandidate(2);
+        assertThat(statements.count(() -> assertThat(index.voterIds(1, true)).containsExactly(2))).isEqualTo(1);
+        assertThat(statements.count(() -> index.counts(1))).isZero();
+
+        studentService.deleteStudent(2);
+        assertThat(index.counts(1).getVoted()).isZero();
+        assertThat(index.counts(1).getStudents()).isEqualTo(4);
+
+        assertThatThrownBy(() -> index.counts(999)).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void reReadRunsOutsideTheLockAndKeepsBallotsCommittedMeanwhile() throws Exception {
+        candidateService.deleteCandidate(2);
+        voteRepository.pauseNextScan();
+        CountDownLatch scanned = voteRepository.scanned;
+        CountDownLatch resume = voteRepository.resume;
+
+        CompletableFuture<int[]> voters = CompletableFuture.supplyAsync(() -> index.voterIds(1, true));
+        assertThat(scanned.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // The scan is done and the re-read is held: the after-commit update, other elections
+        // and unknown ids must not wait for it
+        voteService.castVote(1, new Vote(null, null, 1, 1, null));
+        assertThat(index.counts(2).getVoted()).isZero();
+        assertThatThrownBy(() -> index.counts(999)).isInstanceOf(ResourceNotFoundException.class);
+
+        resume.countDown();
+        assertThat(voters.get(10, TimeUnit.SECONDS)).containsExactly(1, 2);
+        assertThat(index.voterIds(1, true)).containsExactly(1, 2);
+    }
+
+    @Test
+    void studentReloadRunsOutsideTheLockAndKeepsChangesMadeMeanwhile() throws Exception {
+        studentRepository.pauseNextScan();
+        CountDownLatch scanned = studentRepository.scanned;
+        CountDownLatch resume = studentRepository.resume;
+
+        CompletableFuture<Void> reload = CompletableFuture.runAsync(index::reloadStudents);
+        assertThat(scanned.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // The scan is done and the reload is held: queries and student changes must not wait for it
+        Student created = studentService.createStudent(new Student(null, "New Voter", "N100", "Physics", 2, false));
+        studentService.deleteStudent(3);
+        assertThat(index.counts(1).getStudents()).isEqualTo(4);
+
+        resume.countDown();
+        reload.get(10, TimeUnit.SECONDS);
+        assertThat(index.voterIds(1, false)).containsExactly(1, created.getId());
+        assertThat(index.counts(1).getStudents()).isEqualTo(4);
+    }
+
+    @Test
+    void failedStudentReloadKeepsTheCurrentBitmap() {
+        studentRepository.failNextScan = true;
+
+        assertThatThrownBy(index::reloadStudents).isInstanceOf(DatabaseOperationException.class);
+
+        assertThat(index.voterIds(1, false)).containsExactly(1, 3);
+        Student created = studentService.createStudent(new Student(null, "New Voter", "N100", "Physics", 2, false));
+        assertThat(index.voterIds(1, false)).containsExactly(1, 3, created.getId());
+    }
+
+    @Test
+    void bitmapAgreesWithTreeSetUnderRandomWrites() {
+        IntBitmap bitmap = new IntBitmap();
+        IntBitmap other = new IntBitmap();
+        TreeSet<Integer> expected = new TreeSet<>();
+        TreeSet<Integer> expectedOther = new TreeSet<>();
+        Random random = new Random(42);
+
+        // Dense values in the low containers (bitmap form), sparse ones above (array form)
+        for (int op = 0; op < 200_000; op++) {
+            int value = random.nextBoolean() ? random.nextInt(150_000) : random.nextInt(Integer.MAX_VALUE);
+            if (random.nextInt(3) == 0) {
+                assertThat(bitmap.remove(value)).isEqualTo(expected.remove(value));
+            } else {
+                assertThat(bitmap.add(value)).isEqualTo(expected.add(value));
+            }
+            if (random.nextInt(4) == 0) {
+                other.add(value);
+                expectedOther.add(value);
+            }
+        }
+
+        assertThat(bitmap.cardinality()).isEqualTo(expected.size());
+        assertThat(bitmap.toArray()).containsExactly(expected.stream().mapToInt(Integer::intValue).toArray());
+
+        // Thin the dense containers until they turn back into arrays
+        for (int value = 0; value < 150_000; value++) {
+            if (value % 40 != 0) {
+                assertThat(bitmap.remove(value)).isEqualTo(expected.remove(value));
+            }
+        }
+        assertThat(bitmap.cardinality()).isEqualTo(expected.size());
+        for (int value = 0; value < 150_000; value++) {
+            assertThat(bitmap.contains(value)).isEqualTo(expected.contains(value));
+        }
+
+        List<Integer> andNot = new ArrayList<>();
+        bitmap.forEachAndNot(other, andNot::add);
+        expected.removeAll(expectedOther);
+        assertThat(andNot).containsExactlyElementsOf(expected);
+    }
+}
@@ -0,0 +1,88 @@
+package com.university.election.support;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts SQL statements sent to the database (one per execute call, one per executed batch)
+ * by wrapping a DataSource in JDK proxies.
+ */
+public class StatementCounter {
+
+    private final AtomicInteger count = new AtomicInteger();
+
+    public int get() {
+        return count.get();
+    }
+
+    public void reset() {
+        count.set(0);
+    }
+
+    /**
+     * Run an action and return how many statements it issued
+     */
+    public int count(Runnable action) {
+        int before = count.get();
+        action.run();
+        return count.get() - before;
+    }
+
+    public DataSource wrap(DataSource target) {
+        return proxy(DataSource.class, target, (proxy, method, args) -> {
+            Object result = invoke(target, method, args);
+            return result instanceof Connection connection ? wrap(connection) : result;
+        });
+    }
+
+    private Connection wrap(Connection target) {
+        return proxy(Connection.class, target, (proxy, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (result instanceof CallableStatement statement) {
+                return wrap(CallableStatement.class, statement);
+            }
+            if (result instanceof PreparedStatement statement) {
+                return wrap(PreparedStatement.class, statement);
+            }
+            if (result instanceof Statement statement) {
+                return wrap(Statement.class, statement);
+            }
+            return result;
+        });
+    }
+
+    private <S extends Statement> S wrap(Class<S> type, S target) {
+        return proxy(type, target, (proxy, method, args) -> {
+            if (method.getName().startsWith("execute")) {
+                count.incrementAndGet();
+            }
+            return invoke(target, method, args);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(StatementCounter.class.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getName().equals("unwrap") && args != null && args[0] instanceof Class<?> c && c.isInstance(target)) {
+                return target;
+            }
+            return handler.invoke(proxy, method, args);
+        });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
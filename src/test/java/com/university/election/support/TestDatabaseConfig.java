@@ -0,0 +1,73 @@
+package com.university.election.support;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Test configuration: in-memory H2 database in PostgreSQL mode loaded with scheme.sql,
+ * with every statement counted by {@link StatementCounter}.
+ */
+@Configuration
+@EnableTransactionManagement
+public class TestDatabaseConfig {
+
+    public static final String SCHEMA = "src/main/java/com/university/election/scheme.sql";
+
+    // H2 has no partial indexes: "CREATE INDEX ... (columns) WHERE ..." is created as a full index
+    private static final Pattern PARTIAL_INDEX = Pattern.compile("(?m)^(CREATE INDEX [^;]*\\))\\s+WHERE [^;]*;");
+
+    @Bean
+    public StatementCounter statementCounter() {
+        return new StatementCounter();
+    }
+
+    @Bean
+    public DataSource dataSource(StatementCounter statementCounter) {
+        String url = "jdbc:h2:mem:election-" + UUID.randomUUID()
+                + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1";
+        DataSource h2 = new SimpleDriverDataSource(new org.h2.Driver(), url, "sa", "");
+        resetSchema(h2);
+        return statementCounter.wrap(h2);
+    }
+
+    @Bean
+    public JdbcTemplate jdbcTemplate(DataSource dataSource) {
+        return new JdbcTemplate(dataSource);
+    }
+
+    @Bean
+    public PlatformTransactionManager transactionManager(DataSource dataSource) {
+        return new DataSourceTransactionManager(dataSource);
+    }
+
+    /**
+     * Drop and recreate all tables with the sample data from scheme.sql
+     */
+    public static void resetSchema(DataSource dataSource) {
+        new ResourceDatabasePopulator(new ByteArrayResource(schema().getBytes(StandardCharsets.UTF_8))).execute(dataSource);
+    }
+
+    private static String schema() {
+        try {
+            return PARTIAL_INDEX.matcher(Files.readString(Path.of(SCHEMA))).replaceAll("$1;");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.university.election.utils;
+
+import com.university.election.model.Student;
+import org.junit.jupiter.api.Test;
+
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ListSorterTest {
+
+    @Test
+    void namesSortInCollationOrderNotByCodeUnit() {
+        List<Student> students = List.of(student(1, "Zhanna", 1), student(2, "aliya", 2), student(3, "Érlan", 3),
+                student(4, "Bolat", 4), student(5, null, 1));
+
+        List<String> names = SortingUtils.sortStudentsByName(students).stream().map(Student::getName).toList();
+
+        // String.compareTo would put "Bolat" and "Zhanna" before "aliya" and "Érlan" after all of them
+        assertThat(names).containsExactly("aliya", "Bolat", "Érlan", "Zhanna", null);
+    }
+
+    @Test
+    void largeListsMatchAStableCollatorSort() {
+        List<Student> students = randomStudents(ListSorter.PARALLEL_THRESHOLD * 3);
+        Collator collator = Collator.getInstance(Locale.ROOT);
+        List<Student> expected = new ArrayList<>(students);
+        expected.sort(Comparator.comparing(Student::getName, collator));
+
+        assertThat(ListSorter.sortByText(students, Student::getName, Locale.ROOT)).containsExactlyElementsOf(expected);
+        assertThat(SortingUtils.firstStudentsByName(students, 100)).containsExactlyElementsOf(expected.subList(0, 100));
+        assertThat(SortingUtils.firstStudentsByName(students.subList(0, 10), 100))
+                .containsExactlyElementsOf(ListSorter.sortByText(students.subList(0, 10), Student::getName, Locale.ROOT));
+    }
+
+    @Test
+    void yearSortIsStable() {
+        List<Student> students = randomStudents(ListSorter.PARALLEL_THRESHOLD + 100);
+        List<Student> expected = new ArrayList<>(students);
+        expected.sort(Comparator.comparingInt(Student::getYearOfStudy));
+
+        assertThat(SortingUtils.sortStudentsByYear(students)).containsExactlyElementsOf(expected);
+        assertThat(SortingUtils.sortStudentsByYear(students.subList(0, 50)))
+                .containsExactlyElementsOf(expected.stream().filter(s -> s.getId() < 50).toList());
+    }
+
+    private static List<Student> randomStudents(int count) {
+        Random random = new Random(42);
+        List<Student> students = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            char[] name = new char[3 + random.nextInt(4)];
+            for (int c = 0; c < name.length; c++) {
+                // Few distinct letters and mixed case: many equal and case-only-different keys
+                char letter = (char) ('a' + random.nextInt(4));
+                name[c] = random.nextBoolean() ? Character.toUpperCase(letter) : letter;
+            }
+            students.add(student(i, new String(name), 1 + random.nextInt(4)));
+        }
+        return students;
+    }
+
+    private static Student student(int id, String name, int year) {
+        return new Student(id, name, "S" + id, "Physics", year, false);
+    }
+}